@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.memory.MemoryIndex;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares validating a model input against stop words with the compiled {@link StopWordsMatcher} and with the work a
+ * percolate query does on the data node: indexing the input in a memory index and running the stop words queries on it.
+ * The percolate baseline leaves out the search round trip and the blocked predict thread, so it is a lower bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StopWordsMatcherBenchmark {
+
+    private static final String FIELD = "title";
+
+    @Param({ "100", "1000" })
+    private int stopWordsCount;
+
+    @Param({ "500" })
+    private int inputTokens;
+
+    private StopWordsMatcher matcher;
+    private List<Query> queries;
+    private Analyzer analyzer;
+    private String input;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        List<Object> percolatorQueries = new ArrayList<>(stopWordsCount);
+        queries = new ArrayList<>(stopWordsCount);
+        for (int i = 0; i < stopWordsCount; i++) {
+            String first = "stop" + i;
+            String second = "word" + i;
+            percolatorQueries.add(Map.of("match_phrase", Map.of(FIELD, first + " " + second)));
+            queries.add(new PhraseQuery(FIELD, first, second));
+        }
+        matcher = StopWordsMatcher.compile(percolatorQueries, List.of(FIELD));
+        analyzer = new StandardAnalyzer();
+
+        // an input without stop words, so every query is checked
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < inputTokens / 2; i++) {
+            int index = random.nextInt(stopWordsCount);
+            builder.append("stop").append(index).append(" word").append((index + 1) % stopWordsCount).append(i % 5 == 4 ? ". " : " ");
+        }
+        input = builder.toString();
+    }
+
+    @Benchmark
+    public boolean compiledMatcher() {
+        return matcher.matches(input);
+    }
+
+    @Benchmark
+    public boolean percolate() {
+        MemoryIndex memoryIndex = new MemoryIndex();
+        memoryIndex.addField(FIELD, input, analyzer);
+        for (Query query : queries) {
+            if (memoryIndex.search(query) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
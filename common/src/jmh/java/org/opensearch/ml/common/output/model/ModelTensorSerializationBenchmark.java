@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.output.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+
+/**
+ * Compares the serialization of embeddings stored as boxed numbers with embeddings stored as primitive floats.
+ * A batch of text embedding results is written to and read from a stream, like the predict response of a local model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModelTensorSerializationBenchmark {
+
+    @Param({ "768", "4096" })
+    private int dimension;
+
+    @Param({ "100" })
+    private int batchSize;
+
+    private ModelTensors boxedTensors;
+    private ModelTensors floatTensors;
+    private BytesReference serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(42);
+        List<ModelTensor> boxed = new ArrayList<>(batchSize);
+        List<ModelTensor> floats = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            float[] embedding = new float[dimension];
+            Number[] boxedEmbedding = new Number[dimension];
+            for (int j = 0; j < dimension; j++) {
+                embedding[j] = random.nextFloat();
+                boxedEmbedding[j] = embedding[j];
+            }
+            long[] shape = new long[] { dimension };
+            boxed.add(ModelTensor.builder().data(boxedEmbedding).shape(shape).dataType(MLResultDataType.FLOAT32).build());
+            floats.add(ModelTensor.builder().floatData(embedding).shape(shape).dataType(MLResultDataType.FLOAT32).build());
+        }
+        boxedTensors = new ModelTensors(boxed);
+        floatTensors = new ModelTensors(floats);
+        serialized = write(floatTensors);
+    }
+
+    @Benchmark
+    public BytesReference writeBoxed() throws IOException {
+        return write(boxedTensors);
+    }
+
+    @Benchmark
+    public BytesReference writeFloats() throws IOException {
+        return write(floatTensors);
+    }
+
+    @Benchmark
+    public Number[] readBoxed() throws IOException {
+        // legacy callers box every value of the deserialized tensors
+        ModelTensors tensors = new ModelTensors(serialized.streamInput());
+        Number[] last = null;
+        for (ModelTensor tensor : tensors.getMlModelTensors()) {
+            last = tensor.getData();
+        }
+        return last;
+    }
+
+    @Benchmark
+    public float[] readFloats() throws IOException {
+        ModelTensors tensors = new ModelTensors(serialized.streamInput());
+        float[] last = null;
+        for (ModelTensor tensor : tensors.getMlModelTensors()) {
+            last = tensor.getFloatData();
+        }
+        return last;
+    }
+
+    private static BytesReference write(ModelTensors tensors) throws IOException {
+        BytesStreamOutput output = new BytesStreamOutput();
+        tensors.writeTo(output);
+        return output.bytes();
+    }
+}
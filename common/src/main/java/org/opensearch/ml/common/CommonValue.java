@@ -97,6 +97,7 @@ public class CommonValue {
     public static final Version VERSION_3_1_0 = Version.fromString("3.1.0");
     public static final Version VERSION_3_2_0 = Version.fromString("3.2.0");
     public static final Version VERSION_3_3_0 = Version.fromString("3.3.0");
+    public static final Version VERSION_3_4_0 = Version.fromString("3.4.0");
 
     // Connector Constants
     public static final String NAME_FIELD = "name";
@@ -119,6 +120,7 @@ public class CommonValue {
     public static final String MCP_TOOL_DESCRIPTION_FIELD = "description";
     public static final String MCP_TOOL_INPUT_SCHEMA_FIELD = "inputSchema";
     public static final String MCP_SYNC_CLIENT = "mcp_sync_client";
+    public static final String MCP_CLIENT_LEASE = "mcp_client_lease";
     public static final String MCP_TOOLS_FIELD = "tools";
     public static final String MCP_CONNECTORS_FIELD = "mcp_connectors";
     public static final String MCP_CONNECTOR_ID_FIELD = "mcp_connector_id";
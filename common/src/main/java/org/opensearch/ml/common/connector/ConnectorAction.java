@@ -24,6 +24,7 @@ import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -58,6 +59,9 @@ public class ConnectorAction implements ToXContentObject, Writeable {
     private String requestBody;
     private String preProcessFunction;
     private String postProcessFunction;
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private transient volatile ConnectorRequestTemplate requestBodyTemplate;
 
     @Builder(toBuilder = true)
     public ConnectorAction(
@@ -99,6 +103,23 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         this.postProcessFunction = input.readOptionalString();
     }
 
+    /**
+     * Get the compiled request body. The request body is compiled on first use and reused afterwards.
+     *
+     * @return compiled request body, null if the action has no request body
+     */
+    public ConnectorRequestTemplate getRequestBodyTemplate() {
+        if (requestBody == null) {
+            return null;
+        }
+        ConnectorRequestTemplate template = requestBodyTemplate;
+        if (template == null) {
+            template = ConnectorRequestTemplate.compile(requestBody);
+            requestBodyTemplate = template;
+        }
+        return template;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeEnum(actionType);
@@ -0,0 +1,327 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import static org.opensearch.ml.common.utils.StringUtils.MAPPER;
+import static org.opensearch.ml.common.utils.StringUtils.isJson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.text.StringSubstitutor;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Request body of a connector action compiled into literal text and parameter placeholders.
+ * <p>
+ * Rendering writes the literals and the parameter values into one buffer in a single pass. It produces the same payload
+ * as replacing null parameters with {@code null}, then running a {@link StringSubstitutor} over the request body. If
+ * every placeholder is inside a JSON string value of a valid JSON template, the payload is valid JSON as long as the
+ * values are valid JSON string content, which is checked without parsing the payload. Templates or values relying on
+ * escaping or recursive substitution are rendered with the {@link StringSubstitutor}.
+ */
+public class ConnectorRequestTemplate {
+
+    private static final String PARAMETER_PREFIX = "${parameters.";
+    private static final String PARAMETER_SUFFIX = "}";
+    private static final String DEFAULT_VALUE_DELIMITER = ":-";
+    private static final Pattern NULL_DEFAULT_PARAMETER_PATTERN = Pattern.compile("\"\\$\\{parameters\\.(\\w+):-null}\"");
+
+    private final String template;
+    // literals[i] is the text before placeholder i, the last one is the text after the last placeholder. Null if the
+    // template uses escaped or nested placeholders, which are left to StringSubstitutor.
+    private final String[] literals;
+    private final String[] keys;
+    private final String[] defaultValues;
+    private final String[] placeholders;
+    // "${parameters.xxx:-null}" placeholders including their quotes, rendered as null if the parameter is null
+    private final boolean[] nullables;
+    private final boolean jsonGuaranteed;
+    private final int literalLength;
+
+    private ConnectorRequestTemplate(String template, List<String> literals, List<Placeholder> placeholders, boolean jsonGuaranteed) {
+        this.template = template;
+        this.literals = literals == null ? null : literals.toArray(new String[0]);
+        int size = placeholders == null ? 0 : placeholders.size();
+        this.keys = new String[size];
+        this.defaultValues = new String[size];
+        this.placeholders = new String[size];
+        this.nullables = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            Placeholder placeholder = placeholders.get(i);
+            keys[i] = placeholder.key;
+            defaultValues[i] = placeholder.defaultValue;
+            this.placeholders[i] = placeholder.text;
+            nullables[i] = placeholder.nullable;
+        }
+        this.jsonGuaranteed = jsonGuaranteed;
+        this.literalLength = literals == null ? 0 : literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Compile a request body.
+     *
+     * @param template request body with ${parameters.xxx} placeholders
+     * @return compiled template
+     */
+    public static ConnectorRequestTemplate compile(String template) {
+        if (template.contains("$" + PARAMETER_PREFIX)) {
+            return new ConnectorRequestTemplate(template, null, null, false);
+        }
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        int literalStart = 0;
+        int start = template.indexOf(PARAMETER_PREFIX);
+        while (start >= 0) {
+            int end = template.indexOf(PARAMETER_SUFFIX, start + PARAMETER_PREFIX.length());
+            if (end < 0) {
+                break;
+            }
+            String variable = template.substring(start + PARAMETER_PREFIX.length(), end);
+            if (variable.contains(PARAMETER_PREFIX)) {
+                return new ConnectorRequestTemplate(template, null, null, false);
+            }
+            Placeholder placeholder = new Placeholder(template.substring(start, end + 1), variable);
+            int placeholderStart = start;
+            int placeholderEnd = end + 1;
+            if (isNullableParameter(template, start, end)) {
+                placeholder.nullable = true;
+                placeholderStart--;
+                placeholderEnd++;
+            }
+            literals.add(template.substring(literalStart, placeholderStart));
+            placeholders.add(placeholder);
+            literalStart = placeholderEnd;
+            start = template.indexOf(PARAMETER_PREFIX, placeholderEnd);
+        }
+        literals.add(template.substring(literalStart));
+        return new ConnectorRequestTemplate(template, literals, placeholders, isJsonGuaranteed(literals, placeholders));
+    }
+
+    /**
+     * Render the payload.
+     *
+     * @param parameters parameters of the request
+     * @return payload
+     * @throws IllegalArgumentException if the payload is not valid JSON
+     */
+    public String render(Map<String, String> parameters) {
+        if (parameters == null) {
+            parameters = Map.of();
+        }
+        if (literals == null) {
+            return renderWithSubstitutor(parameters);
+        }
+        String[] values = new String[keys.length];
+        int length = literalLength;
+        boolean validJson = jsonGuaranteed;
+        for (int i = 0; i < keys.length; i++) {
+            String value = parameters.get(keys[i]);
+            if (value == null && nullables[i]) {
+                length += 4;
+                continue;
+            }
+            if (value == null && defaultValues[i] == null) {
+                // unresolved placeholders are kept as they are
+                value = placeholders[i];
+            } else {
+                value = value == null ? defaultValues[i] : value;
+                if (value.contains("${") || value.endsWith("$")) {
+                    // StringSubstitutor substitutes placeholders in values recursively
+                    return renderWithSubstitutor(parameters);
+                }
+            }
+            validJson = validJson && isJsonStringContent(value);
+            values[i] = value;
+            length += nullables[i] ? value.length() + 2 : value.length();
+        }
+
+        StringBuilder payload = new StringBuilder(length);
+        for (int i = 0; i < keys.length; i++) {
+            payload.append(literals[i]);
+            if (!nullables[i]) {
+                payload.append(values[i]);
+            } else if (values[i] == null) {
+                payload.append("null");
+            } else {
+                payload.append('"').append(values[i]).append('"');
+            }
+        }
+        payload.append(literals[keys.length]);
+        return validate(payload.toString(), validJson);
+    }
+
+    boolean isJsonGuaranteed() {
+        return jsonGuaranteed;
+    }
+
+    boolean isCompiled() {
+        return literals != null;
+    }
+
+    private String renderWithSubstitutor(Map<String, String> parameters) {
+        String payload = fillNullParameters(parameters, template);
+        StringSubstitutor substitutor = new StringSubstitutor(parameters, PARAMETER_PREFIX, PARAMETER_SUFFIX);
+        return validate(substitutor.replace(payload), false);
+    }
+
+    private static String validate(String payload, boolean validJson) {
+        if (!validJson && !isJson(payload)) {
+            throw new IllegalArgumentException("Invalid payload: " + payload);
+        }
+        return payload;
+    }
+
+    /**
+     * Replace the "${parameters.xxx:-null}" placeholders, including their quotes, with null if the parameter is null.
+     *
+     * @param parameters parameters of the request
+     * @param payload    request body
+     * @return request body with null parameters filled in
+     */
+    static String fillNullParameters(Map<String, String> parameters, String payload) {
+        Matcher matcher = NULL_DEFAULT_PARAMETER_PATTERN.matcher(payload);
+        String newPayload = payload;
+        while (matcher.find()) {
+            String key = matcher.group(1);
+            if (parameters.get(key) == null) {
+                newPayload = newPayload.replace("\"${parameters." + key + ":-null}\"", "null");
+            }
+        }
+        return newPayload;
+    }
+
+    private static boolean isNullableParameter(String template, int start, int end) {
+        if (start == 0 || end + 1 >= template.length() || template.charAt(start - 1) != '"' || template.charAt(end + 1) != '"') {
+            return false;
+        }
+        return NULL_DEFAULT_PARAMETER_PATTERN.matcher(template.substring(start - 1, end + 2)).matches();
+    }
+
+    /**
+     * The payload is valid JSON by construction if the template is valid JSON with all placeholders removed and every
+     * placeholder is inside a string value, so only the values need to be checked to be valid JSON string content.
+     */
+    private static boolean isJsonGuaranteed(List<String> literals, List<Placeholder> placeholders) {
+        StringBuilder skeleton = new StringBuilder();
+        boolean inString = false;
+        boolean placeholderInString = false;
+        for (int i = 0; i < literals.size(); i++) {
+            String literal = literals.get(i);
+            for (int j = 0; j < literal.length(); j++) {
+                char c = literal.charAt(j);
+                if (c == '\\' && inString) {
+                    j++;
+                } else if (c == '"') {
+                    if (inString && placeholderInString && isObjectKey(literal, j + 1)) {
+                        // parameters in keys may introduce duplicate keys
+                        return false;
+                    }
+                    inString = !inString;
+                    placeholderInString = false;
+                }
+            }
+            skeleton.append(literal);
+            if (i < placeholders.size()) {
+                if (placeholders.get(i).nullable) {
+                    if (inString || isObjectKey(literals.get(i + 1), 0)) {
+                        return false;
+                    }
+                    skeleton.append("\"\"");
+                } else if (inString) {
+                    placeholderInString = true;
+                } else {
+                    return false;
+                }
+            }
+        }
+        String json = skeleton.toString();
+        return isStrictJson(json) && isJson(json);
+    }
+
+    private static boolean isObjectKey(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == ':';
+            }
+        }
+        return false;
+    }
+
+    private static boolean isStrictJson(String json) {
+        try (JsonParser parser = MAPPER.getFactory().createParser(json)) {
+            parser.enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+                return false;
+            }
+            parser.skipChildren();
+            return parser.nextToken() == null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    static boolean isJsonStringContent(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c < 0x20) {
+                return false;
+            }
+            if (c == '\\') {
+                if (++i >= value.length()) {
+                    return false;
+                }
+                switch (value.charAt(i)) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                    case 'b':
+                    case 'f':
+                    case 'n':
+                    case 'r':
+                    case 't':
+                        break;
+                    case 'u':
+                        if (i + 4 >= value.length()) {
+                            return false;
+                        }
+                        for (int j = i + 1; j <= i + 4; j++) {
+                            if (Character.digit(value.charAt(j), 16) < 0) {
+                                return false;
+                            }
+                        }
+                        i += 4;
+                        break;
+                    default:
+                        return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static class Placeholder {
+        private final String text;
+        private final String key;
+        private final String defaultValue;
+        private boolean nullable;
+
+        Placeholder(String text, String variable) {
+            this.text = text;
+            int delimiter = variable.indexOf(DEFAULT_VALUE_DELIMITER);
+            this.key = delimiter < 0 ? variable : variable.substring(0, delimiter);
+            this.defaultValue = delimiter < 0 ? null : variable.substring(delimiter + DEFAULT_VALUE_DELIMITER.length());
+        }
+    }
+}
@@ -12,7 +12,6 @@ import static org.opensearch.ml.common.CommonValue.VERSION_2_19_0;
 import static org.opensearch.ml.common.connector.ConnectorProtocols.HTTP;
 import static org.opensearch.ml.common.connector.ConnectorProtocols.validateProtocol;
 import static org.opensearch.ml.common.utils.StringUtils.getParameterMap;
-import static org.opensearch.ml.common.utils.StringUtils.isJson;
 import static org.opensearch.ml.common.utils.StringUtils.parseParameters;
 
 import java.io.IOException;
@@ -24,12 +23,9 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
-import org.apache.commons.text.StringSubstitutor;
 import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.commons.authuser.User;
@@ -352,15 +348,9 @@ public class HttpConnector extends AbstractConnector {
     public <T> T createPayload(String action, Map<String, String> parameters) {
         Optional<ConnectorAction> connectorAction = findAction(action);
         if (connectorAction.isPresent() && connectorAction.get().getRequestBody() != null) {
-            String payload = connectorAction.get().getRequestBody();
-            payload = fillNullParameters(parameters, payload);
             parseParameters(parameters);
-            StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
-            payload = substitutor.replace(payload);
-
-            if (!isJson(payload)) {
-                throw new IllegalArgumentException("Invalid payload: " + payload);
-            } else if (neededStreamParameterInPayload(parameters)) {
+            String payload = connectorAction.get().getRequestBodyTemplate().render(parameters);
+            if (neededStreamParameterInPayload(parameters)) {
                 JsonObject jsonObject = JsonParser.parseString(payload).getAsJsonObject();
                 jsonObject.addProperty("stream", true);
                 payload = jsonObject.toString();
@@ -396,27 +386,7 @@ public class HttpConnector extends AbstractConnector {
     }
 
     protected String fillNullParameters(Map<String, String> parameters, String payload) {
-        List<String> bodyParams = findStringParametersWithNullDefaultValue(payload);
-        String newPayload = payload;
-        for (String key : bodyParams) {
-            if (!parameters.containsKey(key) || parameters.get(key) == null) {
-                newPayload = newPayload.replace("\"${parameters." + key + ":-null}\"", "null");
-            }
-        }
-        return newPayload;
-    }
-
-    private List<String> findStringParametersWithNullDefaultValue(String input) {
-        String regex = "\"\\$\\{parameters\\.(\\w+):-null}\"";
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(input);
-
-        List<String> paramList = new ArrayList<>();
-        while (matcher.find()) {
-            String parameterValue = matcher.group(1);
-            paramList.add(parameterValue);
-        }
-        return paramList;
+        return ConnectorRequestTemplate.fillNullParameters(parameters, payload);
     }
 
     @Override
@@ -16,6 +16,7 @@ import org.opensearch.ml.common.connector.functions.postprocess.BedrockRerankPos
 import org.opensearch.ml.common.connector.functions.postprocess.CohereRerankPostProcessFunction;
 import org.opensearch.ml.common.connector.functions.postprocess.EmbeddingPostProcessFunction;
 import org.opensearch.ml.common.connector.functions.postprocess.RemoteMlCommonsPassthroughPostProcessFunction;
+import org.opensearch.ml.common.connector.functions.postprocess.StreamingEmbeddingExtractor;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 
@@ -43,6 +44,9 @@ public class MLPostProcessFunction {
 
     private static final Map<String, BiFunction<Object, MLResultDataType, List<ModelTensor>>> POST_PROCESS_FUNCTIONS = new HashMap<>();
 
+    // float embedding functions which can extract the embeddings while parsing the response, same paths as above
+    private static final Map<String, StreamingEmbeddingExtractor> STREAMING_EXTRACTORS = new HashMap<>();
+
     static {
         EmbeddingPostProcessFunction embeddingPostProcessFunction = new EmbeddingPostProcessFunction();
         BedrockEmbeddingPostProcessFunction bedrockEmbeddingPostProcessFunction = new BedrockEmbeddingPostProcessFunction();
@@ -83,6 +87,12 @@ public class MLPostProcessFunction {
         POST_PROCESS_FUNCTIONS.put(BEDROCK_RERANK, bedrockRerankPostProcessFunction);
         POST_PROCESS_FUNCTIONS.put(DEFAULT_RERANK, cohereRerankPostProcessFunction);
         POST_PROCESS_FUNCTIONS.put(ML_COMMONS_PASSTHROUGH, remoteMlCommonsPassthroughPostProcessFunction);
+        STREAMING_EXTRACTORS.put(OPENAI_EMBEDDING, new StreamingEmbeddingExtractor("data", null, "embedding"));
+        STREAMING_EXTRACTORS.put(COHERE_EMBEDDING, new StreamingEmbeddingExtractor("embeddings", null));
+        STREAMING_EXTRACTORS.put(COHERE_V2_EMBEDDING_FLOAT32, new StreamingEmbeddingExtractor("embeddings", "float", null));
+        STREAMING_EXTRACTORS.put(DEFAULT_EMBEDDING, new StreamingEmbeddingExtractor((String) null));
+        STREAMING_EXTRACTORS.put(BEDROCK_EMBEDDING, new StreamingEmbeddingExtractor("embedding"));
+        STREAMING_EXTRACTORS.put(BEDROCK_V2_EMBEDDING_FLOAT, new StreamingEmbeddingExtractor("embeddingsByType", "float"));
     }
 
     public static String getResponseFilter(String postProcessFunction) {
@@ -93,6 +103,16 @@ public class MLPostProcessFunction {
         return POST_PROCESS_FUNCTIONS.get(postProcessFunction);
     }
 
+    /**
+     * Get the streaming extractor of a float embedding post process function.
+     *
+     * @param postProcessFunction post process function name
+     * @return streaming extractor, null if the function doesn't support streaming extraction
+     */
+    public static StreamingEmbeddingExtractor getStreamingExtractor(String postProcessFunction) {
+        return postProcessFunction == null ? null : STREAMING_EXTRACTORS.get(postProcessFunction);
+    }
+
     public static boolean contains(String postProcessFunction) {
         return POST_PROCESS_FUNCTIONS.containsKey(postProcessFunction);
     }
@@ -0,0 +1,138 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector.functions;
+
+import static org.opensearch.ml.common.utils.StringUtils.addDefaultMethod;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorAction;
+import org.opensearch.ml.common.connector.MLPostProcessFunction;
+import org.opensearch.ml.common.connector.MLPreProcessFunction;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptService;
+import org.opensearch.script.ScriptType;
+import org.opensearch.script.TemplateScript;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Compiled painless pre and post process functions of one connector executor.
+ * <p>
+ * Without it every remote inference compiles its script through {@link ScriptService}, whose cache is shared with and
+ * evicted by search scripts, and whose misses count towards the cluster wide compilation rate limit. The cache lives
+ * as long as its executor, so it's dropped when the model is undeployed or its connector updated.
+ */
+@Log4j2
+public class ConnectorScriptCache {
+
+    // least recently used scripts are evicted, so scripts with parameters filled in per request don't keep the
+    // scripts which really repeat out of the cache
+    static final int MAX_CACHED_SCRIPTS = 16;
+    private static final TimeValue CACHED_SCRIPT_EXPIRE_AFTER_ACCESS = TimeValue.timeValueMinutes(30);
+
+    private static final LongAdder COMPILATION_COUNT = new LongAdder();
+    private static final LongAdder HIT_COUNT = new LongAdder();
+
+    @Getter
+    private final ScriptService scriptService;
+    private final Cache<String, TemplateScript.Factory> factories;
+
+    public ConnectorScriptCache(ScriptService scriptService) {
+        this.scriptService = scriptService;
+        this.factories = CacheBuilder
+            .<String, TemplateScript.Factory>builder()
+            .setMaximumWeight(MAX_CACHED_SCRIPTS)
+            .setExpireAfterAccess(CACHED_SCRIPT_EXPIRE_AFTER_ACCESS)
+            .build();
+    }
+
+    /**
+     * Compile the custom pre and post process functions of all actions of a connector.
+     *
+     * @param connector connector
+     */
+    public void compileConnectorScripts(Connector connector) {
+        if (connector.getActions() == null) {
+            return;
+        }
+        for (ConnectorAction action : connector.getActions()) {
+            compileIfCustomScript(action.getPreProcessFunction(), MLPreProcessFunction.contains(action.getPreProcessFunction()));
+            compileIfCustomScript(action.getPostProcessFunction(), MLPostProcessFunction.contains(action.getPostProcessFunction()));
+        }
+    }
+
+    private void compileIfCustomScript(String function, boolean builtIn) {
+        if (function == null || builtIn || function.contains("${parameters.")) {
+            return;
+        }
+        try {
+            compile(addDefaultMethod(function));
+        } catch (Exception e) {
+            // the error is reported to the caller when the script is executed
+            log.warn("Failed to compile process function of connector", e);
+        }
+    }
+
+    /**
+     * Execute a painless script.
+     *
+     * @param source script source
+     * @param params script params
+     * @return script output
+     */
+    public String execute(String source, Map<String, Object> params) {
+        return compile(source).newInstance(params).execute();
+    }
+
+    TemplateScript.Factory compile(String source) {
+        TemplateScript.Factory factory = factories.get(source);
+        if (factory != null) {
+            HIT_COUNT.increment();
+            return factory;
+        }
+        try {
+            return factories.computeIfAbsent(source, this::compileScript);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private TemplateScript.Factory compileScript(String source) {
+        COMPILATION_COUNT.increment();
+        Script script = new Script(ScriptType.INLINE, "painless", source, Collections.emptyMap());
+        return scriptService.compile(script, TemplateScript.CONTEXT);
+    }
+
+    public int size() {
+        return factories.count();
+    }
+
+    /**
+     * @return number of connector scripts compiled on this node
+     */
+    public static long getCompilationCount() {
+        return COMPILATION_COUNT.sum();
+    }
+
+    /**
+     * @return number of connector script executions served by a compiled script on this node
+     */
+    public static long getHitCount() {
+        return HIT_COUNT.sum();
+    }
+}
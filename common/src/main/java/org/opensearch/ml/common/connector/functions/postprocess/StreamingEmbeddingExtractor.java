@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector.functions.postprocess;
+
+import static org.opensearch.ml.common.utils.StringUtils.MAPPER;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Extracts float embeddings from a remote model response while parsing it, without building the response string or a
+ * map of the response. It produces the same tensors as the json path of a built-in embedding post process function
+ * followed by the function itself, with the embeddings kept as primitive floats.
+ * <p>
+ * The path is a list of steps, each one either an object field or all elements of an array, and the value at the end
+ * of the path is an embedding. If the response doesn't have the expected structure, {@link #extract} returns null and
+ * the caller falls back to the regular post process function, which also reports the error.
+ */
+public class StreamingEmbeddingExtractor {
+
+    // step matching all elements of an array
+    private static final String ARRAY_ELEMENTS = null;
+    private static final int INITIAL_EMBEDDING_CAPACITY = 1024;
+
+    private final String[] path;
+
+    /**
+     * @param path object fields to follow, a null step matches all elements of an array
+     */
+    public StreamingEmbeddingExtractor(String... path) {
+        this.path = path;
+    }
+
+    /**
+     * Extract the embeddings of a response.
+     *
+     * @param response response body
+     * @return one tensor per embedding, null if the response doesn't have the expected structure
+     */
+    public List<ModelTensor> extract(InputStream response) {
+        List<float[]> embeddings = new ArrayList<>();
+        try (JsonParser parser = MAPPER.getFactory().createParser(response)) {
+            parser.enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
+            if (parser.nextToken() == null || !extract(parser, 0, embeddings) || parser.nextToken() != null) {
+                return null;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        List<ModelTensor> modelTensors = new ArrayList<>(embeddings.size());
+        for (float[] embedding : embeddings) {
+            modelTensors
+                .add(
+                    ModelTensor
+                        .builder()
+                        .name("sentence_embedding")
+                        .dataType(MLResultDataType.FLOAT32)
+                        .shape(new long[] { embedding.length })
+                        .floatData(embedding)
+                        .build()
+                );
+        }
+        return modelTensors;
+    }
+
+    private boolean extract(JsonParser parser, int step, List<float[]> embeddings) throws IOException {
+        if (step == path.length) {
+            return readEmbedding(parser, embeddings);
+        }
+        if (path[step] == ARRAY_ELEMENTS) {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                return false;
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (!extract(parser, step + 1, embeddings)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        boolean found = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (path[step].equals(field)) {
+                if (!extract(parser, step + 1, embeddings)) {
+                    return false;
+                }
+                found = true;
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return found;
+    }
+
+    private static boolean readEmbedding(JsonParser parser, List<float[]> embeddings) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            return false;
+        }
+        float[] embedding = new float[INITIAL_EMBEDDING_CAPACITY];
+        int size = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.VALUE_NUMBER_FLOAT && token != JsonToken.VALUE_NUMBER_INT) {
+                return false;
+            }
+            if (size == embedding.length) {
+                embedding = Arrays.copyOf(embedding, size * 2);
+            }
+            // parse as double like the json path result, then narrow like the FLOAT32 tensor serialization
+            embedding[size++] = (float) parser.getDoubleValue();
+        }
+        if (size == 0) {
+            return false;
+        }
+        embeddings.add(size == embedding.length ? embedding : Arrays.copyOf(embedding, size));
+        return true;
+    }
+}
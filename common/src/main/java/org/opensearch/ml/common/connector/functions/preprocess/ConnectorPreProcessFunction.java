@@ -12,6 +12,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
 
+import org.opensearch.ml.common.connector.functions.ConnectorScriptCache;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
@@ -20,6 +21,7 @@ import org.opensearch.script.ScriptService;
 import org.opensearch.script.ScriptType;
 import org.opensearch.script.TemplateScript;
 
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -37,6 +39,12 @@ public abstract class ConnectorPreProcessFunction implements Function<MLInput, R
      */
     protected boolean returnDirectlyForRemoteInferenceInput;
 
+    /**
+     * Compiled scripts of the connector executor, the script is compiled on every call if it's not set.
+     */
+    @Setter
+    protected ConnectorScriptCache scriptCache;
+
     /**
      * Applies the pre-processing function to the given MLInput object and returns the resulting RemoteInferenceInputDataSet.
      *
@@ -86,6 +94,9 @@ public abstract class ConnectorPreProcessFunction implements Function<MLInput, R
     }
 
     protected String executeScript(ScriptService scriptService, String painlessScript, Map<String, Object> params) {
+        if (scriptCache != null) {
+            return scriptCache.execute(addDefaultMethod(painlessScript), params);
+        }
         Script script = new Script(ScriptType.INLINE, "painless", addDefaultMethod(painlessScript), Collections.emptyMap());
         TemplateScript templateScript = scriptService.compile(script, TemplateScript.CONTEXT).newInstance(params);
         return templateScript.execute();
@@ -0,0 +1,177 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.httpclient;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+
+import lombok.Getter;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+
+/**
+ * Async HTTP client of one connector. Requests are executed by the shared client of their host in
+ * {@link MLAsyncHttpClientPool}. At most max connections requests of the connector run at the same time, further
+ * requests wait in a queue, like the pending connection acquires of a dedicated Netty client.
+ */
+public class ConnectorAsyncHttpClient implements SdkAsyncHttpClient {
+
+    // Same as the default max pending connection acquires of the Netty client.
+    static final int MAX_PENDING_REQUESTS = 10000;
+
+    private final MLAsyncHttpClientPool pool;
+    private final Duration connectionTimeout;
+    private final Duration readTimeout;
+    @Getter
+    private final int maxConnections;
+
+    private final Queue<PendingRequest> pendingRequests = new ArrayDeque<>();
+    private final Set<MLAsyncHttpClientPool.SharedClient> sharedClients = new HashSet<>();
+    private int runningRequests;
+
+    ConnectorAsyncHttpClient(MLAsyncHttpClientPool pool, Duration connectionTimeout, Duration readTimeout, int maxConnections) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("max connections should be positive");
+        }
+        this.pool = pool;
+        this.connectionTimeout = connectionTimeout;
+        this.readTimeout = readTimeout;
+        this.maxConnections = maxConnections;
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        synchronized (this) {
+            if (runningRequests >= maxConnections) {
+                if (pendingRequests.size() >= MAX_PENDING_REQUESTS) {
+                    future.completeExceptionally(new MLLimitExceededException("Too many pending requests to the remote service"));
+                    return future;
+                }
+                pendingRequests.add(new PendingRequest(request, future));
+                pool.onPendingAcquireAdded();
+                return future;
+            }
+            runningRequests++;
+        }
+        dispatch(new PendingRequest(request, future));
+        return future;
+    }
+
+    /**
+     * Send the request and then the pending requests which take its place. Requests which complete right away, like
+     * the ones failing before they are sent, are followed by the next pending request in this loop rather than in their
+     * completion callback, so a long queue doesn't recurse once per request.
+     */
+    private void dispatch(PendingRequest request) {
+        PendingRequest next = request;
+        while (next != null) {
+            CompletableFuture<Void> completion = send(next);
+            if (!completion.isDone()) {
+                completion.whenComplete((result, error) -> dispatch(pollNext()));
+                return;
+            }
+            next = pollNext();
+        }
+    }
+
+    @SuppressWarnings("removal")
+    private CompletableFuture<Void> send(PendingRequest request) {
+        pool.onLeased();
+        MLAsyncHttpClientPool.SharedClient sharedClient = null;
+        CompletableFuture<Void> execution;
+        try {
+            sharedClient = pool.acquire(request.request.request(), connectionTimeout, readTimeout);
+            addSharedClient(sharedClient);
+            SdkAsyncHttpClient client = sharedClient.getClient();
+            execution = AccessController.doPrivileged((PrivilegedAction<CompletableFuture<Void>>) () -> client.execute(request.request));
+        } catch (Throwable e) {
+            execution = CompletableFuture.failedFuture(e);
+        }
+        MLAsyncHttpClientPool.SharedClient leasedClient = sharedClient;
+        return execution.whenComplete((result, error) -> {
+            if (leasedClient != null) {
+                pool.release(leasedClient);
+            }
+            pool.onReleased();
+            if (error != null) {
+                request.future.completeExceptionally(error);
+            } else {
+                request.future.complete(result);
+            }
+        });
+    }
+
+    private PendingRequest pollNext() {
+        PendingRequest next;
+        synchronized (this) {
+            next = pendingRequests.poll();
+            if (next == null) {
+                runningRequests--;
+                return null;
+            }
+        }
+        pool.onPendingAcquireRemoved();
+        return next;
+    }
+
+    private void addSharedClient(MLAsyncHttpClientPool.SharedClient sharedClient) {
+        boolean added;
+        synchronized (this) {
+            added = sharedClients.add(sharedClient);
+        }
+        if (added) {
+            sharedClient.addConnector();
+        }
+    }
+
+    public synchronized int getRunningRequests() {
+        return runningRequests;
+    }
+
+    public synchronized int getPendingRequests() {
+        return pendingRequests.size();
+    }
+
+    @Override
+    public String clientName() {
+        return "MLConnectorAsyncHttpClient";
+    }
+
+    /**
+     * The shared clients are owned by the pool. Closing the client of a connector lets the pool close the shared clients
+     * which no other connector uses.
+     */
+    @Override
+    public void close() {
+        List<MLAsyncHttpClientPool.SharedClient> usedClients;
+        synchronized (this) {
+            usedClients = new ArrayList<>(sharedClients);
+            sharedClients.clear();
+        }
+        usedClients.forEach(pool::removeConnector);
+    }
+
+    private static class PendingRequest {
+        private final AsyncExecuteRequest request;
+        private final CompletableFuture<Void> future;
+
+        PendingRequest(AsyncExecuteRequest request, CompletableFuture<Void> future) {
+            this.request = request;
+            this.future = future;
+        }
+    }
+}
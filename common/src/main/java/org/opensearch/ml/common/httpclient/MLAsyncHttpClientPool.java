@@ -0,0 +1,290 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.httpclient;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.opensearch.common.util.concurrent.ThreadContextAccess;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+
+/**
+ * Node-wide pool of the async HTTP clients used by remote connectors.
+ * <p>
+ * Connectors calling the same host with the same timeouts share one client and so its connection pool, and all
+ * clients share one Netty event loop group. Connector executors don't use the shared clients directly but through a
+ * {@link ConnectorAsyncHttpClient}, which limits the concurrent requests of the connector to its max connections.
+ * <p>
+ * A shared client is closed once no request uses it for the idle time, or once all connectors which used it are closed.
+ */
+@Log4j2
+public class MLAsyncHttpClientPool {
+
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 1000;
+    public static final Duration DEFAULT_CLIENT_IDLE_TIME = Duration.ofMinutes(5);
+
+    /**
+     * Builds a shared client for a host.
+     */
+    @FunctionalInterface
+    interface ClientBuilder {
+        SdkAsyncHttpClient build(Duration connectionTimeout, Duration readTimeout, int maxConnections);
+    }
+
+    private final Map<ClientKey, SharedClient> clients = new ConcurrentHashMap<>();
+    private final ClientBuilder clientBuilder;
+    private volatile SdkEventLoopGroup eventLoopGroup;
+    private volatile int maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+
+    private final LongAdder createdClientCount = new LongAdder();
+    private final LongAdder closedClientCount = new LongAdder();
+    private final AtomicInteger leasedCount = new AtomicInteger();
+    private final AtomicInteger pendingAcquireCount = new AtomicInteger();
+
+    public MLAsyncHttpClientPool() {
+        this.clientBuilder = this::buildNettyClient;
+    }
+
+    MLAsyncHttpClientPool(ClientBuilder clientBuilder) {
+        this.clientBuilder = clientBuilder;
+    }
+
+    /**
+     * Create a client for one connector. The client sends the requests through the shared client of the request host.
+     *
+     * @param connectionTimeout connection timeout of the connector
+     * @param readTimeout       read timeout of the connector
+     * @param maxConnections    max concurrent requests of the connector
+     * @return client of the connector
+     */
+    public ConnectorAsyncHttpClient newConnectorClient(Duration connectionTimeout, Duration readTimeout, int maxConnections) {
+        return new ConnectorAsyncHttpClient(this, connectionTimeout, readTimeout, maxConnections);
+    }
+
+    /**
+     * Set the max connections of each shared client. Only applies to clients created afterwards.
+     *
+     * @param maxConnectionsPerHost max connections per host
+     */
+    public void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+    }
+
+    /**
+     * Get the shared client of the request host and count the request as running on it. The client isn't closed
+     * by eviction until the request is released.
+     */
+    SharedClient acquire(SdkHttpRequest request, Duration connectionTimeout, Duration readTimeout) {
+        ClientKey key = new ClientKey(request.protocol(), request.host(), request.port(), connectionTimeout, readTimeout);
+        return clients.compute(key, (k, sharedClient) -> {
+            if (sharedClient == null) {
+                log.debug("Create shared http client for {}://{}:{}", k.protocol, k.host, k.port);
+                createdClientCount.increment();
+                sharedClient = new SharedClient(k, clientBuilder.build(connectionTimeout, readTimeout, maxConnectionsPerHost));
+            }
+            sharedClient.acquire();
+            return sharedClient;
+        });
+    }
+
+    void release(SharedClient sharedClient) {
+        sharedClient.release();
+    }
+
+    /**
+     * Called when a connector client which used the shared client is closed. The shared client is closed if no other
+     * connector uses it and no request is running on it.
+     */
+    void removeConnector(SharedClient sharedClient) {
+        sharedClient.removeConnector();
+        evict(sharedClient.key, c -> c == sharedClient && c.isUnused());
+    }
+
+    /**
+     * Close the shared clients which haven't run any request for the idle time.
+     *
+     * @param idleTime idle time after which a shared client is closed
+     */
+    public void evictIdleClients(Duration idleTime) {
+        long now = System.nanoTime();
+        for (ClientKey key : clients.keySet()) {
+            evict(key, c -> c.isIdle(now, idleTime));
+        }
+    }
+
+    private void evict(ClientKey key, Predicate<SharedClient> shouldEvict) {
+        AtomicReference<SharedClient> evicted = new AtomicReference<>();
+        clients.computeIfPresent(key, (k, sharedClient) -> {
+            if (shouldEvict.test(sharedClient)) {
+                evicted.set(sharedClient);
+                return null;
+            }
+            return sharedClient;
+        });
+        if (evicted.get() != null) {
+            log.debug("Close shared http client for {}://{}:{}", key.protocol, key.host, key.port);
+            evicted.get().client.close();
+            closedClientCount.increment();
+        }
+    }
+
+    private SdkEventLoopGroup getEventLoopGroup() {
+        if (eventLoopGroup == null) {
+            synchronized (this) {
+                if (eventLoopGroup == null) {
+                    eventLoopGroup = ThreadContextAccess.doPrivileged(() -> SdkEventLoopGroup.builder().build());
+                }
+            }
+        }
+        return eventLoopGroup;
+    }
+
+    void onLeased() {
+        leasedCount.incrementAndGet();
+    }
+
+    void onReleased() {
+        leasedCount.decrementAndGet();
+    }
+
+    void onPendingAcquireAdded() {
+        pendingAcquireCount.incrementAndGet();
+    }
+
+    void onPendingAcquireRemoved() {
+        pendingAcquireCount.decrementAndGet();
+    }
+
+    /**
+     * Close all shared clients and the event loop group. Clients are created again if connectors send more requests.
+     */
+    public synchronized void close() {
+        for (ClientKey key : clients.keySet()) {
+            SharedClient sharedClient = clients.remove(key);
+            if (sharedClient != null) {
+                sharedClient.client.close();
+                closedClientCount.increment();
+            }
+        }
+        if (eventLoopGroup != null) {
+            eventLoopGroup.eventLoopGroup().shutdownGracefully();
+            eventLoopGroup = null;
+        }
+    }
+
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    public long getCreatedClientCount() {
+        return createdClientCount.sum();
+    }
+
+    public long getClosedClientCount() {
+        return closedClientCount.sum();
+    }
+
+    /**
+     * @return number of requests being executed by the shared clients
+     */
+    public int getLeasedCount() {
+        return leasedCount.get();
+    }
+
+    /**
+     * @return number of requests waiting because their connector reached its max connections
+     */
+    public int getPendingAcquireCount() {
+        return pendingAcquireCount.get();
+    }
+
+    private SdkAsyncHttpClient buildNettyClient(Duration connectionTimeout, Duration readTimeout, int maxConnections) {
+        SdkEventLoopGroup eventLoopGroup = getEventLoopGroup();
+        return ThreadContextAccess
+            .doPrivileged(
+                () -> NettyNioAsyncHttpClient
+                    .builder()
+                    .eventLoopGroup(eventLoopGroup)
+                    .connectionTimeout(connectionTimeout)
+                    .readTimeout(readTimeout)
+                    .maxConcurrency(maxConnections)
+                    .build()
+            );
+    }
+
+    /**
+     * Shared client of one host with the requests running on it and the connectors which used it.
+     */
+    static class SharedClient {
+        private final ClientKey key;
+        @Getter
+        private final SdkAsyncHttpClient client;
+        private int runningRequests;
+        private int connectors;
+        private long lastUsedNanos = System.nanoTime();
+
+        SharedClient(ClientKey key, SdkAsyncHttpClient client) {
+            this.key = key;
+            this.client = client;
+        }
+
+        synchronized void acquire() {
+            runningRequests++;
+            lastUsedNanos = System.nanoTime();
+        }
+
+        synchronized void release() {
+            runningRequests--;
+            lastUsedNanos = System.nanoTime();
+        }
+
+        synchronized void addConnector() {
+            connectors++;
+        }
+
+        synchronized void removeConnector() {
+            connectors--;
+        }
+
+        synchronized boolean isUnused() {
+            return connectors <= 0 && runningRequests == 0;
+        }
+
+        synchronized boolean isIdle(long now, Duration idleTime) {
+            return runningRequests == 0 && now - lastUsedNanos >= idleTime.toNanos();
+        }
+    }
+
+    @EqualsAndHashCode
+    private static class ClientKey {
+        private final String protocol;
+        private final String host;
+        private final int port;
+        private final Duration connectionTimeout;
+        private final Duration readTimeout;
+
+        ClientKey(String protocol, String host, int port, Duration connectionTimeout, Duration readTimeout) {
+            this.protocol = protocol == null ? null : protocol.toLowerCase(Locale.ROOT);
+            this.host = host == null ? null : host.toLowerCase(Locale.ROOT);
+            this.port = port;
+            this.connectionTimeout = connectionTimeout;
+            this.readTimeout = readTimeout;
+        }
+    }
+}
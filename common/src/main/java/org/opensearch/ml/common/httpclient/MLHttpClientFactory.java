@@ -22,6 +22,24 @@ import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 @Log4j2
 public class MLHttpClientFactory {
 
+    private static final MLAsyncHttpClientPool SHARED_CLIENT_POOL = new MLAsyncHttpClientPool();
+
+    /**
+     * Get an async http client for a connector which shares the connection pools and event loop threads with the
+     * clients of the other connectors on this node.
+     * @param connectionTimeout connection timeout of the connector
+     * @param readTimeout read timeout of the connector
+     * @param maxConnections max concurrent requests of the connector
+     * @return async http client of the connector
+     */
+    public static SdkAsyncHttpClient getSharedAsyncHttpClient(Duration connectionTimeout, Duration readTimeout, int maxConnections) {
+        return SHARED_CLIENT_POOL.newConnectorClient(connectionTimeout, readTimeout, maxConnections);
+    }
+
+    public static MLAsyncHttpClientPool getSharedClientPool() {
+        return SHARED_CLIENT_POOL;
+    }
+
     public static SdkAsyncHttpClient getAsyncHttpClient(Duration connectionTimeout, Duration readTimeout, int maxConnections) {
         return ThreadContextAccess
             .doPrivileged(
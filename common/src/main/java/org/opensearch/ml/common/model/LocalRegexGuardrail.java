@@ -17,6 +17,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
@@ -24,7 +26,11 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.opensearch.action.LatchedActionListener;
+import org.opensearch.action.admin.indices.get.GetIndexRequest;
+import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
@@ -34,12 +40,16 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.SearchDataObjectRequest;
 import org.opensearch.remote.metadata.common.SdkClientUtils;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.transport.client.Client;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -52,6 +62,10 @@ import lombok.extern.log4j.Log4j2;
 public class LocalRegexGuardrail extends Guardrail {
     public static final String STOP_WORDS_FIELD = "stop_words";
     public static final String REGEX_FIELD = "regex";
+    // stop words indices with more queries are searched with a percolate query for each input
+    static final int MAX_STOP_WORDS_QUERIES = 10000;
+    private static final String PERCOLATOR_QUERY_FIELD = "query";
+    private static final long STOP_WORDS_REFRESH_INTERVAL_NANOS = SECONDS.toNanos(60);
 
     private List<StopWords> stopWords;
     private String[] regex;
@@ -61,6 +75,17 @@ public class LocalRegexGuardrail extends Guardrail {
     private Client client;
     private SdkClient sdkClient;
     private String tenantId;
+    // stop words compiled by index, validated in memory instead of searching the index
+    @EqualsAndHashCode.Exclude
+    private final Map<String, StopWordsMatcher> stopWordsMatchers = new ConcurrentHashMap<>();
+    // time the stop words of an index were last loaded, they are loaded again in the background once stale
+    @EqualsAndHashCode.Exclude
+    private final Map<String, Long> stopWordsLoadTimes = new ConcurrentHashMap<>();
+    @EqualsAndHashCode.Exclude
+    private final Set<String> loadingStopWordsIndices = ConcurrentHashMap.newKeySet();
+    @EqualsAndHashCode.Exclude
+    @VisibleForTesting
+    long stopWordsRefreshIntervalNanos = STOP_WORDS_REFRESH_INTERVAL_NANOS;
 
     @Builder(toBuilder = true)
     public LocalRegexGuardrail(List<StopWords> stopWords, String[] regex) {
@@ -165,6 +190,9 @@ public class LocalRegexGuardrail extends Guardrail {
         stopWordsIndicesInput = stopWordsToMap();
         List<String> regexList = regex == null ? new ArrayList<>() : Arrays.asList(regex);
         regexPattern = regexList.stream().map(reg -> Pattern.compile(reg)).collect(Collectors.toList());
+        for (Map.Entry<String, List<String>> entry : stopWordsIndicesInput.entrySet()) {
+            loadStopWords(entry.getKey(), entry.getValue());
+        }
     }
 
     private Map<String, List<String>> stopWordsToMap() {
@@ -200,14 +228,164 @@ public class LocalRegexGuardrail extends Guardrail {
         if (stopWordsIndices == null || stopWordsIndices.isEmpty()) {
             return true;
         }
-        for (Map.Entry entry : stopWordsIndices.entrySet()) {
-            if (!validateStopWordsSingleIndex(input, (String) entry.getKey(), (List<String>) entry.getValue())) {
+        for (Map.Entry<String, List<String>> entry : stopWordsIndices.entrySet()) {
+            String indexName = entry.getKey();
+            Long loadTime = stopWordsLoadTimes.get(indexName);
+            if (loadTime == null || System.nanoTime() - loadTime >= stopWordsRefreshIntervalNanos) {
+                loadStopWords(indexName, entry.getValue());
+            }
+            // the stop words being loaded are searched until they are compiled
+            StopWordsMatcher matcher = stopWordsMatchers.get(indexName);
+            boolean passed = matcher != null ? !matcher.matches(input) : validateStopWordsSingleIndex(input, indexName, entry.getValue());
+            if (!passed) {
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Load the percolator queries of a stop words index in the background and compile them, so inputs are validated in
+     * memory. The index keeps being searched for each input if its queries can't be compiled, or if a stop words field
+     * isn't a text field analyzed by the standard analyzer, since the compiled stop words are matched on the tokens of
+     * the standard analyzer.
+     * @param indexName the index containing stop words
+     * @param fieldNames a list of field names containing stop words
+     */
+    @VisibleForTesting
+    void loadStopWords(String indexName, List<String> fieldNames) {
+        if (!loadingStopWordsIndices.add(indexName)) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        ActionListener<StopWordsMatcher> listener = ActionListener.runAfter(ActionListener.wrap(matcher -> {
+            if (matcher == null) {
+                log.info("Stop words index {} can't be compiled, searching it for each input", indexName);
+                stopWordsMatchers.remove(indexName);
+            } else {
+                stopWordsMatchers.put(indexName, matcher);
+            }
+        }, e -> {
+            // the stop words loaded before, if any, are kept
+            log.warn("Failed to load stop words index {}", indexName, e);
+        }), () -> {
+            stopWordsLoadTimes.put(indexName, startTime);
+            loadingStopWordsIndices.remove(indexName);
+        });
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            GetIndexRequest getIndexRequest = new GetIndexRequest()
+                .indices(indexName)
+                .features(GetIndexRequest.Feature.MAPPINGS, GetIndexRequest.Feature.SETTINGS);
+            client.admin().indices().getIndex(getIndexRequest, ActionListener.runBefore(ActionListener.wrap(getIndexResponse -> {
+                if (!isStandardTextFields(getIndexResponse, fieldNames)) {
+                    listener.onResponse(null);
+                    return;
+                }
+                searchStopWords(indexName, fieldNames, listener);
+            }, listener::onFailure), context::restore));
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    private void searchStopWords(String indexName, List<String> fieldNames, ActionListener<StopWordsMatcher> listener) {
+        ActionListener<SearchResponse> searchListener = ActionListener
+            .wrap(r -> listener.onResponse(compileStopWords(r, fieldNames)), listener::onFailure);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+                .query(QueryBuilders.matchAllQuery())
+                .size(MAX_STOP_WORDS_QUERIES)
+                .trackTotalHits(true)
+                .fetchSource(PERCOLATOR_QUERY_FIELD, null);
+            SearchDataObjectRequest request = SearchDataObjectRequest
+                .builder()
+                .indices(indexName)
+                .searchSourceBuilder(searchSourceBuilder)
+                .tenantId(tenantId)
+                .build();
+            sdkClient
+                .searchDataObjectAsync(request)
+                .whenComplete(SdkClientUtils.wrapSearchCompletion(ActionListener.runBefore(searchListener, context::restore)));
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Check that the stop words fields of every index behind the stop words index name are text fields analyzed by
+     * the standard analyzer, so percolating an input and matching its standard tokens give the same answer.
+     * @param response the mappings and settings of the stop words indices
+     * @param fieldNames a list of field names containing stop words
+     * @return true if all the fields of all the indices use the standard analyzer
+     */
+    @VisibleForTesting
+    static boolean isStandardTextFields(GetIndexResponse response, List<String> fieldNames) {
+        if (response.getMappings() == null || response.getMappings().isEmpty() || response.getSettings() == null) {
+            return false;
+        }
+        for (Map.Entry<String, MappingMetadata> entry : response.getMappings().entrySet()) {
+            Settings settings = response.getSettings().get(entry.getKey());
+            // the default analyzers of an index, or an analyzer named standard, can be overridden in its settings
+            if (settings == null
+                || !settings.getByPrefix("index.analysis.analyzer.default.").isEmpty()
+                || !settings.getByPrefix("index.analysis.analyzer.default_search.").isEmpty()
+                || !settings.getByPrefix("index.analysis.analyzer.standard.").isEmpty()) {
+                return false;
+            }
+            if (entry.getValue() == null) {
+                return false;
+            }
+            Map<String, Object> mapping = entry.getValue().sourceAsMap();
+            for (String fieldName : fieldNames) {
+                Map<String, Object> fieldMapping = getFieldMapping(mapping, fieldName);
+                if (fieldMapping == null
+                    || !"text".equals(fieldMapping.get("type"))
+                    || !isStandardAnalyzer(fieldMapping.get("analyzer"))
+                    || !isStandardAnalyzer(fieldMapping.get("search_analyzer"))
+                    || !isStandardAnalyzer(fieldMapping.get("search_quote_analyzer"))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isStandardAnalyzer(Object analyzer) {
+        return analyzer == null || "standard".equals(analyzer);
+    }
+
+    /**
+     * Find the mapping of a field by its dot path, through object properties and multi-fields.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> getFieldMapping(Map<String, Object> mapping, String fieldName) {
+        Map<String, Object> current = mapping;
+        for (String name : fieldName.split("\\.")) {
+            Object children = current.get("properties");
+            if (!(children instanceof Map) || !((Map<String, Object>) children).containsKey(name)) {
+                children = current.get("fields");
+            }
+            if (!(children instanceof Map) || !(((Map<String, Object>) children).get(name) instanceof Map)) {
+                return null;
+            }
+            current = (Map<String, Object>) ((Map<String, Object>) children).get(name);
+        }
+        return current;
+    }
+
+    private StopWordsMatcher compileStopWords(SearchResponse response, List<String> fieldNames) {
+        SearchHit[] hits = response.getHits().getHits();
+        if (response.getHits().getTotalHits() == null || response.getHits().getTotalHits().value() > hits.length) {
+            return null;
+        }
+        List<Object> queries = new ArrayList<>(hits.length);
+        for (SearchHit hit : hits) {
+            Map<String, Object> source = hit.getSourceAsMap();
+            queries.add(source == null ? null : source.get(PERCOLATOR_QUERY_FIELD));
+        }
+        return StopWordsMatcher.compile(queries, fieldNames);
+    }
+
     /**
      * Validate the input string against stop words
      * @param input the string to validate against stop words
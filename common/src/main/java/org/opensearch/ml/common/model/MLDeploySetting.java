@@ -28,19 +28,65 @@ import lombok.Setter;
 public class MLDeploySetting implements ToXContentObject, Writeable {
     public static final String IS_AUTO_DEPLOY_ENABLED_FIELD = "is_auto_deploy_enabled";
     public static final String MODEL_TTL_MINUTES_FIELD = "model_ttl_minutes";
+    public static final String MAX_BATCH_SIZE_FIELD = "max_batch_size";
+    public static final String MAX_BATCH_DELAY_MICROS_FIELD = "max_batch_delay_micros";
+    public static final String PREDICTOR_REPLICAS_FIELD = "predictor_replicas";
+    public static final String INTRA_OP_THREADS_FIELD = "intra_op_threads";
+    public static final String MAX_BATCH_TOKENS_FIELD = "max_batch_tokens";
     private static final long DEFAULT_TTL_MINUTES = -1;
     public static final Version MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL = CommonValue.VERSION_2_14_0;
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_BATCHING = CommonValue.VERSION_3_4_0;
 
     private Boolean isAutoDeployEnabled;
     private Long modelTTLInMinutes; // in minutes
+    // Dynamic batching of concurrent predict requests of local models, disabled if null or not greater than 1
+    private Integer maxBatchSize;
+    private Long maxBatchDelayMicros;
+    // Number of predictors of a local model per device, and the intra-op threads of each predictor of ONNX models
+    private Integer predictorReplicas;
+    private Integer intraOpThreads;
+    // Max tokens of one batch of a cross encoder rerank request, including the padding to the longest input of the batch
+    private Integer maxBatchTokens;
 
-    @Builder(toBuilder = true)
     public MLDeploySetting(Boolean isAutoDeployEnabled, Long modelTTLInMinutes) {
+        this(isAutoDeployEnabled, modelTTLInMinutes, null, null, null, null, null);
+    }
+
+    @Builder(toBuilder = true)
+    public MLDeploySetting(
+        Boolean isAutoDeployEnabled,
+        Long modelTTLInMinutes,
+        Integer maxBatchSize,
+        Long maxBatchDelayMicros,
+        Integer predictorReplicas,
+        Integer intraOpThreads,
+        Integer maxBatchTokens
+    ) {
         this.isAutoDeployEnabled = isAutoDeployEnabled;
         this.modelTTLInMinutes = modelTTLInMinutes;
         if (modelTTLInMinutes == null) {
             this.modelTTLInMinutes = DEFAULT_TTL_MINUTES;
         }
+        if (maxBatchSize != null && maxBatchSize < 1) {
+            throw new IllegalArgumentException(MAX_BATCH_SIZE_FIELD + " should be positive");
+        }
+        if (maxBatchDelayMicros != null && maxBatchDelayMicros < 0) {
+            throw new IllegalArgumentException(MAX_BATCH_DELAY_MICROS_FIELD + " should not be negative");
+        }
+        if (predictorReplicas != null && predictorReplicas < 1) {
+            throw new IllegalArgumentException(PREDICTOR_REPLICAS_FIELD + " should be positive");
+        }
+        if (intraOpThreads != null && intraOpThreads < 1) {
+            throw new IllegalArgumentException(INTRA_OP_THREADS_FIELD + " should be positive");
+        }
+        if (maxBatchTokens != null && maxBatchTokens < 1) {
+            throw new IllegalArgumentException(MAX_BATCH_TOKENS_FIELD + " should be positive");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelayMicros = maxBatchDelayMicros;
+        this.predictorReplicas = predictorReplicas;
+        this.intraOpThreads = intraOpThreads;
+        this.maxBatchTokens = maxBatchTokens;
     }
 
     public MLDeploySetting(StreamInput in) throws IOException {
@@ -49,6 +95,13 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
         if (streamInputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL)) {
             this.modelTTLInMinutes = in.readOptionalLong();
         }
+        if (streamInputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_BATCHING)) {
+            this.maxBatchSize = in.readOptionalInt();
+            this.maxBatchDelayMicros = in.readOptionalLong();
+            this.predictorReplicas = in.readOptionalInt();
+            this.intraOpThreads = in.readOptionalInt();
+            this.maxBatchTokens = in.readOptionalInt();
+        }
     }
 
     @Override
@@ -58,11 +111,23 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
         if (streamOutputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL)) {
             out.writeOptionalLong(modelTTLInMinutes);
         }
+        if (streamOutputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_BATCHING)) {
+            out.writeOptionalInt(maxBatchSize);
+            out.writeOptionalLong(maxBatchDelayMicros);
+            out.writeOptionalInt(predictorReplicas);
+            out.writeOptionalInt(intraOpThreads);
+            out.writeOptionalInt(maxBatchTokens);
+        }
     }
 
     public static MLDeploySetting parse(XContentParser parser) throws IOException {
         Boolean isAutoDeployEnabled = null;
         Long modelTTLMinutes = null;
+        Integer maxBatchSize = null;
+        Long maxBatchDelayMicros = null;
+        Integer predictorReplicas = null;
+        Integer intraOpThreads = null;
+        Integer maxBatchTokens = null;
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
             String fieldName = parser.currentName();
@@ -73,12 +138,36 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
                     break;
                 case MODEL_TTL_MINUTES_FIELD:
                     modelTTLMinutes = parser.longValue();
+                    break;
+                case MAX_BATCH_SIZE_FIELD:
+                    maxBatchSize = parser.intValue();
+                    break;
+                case MAX_BATCH_DELAY_MICROS_FIELD:
+                    maxBatchDelayMicros = parser.longValue();
+                    break;
+                case PREDICTOR_REPLICAS_FIELD:
+                    predictorReplicas = parser.intValue();
+                    break;
+                case INTRA_OP_THREADS_FIELD:
+                    intraOpThreads = parser.intValue();
+                    break;
+                case MAX_BATCH_TOKENS_FIELD:
+                    maxBatchTokens = parser.intValue();
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        return new MLDeploySetting(isAutoDeployEnabled, modelTTLMinutes);
+        return new MLDeploySetting(
+            isAutoDeployEnabled,
+            modelTTLMinutes,
+            maxBatchSize,
+            maxBatchDelayMicros,
+            predictorReplicas,
+            intraOpThreads,
+            maxBatchTokens
+        );
     }
 
     @Override
@@ -90,6 +179,21 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
         if (modelTTLInMinutes != null) {
             builder.field(MODEL_TTL_MINUTES_FIELD, modelTTLInMinutes);
         }
+        if (maxBatchSize != null) {
+            builder.field(MAX_BATCH_SIZE_FIELD, maxBatchSize);
+        }
+        if (maxBatchDelayMicros != null) {
+            builder.field(MAX_BATCH_DELAY_MICROS_FIELD, maxBatchDelayMicros);
+        }
+        if (predictorReplicas != null) {
+            builder.field(PREDICTOR_REPLICAS_FIELD, predictorReplicas);
+        }
+        if (intraOpThreads != null) {
+            builder.field(INTRA_OP_THREADS_FIELD, intraOpThreads);
+        }
+        if (maxBatchTokens != null) {
+            builder.field(MAX_BATCH_TOKENS_FIELD, maxBatchTokens);
+        }
         builder.endObject();
         return builder;
     }
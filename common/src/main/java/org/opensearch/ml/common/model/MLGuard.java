@@ -48,6 +48,10 @@ public class MLGuard {
         }
     }
 
+    public boolean hasOutputGuardrail() {
+        return guardrails != null && guardrails.getOutputGuardrail() != null;
+    }
+
     public enum Type {
         INPUT,
         OUTPUT
@@ -0,0 +1,283 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+
+/**
+ * In-memory matcher of the percolator queries of a stop words index, so a guardrail doesn't search the index for every
+ * input.
+ * <p>
+ * The queries are compiled to phrases of tokens, and all phrases are matched in one pass over the input tokens by an
+ * Aho-Corasick automaton. Text is split into tokens by the standard analyzer, the default analyzer of text fields.
+ * Only match, match_phrase and query_string phrase queries, and bool queries combining them, can be compiled; an index
+ * with any other query is searched with a percolate query instead.
+ */
+public class StopWordsMatcher {
+
+    static final String MATCH = "match";
+    static final String MATCH_PHRASE = "match_phrase";
+    static final String QUERY_STRING = "query_string";
+    static final String BOOL = "bool";
+    private static final String QUERY = "query";
+    private static final String DEFAULT_FIELD = "default_field";
+    private static final String ALL_FIELDS = "*";
+    // a single quoted phrase, optionally prefixed by a field name, e.g. title: "stop word"
+    private static final Pattern QUERY_STRING_PHRASE = Pattern.compile("^\\s*(?:([\\w.]+)\\s*:\\s*)?\"([^\"\\\\]*)\"\\s*$");
+    // like the standard analyzer of OpenSearch, which has no stop words by default
+    private static final Analyzer ANALYZER = new StandardAnalyzer(CharArraySet.EMPTY_SET);
+
+    // transitions of the automaton by token, state 0 is the root
+    private final List<Map<String, Integer>> transitions = new ArrayList<>();
+    private final int[] failures;
+    // true if a phrase ends at the state or at one of its failure states
+    private final boolean[] accepting;
+    private final int phraseCount;
+
+    StopWordsMatcher(List<List<String>> phrases) {
+        List<Boolean> ends = new ArrayList<>();
+        transitions.add(new HashMap<>());
+        ends.add(false);
+        int count = 0;
+        for (List<String> phrase : phrases) {
+            if (phrase.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (String token : phrase) {
+                Integer next = transitions.get(state).get(token);
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.add(new HashMap<>());
+                    ends.add(false);
+                    transitions.get(state).put(token, next);
+                }
+                state = next;
+            }
+            ends.set(state, true);
+            count++;
+        }
+        phraseCount = count;
+        failures = new int[transitions.size()];
+        accepting = new boolean[transitions.size()];
+        for (int i = 0; i < accepting.length; i++) {
+            accepting[i] = ends.get(i);
+        }
+
+        // breadth first, so the failure state of a state's parent is computed before the state's own
+        Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<String, Integer> transition : transitions.get(state).entrySet()) {
+                int next = transition.getValue();
+                failures[next] = state == 0 ? 0 : step(failures[state], transition.getKey());
+                accepting[next] |= accepting[failures[next]];
+                queue.add(next);
+            }
+        }
+    }
+
+    /**
+     * Compile the percolator queries of a stop words index.
+     *
+     * @param queries    percolator queries of the index
+     * @param fieldNames fields the input is percolated as
+     * @return the matcher, null if a query can't be compiled
+     */
+    public static StopWordsMatcher compile(Collection<?> queries, Collection<String> fieldNames) {
+        List<List<String>> phrases = new ArrayList<>();
+        for (Object query : queries) {
+            List<List<String>> queryPhrases = compileQuery(query, fieldNames);
+            if (queryPhrases == null) {
+                return null;
+            }
+            phrases.addAll(queryPhrases);
+        }
+        return new StopWordsMatcher(phrases);
+    }
+
+    /**
+     * @param input text to check
+     * @return true if the input contains a stop words phrase
+     */
+    public boolean matches(String input) {
+        if (phraseCount == 0 || input == null) {
+            return false;
+        }
+        int state = 0;
+        for (String token : tokenize(input)) {
+            state = step(state, token);
+            if (accepting[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getPhraseCount() {
+        return phraseCount;
+    }
+
+    private int step(int state, String token) {
+        while (state != 0 && !transitions.get(state).containsKey(token)) {
+            state = failures[state];
+        }
+        return transitions.get(state).getOrDefault(token, 0);
+    }
+
+    /**
+     * Split text into lower cased tokens with the standard analyzer, so e.g. each CJK ideograph is a token of its own
+     * like in a percolate query.
+     *
+     * @param text text to split
+     * @return tokens of the text
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream tokenStream = ANALYZER.tokenStream(null, text)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    private static List<List<String>> compileQuery(Object query, Collection<String> fieldNames) {
+        if (!(query instanceof Map) || ((Map<?, ?>) query).size() != 1) {
+            return null;
+        }
+        Map.Entry<?, ?> entry = ((Map<?, ?>) query).entrySet().iterator().next();
+        switch (String.valueOf(entry.getKey())) {
+            case MATCH:
+                return compileMatch(entry.getValue(), fieldNames, false);
+            case MATCH_PHRASE:
+                return compileMatch(entry.getValue(), fieldNames, true);
+            case QUERY_STRING:
+                return compileQueryString(entry.getValue(), fieldNames);
+            case BOOL:
+                return compileBool(entry.getValue(), fieldNames);
+            default:
+                return null;
+        }
+    }
+
+    private static List<List<String>> compileMatch(Object body, Collection<String> fieldNames, boolean phrase) {
+        if (!(body instanceof Map) || ((Map<?, ?>) body).size() != 1) {
+            return null;
+        }
+        Map.Entry<?, ?> entry = ((Map<?, ?>) body).entrySet().iterator().next();
+        Object text = entry.getValue();
+        if (text instanceof Map) {
+            // only the default options are supported
+            Map<?, ?> options = (Map<?, ?>) text;
+            if (options.size() != 1 || !options.containsKey(QUERY)) {
+                return null;
+            }
+            text = options.get(QUERY);
+        }
+        if (!(text instanceof String)) {
+            return null;
+        }
+        if (!fieldNames.contains(String.valueOf(entry.getKey()))) {
+            // the input isn't percolated as the field, so the query never matches
+            return List.of();
+        }
+        List<String> tokens = tokenize((String) text);
+        if (phrase) {
+            return List.of(tokens);
+        }
+        // match queries match any of their tokens
+        List<List<String>> phrases = new ArrayList<>();
+        for (String token : tokens) {
+            phrases.add(List.of(token));
+        }
+        return phrases;
+    }
+
+    private static List<List<String>> compileQueryString(Object body, Collection<String> fieldNames) {
+        if (!(body instanceof Map) || !Set.of(QUERY, DEFAULT_FIELD).containsAll(((Map<?, ?>) body).keySet())) {
+            return null;
+        }
+        Object query = ((Map<?, ?>) body).get(QUERY);
+        Matcher matcher = query instanceof String ? QUERY_STRING_PHRASE.matcher((String) query) : null;
+        if (matcher == null || !matcher.matches()) {
+            return null;
+        }
+        Object defaultField = ((Map<?, ?>) body).get(DEFAULT_FIELD);
+        String field = matcher.group(1) != null ? matcher.group(1) : defaultField != null ? String.valueOf(defaultField) : ALL_FIELDS;
+        if (!ALL_FIELDS.equals(field) && !fieldNames.contains(field)) {
+            return List.of();
+        }
+        return List.of(tokenize(matcher.group(2)));
+    }
+
+    private static List<List<String>> compileBool(Object body, Collection<String> fieldNames) {
+        if (!(body instanceof Map)) {
+            return null;
+        }
+        Map<?, ?> clauses = (Map<?, ?>) body;
+        List<Object> should = clauseList(clauses.get("should"));
+        List<Object> must = clauseList(clauses.get("must"));
+        List<Object> filter = clauseList(clauses.get("filter"));
+        if (should == null || must == null || filter == null || !Set.of("should", "must", "filter").containsAll(clauses.keySet())) {
+            return null;
+        }
+        List<Object> alternatives;
+        if (should.isEmpty() && must.isEmpty() && filter.isEmpty()) {
+            // an empty bool query matches everything
+            return null;
+        } else if (must.isEmpty() && filter.isEmpty()) {
+            // without required clauses, any should clause must match
+            alternatives = should;
+        } else if (should.isEmpty() && must.size() + filter.size() == 1) {
+            alternatives = must.isEmpty() ? filter : must;
+        } else {
+            // conjunctions can't be matched as phrases
+            return null;
+        }
+        List<List<String>> phrases = new ArrayList<>();
+        for (Object clause : alternatives) {
+            List<List<String>> clausePhrases = compileQuery(clause, fieldNames);
+            if (clausePhrases == null) {
+                return null;
+            }
+            phrases.addAll(clausePhrases);
+        }
+        return phrases;
+    }
+
+    private static List<Object> clauseList(Object clauses) {
+        if (clauses == null) {
+            return List.of();
+        }
+        if (clauses instanceof Map) {
+            return List.of(clauses);
+        }
+        return clauses instanceof List ? new ArrayList<>((List<?>) clauses) : null;
+    }
+}
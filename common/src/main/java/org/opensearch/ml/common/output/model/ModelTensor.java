@@ -29,6 +29,7 @@ import org.opensearch.core.xcontent.XContentParser;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 
 @Data
 public class ModelTensor implements Writeable, ToXContentObject {
@@ -44,28 +45,49 @@ public class ModelTensor implements Writeable, ToXContentObject {
     public static final String DATA_AS_MAP_FIELD = "dataAsMap";
 
     private String name;
+    @EqualsAndHashCode.Exclude
     private Number[] data;
+    // floating point data kept as primitives, data is null while it's set
+    @EqualsAndHashCode.Exclude
+    private float[] floatData;
     private long[] shape;
     private MLResultDataType dataType;
     private ByteBuffer byteBuffer;// whole result in bytes
     private String result;// whole result in string
     private Map<String, ?> dataAsMap;// whole result in Map
 
+    public ModelTensor(
+        String name,
+        Number[] data,
+        long[] shape,
+        MLResultDataType dataType,
+        ByteBuffer byteBuffer,
+        String result,
+        Map<String, ?> dataAsMap
+    ) {
+        this(name, data, null, shape, dataType, byteBuffer, result, dataAsMap);
+    }
+
     @Builder
     public ModelTensor(
         String name,
         Number[] data,
+        float[] floatData,
         long[] shape,
         MLResultDataType dataType,
         ByteBuffer byteBuffer,
         String result,
         Map<String, ?> dataAsMap
     ) {
-        if (data != null && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
+        if ((data != null || floatData != null) && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
             throw new IllegalArgumentException("data type is null");
         }
+        if (floatData != null && !dataType.isFloating()) {
+            throw new IllegalArgumentException("float data requires a floating data type");
+        }
         this.name = name;
-        this.data = data;
+        this.data = floatData == null ? data : null;
+        this.floatData = floatData;
         this.shape = shape;
         this.dataType = dataType;
         this.byteBuffer = byteBuffer;
@@ -78,6 +100,34 @@ public class ModelTensor implements Writeable, ToXContentObject {
         this.result = result;
     }
 
+    /**
+     * Get the data of the tensor. Data stored as primitive floats is boxed into a new array on every call, so changes to
+     * the returned array don't change the tensor. Callers which can handle primitives should use
+     * {@link #getFloatData()} instead.
+     * @return tensor data
+     */
+    @EqualsAndHashCode.Include
+    public Number[] getData() {
+        if (floatData != null) {
+            Number[] boxed = new Number[floatData.length];
+            for (int i = 0; i < floatData.length; i++) {
+                boxed[i] = floatData[i];
+            }
+            return boxed;
+        }
+        return data;
+    }
+
+    public void setData(Number[] data) {
+        this.data = data;
+        this.floatData = null;
+    }
+
+    public void setFloatData(float[] floatData) {
+        this.floatData = floatData;
+        this.data = null;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
         builder.startObject();
@@ -90,7 +140,9 @@ public class ModelTensor implements Writeable, ToXContentObject {
         if (shape != null) {
             builder.field(SHAPE_FIELD, shape);
         }
-        if (data != null) {
+        if (floatData != null) {
+            builder.array(DATA_FIELD, floatData);
+        } else if (data != null) {
             builder.field(DATA_FIELD, data);
         }
         if (byteBuffer != null) {
@@ -203,17 +255,13 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
         if (in.readBoolean()) {
             int size = in.readInt();
-            data = new Number[size];
             if (dataType.isFloating()) {
-                for (int i = 0; i < size; i++) {
-                    data[i] = in.readFloat();
-                }
+                floatData = readFloats(in, size);
             } else if (dataType.isInteger() || dataType.isBoolean()) {
+                data = new Number[size];
                 for (int i = 0; i < size; i++) {
                     data[i] = in.readInt();
                 }
-            } else {
-                data = null;
             }
         }
         if (in.readBoolean()) {
@@ -253,7 +301,11 @@ public class ModelTensor implements Writeable, ToXContentObject {
         } else {
             out.writeBoolean(false);
         }
-        if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
+        if (floatData != null && dataType != null && dataType.isFloating()) {
+            out.writeBoolean(true);
+            out.writeInt(floatData.length);
+            writeFloats(out, floatData);
+        } else if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
             out.writeBoolean(true);
             out.writeInt(data.length);
             if (dataType.isFloating()) {
@@ -291,6 +343,21 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
     }
 
+    // Same bytes as writing the values one by one with StreamOutput#writeFloat, which is big endian.
+    private static void writeFloats(StreamOutput out, float[] values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Float.BYTES);
+        buffer.asFloatBuffer().put(values);
+        out.writeBytes(buffer.array());
+    }
+
+    private static float[] readFloats(StreamInput in, int size) throws IOException {
+        byte[] bytes = new byte[size * Float.BYTES];
+        in.readBytes(bytes, 0, bytes.length);
+        float[] values = new float[size];
+        ByteBuffer.wrap(bytes).asFloatBuffer().get(values);
+        return values;
+    }
+
     @Override
     public String toString() {
         try {
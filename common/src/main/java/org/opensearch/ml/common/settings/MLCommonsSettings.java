@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.function.Function;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
 
@@ -35,6 +36,62 @@ public final class MLCommonsSettings {
             Setting.Property.Dynamic
         );
 
+    // With the least_load dispatch policy, node loads older than the refresh interval are refreshed in the background,
+    // node loads older than the max staleness are fetched before dispatching.
+    public static final Setting<TimeValue> ML_COMMONS_NODE_LOAD_REFRESH_INTERVAL = Setting
+        .positiveTimeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "node_load.refresh_interval",
+            TimeValue.timeValueSeconds(1),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    public static final Setting<TimeValue> ML_COMMONS_NODE_LOAD_MAX_STALENESS = Setting
+        .positiveTimeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "node_load.max_staleness",
+            TimeValue.timeValueSeconds(5),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // With the latency_aware dispatch policy, the time for the observed predict latency of a node to decay to about a
+    // third of its value while the node is idle or responds faster.
+    public static final Setting<TimeValue> ML_COMMONS_PREDICT_LATENCY_DECAY_TIME = Setting
+        .positiveTimeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "predict_latency.decay_time",
+            TimeValue.timeValueSeconds(10),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Chunks of a model fetched in parallel when deploying it, which is also the max chunks kept in memory per deployment.
+    public static final Setting<Integer> ML_COMMONS_MODEL_CHUNK_FETCH_PARALLELISM = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "model_chunk_fetch.parallelism", 4, 1, 32, Setting.Property.NodeScope);
+
+    // Max disk space of the model zip files kept by content hash to deploy models again without fetching their chunks, 0 disables it.
+    public static final Setting<ByteSizeValue> ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE = Setting
+        .byteSizeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "model_artifact_cache.size",
+            new ByteSizeValue(10L, ByteSizeUnit.GB),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Worker nodes of a local model fetch the model zip from another worker node instead of the model index.
+    public static final Setting<Boolean> ML_COMMONS_MODEL_ARTIFACT_TRANSFER_ENABLED = Setting
+        .boolSetting(
+            ML_PLUGIN_SETTING_PREFIX + "model_artifact_transfer.enabled",
+            true,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<TimeValue> ML_COMMONS_MODEL_ARTIFACT_TRANSFER_WAIT_TIMEOUT = Setting
+        .positiveTimeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "model_artifact_transfer.wait_timeout",
+            TimeValue.timeValueMinutes(5),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<Integer> ML_COMMONS_MAX_MODELS_PER_NODE = Setting
         .intSetting(ML_PLUGIN_SETTING_PREFIX + "max_model_on_node", 10, 0, 10000, Setting.Property.NodeScope, Setting.Property.Dynamic);
     public static final Setting<Integer> ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE = Setting
@@ -150,6 +207,26 @@ public final class MLCommonsSettings {
             Setting.Property.Dynamic
         );
 
+    public static final Setting<Boolean> ML_COMMONS_PREDICTABLE_CACHE_ENABLED = Setting
+        .boolSetting(ML_PLUGIN_SETTING_PREFIX + "predictable_cache.enabled", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    public static final Setting<ByteSizeValue> ML_COMMONS_PREDICTABLE_CACHE_SIZE = Setting
+        .memorySizeSetting(ML_PLUGIN_SETTING_PREFIX + "predictable_cache.size", "1%", Setting.Property.NodeScope);
+
+    // PyTorch reads the number of intra-op threads once per process, so this is a static node setting.
+    public static final Setting<Integer> ML_COMMONS_LOCAL_MODEL_INTRA_OP_THREADS = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "local_model.intra_op_threads", 1, 1, 1024, Setting.Property.NodeScope);
+
+    // Connectors calling the same host share one http client, this limits the connections of that client.
+    public static final Setting<Integer> ML_COMMONS_REMOTE_HTTP_CLIENT_MAX_CONNECTIONS_PER_HOST = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_http_client.max_connections_per_host",
+            1000,
+            1,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<String> ML_COMMONS_EXCLUDE_NODE_NAMES = Setting
         .simpleString(ML_PLUGIN_SETTING_PREFIX + "exclude_nodes._name", Setting.Property.NodeScope, Setting.Property.Dynamic);
     public static final Setting<Boolean> ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN = Setting
@@ -216,6 +293,17 @@ public final class MLCommonsSettings {
             Setting.Property.Dynamic
         );
 
+    // Model groups read for model access control are cached on each node for this time, 0 disables the cache. Updates
+    // and deletes of a model group are seen right away on the node handling them, on other nodes after this time.
+    public static final Setting<TimeValue> ML_COMMONS_MODEL_GROUP_ACCESS_CACHE_TTL = Setting
+        .timeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "model_group_access_cache.ttl",
+            TimeValue.timeValueSeconds(5),
+            TimeValue.ZERO,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<Boolean> ML_COMMONS_CONNECTOR_ACCESS_CONTROL_ENABLED = Setting
         .boolSetting(
             ML_PLUGIN_SETTING_PREFIX + "connector_access_control_enabled",
@@ -0,0 +1,20 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Internal action to read a range of a model zip from the local artifact cache of another ML node.
+ */
+public class MLModelArtifactChunkAction extends ActionType<MLModelArtifactChunkNodesResponse> {
+    public static final MLModelArtifactChunkAction INSTANCE = new MLModelArtifactChunkAction();
+    public static final String NAME = "cluster:admin/opensearch/mlinternal/model_artifact/chunk";
+
+    private MLModelArtifactChunkAction() {
+        super(NAME, MLModelArtifactChunkNodesResponse::new);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+import lombok.Getter;
+
+public class MLModelArtifactChunkNodeRequest extends TransportRequest {
+    @Getter
+    private MLModelArtifactChunkNodesRequest artifactChunkNodesRequest;
+
+    public MLModelArtifactChunkNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        this.artifactChunkNodesRequest = new MLModelArtifactChunkNodesRequest(in);
+    }
+
+    public MLModelArtifactChunkNodeRequest(MLModelArtifactChunkNodesRequest request) {
+        this.artifactChunkNodesRequest = request;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        artifactChunkNodesRequest.writeTo(out);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+@Getter
+public class MLModelArtifactChunkNodeResponse extends BaseNodeResponse {
+
+    /**
+     * State of the model zip on the node.
+     */
+    public enum ArtifactState {
+        // the model zip is cached, the response has the range read
+        READY,
+        // the node is retrieving the model zip
+        PENDING,
+        // the node doesn't know the model zip, it may not have started deploying the model yet
+        MISSING,
+        // the node failed to retrieve or cache the model zip
+        FAILED
+    }
+
+    private ArtifactState state;
+    private long totalSize;
+    private BytesReference content;
+
+    public MLModelArtifactChunkNodeResponse(DiscoveryNode node, ArtifactState state, long totalSize, BytesReference content) {
+        super(node);
+        this.state = state;
+        this.totalSize = totalSize;
+        this.content = content;
+    }
+
+    public MLModelArtifactChunkNodeResponse(DiscoveryNode node, ArtifactState state) {
+        this(node, state, 0, BytesArray.EMPTY);
+    }
+
+    public MLModelArtifactChunkNodeResponse(StreamInput in) throws IOException {
+        super(in);
+        this.state = in.readEnum(ArtifactState.class);
+        this.totalSize = in.readVLong();
+        this.content = in.readBytesReference();
+    }
+
+    public static MLModelArtifactChunkNodeResponse readStats(StreamInput in) throws IOException {
+        return new MLModelArtifactChunkNodeResponse(in);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeEnum(state);
+        out.writeVLong(totalSize);
+        out.writeBytesReference(content);
+    }
+}
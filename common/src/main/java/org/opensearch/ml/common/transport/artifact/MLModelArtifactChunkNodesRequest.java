@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+@Getter
+public class MLModelArtifactChunkNodesRequest extends BaseNodesRequest<MLModelArtifactChunkNodesRequest> {
+
+    private String modelContentHash;
+    private long offset;
+    private int length;
+
+    public MLModelArtifactChunkNodesRequest(StreamInput in) throws IOException {
+        super(in);
+        this.modelContentHash = in.readString();
+        this.offset = in.readVLong();
+        this.length = in.readVInt();
+    }
+
+    /**
+     * @param nodeIds          node to read the model zip from
+     * @param modelContentHash content hash of the model zip
+     * @param offset           offset of the range to read
+     * @param length           max length of the range to read
+     */
+    public MLModelArtifactChunkNodesRequest(String[] nodeIds, String modelContentHash, long offset, int length) {
+        super(nodeIds);
+        this.modelContentHash = modelContentHash;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(modelContentHash);
+        out.writeVLong(offset);
+        out.writeVInt(length);
+    }
+}
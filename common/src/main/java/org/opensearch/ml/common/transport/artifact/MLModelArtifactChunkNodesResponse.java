@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class MLModelArtifactChunkNodesResponse extends BaseNodesResponse<MLModelArtifactChunkNodeResponse> {
+
+    public MLModelArtifactChunkNodesResponse(StreamInput in) throws IOException {
+        super(new ClusterName(in), in.readList(MLModelArtifactChunkNodeResponse::readStats), in.readList(FailedNodeException::new));
+    }
+
+    public MLModelArtifactChunkNodesResponse(
+        ClusterName clusterName,
+        List<MLModelArtifactChunkNodeResponse> nodes,
+        List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    public void writeNodesTo(StreamOutput out, List<MLModelArtifactChunkNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public List<MLModelArtifactChunkNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(MLModelArtifactChunkNodeResponse::readStats);
+    }
+}
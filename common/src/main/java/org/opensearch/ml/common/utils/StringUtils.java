@@ -99,6 +99,7 @@ public class StringUtils {
             .create();
     }
     public static final String TO_STRING_FUNCTION_NAME = ".toString()";
+    private static final Pattern TO_STRING_PARAMETER_PATTERN = Pattern.compile("\\$\\{parameters\\.(.+?)\\.toString\\(\\)\\}");
 
     public static final ObjectMapper MAPPER = new ObjectMapper();
 
@@ -389,9 +390,8 @@ public class StringUtils {
         List<String> prefixes = new ArrayList<>();
         for (String key : map.keySet()) {
             String value = map.get(key);
-            if (value != null) {
-                Pattern pattern = Pattern.compile("\\$\\{parameters\\.(.+?)\\.toString\\(\\)\\}");
-                Matcher matcher = pattern.matcher(value);
+            if (value != null && value.contains(TO_STRING_FUNCTION_NAME)) {
+                Matcher matcher = TO_STRING_PARAMETER_PATTERN.matcher(value);
                 while (matcher.find()) {
                     String prefix = matcher.group(1);
                     prefixes.add(prefix);
@@ -0,0 +1,157 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.text.StringSubstitutor;
+import org.junit.Test;
+import org.opensearch.ml.common.utils.StringUtils;
+
+public class ConnectorRequestTemplateTest {
+
+    @Test
+    public void render_StringParameters() {
+        String body = "{\"model\": \"${parameters.model}\", \"input\": \"${parameters.input}\"}";
+        ConnectorRequestTemplate template = ConnectorRequestTemplate.compile(body);
+        assertTrue(template.isCompiled());
+        assertTrue(template.isJsonGuaranteed());
+
+        Map<String, String> parameters = Map.of("model", "text-embedding-3-small", "input", "hello \\\"world\\\"\\n");
+        assertRendersLikeSubstitutor(body, parameters);
+        assertEquals("{\"model\": \"text-embedding-3-small\", \"input\": \"hello \\\"world\\\"\\n\"}", template.render(parameters));
+    }
+
+    @Test
+    public void render_RawParameters() {
+        String body = "{\"input\": ${parameters.input}, \"top_k\": ${parameters.top_k:-5}}";
+        ConnectorRequestTemplate template = ConnectorRequestTemplate.compile(body);
+        assertTrue(template.isCompiled());
+        assertFalse(template.isJsonGuaranteed());
+
+        assertRendersLikeSubstitutor(body, Map.of("input", "[\"a\", \"b\"]"));
+        assertRendersLikeSubstitutor(body, Map.of("input", "[\"a\"]", "top_k", "10"));
+        assertInvalidPayload(body, Map.of("input", "[\"a\""));
+    }
+
+    @Test
+    public void render_NullDefault() {
+        String body = "{\"input\": \"${parameters.input}\", \"user\": \"${parameters.user:-null}\"}";
+        ConnectorRequestTemplate template = ConnectorRequestTemplate.compile(body);
+        assertTrue(template.isJsonGuaranteed());
+
+        assertEquals("{\"input\": \"a\", \"user\": null}", template.render(Map.of("input", "a")));
+        assertRendersLikeSubstitutor(body, Map.of("input", "a"));
+        assertRendersLikeSubstitutor(body, Map.of("input", "a", "user", "bob"));
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("input", "a");
+        parameters.put("user", null);
+        assertRendersLikeSubstitutor(body, parameters);
+    }
+
+    @Test
+    public void render_DefaultValueAndUnresolvedParameter() {
+        String body = "{\"input\": \"${parameters.input}\", \"mode\": \"${parameters.mode:-fast}\"}";
+        assertRendersLikeSubstitutor(body, Map.of("input", "a"));
+        assertRendersLikeSubstitutor(body, Map.of("mode", "slow"));
+        assertEquals("{\"input\": \"${parameters.input}\", \"mode\": \"fast\"}", ConnectorRequestTemplate.compile(body).render(Map.of()));
+    }
+
+    @Test
+    public void render_InvalidStringContent() {
+        String body = "{\"input\": \"${parameters.input}\"}";
+        // unescaped quote breaks the JSON string
+        assertInvalidPayload(body, Map.of("input", "say \"hi\""));
+        assertInvalidPayload(body, Map.of("input", "trailing \\"));
+        // not valid string content but still valid JSON, falls back to parsing the payload
+        assertRendersLikeSubstitutor(body, Map.of("input", "\", \"other\": \"x"));
+    }
+
+    @Test
+    public void render_RecursiveSubstitution() {
+        String body = "{\"prompt\": \"${parameters.prompt}\"}";
+        Map<String, String> parameters = Map.of("prompt", "Question: ${parameters.question}", "question", "why?");
+        assertRendersLikeSubstitutor(body, parameters);
+        assertEquals("{\"prompt\": \"Question: why?\"}", ConnectorRequestTemplate.compile(body).render(parameters));
+
+        String adjacent = "{\"price\": \"${parameters.currency}${parameters.amount}\"}";
+        assertRendersLikeSubstitutor(adjacent, Map.of("currency", "$", "amount", "5"));
+    }
+
+    @Test
+    public void render_EscapedPlaceholder() {
+        String body = "{\"input\": \"${parameters.input}\", \"raw\": \"$${parameters.input}\"}";
+        assertFalse(ConnectorRequestTemplate.compile(body).isCompiled());
+        assertRendersLikeSubstitutor(body, Map.of("input", "a"));
+    }
+
+    @Test
+    public void render_ToStringParameter() {
+        String body = "{\"input\": \"${parameters.input.toString()}\"}";
+        Map<String, String> parameters = new HashMap<>(Map.of("input", "{\"a\": 1}", "prompt", "${parameters.input.toString()}"));
+        StringUtils.parseParameters(parameters);
+        assertRendersLikeSubstitutor(body, parameters);
+    }
+
+    @Test
+    public void compile_ParameterInKey() {
+        String body = "{\"${parameters.field}\": \"a\", \"b\": \"${parameters.value}\"}";
+        ConnectorRequestTemplate template = ConnectorRequestTemplate.compile(body);
+        assertTrue(template.isCompiled());
+        assertFalse(template.isJsonGuaranteed());
+        assertRendersLikeSubstitutor(body, Map.of("field", "a", "value", "b"));
+        // duplicate keys are rejected by the JSON check
+        assertInvalidPayload(body, Map.of("field", "b", "value", "b"));
+    }
+
+    @Test
+    public void compile_InvalidTemplate() {
+        assertFalse(ConnectorRequestTemplate.compile("{\"input\": \"${parameters.input}\"").isJsonGuaranteed());
+        assertFalse(ConnectorRequestTemplate.compile("\"${parameters.input}\"").isJsonGuaranteed());
+        assertFalse(ConnectorRequestTemplate.compile("{\"a\": \"${parameters.a}\", \"a\": 1}").isJsonGuaranteed());
+        assertInvalidPayload("{\"input\": \"${parameters.input}\"", Map.of("input", "a"));
+    }
+
+    @Test
+    public void compile_UnclosedPlaceholder() {
+        String body = "{\"input\": \"${parameters.input}\", \"other\": \"${parameters.other\"}";
+        assertRendersLikeSubstitutor(body, Map.of("input", "a", "other", "b"));
+    }
+
+    @Test
+    public void isJsonStringContent() {
+        assertTrue(ConnectorRequestTemplate.isJsonStringContent("plain text"));
+        assertTrue(ConnectorRequestTemplate.isJsonStringContent("escaped \\\" \\\\ \\/ \\b \\f \\n \\r \\t \\u00e9"));
+        assertFalse(ConnectorRequestTemplate.isJsonStringContent("quote \""));
+        assertFalse(ConnectorRequestTemplate.isJsonStringContent("new\nline"));
+        assertFalse(ConnectorRequestTemplate.isJsonStringContent("invalid \\x"));
+        assertFalse(ConnectorRequestTemplate.isJsonStringContent("short \\u00e"));
+    }
+
+    private static void assertRendersLikeSubstitutor(String body, Map<String, String> parameters) {
+        assertEquals(renderWithSubstitutor(body, parameters), ConnectorRequestTemplate.compile(body).render(parameters));
+    }
+
+    private static void assertInvalidPayload(String body, Map<String, String> parameters) {
+        assertFalse(StringUtils.isJson(renderWithSubstitutor(body, parameters)));
+        IllegalArgumentException e = assertThrows(
+            IllegalArgumentException.class,
+            () -> ConnectorRequestTemplate.compile(body).render(parameters)
+        );
+        assertTrue(e.getMessage().startsWith("Invalid payload: "));
+    }
+
+    private static String renderWithSubstitutor(String body, Map<String, String> parameters) {
+        String payload = ConnectorRequestTemplate.fillNullParameters(parameters, body);
+        return new StringSubstitutor(parameters, "${parameters.", "}").replace(payload);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector.functions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.connector.ConnectorAction;
+import org.opensearch.ml.common.connector.HttpConnector;
+import org.opensearch.ml.common.connector.MLPostProcessFunction;
+import org.opensearch.script.ScriptService;
+import org.opensearch.script.TemplateScript;
+
+public class ConnectorScriptCacheTest {
+
+    private ScriptService scriptService;
+    private TemplateScript.Factory factory;
+    private ConnectorScriptCache cache;
+
+    @Before
+    public void setUp() {
+        scriptService = mock(ScriptService.class);
+        factory = mock(TemplateScript.Factory.class);
+        TemplateScript script = mock(TemplateScript.class);
+        when(script.execute()).thenReturn("result");
+        when(factory.newInstance(anyMap())).thenReturn(script);
+        when(scriptService.compile(any(), any())).thenReturn(factory);
+        cache = new ConnectorScriptCache(scriptService);
+    }
+
+    @Test
+    public void execute_CompilesOnce() {
+        long compilations = ConnectorScriptCache.getCompilationCount();
+        long hits = ConnectorScriptCache.getHitCount();
+
+        assertEquals("result", cache.execute("return params.text;", Map.of("text", "hello")));
+        assertEquals("result", cache.execute("return params.text;", Map.of("text", "world")));
+
+        verify(scriptService, times(1)).compile(any(), any());
+        assertEquals(1, cache.size());
+        assertEquals(compilations + 1, ConnectorScriptCache.getCompilationCount());
+        assertEquals(hits + 1, ConnectorScriptCache.getHitCount());
+    }
+
+    @Test
+    public void compile_FullCacheEvictsLeastRecentlyUsed() {
+        for (int i = 0; i < ConnectorScriptCache.MAX_CACHED_SCRIPTS; i++) {
+            cache.compile("return " + i + ";");
+        }
+        // a script which repeats stays cached while scripts filled in per request come and go
+        cache.compile("return 0;");
+        assertSame(factory, cache.compile("return params.text;"));
+        cache.compile("return params.text;");
+        cache.compile("return 0;");
+        verify(scriptService, times(ConnectorScriptCache.MAX_CACHED_SCRIPTS + 1)).compile(any(), any());
+
+        // the least recently used script was evicted
+        cache.compile("return 1;");
+        assertEquals(ConnectorScriptCache.MAX_CACHED_SCRIPTS, cache.size());
+        verify(scriptService, times(ConnectorScriptCache.MAX_CACHED_SCRIPTS + 2)).compile(any(), any());
+    }
+
+    @Test
+    public void compileConnectorScripts_OnlyCustomScripts() {
+        cache.compileConnectorScripts(connector("return params.text;", MLPostProcessFunction.OPENAI_EMBEDDING));
+        cache.compileConnectorScripts(connector("return '${parameters.input}';", null));
+
+        verify(scriptService, times(1)).compile(any(), any());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void compileConnectorScripts_CompilationFailure() {
+        when(scriptService.compile(any(), any())).thenThrow(new IllegalArgumentException("compile error"));
+        cache.compileConnectorScripts(connector(null, "return params.response;"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void compileConnectorScripts_NoActions() {
+        cache.compileConnectorScripts(HttpConnector.builder().name("test").protocol("http").build());
+        assertEquals(0, cache.size());
+    }
+
+    private static HttpConnector connector(String preProcessFunction, String postProcessFunction) {
+        ConnectorAction action = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("https://api.openai.com/v1/embeddings")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .preProcessFunction(preProcessFunction)
+            .postProcessFunction(postProcessFunction)
+            .build();
+        return HttpConnector.builder().name("test").protocol("http").actions(List.of(action)).build();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector.functions.postprocess;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Test;
+import org.opensearch.ml.common.connector.MLPostProcessFunction;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+
+public class StreamingEmbeddingExtractorTest {
+
+    @Test
+    public void extract_OpenAI() {
+        String response = "{\"object\": \"list\", \"data\": ["
+            + "{\"object\": \"embedding\", \"index\": 0, \"embedding\": [0.1, -0.2, 3]},"
+            + "{\"object\": \"embedding\", \"index\": 1, \"embedding\": [1.5e-3, 0.25, -1]}"
+            + "], \"model\": \"text-embedding-ada-002\", \"usage\": {\"prompt_tokens\": 8, \"total_tokens\": 8}}";
+        List<ModelTensor> tensors = extract(MLPostProcessFunction.OPENAI_EMBEDDING, response);
+        assertEquals(2, tensors.size());
+        assertEmbedding(tensors.get(0), 0.1f, -0.2f, 3f);
+        assertEmbedding(tensors.get(1), 1.5e-3f, 0.25f, -1f);
+    }
+
+    @Test
+    public void extract_Cohere() {
+        String response = "{\"id\": \"1\", \"texts\": [\"a\", \"b\"], \"embeddings\": [[0.1, 0.2], [0.3, 0.4]]}";
+        List<ModelTensor> tensors = extract(MLPostProcessFunction.COHERE_EMBEDDING, response);
+        assertEquals(2, tensors.size());
+        assertEmbedding(tensors.get(0), 0.1f, 0.2f);
+        assertEmbedding(tensors.get(1), 0.3f, 0.4f);
+
+        String v2Response = "{\"id\": \"1\", \"embeddings\": {\"float\": [[0.5, 0.6]], \"int8\": [[1, 2]]}}";
+        tensors = extract(MLPostProcessFunction.COHERE_V2_EMBEDDING_FLOAT32, v2Response);
+        assertEquals(1, tensors.size());
+        assertEmbedding(tensors.get(0), 0.5f, 0.6f);
+    }
+
+    @Test
+    public void extract_Bedrock() {
+        List<ModelTensor> tensors = extract(
+            MLPostProcessFunction.BEDROCK_EMBEDDING,
+            "{\"embedding\": [0.1, 0.2], \"inputTextTokenCount\": 3}"
+        );
+        assertEquals(1, tensors.size());
+        assertEmbedding(tensors.get(0), 0.1f, 0.2f);
+
+        String v2Response = "{\"embeddingsByType\": {\"binary\": [0, 1], \"float\": [0.7, 0.8]}, \"inputTextTokenCount\": 3}";
+        tensors = extract(MLPostProcessFunction.BEDROCK_V2_EMBEDDING_FLOAT, v2Response);
+        assertEquals(1, tensors.size());
+        assertEmbedding(tensors.get(0), 0.7f, 0.8f);
+    }
+
+    @Test
+    public void extract_Default() {
+        List<ModelTensor> tensors = extract(MLPostProcessFunction.DEFAULT_EMBEDDING, "[[0.1, 0.2], [0.3, 0.4], [0.5, 0.6]]");
+        assertEquals(3, tensors.size());
+        assertEmbedding(tensors.get(2), 0.5f, 0.6f);
+        assertEquals(0, extract(MLPostProcessFunction.DEFAULT_EMBEDDING, "[]").size());
+    }
+
+    @Test
+    public void extract_LargeEmbedding() {
+        StringBuilder response = new StringBuilder("{\"embedding\": [");
+        float[] expected = new float[3072];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i / 1000f;
+            response.append(i == 0 ? "" : ",").append(expected[i]);
+        }
+        response.append("]}");
+        List<ModelTensor> tensors = extract(MLPostProcessFunction.BEDROCK_EMBEDDING, response.toString());
+        assertEmbedding(tensors.get(0), expected);
+    }
+
+    @Test
+    public void extract_UnexpectedStructure() {
+        // missing path
+        assertNull(extract(MLPostProcessFunction.OPENAI_EMBEDDING, "{\"error\": {\"message\": \"invalid key\"}}"));
+        assertNull(extract(MLPostProcessFunction.OPENAI_EMBEDDING, "{\"data\": [{\"index\": 0}]}"));
+        // wrong types
+        assertNull(extract(MLPostProcessFunction.COHERE_EMBEDDING, "{\"embeddings\": [\"a\", \"b\"]}"));
+        assertNull(extract(MLPostProcessFunction.BEDROCK_EMBEDDING, "{\"embedding\": [0.1, \"0.2\"]}"));
+        assertNull(extract(MLPostProcessFunction.BEDROCK_EMBEDDING, "{\"embedding\": {\"float\": [0.1]}}"));
+        // empty embedding
+        assertNull(extract(MLPostProcessFunction.BEDROCK_EMBEDDING, "{\"embedding\": []}"));
+        // duplicate key, invalid and truncated json
+        assertNull(extract(MLPostProcessFunction.BEDROCK_EMBEDDING, "{\"embedding\": [0.1], \"embedding\": [0.2]}"));
+        assertNull(extract(MLPostProcessFunction.BEDROCK_EMBEDDING, "{\"embedding\": [0.1]} trailing"));
+        assertNull(extract(MLPostProcessFunction.BEDROCK_EMBEDDING, "{\"embedding\": [0.1, 0.2"));
+        assertNull(extract(MLPostProcessFunction.BEDROCK_EMBEDDING, ""));
+    }
+
+    @Test
+    public void getStreamingExtractor_Unsupported() {
+        assertNull(MLPostProcessFunction.getStreamingExtractor(null));
+        assertNull(MLPostProcessFunction.getStreamingExtractor(MLPostProcessFunction.COHERE_V2_EMBEDDING_INT8));
+        assertNull(MLPostProcessFunction.getStreamingExtractor(MLPostProcessFunction.BEDROCK_V2_EMBEDDING_BINARY));
+        assertNull(MLPostProcessFunction.getStreamingExtractor(MLPostProcessFunction.COHERE_RERANK));
+        assertNull(MLPostProcessFunction.getStreamingExtractor("custom script"));
+    }
+
+    private static List<ModelTensor> extract(String postProcessFunction, String response) {
+        return MLPostProcessFunction
+            .getStreamingExtractor(postProcessFunction)
+            .extract(new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void assertEmbedding(ModelTensor tensor, float... expected) {
+        assertEquals("sentence_embedding", tensor.getName());
+        assertEquals(MLResultDataType.FLOAT32, tensor.getDataType());
+        assertArrayEquals(new long[] { expected.length }, tensor.getShape());
+        assertArrayEquals(expected, tensor.getFloatData(), 0f);
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.httpclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+
+public class MLAsyncHttpClientPoolTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private List<SdkAsyncHttpClient> sharedClients;
+    private List<CompletableFuture<Void>> executions;
+    private boolean failBeforeSend;
+    private MLAsyncHttpClientPool pool;
+
+    @Before
+    public void setUp() {
+        sharedClients = new ArrayList<>();
+        executions = new ArrayList<>();
+        pool = new MLAsyncHttpClientPool((connectionTimeout, readTimeout, maxConnections) -> {
+            SdkAsyncHttpClient client = mock(SdkAsyncHttpClient.class);
+            when(client.execute(any())).thenAnswer(invocation -> {
+                if (failBeforeSend) {
+                    return CompletableFuture.failedFuture(new RuntimeException("connection refused"));
+                }
+                CompletableFuture<Void> execution = new CompletableFuture<>();
+                executions.add(execution);
+                return execution;
+            });
+            sharedClients.add(client);
+            return client;
+        });
+    }
+
+    @Test
+    public void execute_SameHostSharesClient() {
+        ConnectorAsyncHttpClient client1 = pool.newConnectorClient(TIMEOUT, TIMEOUT, 10);
+        ConnectorAsyncHttpClient client2 = pool.newConnectorClient(TIMEOUT, TIMEOUT, 10);
+        client1.execute(request("bedrock-runtime.us-east-1.amazonaws.com"));
+        client2.execute(request("bedrock-runtime.us-east-1.amazonaws.com"));
+        client2.execute(request("api.openai.com"));
+
+        assertEquals(2, sharedClients.size());
+        assertEquals(2, pool.getClientCount());
+        assertEquals(2, pool.getCreatedClientCount());
+        verify(sharedClients.get(0), times(2)).execute(any());
+        assertEquals(3, pool.getLeasedCount());
+    }
+
+    @Test
+    public void execute_DifferentTimeoutsUseDifferentClients() {
+        pool.newConnectorClient(TIMEOUT, TIMEOUT, 10).execute(request("api.openai.com"));
+        pool.newConnectorClient(TIMEOUT, Duration.ofSeconds(30), 10).execute(request("api.openai.com"));
+        assertEquals(2, pool.getClientCount());
+        assertNotSame(sharedClients.get(0), sharedClients.get(1));
+    }
+
+    @Test
+    public void execute_MaxConnectionsOfConnector() throws Exception {
+        ConnectorAsyncHttpClient client = pool.newConnectorClient(TIMEOUT, TIMEOUT, 1);
+        CompletableFuture<Void> first = client.execute(request("api.openai.com"));
+        CompletableFuture<Void> second = client.execute(request("api.openai.com"));
+
+        // the second request waits until the first one completes
+        assertEquals(1, executions.size());
+        assertEquals(1, client.getRunningRequests());
+        assertEquals(1, client.getPendingRequests());
+        assertEquals(1, pool.getPendingAcquireCount());
+
+        executions.get(0).complete(null);
+        first.get();
+        assertFalse(second.isDone());
+        assertEquals(2, executions.size());
+        assertEquals(0, pool.getPendingAcquireCount());
+
+        executions.get(1).completeExceptionally(new RuntimeException("connection reset"));
+        ExecutionException e = assertThrows(ExecutionException.class, second::get);
+        assertEquals("connection reset", e.getCause().getMessage());
+        assertEquals(0, client.getRunningRequests());
+        assertEquals(0, pool.getLeasedCount());
+    }
+
+    @Test
+    public void execute_TooManyPendingRequests() {
+        ConnectorAsyncHttpClient client = pool.newConnectorClient(TIMEOUT, TIMEOUT, 1);
+        for (int i = 0; i <= ConnectorAsyncHttpClient.MAX_PENDING_REQUESTS; i++) {
+            client.execute(request("api.openai.com"));
+        }
+        CompletableFuture<Void> rejected = client.execute(request("api.openai.com"));
+        ExecutionException e = assertThrows(ExecutionException.class, rejected::get);
+        assertTrue(e.getCause() instanceof MLLimitExceededException);
+    }
+
+    @Test
+    public void execute_PendingRequestsFailingRightAwayDontRecurse() {
+        ConnectorAsyncHttpClient client = pool.newConnectorClient(TIMEOUT, TIMEOUT, 1);
+        client.execute(request("api.openai.com"));
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (int i = 0; i < ConnectorAsyncHttpClient.MAX_PENDING_REQUESTS; i++) {
+            pending.add(client.execute(request("api.openai.com")));
+        }
+
+        // every pending request fails before it is sent once the first request completes
+        failBeforeSend = true;
+        executions.get(0).complete(null);
+
+        assertTrue(pending.stream().allMatch(CompletableFuture::isCompletedExceptionally));
+        assertEquals(0, client.getRunningRequests());
+        assertEquals(0, client.getPendingRequests());
+        assertEquals(0, pool.getLeasedCount());
+        assertEquals(0, pool.getPendingAcquireCount());
+    }
+
+    @Test
+    public void evictIdleClients() {
+        ConnectorAsyncHttpClient client = pool.newConnectorClient(TIMEOUT, TIMEOUT, 10);
+        client.execute(request("api.openai.com"));
+        client.execute(request("bedrock-runtime.us-east-1.amazonaws.com"));
+        executions.get(0).complete(null);
+
+        // the client with a running request is kept
+        pool.evictIdleClients(Duration.ZERO);
+        verify(sharedClients.get(0)).close();
+        verify(sharedClients.get(1), never()).close();
+        assertEquals(1, pool.getClientCount());
+        assertEquals(1, pool.getClosedClientCount());
+
+        // the client isn't idle yet
+        executions.get(1).complete(null);
+        pool.evictIdleClients(Duration.ofMinutes(5));
+        assertEquals(1, pool.getClientCount());
+    }
+
+    @Test
+    public void closeConnectorClient_ClosesUnusedSharedClients() {
+        ConnectorAsyncHttpClient client1 = pool.newConnectorClient(TIMEOUT, TIMEOUT, 10);
+        ConnectorAsyncHttpClient client2 = pool.newConnectorClient(TIMEOUT, TIMEOUT, 10);
+        client1.execute(request("api.openai.com"));
+        client1.execute(request("bedrock-runtime.us-east-1.amazonaws.com"));
+        client2.execute(request("bedrock-runtime.us-east-1.amazonaws.com"));
+        executions.forEach(execution -> execution.complete(null));
+
+        // the bedrock client is still used by the second connector
+        client1.close();
+        verify(sharedClients.get(0)).close();
+        verify(sharedClients.get(1), never()).close();
+        assertEquals(1, pool.getClientCount());
+
+        client2.close();
+        verify(sharedClients.get(1)).close();
+        assertEquals(0, pool.getClientCount());
+        assertEquals(2, pool.getClosedClientCount());
+    }
+
+    @Test
+    public void close() {
+        ConnectorAsyncHttpClient client = pool.newConnectorClient(TIMEOUT, TIMEOUT, 10);
+        client.execute(request("api.openai.com"));
+        SdkAsyncHttpClient sharedClient = sharedClients.get(0);
+
+        // closing the client of one connector keeps the shared client open
+        client.close();
+        assertEquals(1, pool.getClientCount());
+
+        pool.close();
+        verify(sharedClient).close();
+        assertEquals(0, pool.getClientCount());
+        assertEquals(1, pool.getClosedClientCount());
+
+        // the pool creates a new client on the next request
+        client.execute(request("api.openai.com"));
+        assertEquals(2, sharedClients.size());
+        assertEquals(1, pool.getClientCount());
+        assertEquals(2, pool.getCreatedClientCount());
+    }
+
+    @Test
+    public void newConnectorClient_InvalidMaxConnections() {
+        assertThrows(IllegalArgumentException.class, () -> pool.newConnectorClient(TIMEOUT, TIMEOUT, 0));
+    }
+
+    private static AsyncExecuteRequest request(String host) {
+        SdkHttpRequest request = SdkHttpRequest.builder().protocol("https").host(host).method(SdkHttpMethod.POST).encodedPath("/").build();
+        return AsyncExecuteRequest.builder().request(request).build();
+    }
+}
@@ -6,10 +6,12 @@
 package org.opensearch.ml.common.model;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.utils.StringUtils.gson;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -25,13 +27,18 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.action.admin.indices.get.GetIndexRequest;
+import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
@@ -49,7 +56,9 @@ import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.profile.SearchProfileShardResults;
 import org.opensearch.search.suggest.Suggest;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.AdminClient;
 import org.opensearch.transport.client.Client;
+import org.opensearch.transport.client.IndicesAdminClient;
 
 public class LocalRegexGuardrailTests {
     NamedXContentRegistry xContentRegistry;
@@ -59,6 +68,10 @@ public class LocalRegexGuardrailTests {
     ThreadPool threadPool;
     @Mock
     SdkClient sdkClient;
+    @Mock
+    AdminClient adminClient;
+    @Mock
+    IndicesAdminClient indicesAdminClient;
     ThreadContext threadContext;
 
     StopWords stopWords;
@@ -77,12 +90,17 @@ public class LocalRegexGuardrailTests {
         this.threadContext = new ThreadContext(settings);
         when(this.client.threadPool()).thenReturn(this.threadPool);
         when(this.threadPool.getThreadContext()).thenReturn(this.threadContext);
+        when(client.admin()).thenReturn(adminClient);
+        when(adminClient.indices()).thenReturn(indicesAdminClient);
+        mockStopWordsMapping(Map.of("type", "text"), Settings.EMPTY);
 
         stopWords = new StopWords(indexName, List.of(testField).toArray(new String[0]));
         regex = List.of("(.|\n)*stop words(.|\n)*").toArray(new String[0]);
         regexPatterns = List.of(Pattern.compile("(.|\n)*stop words(.|\n)*"));
         localRegexGuardrail = new LocalRegexGuardrail(List.of(stopWords), regex);
         localRegexGuardrail.init(xContentRegistry, client, sdkClient, tenantId);
+        // init starts loading the stop words
+        Mockito.clearInvocations(sdkClient);
     }
 
     @Test
@@ -294,6 +312,89 @@ public class LocalRegexGuardrailTests {
         Mockito.verify(sdkClient, Mockito.times(1)).searchDataObjectAsync(any());
     }
 
+    @Test
+    public void testValidateStopWordsCompiled() throws Exception {
+        when(sdkClient.searchDataObjectAsync(any()))
+            .thenReturn(stopWordsResponse(Map.of("match_phrase", Map.of(testField, "stop word"))))
+            .thenReturn(stopWordsResponse(Map.of("match", Map.of(testField, "evil"))));
+        LocalRegexGuardrail guardrail = new LocalRegexGuardrail(List.of(stopWords), regex);
+        guardrail.init(xContentRegistry, client, sdkClient, tenantId);
+
+        Assert.assertFalse(guardrail.validateStopWords("a Stop-Word", guardrail.getStopWordsIndicesInput()));
+        Assert.assertTrue(guardrail.validateStopWords("stop evil words", guardrail.getStopWordsIndicesInput()));
+        // validated in memory, the index is only searched to load the stop words
+        Mockito.verify(sdkClient, Mockito.times(1)).searchDataObjectAsync(any());
+
+        // stale stop words are loaded again
+        guardrail.stopWordsRefreshIntervalNanos = 0;
+        Assert.assertFalse(guardrail.validateStopWords("stop evil words", guardrail.getStopWordsIndicesInput()));
+        Assert.assertTrue(guardrail.validateStopWords("a stop word", guardrail.getStopWordsIndicesInput()));
+    }
+
+    @Test
+    public void testValidateStopWordsNotCompiled() throws Exception {
+        when(sdkClient.searchDataObjectAsync(any())).thenReturn(stopWordsResponse(Map.of("term", Map.of(testField, "stop"))));
+        LocalRegexGuardrail spyGuardrail = spy(new LocalRegexGuardrail(List.of(stopWords), regex));
+        doReturn(mock(SearchDataObjectRequest.class)).when(spyGuardrail).buildSearchDataObjectRequest(any(), any());
+        spyGuardrail.init(xContentRegistry, client, sdkClient, tenantId);
+
+        // the index is searched with the percolate query
+        Assert.assertFalse(spyGuardrail.validateStopWords("hello world", spyGuardrail.getStopWordsIndicesInput()));
+        Mockito.verify(spyGuardrail, Mockito.times(1)).validateStopWordsSingleIndex("hello world", indexName, List.of(testField));
+        Assert.assertTrue(spyGuardrail.getStopWordsMatchers().isEmpty());
+    }
+
+    @Test
+    public void testValidateStopWordsNotStandardAnalyzed() throws Exception {
+        mockStopWordsMapping(Map.of("type", "text", "analyzer", "english"), Settings.EMPTY);
+        when(sdkClient.searchDataObjectAsync(any())).thenReturn(stopWordsResponse(Map.of("match", Map.of(testField, "stop"))));
+        LocalRegexGuardrail spyGuardrail = spy(new LocalRegexGuardrail(List.of(stopWords), regex));
+        doReturn(mock(SearchDataObjectRequest.class)).when(spyGuardrail).buildSearchDataObjectRequest(any(), any());
+        spyGuardrail.init(xContentRegistry, client, sdkClient, tenantId);
+
+        // the stemmed stop words are not compiled, the index is searched with the percolate query
+        Assert.assertTrue(spyGuardrail.getStopWordsMatchers().isEmpty());
+        Assert.assertFalse(spyGuardrail.validateStopWords("stopping", spyGuardrail.getStopWordsIndicesInput()));
+        Mockito.verify(spyGuardrail, Mockito.times(1)).validateStopWordsSingleIndex("stopping", indexName, List.of(testField));
+    }
+
+    @Test
+    public void testIsStandardTextFields() {
+        List<String> fields = List.of(testField);
+        Assert.assertTrue(LocalRegexGuardrail.isStandardTextFields(getIndexResponse(Map.of("type", "text"), Settings.EMPTY), fields));
+        Map<String, Object> standard = Map.of("type", "text", "analyzer", "standard");
+        Assert.assertTrue(LocalRegexGuardrail.isStandardTextFields(getIndexResponse(standard, Settings.EMPTY), fields));
+        Assert.assertFalse(LocalRegexGuardrail.isStandardTextFields(getIndexResponse(Map.of("type", "keyword"), Settings.EMPTY), fields));
+        Map<String, Object> synonyms = Map.of("type", "text", "search_analyzer", "synonyms");
+        Assert.assertFalse(LocalRegexGuardrail.isStandardTextFields(getIndexResponse(synonyms, Settings.EMPTY), fields));
+        Settings customDefault = Settings.builder().put("index.analysis.analyzer.default.type", "english").build();
+        Assert.assertFalse(LocalRegexGuardrail.isStandardTextFields(getIndexResponse(Map.of("type", "text"), customDefault), fields));
+        // unmapped fields are percolated
+        GetIndexResponse textField = getIndexResponse(Map.of("type", "text"), Settings.EMPTY);
+        Assert.assertFalse(LocalRegexGuardrail.isStandardTextFields(textField, List.of("other_field")));
+
+        Map<String, Object> objectField = Map
+            .of("properties", Map.of("title", Map.of("type", "keyword", "fields", Map.of("text", Map.of("type", "text")))));
+        GetIndexResponse response = getIndexResponse(objectField, Settings.EMPTY);
+        Assert.assertTrue(LocalRegexGuardrail.isStandardTextFields(response, List.of(testField + ".title.text")));
+        Assert.assertFalse(LocalRegexGuardrail.isStandardTextFields(response, List.of(testField + ".title")));
+    }
+
+    @Test
+    public void testLoadStopWordsFailed() {
+        when(sdkClient.searchDataObjectAsync(any())).thenReturn(stopWordsResponse(Map.of("match", Map.of(testField, "stop"))));
+        localRegexGuardrail.loadStopWords(indexName, List.of(testField));
+        Assert.assertNotNull(localRegexGuardrail.getStopWordsMatchers().get(indexName));
+
+        // the stop words loaded before are kept
+        CompletableFuture<SearchDataObjectResponse> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(new IOException("Index not found"));
+        when(sdkClient.searchDataObjectAsync(any())).thenReturn(failedFuture);
+        localRegexGuardrail.loadStopWords(indexName, List.of(testField));
+        Assert.assertFalse(localRegexGuardrail.validateStopWords("stop", localRegexGuardrail.getStopWordsIndicesInput()));
+        Assert.assertTrue(localRegexGuardrail.getLoadingStopWordsIndices().isEmpty());
+    }
+
     @Test
     public void testBuildSearchDataObjectRequest() throws IOException {
         SearchDataObjectRequest request = localRegexGuardrail.buildSearchDataObjectRequest(indexName, "{}");
@@ -301,6 +402,46 @@ public class LocalRegexGuardrailTests {
         Assert.assertEquals(tenantId, request.tenantId());
     }
 
+    private void mockStopWordsMapping(Map<String, Object> fieldMapping, Settings settings) {
+        GetIndexResponse response = getIndexResponse(fieldMapping, settings);
+        doAnswer(invocation -> {
+            ActionListener<GetIndexResponse> listener = invocation.getArgument(1);
+            listener.onResponse(response);
+            return null;
+        }).when(indicesAdminClient).getIndex(any(GetIndexRequest.class), any());
+    }
+
+    private GetIndexResponse getIndexResponse(Map<String, Object> fieldMapping, Settings settings) {
+        MappingMetadata mapping = new MappingMetadata("_doc", Map.of("properties", Map.of(testField, fieldMapping)));
+        GetIndexResponse response = mock(GetIndexResponse.class);
+        when(response.getMappings()).thenReturn(Map.of(indexName, mapping));
+        when(response.getSettings()).thenReturn(Map.of(indexName, settings));
+        return response;
+    }
+
+    private CompletableFuture<SearchDataObjectResponse> stopWordsResponse(Map<String, Object> query) {
+        SearchHit hit = new SearchHit(0).sourceRef(new BytesArray(gson.toJson(Map.of("query", query))));
+        SearchResponse searchResponse = new SearchResponse(
+            new InternalSearchResponse(
+                new SearchHits(new SearchHit[] { hit }, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0f),
+                InternalAggregations.EMPTY,
+                null,
+                null,
+                false,
+                false,
+                1
+            ),
+            "",
+            1,
+            1,
+            0,
+            10,
+            ShardSearchFailure.EMPTY_ARRAY,
+            SearchResponse.Clusters.EMPTY
+        );
+        return CompletableFuture.completedFuture(new SearchDataObjectResponse(searchResponse));
+    }
+
     private SearchResponse createSearchResponse(int size) throws IOException {
         XContentBuilder content = localRegexGuardrail.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
         SearchHit[] hits = new SearchHit[size];
@@ -7,6 +7,7 @@ package org.opensearch.ml.common.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
@@ -27,6 +28,7 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.CommonValue;
 import org.opensearch.search.SearchModule;
 
 import com.fasterxml.jackson.core.JsonParseException;
@@ -117,6 +119,101 @@ public class MLDeployingSettingTests {
         });
     }
 
+    @Test
+    public void parseAndReadBatchingSetting() throws Exception {
+        final String inputStr = "{\"is_auto_deploy_enabled\":true,\"model_ttl_minutes\":10,"
+            + "\"max_batch_size\":32,\"max_batch_delay_micros\":500}";
+        testParseFromJsonString(inputStr, parsedInput -> {
+            assertEquals(10L, parsedInput.getModelTTLInMinutes().longValue());
+            assertEquals(32, parsedInput.getMaxBatchSize().intValue());
+            assertEquals(500L, parsedInput.getMaxBatchDelayMicros().longValue());
+            try {
+                assertEquals(inputStr, serializationWithToXContent(parsedInput));
+                readInputStream(parsedInput, readInput -> {
+                    assertEquals(32, readInput.getMaxBatchSize().intValue());
+                    assertEquals(500L, readInput.getMaxBatchDelayMicros().longValue());
+                });
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Test
+    public void readBatchingSettingFromOldVersion() throws IOException {
+        MLDeploySetting setting = MLDeploySetting.builder().isAutoDeployEnabled(true).maxBatchSize(16).maxBatchDelayMicros(100L).build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(CommonValue.VERSION_3_3_0);
+        setting.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(CommonValue.VERSION_3_3_0);
+        MLDeploySetting parsedInput = new MLDeploySetting(streamInput);
+        assertTrue(parsedInput.getIsAutoDeployEnabled());
+        assertNull(parsedInput.getMaxBatchSize());
+        assertNull(parsedInput.getMaxBatchDelayMicros());
+    }
+
+    @Test
+    public void invalidMaxBatchSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max_batch_size should be positive");
+        MLDeploySetting.builder().maxBatchSize(0).build();
+    }
+
+    @Test
+    public void parseAndReadPredictorSetting() throws Exception {
+        final String inputStr = "{\"is_auto_deploy_enabled\":false,\"model_ttl_minutes\":-1,"
+            + "\"predictor_replicas\":2,\"intra_op_threads\":4}";
+        testParseFromJsonString(inputStr, parsedInput -> {
+            assertEquals(2, parsedInput.getPredictorReplicas().intValue());
+            assertEquals(4, parsedInput.getIntraOpThreads().intValue());
+            try {
+                assertEquals(inputStr, serializationWithToXContent(parsedInput));
+                readInputStream(parsedInput, readInput -> {
+                    assertEquals(2, readInput.getPredictorReplicas().intValue());
+                    assertEquals(4, readInput.getIntraOpThreads().intValue());
+                });
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Test
+    public void invalidPredictorReplicas() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("predictor_replicas should be positive");
+        MLDeploySetting.builder().predictorReplicas(0).build();
+    }
+
+    @Test
+    public void invalidIntraOpThreads() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("intra_op_threads should be positive");
+        MLDeploySetting.builder().intraOpThreads(0).build();
+    }
+
+    @Test
+    public void parseAndReadMaxBatchTokens() throws Exception {
+        final String inputStr = "{\"is_auto_deploy_enabled\":false,\"model_ttl_minutes\":-1,\"max_batch_tokens\":4096}";
+        testParseFromJsonString(inputStr, parsedInput -> {
+            assertEquals(4096, parsedInput.getMaxBatchTokens().intValue());
+            try {
+                assertEquals(inputStr, serializationWithToXContent(parsedInput));
+                readInputStream(parsedInput, readInput -> assertEquals(4096, readInput.getMaxBatchTokens().intValue()));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Test
+    public void invalidMaxBatchTokens() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max_batch_tokens should be positive");
+        MLDeploySetting.builder().maxBatchTokens(0).build();
+    }
+
     private void testParseFromJsonString(String expectedInputStr, Consumer<MLDeploySetting> verify) throws Exception {
         XContentParser parser = XContentType.JSON
             .xContent()
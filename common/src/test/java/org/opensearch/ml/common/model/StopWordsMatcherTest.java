@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class StopWordsMatcherTest {
+
+    private static final List<String> FIELDS = List.of("title");
+
+    @Test
+    public void tokenize() {
+        assertEquals(List.of("hello", "stop", "word"), StopWordsMatcher.tokenize("  Hello, STOP-word!"));
+        assertEquals(List.of("don't", "e.g", "3.14", "snake_case"), StopWordsMatcher.tokenize("don't e.g. 3.14 snake_case"));
+        assertEquals(List.of("stop", "word"), StopWordsMatcher.tokenize("stop & word"));
+        assertTrue(StopWordsMatcher.tokenize(" ,. ").isEmpty());
+    }
+
+    @Test
+    public void matchesCjkPhrases() {
+        // the standard analyzer splits ideographs into one token each
+        assertEquals(List.of("禁", "止", "词"), StopWordsMatcher.tokenize("禁止词"));
+        StopWordsMatcher matcher = StopWordsMatcher.compile(List.of(queryString("title: \"禁止\"")), FIELDS);
+
+        assertTrue(matcher.matches("禁止词"));
+        assertTrue(matcher.matches("这是禁止的"));
+        assertFalse(matcher.matches("止禁"));
+    }
+
+    @Test
+    public void matchesQueryStringPhrases() {
+        // queries of the stop words index in the guardrails integration test
+        StopWordsMatcher matcher = StopWordsMatcher
+            .compile(
+                List.of(queryString("title: \"stop word\""), queryString("title: \"stop-word\""), queryString("title: \"stop & word\"")),
+                FIELDS
+            );
+
+        assertEquals(3, matcher.getPhraseCount());
+        assertTrue(matcher.matches("Hello, this is a STOP word."));
+        assertTrue(matcher.matches("stop-word"));
+        assertFalse(matcher.matches("word stop"));
+        assertFalse(matcher.matches("stopword"));
+        assertFalse(matcher.matches("I will be executed or tortured."));
+        assertFalse(matcher.matches(null));
+    }
+
+    @Test
+    public void matchesOverlappingPhrases() {
+        StopWordsMatcher matcher = new StopWordsMatcher(List.of(List.of("a", "b", "c", "d"), List.of("b", "c", "e"), List.of()));
+
+        assertEquals(2, matcher.getPhraseCount());
+        // the failure transition of "a b c" continues with the matched suffix "b c"
+        assertTrue(matcher.matches("a b c e"));
+        assertTrue(matcher.matches("a a b c d"));
+        assertFalse(matcher.matches("a b c x d e"));
+        assertTrue(new StopWordsMatcher(List.of(List.of("a", "b", "c"), List.of("b"))).matches("a b x"));
+        assertFalse(new StopWordsMatcher(List.of()).matches("a"));
+    }
+
+    @Test
+    public void compileMatchQueries() {
+        StopWordsMatcher matcher = StopWordsMatcher
+            .compile(
+                List
+                    .of(
+                        Map.of("match", Map.of("title", "Bad Words")),
+                        Map.of("match_phrase", Map.of("title", Map.of("query", "very evil"))),
+                        Map.of("match", Map.of("other_field", "hello"))
+                    ),
+                FIELDS
+            );
+
+        // match queries match any token, match_phrase queries all tokens in order
+        assertTrue(matcher.matches("only words"));
+        assertTrue(matcher.matches("that's BAD"));
+        assertTrue(matcher.matches("very evil"));
+        assertFalse(matcher.matches("evil very"));
+        // the input isn't percolated as other fields
+        assertFalse(matcher.matches("hello"));
+    }
+
+    @Test
+    public void compileBoolQueries() {
+        Map<String, Object> should = Map
+            .of("bool", Map.of("should", List.of(Map.of("match_phrase", Map.of("title", "stop word")), queryString("\"bad\""))));
+        Map<String, Object> must = Map.of("bool", Map.of("must", Map.of("match_phrase", Map.of("title", "evil plan"))));
+        StopWordsMatcher matcher = StopWordsMatcher.compile(List.of(should, must), FIELDS);
+
+        assertTrue(matcher.matches("a stop word"));
+        assertTrue(matcher.matches("bad"));
+        assertTrue(matcher.matches("the evil plan"));
+        assertFalse(matcher.matches("stop evil"));
+    }
+
+    @Test
+    public void compileUnsupportedQueries() {
+        Map<String, Object> match = Map.of("match", Map.of("title", "stop word"));
+        assertNull(StopWordsMatcher.compile(List.of(match, Map.of("term", Map.of("title", "stop"))), FIELDS));
+        assertNull(StopWordsMatcher.compile(List.of(Map.of("match", Map.of("title", Map.of("query", "a b", "operator", "and")))), FIELDS));
+        assertNull(StopWordsMatcher.compile(List.of(queryString("title: stop AND word")), FIELDS));
+        assertNull(StopWordsMatcher.compile(List.of(Map.of("bool", Map.of("must", List.of(match, match)))), FIELDS));
+        assertNull(StopWordsMatcher.compile(List.of(Map.of("bool", Map.of("must_not", match))), FIELDS));
+        assertNull(StopWordsMatcher.compile(List.of(Map.of("bool", Map.of())), FIELDS));
+        assertNull(StopWordsMatcher.compile(Arrays.asList(match, null), FIELDS));
+    }
+
+    private static Map<String, Object> queryString(String query) {
+        return Map.of("query_string", Map.of("query", query));
+    }
+}
@@ -5,7 +5,9 @@
 
 package org.opensearch.ml.common.output.model;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.spy;
@@ -97,6 +99,81 @@ public class ModelTensorTest {
         assertEquals(tensor, parsedTensor);
     }
 
+    @Test
+    public void test_StreamInAndOut_FloatData() throws IOException {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .floatData(new float[] { 0.1f, -2.5f, 3.0f })
+            .shape(new long[] { 3 })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        tensor.writeTo(bytesStreamOutput);
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        ModelTensor parsedTensor = new ModelTensor(streamInput);
+        assertArrayEquals(new float[] { 0.1f, -2.5f, 3.0f }, parsedTensor.getFloatData(), 0f);
+        assertArrayEquals(new Number[] { 0.1f, -2.5f, 3.0f }, parsedTensor.getData());
+        assertEquals(tensor, parsedTensor);
+    }
+
+    @Test
+    public void test_StreamInAndOut_FloatDataCompatibleWithBoxedData() throws IOException {
+        ModelTensor boxedTensor = ModelTensor.builder().data(new Number[] { 0.1f, -2.5f, 3.0f }).dataType(MLResultDataType.FLOAT32).build();
+        ModelTensor floatTensor = ModelTensor
+            .builder()
+            .floatData(new float[] { 0.1f, -2.5f, 3.0f })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        BytesStreamOutput boxedOutput = new BytesStreamOutput();
+        boxedTensor.writeTo(boxedOutput);
+        BytesStreamOutput floatOutput = new BytesStreamOutput();
+        floatTensor.writeTo(floatOutput);
+
+        assertEquals(boxedOutput.bytes(), floatOutput.bytes());
+        assertEquals(boxedTensor, new ModelTensor(boxedOutput.bytes().streamInput()));
+    }
+
+    @Test
+    public void test_ToXContent_FloatData() throws IOException {
+        ModelTensor tensor = ModelTensor.builder().floatData(new float[] { 0.5f, 1.0f }).dataType(MLResultDataType.FLOAT32).build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        tensor.toXContent(builder, EMPTY_PARAMS);
+        assertEquals("{\"data_type\":\"FLOAT32\",\"data\":[0.5,1.0]}", TestHelper.xContentBuilderToString(builder));
+    }
+
+    @Test
+    public void test_SetData_ReplacesFloatData() {
+        ModelTensor tensor = ModelTensor.builder().floatData(new float[] { 0.5f }).dataType(MLResultDataType.FLOAT32).build();
+        tensor.setData(new Number[] { 1.5f });
+        assertNull(tensor.getFloatData());
+        assertArrayEquals(new Number[] { 1.5f }, tensor.getData());
+    }
+
+    @Test
+    public void test_GetData_FollowsFloatData() {
+        float[] floatData = new float[] { 0.5f, 1.0f };
+        ModelTensor tensor = ModelTensor.builder().floatData(floatData).dataType(MLResultDataType.FLOAT32).build();
+        assertArrayEquals(new Number[] { 0.5f, 1.0f }, tensor.getData());
+
+        floatData[0] = 2.0f;
+        assertArrayEquals(new Number[] { 2.0f, 1.0f }, tensor.getData());
+        tensor.setFloatData(new float[] { 3.0f });
+        assertArrayEquals(new Number[] { 3.0f }, tensor.getData());
+
+        // the boxed data is a copy
+        tensor.getData()[0] = 4.0f;
+        assertArrayEquals(new float[] { 3.0f }, tensor.getFloatData(), 0f);
+    }
+
+    @Test
+    public void test_FloatDataWithIntegerDataType() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("float data requires a floating data type");
+        ModelTensor.builder().floatData(new float[] { 1f }).dataType(MLResultDataType.INT32).build();
+    }
+
     @Test
     public void test_UnknownDataType() {
         exceptionRule.expect(IllegalArgumentException.class);
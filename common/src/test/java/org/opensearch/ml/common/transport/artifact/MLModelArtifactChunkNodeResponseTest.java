@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import static org.junit.Assert.assertEquals;
+import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodeResponse.ArtifactState;
+
+public class MLModelArtifactChunkNodeResponseTest {
+
+    private DiscoveryNode localNode;
+
+    @Before
+    public void setUp() {
+        localNode = new DiscoveryNode(
+            "foo0",
+            "foo0",
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(CLUSTER_MANAGER_ROLE),
+            Version.CURRENT
+        );
+    }
+
+    @Test
+    public void testSerializationDeserialization() throws IOException {
+        MLModelArtifactChunkNodeResponse response = new MLModelArtifactChunkNodeResponse(
+            localNode,
+            ArtifactState.READY,
+            100,
+            new BytesArray("chunk".getBytes(StandardCharsets.UTF_8))
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLModelArtifactChunkNodeResponse newResponse = MLModelArtifactChunkNodeResponse.readStats(output.bytes().streamInput());
+        assertEquals("foo0", newResponse.getNode().getId());
+        assertEquals(ArtifactState.READY, newResponse.getState());
+        assertEquals(100, newResponse.getTotalSize());
+        assertEquals("chunk", newResponse.getContent().utf8ToString());
+    }
+
+    @Test
+    public void testSerializationDeserialization_NotReady() throws IOException {
+        MLModelArtifactChunkNodeResponse response = new MLModelArtifactChunkNodeResponse(localNode, ArtifactState.PENDING);
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLModelArtifactChunkNodeResponse newResponse = new MLModelArtifactChunkNodeResponse(output.bytes().streamInput());
+        assertEquals(ArtifactState.PENDING, newResponse.getState());
+        assertEquals(0, newResponse.getTotalSize());
+        assertEquals(0, newResponse.getContent().length());
+    }
+
+    @Test
+    public void testNodesResponseSerialization() throws IOException {
+        MLModelArtifactChunkNodesResponse response = new MLModelArtifactChunkNodesResponse(
+            new ClusterName("test"),
+            List.of(new MLModelArtifactChunkNodeResponse(localNode, ArtifactState.MISSING)),
+            List.of()
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLModelArtifactChunkNodesResponse newResponse = new MLModelArtifactChunkNodesResponse(output.bytes().streamInput());
+        assertEquals(1, newResponse.getNodes().size());
+        assertEquals(ArtifactState.MISSING, newResponse.getNodes().get(0).getState());
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+
+public class MLModelArtifactChunkNodesRequestTest {
+
+    @Test
+    public void testSerializationDeserialization() throws IOException {
+        MLModelArtifactChunkNodesRequest request = new MLModelArtifactChunkNodesRequest(
+            new String[] { "node1" },
+            "hash",
+            20_000_000L,
+            10_000_000
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        new MLModelArtifactChunkNodeRequest(request).writeTo(output);
+        MLModelArtifactChunkNodesRequest newRequest = new MLModelArtifactChunkNodeRequest(output.bytes().streamInput())
+            .getArtifactChunkNodesRequest();
+        assertArrayEquals(new String[] { "node1" }, newRequest.nodesIds());
+        assertEquals("hash", newRequest.getModelContentHash());
+        assertEquals(20_000_000L, newRequest.getOffset());
+        assertEquals(10_000_000, newRequest.getLength());
+    }
+}
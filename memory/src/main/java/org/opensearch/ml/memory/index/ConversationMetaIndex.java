@@ -332,12 +332,8 @@ public class ConversationMetaIndex {
                 }
                 internalListener.onResponse(true);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(META_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(getRequest, al);
-            }, e -> {
-                log.error("Failed to refresh memory index during check access ", e);
-                internalListener.onFailure(e);
-            }));
+            // get is realtime, so the index isn't refreshed
+            client.get(getRequest, al);
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -453,12 +449,7 @@ public class ConversationMetaIndex {
                         )
                     );
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(META_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, al);
-            }, e -> {
-                log.error("Failed to refresh the memory index during get memory ", e);
-                internalListener.onFailure(e);
-            }));
+            client.get(request, al);
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -22,10 +22,15 @@ import static org.opensearch.ml.common.utils.IndexUtils.DEFAULT_INDEX_SETTINGS;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.OpenSearchWrapperException;
@@ -37,6 +42,8 @@ import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetRequest;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
@@ -45,6 +52,10 @@ import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.ConfigConstants;
@@ -83,6 +94,17 @@ public class InteractionsIndex {
     private ConversationMetaIndex conversationMetaIndex;
     // How big the steps should be when gathering *ALL* interactions in a conversation
     private final int resultsAtATime = 300;
+    // Interactions created on this node are read by id for longer than the refresh interval, so reading a conversation
+    // right after adding to it doesn't need to refresh the index
+    @VisibleForTesting
+    static final TimeValue RECENT_INTERACTIONS_TTL = TimeValue.timeValueSeconds(30);
+    private static final long MAX_RECENT_CONVERSATIONS = 10000;
+    // Ids of the interactions recently created on this node, with the time they were created, by conversation id
+    private final Cache<String, List<Tuple<Long, String>>> recentInteractions = CacheBuilder
+        .<String, List<Tuple<Long, String>>>builder()
+        .setExpireAfterWrite(RECENT_INTERACTIONS_TTL)
+        .setMaximumWeight(MAX_RECENT_CONVERSATIONS)
+        .build();
 
     /**
      * 'PUT's the index in opensearch if it's not there already
@@ -189,6 +211,7 @@ public class InteractionsIndex {
                             ActionListener<String> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
                             ActionListener<IndexResponse> al = ActionListener.wrap(resp -> {
                                 if (resp.status() == RestStatus.CREATED) {
+                                    addRecentInteraction(conversationId, resp.getId());
                                     internalListener.onResponse(resp.getId());
                                     log.info("Successfully created the message with id : {}", resp.getId());
                                 } else {
@@ -290,8 +313,6 @@ public class InteractionsIndex {
 
     @VisibleForTesting
     void innerGetInteractions(String conversationId, int from, int maxResults, ActionListener<List<Interaction>> listener) {
-        SearchRequest request = Requests.searchRequest(INTERACTIONS_INDEX_NAME);
-
         // Build the query
         BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
 
@@ -304,32 +325,25 @@ public class InteractionsIndex {
             .termQuery(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD, conversationId);
         boolQueryBuilder.must(termQueryBuilder);
 
-        // Set the query to the search source
-        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
-        searchSourceBuilder.query(boolQueryBuilder);
-
-        request.source(searchSourceBuilder);
-        request.source().from(from).size(maxResults);
-        request.source().sort(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD, SortOrder.ASC);
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<List<Interaction>> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
-            ActionListener<SearchResponse> al = ActionListener.wrap(response -> {
-                List<Interaction> result = new LinkedList<Interaction>();
-                for (SearchHit hit : response.getHits()) {
-                    result.add(Interaction.fromSearchHit(hit));
-                }
+            ActionListener<List<Interaction>> al = ActionListener.wrap(result -> {
                 internalListener.onResponse(result);
                 log.info("Successfully get the messages for memory {}", conversationId);
             }, e -> {
                 internalListener.onFailure(e);
                 log.error("Failed to get the messages for memory {}", conversationId);
             });
-            client
-                .admin()
-                .indices()
-                .refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(r -> { client.search(request, al); }, e -> {
-                    internalListener.onFailure(e);
-                }));
+            searchWithRecentInteractions(
+                conversationId,
+                boolQueryBuilder,
+                interaction -> conversationId.equals(interaction.getConversationId()) && interaction.getTraceNum() == null,
+                ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD,
+                Comparator.comparing(Interaction::getCreateTime),
+                from,
+                maxResults,
+                al
+            );
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -361,7 +375,7 @@ public class InteractionsIndex {
                 String conversationId = interaction.getConversationId();
                 ActionListener<Boolean> accessListener = ActionListener.wrap(access -> {
                     if (access) {
-                        innerGetTraces(interactionId, from, maxResults, listener);
+                        innerGetTraces(conversationId, interactionId, from, maxResults, listener);
                     } else {
                         String userStr = client
                             .threadPool()
@@ -378,20 +392,14 @@ public class InteractionsIndex {
                 }, e -> { listener.onFailure(e); });
                 conversationMetaIndex.checkAccess(conversationId, accessListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh message index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
     }
 
     @VisibleForTesting
-    void innerGetTraces(String interactionId, int from, int maxResults, ActionListener<List<Interaction>> listener) {
-        SearchRequest request = Requests.searchRequest(INTERACTIONS_INDEX_NAME);
+    void innerGetTraces(String conversationId, String interactionId, int from, int maxResults, ActionListener<List<Interaction>> listener) {
         // Build the query
         BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
 
@@ -403,31 +411,170 @@ public class InteractionsIndex {
         TermQueryBuilder termQueryBuilder = QueryBuilders
             .termQuery(ConversationalIndexConstants.PARENT_INTERACTIONS_ID_FIELD, interactionId);
         boolQueryBuilder.must(termQueryBuilder);
-        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
-        searchSourceBuilder.query(boolQueryBuilder);
-
-        request.source(searchSourceBuilder);
-        request.source().from(from).size(maxResults);
-        request.source().sort(ConversationalIndexConstants.INTERACTIONS_TRACE_NUMBER_FIELD, SortOrder.ASC);
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<List<Interaction>> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
-            ActionListener<SearchResponse> al = ActionListener.wrap(response -> {
-                List<Interaction> result = new LinkedList<Interaction>();
-                for (SearchHit hit : response.getHits()) {
-                    result.add(Interaction.fromSearchHit(hit));
-                }
+            ActionListener<List<Interaction>> al = ActionListener.wrap(result -> {
                 internalListener.onResponse(result);
                 log.info("Successfully get traces for the message {}", interactionId);
             }, e -> {
                 internalListener.onFailure(e);
                 log.error("Failed to get traces for the message {}", interactionId);
             });
-            client.search(request, al);
+            searchWithRecentInteractions(
+                conversationId,
+                boolQueryBuilder,
+                interaction -> interactionId.equals(interaction.getParentInteractionId()) && interaction.getTraceNum() != null,
+                ConversationalIndexConstants.INTERACTIONS_TRACE_NUMBER_FIELD,
+                Comparator.comparing(Interaction::getTraceNum),
+                from,
+                maxResults,
+                al
+            );
         } catch (Exception e) {
             listener.onFailure(e);
         }
     }
 
+    /**
+     * Search the interactions of a conversation, including the interactions created on this node that the search may
+     * not see yet because the index isn't refreshed. Those are read by id, which is realtime, and merged into the hits.
+     * @param conversationId the conversation the interactions belong to
+     * @param query query of the interactions
+     * @param filter whether an interaction read by id matches the query
+     * @param sortField field the interactions are sorted by, ascending
+     * @param order order of the interactions by the sort field
+     * @param from where to start in the reading
+     * @param maxResults how many interactions to return
+     * @param listener gets the list of interactions
+     */
+    private void searchWithRecentInteractions(
+        String conversationId,
+        BoolQueryBuilder query,
+        Predicate<Interaction> filter,
+        String sortField,
+        Comparator<Interaction> order,
+        int from,
+        int maxResults,
+        ActionListener<List<Interaction>> listener
+    ) {
+        List<String> recentIds = conversationId == null ? List.of() : getRecentInteractionIds(conversationId);
+        if (recentIds.isEmpty()) {
+            searchInteractionPage(query, sortField, from, maxResults, listener);
+            return;
+        }
+        MultiGetRequest getRequest = new MultiGetRequest();
+        recentIds.forEach(id -> getRequest.add(INTERACTIONS_INDEX_NAME, id));
+        client.multiGet(getRequest, ActionListener.wrap(getResponse -> {
+            List<Interaction> recent = new ArrayList<>();
+            for (MultiGetItemResponse item : getResponse.getResponses()) {
+                if (item.isFailed()) {
+                    listener.onFailure(item.getFailure().getFailure());
+                    return;
+                }
+                if (item.getResponse().isExists()) {
+                    Interaction interaction = Interaction.fromMap(item.getId(), item.getResponse().getSourceAsMap());
+                    if (filter.test(interaction)) {
+                        recent.add(interaction);
+                    }
+                }
+            }
+            recent.sort(order);
+            query.mustNot(QueryBuilders.idsQuery().addIds(recentIds.toArray(new String[0])));
+            // the page can start up to recent.size() hits earlier once the recent interactions are merged in
+            int start = Math.max(0, from - recent.size());
+            int size = maxResults + from - start;
+            ActionListener<List<Interaction>> hitsListener = ActionListener
+                .map(listener, hits -> mergeRecentInteractions(hits, start, size, recent, order, from, maxResults));
+            searchInteractionPage(query, sortField, start, size, hitsListener);
+        }, listener::onFailure));
+    }
+
+    private void searchInteractionPage(
+        QueryBuilder query,
+        String sortField,
+        int from,
+        int size,
+        ActionListener<List<Interaction>> listener
+    ) {
+        SearchRequest request = Requests.searchRequest(INTERACTIONS_INDEX_NAME);
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+        searchSourceBuilder.query(query);
+        request.source(searchSourceBuilder);
+        request.source().from(from).size(size);
+        request.source().sort(sortField, SortOrder.ASC);
+        client.search(request, ActionListener.wrap(response -> {
+            List<Interaction> result = new LinkedList<Interaction>();
+            for (SearchHit hit : response.getHits()) {
+                result.add(Interaction.fromSearchHit(hit));
+            }
+            listener.onResponse(result);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Merge a page of search hits with the interactions the search didn't see
+     * @param hits search hits, in order
+     * @param start offset of the hits in the search results
+     * @param size how many hits were requested
+     * @param recent interactions excluded from the search, in order
+     * @param order order of the interactions
+     * @param from where the merged page starts
+     * @param maxResults size of the merged page
+     * @return the merged page, in order
+     */
+    @VisibleForTesting
+    static List<Interaction> mergeRecentInteractions(
+        List<Interaction> hits,
+        int start,
+        int size,
+        List<Interaction> recent,
+        Comparator<Interaction> order,
+        int from,
+        int maxResults
+    ) {
+        // position of each interaction in the merged results, hits come before recent interactions with the same sort value
+        TreeMap<Integer, Interaction> page = new TreeMap<>();
+        for (int i = 0; i < hits.size(); i++) {
+            Interaction hit = hits.get(i);
+            int position = start + i + (int) recent.stream().filter(interaction -> order.compare(interaction, hit) < 0).count();
+            page.put(position, hit);
+        }
+        for (int i = 0; i < recent.size(); i++) {
+            Interaction interaction = recent.get(i);
+            int hitsBefore = (int) hits.stream().filter(hit -> order.compare(hit, interaction) <= 0).count();
+            // before the first hit, so before the page as start is from - recent.size()
+            if (start > 0 && hitsBefore == 0) {
+                continue;
+            }
+            // after the last hit and there are more hits, so after the page
+            if (hitsBefore == hits.size() && hits.size() == size) {
+                continue;
+            }
+            page.put(start + hitsBefore + i, interaction);
+        }
+        return new ArrayList<>(page.subMap(from, from + maxResults).values());
+    }
+
+    private synchronized void addRecentInteraction(String conversationId, String interactionId) {
+        long now = System.nanoTime();
+        List<Tuple<Long, String>> interactions = new ArrayList<>(getRecentInteractions(conversationId, now));
+        interactions.add(new Tuple<>(now, interactionId));
+        recentInteractions.put(conversationId, List.copyOf(interactions));
+    }
+
+    private List<Tuple<Long, String>> getRecentInteractions(String conversationId, long now) {
+        List<Tuple<Long, String>> interactions = recentInteractions.get(conversationId);
+        if (interactions == null) {
+            return List.of();
+        }
+        return interactions.stream().filter(t -> now - t.v1() < RECENT_INTERACTIONS_TTL.nanos()).collect(Collectors.toList());
+    }
+
+    @VisibleForTesting
+    List<String> getRecentInteractionIds(String conversationId) {
+        return getRecentInteractions(conversationId, System.nanoTime()).stream().map(Tuple::v2).collect(Collectors.toList());
+    }
+
     /**
      * Gets all interactions in a conversation, regardless of conversation size
      * @param conversationId conversation to get all interactions of
@@ -589,12 +736,8 @@ public class InteractionsIndex {
                 // checks if the user has permission to access the conversation that the interaction belongs to
                 checkInteractionPermission(interactionId, interaction, internalListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh message index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            // get is realtime, so the index isn't refreshed
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -645,12 +788,7 @@ public class InteractionsIndex {
                 }, e -> { listener.onFailure(e); });
                 conversationMetaIndex.checkAccess(conversationId, accessListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh messages index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -472,7 +473,6 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
 
     public void testCheckAccess_GetFails_ThenFail() {
         setupUser("user");
-        setupRefreshSuccess();
         doReturn(true).when(metadata).hasIndex(anyString());
         doAnswer(invocation -> {
             ActionListener<GetResponse> al = invocation.getArgument(1);
@@ -485,13 +485,14 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(accessListener, times(1)).onFailure(argCaptor.capture());
         assert (argCaptor.getValue().getMessage().equals("Test Fail"));
+        // get is realtime, so the index isn't refreshed
+        verify(indicesAdminClient, never()).refresh(any(), any());
     }
 
     public void testCheckAccess_ClientFails_ThenFail() {
         setupUser("user");
-        setupRefreshSuccess();
         doReturn(true).when(metadata).hasIndex(anyString());
-        doThrow(new RuntimeException("Client Test Fail")).when(client).admin();
+        doThrow(new RuntimeException("Client Test Fail")).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Boolean> accessListener = mock(ActionListener.class);
         conversationMetaIndex.checkAccess("test id", accessListener);
@@ -521,22 +522,6 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue());
     }
 
-    public void testCheckAccess_RefreshFails_ThenFail() {
-        setupUser("user");
-        doReturn(true).when(metadata).hasIndex(anyString());
-        doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Refresh Exception"));
-            return null;
-        }).when(indicesAdminClient).refresh(any(), any());
-        @SuppressWarnings("unchecked")
-        ActionListener<Boolean> accessListener = mock(ActionListener.class);
-        conversationMetaIndex.checkAccess("test id", accessListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(accessListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Refresh Exception"));
-    }
-
     public void testSearchConversations_RefreshFails_ThenFail() {
         SearchRequest request = dummyRequest();
         doAnswer(invocation -> {
@@ -614,24 +599,25 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Memory [tester_id] not found"));
     }
 
-    public void testGetConversation_RefreshFails_ThenFail() {
+    public void testGetConversation_GetFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Refresh Exception"));
+            ActionListener<GetResponse> al = invocation.getArgument(1);
+            al.onFailure(new Exception("Get Exception"));
             return null;
-        }).when(indicesAdminClient).refresh(any(), any());
+        }).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<ConversationMeta> getListener = mock(ActionListener.class);
         conversationMetaIndex.getConversation("tester_id", getListener);
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(getListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Refresh Exception"));
+        assert (argCaptor.getValue().getMessage().equals("Get Exception"));
+        verify(indicesAdminClient, never()).refresh(any(), any());
     }
 
     public void testGetConversation_ClientFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
-        doThrow(new RuntimeException("Client Failure")).when(client).admin();
+        doThrow(new RuntimeException("Client Failure")).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<ConversationMeta> getListener = mock(ActionListener.class);
         conversationMetaIndex.getConversation("tester_id", getListener);
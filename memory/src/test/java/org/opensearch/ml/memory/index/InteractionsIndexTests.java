@@ -25,14 +25,18 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
@@ -44,6 +48,8 @@ import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.admin.indices.refresh.RefreshResponse;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetResponse;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
@@ -407,26 +413,82 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Failure in Search"));
     }
 
-    public void testGet_RefreshFails_ThenFail() {
+    public void testGet_RecentInteractions() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
+        IndexResponse indexResponse = mock(IndexResponse.class);
+        doReturn(RestStatus.CREATED).when(indexResponse).status();
+        doReturn("iid3").when(indexResponse).getId();
         doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Failed to Refresh"));
+            ActionListener<IndexResponse> al = invocation.getArgument(1);
+            al.onResponse(indexResponse);
             return null;
-        }).when(indicesAdminClient).refresh(any(), any());
+        }).when(client).index(any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<String> createInteractionListener = mock(ActionListener.class);
+        interactionsIndex.createInteraction("cid", "inp", "pt", "rsp", "ogn", Map.of(), createInteractionListener);
+        assertEquals(List.of("iid3"), interactionsIndex.getRecentInteractionIds("cid"));
+        assertEquals(List.of(), interactionsIndex.getRecentInteractionIds("other"));
+
+        // the new interaction is read by id, the search doesn't see it yet
+        GetResponse getResponse = mock(GetResponse.class);
+        doReturn(true).when(getResponse).isExists();
+        doReturn("iid3").when(getResponse).getId();
+        doReturn(
+            Map
+                .of(
+                    ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD,
+                    Instant.ofEpochMilli(3000).toString(),
+                    ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD,
+                    "cid"
+                )
+        ).when(getResponse).getSourceAsMap();
+        doAnswer(invocation -> {
+            ActionListener<MultiGetResponse> al = invocation.getArgument(1);
+            al.onResponse(new MultiGetResponse(new MultiGetItemResponse[] { new MultiGetItemResponse(getResponse, null) }));
+            return null;
+        }).when(client).multiGet(any(), any());
+        doAnswer(invocation -> {
+            SearchRequest request = invocation.getArgument(0);
+            assertTrue(request.source().query().toString().contains("iid3"));
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onResponse(searchResponse(interactionHit("iid1", 1000), interactionHit("iid2", 2000)));
+            return null;
+        }).when(client).search(any(), any());
+
         @SuppressWarnings("unchecked")
         ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
         interactionsIndex.getInteractions("cid", 0, 10, getInteractionsListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(getInteractionsListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failed to Refresh"));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Interaction>> argCaptor = ArgumentCaptor.forClass(List.class);
+        verify(getInteractionsListener, times(1)).onResponse(argCaptor.capture());
+        assertEquals(List.of("iid1", "iid2", "iid3"), argCaptor.getValue().stream().map(Interaction::getId).collect(Collectors.toList()));
+        verify(indicesAdminClient, never()).refresh(any(), any());
+    }
+
+    public void testMergeRecentInteractions() {
+        List<Interaction> visible = List.of(interaction("s1", 1), interaction("s2", 2), interaction("s4", 4), interaction("s6", 6));
+        List<Interaction> recent = List.of(interaction("r3", 3), interaction("r5", 5), interaction("r7", 7));
+        List<String> all = List.of("s1", "s2", "r3", "s4", "r5", "s6", "r7");
+        Comparator<Interaction> order = Comparator.comparing(Interaction::getCreateTime);
+        for (int from = 0; from <= all.size(); from++) {
+            for (int maxResults = 1; maxResults <= 4; maxResults++) {
+                int start = Math.max(0, from - recent.size());
+                int size = maxResults + from - start;
+                List<Interaction> hits = visible.subList(Math.min(start, visible.size()), Math.min(start + size, visible.size()));
+                List<Interaction> page = InteractionsIndex.mergeRecentInteractions(hits, start, size, recent, order, from, maxResults);
+                assertEquals(
+                    all.subList(Math.min(from, all.size()), Math.min(from + maxResults, all.size())),
+                    page.stream().map(Interaction::getId).collect(Collectors.toList())
+                );
+            }
+        }
     }
 
     public void testGet_ClientFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
-        doThrow(new RuntimeException("Client Failure")).when(indicesAdminClient).refresh(any(), any());
+        doThrow(new RuntimeException("Client Failure")).when(client).search(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
         interactionsIndex.getInteractions("cid", 0, 10, getInteractionsListener);
@@ -465,7 +527,7 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         doReturn(true).when(metadata).hasIndex(anyString());
         @SuppressWarnings("unchecked")
         ActionListener<List<Interaction>> getTracesListener = mock(ActionListener.class);
-        interactionsIndex.innerGetTraces("cid", 0, 10, getTracesListener);
+        interactionsIndex.innerGetTraces("cid", "iid", 0, 10, getTracesListener);
         @SuppressWarnings("unchecked")
         ArgumentCaptor<List<Interaction>> argCaptor = ArgumentCaptor.forClass(List.class);
         verify(getTracesListener, times(1)).onResponse(argCaptor.capture());
@@ -498,7 +560,7 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         doReturn(true).when(metadata).hasIndex(anyString());
         doThrow(new RuntimeException("Client Failure")).when(client).search(any(), any());
         ActionListener<List<Interaction>> getTracesListener = mock(ActionListener.class);
-        interactionsIndex.innerGetTraces("cid", 0, 10, getTracesListener);
+        interactionsIndex.innerGetTraces("cid", "iid", 0, 10, getTracesListener);
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(getTracesListener, times(1)).onFailure(argCaptor.capture());
         assert (argCaptor.getValue().getMessage().equals("Client Failure"));
@@ -836,26 +898,28 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Message [iid] not found"));
     }
 
-    public void testGetSg_RefreshFails_ThenFail() {
+    public void testGetSg_GetFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
         doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Failed during Sg Get Refresh"));
+            ActionListener<GetResponse> al = invocation.getArgument(1);
+            al.onFailure(new Exception("Failed during Sg Get"));
             return null;
-        }).when(indicesAdminClient).refresh(any(), any());
+        }).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Interaction> getListener = mock(ActionListener.class);
         interactionsIndex.getInteraction("iid", getListener);
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(getListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failed during Sg Get Refresh"));
+        assert (argCaptor.getValue().getMessage().equals("Failed during Sg Get"));
+        // get is realtime, so the index isn't refreshed
+        verify(indicesAdminClient, never()).refresh(any(), any());
     }
 
     public void testGetSg_ClientFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
-        doThrow(new RuntimeException("Client Failure in Sg Get")).when(client).admin();
+        doThrow(new RuntimeException("Client Failure in Sg Get")).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Interaction> getListener = mock(ActionListener.class);
         interactionsIndex.getInteraction("iid", getListener);
@@ -1015,4 +1079,31 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
             return null;
         }).when(client).search(any(), any());
     }
+
+    private static Interaction interaction(String id, long createTime) {
+        return new Interaction(id, Instant.ofEpochMilli(createTime), null, "cid", null, null, null, null, null);
+    }
+
+    private static SearchHit interactionHit(String id, long createTime) throws IOException {
+        XContentBuilder content = XContentBuilder.builder(XContentType.JSON.xContent());
+        content.startObject();
+        content.field(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD, Instant.ofEpochMilli(createTime));
+        content.field(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD, "cid");
+        content.endObject();
+        return new SearchHit(0, id, null, null).sourceRef(BytesReference.bytes(content));
+    }
+
+    private static SearchResponse searchResponse(SearchHit... hits) {
+        SearchHits searchHits = new SearchHits(hits, null, Float.NaN);
+        SearchResponseSections searchSections = new SearchResponseSections(
+            searchHits,
+            InternalAggregations.EMPTY,
+            null,
+            false,
+            false,
+            null,
+            1
+        );
+        return new SearchResponse(searchSections, null, 1, 1, 0, 11, ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY);
+    }
 }
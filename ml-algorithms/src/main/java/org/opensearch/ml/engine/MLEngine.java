@@ -29,6 +29,7 @@ import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.transport.TransportChannel;
 
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -40,6 +41,7 @@ public class MLEngine {
     public static final String REGISTER_MODEL_FOLDER = "register";
     public static final String DEPLOY_MODEL_FOLDER = "deploy";
     public static final String ANALYSIS_FOLDER = "analysis";
+    public static final String MODEL_ARTIFACT_FOLDER = "artifacts";
     private final String MODEL_REPO = "https://artifacts.opensearch.org/models/ml-models";
 
     @Getter
@@ -51,6 +53,11 @@ public class MLEngine {
 
     private Encryptor encryptor;
 
+    // Intra-op threads of local models, PyTorch applies it to the whole process
+    @Getter
+    @Setter
+    private int localModelIntraOpThreads = 1;
+
     public MLEngine(Path opensearchDataFolder, Encryptor encryptor) {
         this.mlCachePath = opensearchDataFolder.resolve("ml_cache");
         this.mlModelsCachePath = mlCachePath.resolve("models_cache");
@@ -116,6 +123,10 @@ public class MLEngine {
         return mlModelsCachePath.resolve("models");
     }
 
+    public Path getModelArtifactCacheRootPath() {
+        return mlModelsCachePath.resolve(MODEL_ARTIFACT_FOLDER);
+    }
+
     public Path getAnalysisRootPath() {
         return mlModelsCachePath.resolve(ANALYSIS_FOLDER);
     }
@@ -176,6 +187,24 @@ public class MLEngine {
         return predictable.predict(mlInput, model);
     }
 
+    /**
+     * Create the predictable of the input algorithm and load the model content into it, so the same instance can
+     * be used for following predict requests of the model.
+     * @param input ML input
+     * @param model ML model with content
+     * @return predictable with the model loaded
+     */
+    public Predictable initPredictable(Input input, MLModel model) {
+        validateMLInput(input);
+        MLInput mlInput = (MLInput) input;
+        Predictable predictable = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class);
+        if (predictable == null) {
+            throw new IllegalArgumentException("Unsupported algorithm: " + mlInput.getAlgorithm());
+        }
+        predictable.initModel(model, null, encryptor);
+        return predictable;
+    }
+
     public MLOutput trainAndPredict(Input input) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
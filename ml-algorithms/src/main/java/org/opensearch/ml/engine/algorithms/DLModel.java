@@ -20,13 +20,13 @@ import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.io.FileUtils;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.model.MLDeploySetting;
 import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
@@ -45,6 +45,7 @@ import ai.djl.engine.Engine;
 import ai.djl.inference.Predictor;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
+import ai.djl.ndarray.BytesSupplier;
 import ai.djl.repository.zoo.Criteria;
 import ai.djl.repository.zoo.ModelNotFoundException;
 import ai.djl.repository.zoo.ZooModel;
@@ -63,11 +64,13 @@ public abstract class DLModel implements Predictable {
     protected String modelId;
 
     protected Predictor<Input, Output>[] predictors;
+    protected PredictorPool predictorPool;
+    protected DynamicBatcher batcher;
     protected ZooModel[] models;
     protected Device[] devices;
-    protected AtomicInteger nextDevice = new AtomicInteger(0);
 
     protected MLModelConfig modelConfig;
+    protected MLDeploySetting deploySetting;
 
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
@@ -95,13 +98,36 @@ public abstract class DLModel implements Predictable {
         }
     }
 
-    protected Predictor<Input, Output> getPredictor() {
-        int currentDevice = nextDevice.getAndIncrement();
-        if (currentDevice > devices.length - 1) {
-            currentDevice = currentDevice % devices.length;
-            nextDevice.set(currentDevice + 1);
+    /**
+     * Run the function with an idle predictor of the model. A predictor is never used by two threads at the same time.
+     * @param function function to run with the predictor
+     * @return result of the function
+     * @param <T> result type
+     * @throws TranslateException if the inference failed
+     */
+    protected <T> T withPredictor(PredictorPool.PredictorFunction<T> function) throws TranslateException {
+        return predictorPool.execute(function);
+    }
+
+    /**
+     * Predict the inputs. If dynamic batching is enabled in the deploy setting of the model, the inputs are batched
+     * with the inputs of concurrent requests.
+     * @param inputs model inputs
+     * @return model outputs in the same order as the inputs
+     * @throws TranslateException if the inference failed
+     */
+    protected List<Output> batchPredict(List<Input> inputs) throws TranslateException {
+        DynamicBatcher currentBatcher = batcher;
+        if (currentBatcher != null) {
+            return currentBatcher.predict(inputs);
         }
-        return predictors[currentDevice];
+        return withPredictor(predictor -> {
+            List<Output> outputs = new ArrayList<>(inputs.size());
+            for (Input input : inputs) {
+                outputs.add(predictor.predict(input));
+            }
+            return outputs;
+        });
     }
 
     public abstract ModelTensorOutput predict(String modelId, MLInput input) throws TranslateException;
@@ -139,6 +165,7 @@ public abstract class DLModel implements Predictable {
         if (!FunctionName.isDLModel(model.getAlgorithm())) {
             throw new IllegalArgumentException("wrong function name");
         }
+        deploySetting = model.getDeploySetting();
         loadModel(modelZipFile, modelId, model.getName(), model.getVersion(), model.getModelConfig(), engine);
     }
 
@@ -146,6 +173,8 @@ public abstract class DLModel implements Predictable {
     public void close() {
         if (modelHelper != null && modelId != null) {
             modelHelper.deleteFileCache(modelId);
+            batcher = null;
+            predictorPool = null;
             if (predictors != null) {
                 closePredictors(predictors);
                 predictors = null;
@@ -175,6 +204,15 @@ public abstract class DLModel implements Predictable {
 
     public void warmUp(Predictor predictor, String modelId, MLModelConfig modelConfig) throws TranslateException {}
 
+    /**
+     * Check if the translator can run a batch of inputs in one forward pass, see {@link DynamicBatcher}.
+     * @param translator translator of the model, null if the model uses a translator factory
+     * @return true if inputs of concurrent requests can be batched
+     */
+    protected boolean isBatchingSupported(Translator<Input, Output> translator) {
+        return translator instanceof SentenceTransformerTranslator;
+    }
+
     protected void doLoadModel(
         List<Predictor<Input, Output>> predictorList,
         List<ZooModel<Input, Output>> modelList,
@@ -187,6 +225,10 @@ public abstract class DLModel implements Predictable {
         TranslateException {
         devices = Engine.getEngine(engine).getDevices();
         this.modelConfig = modelConfig;
+        boolean batchingSupported = true;
+        int predictorReplicas = deploySetting == null || deploySetting.getPredictorReplicas() == null
+            ? 1
+            : deploySetting.getPredictorReplicas();
         for (int i = 0; i < devices.length; i++) {
             log.debug("load model {} to device {}: {}", modelId, i, devices[i]);
             ZooModel<Input, Output> model;
@@ -202,9 +244,11 @@ public abstract class DLModel implements Predictable {
             TranslatorFactory translatorFactory = getTranslatorFactory(engine, modelConfig);
             if (translatorFactory != null) {
                 criteriaBuilder.optTranslatorFactory(translatorFactory);
+                batchingSupported = false;
             } else if (translator != null) {
                 criteriaBuilder.optTranslator(translator);
             }
+            batchingSupported &= isBatchingSupported(translator);
 
             Map<String, Object> arguments = getArguments(modelConfig);
             if (arguments != null && arguments.size() > 0) {
@@ -212,26 +256,53 @@ public abstract class DLModel implements Predictable {
                     criteriaBuilder.optArgument(entry.getKey(), entry.getValue());
                 }
             }
+            if (ONNX_ENGINE.equals(engine) && deploySetting != null && deploySetting.getIntraOpThreads() != null) {
+                criteriaBuilder.optOption("intraOpNumThreads", String.valueOf(deploySetting.getIntraOpThreads()));
+            }
 
             Criteria<Input, Output> criteria = criteriaBuilder.build();
             model = criteria.loadModel();
-            predictor = model.newPredictor();
-            predictorList.add(predictor);
             modelList.add(model);
-
-            // First request takes longer time. Predict once to warm up model.
-            warmUp(predictor, modelId, modelConfig);
+            // Predictors of the same model share the weights, each one serves one request at a time.
+            // First request of each predictor takes longer time. Predict once with each to warm them up.
+            for (int replica = 0; replica < predictorReplicas; replica++) {
+                predictor = model.newPredictor();
+                predictorList.add(predictor);
+                warmUp(predictor, modelId, modelConfig);
+            }
         }
 
         if (predictorList.size() > 0) {
             this.predictors = predictorList.toArray(new Predictor[0]);
+            this.predictorPool = new PredictorPool(predictorList);
             predictorList.clear();
+            this.batcher = createBatcher(predictorPool, batchingSupported);
         }
         if (modelList.size() > 0) {
             this.models = modelList.toArray(new ZooModel[0]);
             modelList.clear();
         }
-        log.info("Model {} is successfully deployed on {} devices", modelId, devices.length);
+        log
+            .info(
+                "Model {} is successfully deployed on {} devices with {} predictors per device",
+                modelId,
+                devices.length,
+                predictorReplicas
+            );
+    }
+
+    private DynamicBatcher createBatcher(PredictorPool predictorPool, boolean batchingSupported) {
+        if (deploySetting == null || deploySetting.getMaxBatchSize() == null || deploySetting.getMaxBatchSize() <= 1) {
+            return null;
+        }
+        if (!batchingSupported) {
+            log.warn("Dynamic batching is not supported by model {}, predict inputs one by one", modelId);
+            return null;
+        }
+        int maxBatchSize = deploySetting.getMaxBatchSize();
+        long maxBatchDelayMicros = deploySetting.getMaxBatchDelayMicros() == null ? 0 : deploySetting.getMaxBatchDelayMicros();
+        log.info("Enabled dynamic batching for model {}, max batch size: {}, max delay: {}us", modelId, maxBatchSize, maxBatchDelayMicros);
+        return new DynamicBatcher(predictorPool, maxBatchSize, maxBatchDelayMicros);
     }
 
     @SuppressWarnings("removal")
@@ -259,7 +330,8 @@ public abstract class DLModel implements Predictable {
                     // access denied exception
                     System.setProperty("java.library.path", mlEngine.getMlCachePath().toAbsolutePath().toString());
                     System.setProperty("ai.djl.pytorch.num_interop_threads", "1");
-                    System.setProperty("ai.djl.pytorch.num_threads", "1");
+                    // PyTorch applies the intra-op threads to the whole process when the engine is initialized
+                    System.setProperty("ai.djl.pytorch.num_threads", String.valueOf(mlEngine.getLocalModelIntraOpThreads()));
                     Thread.currentThread().setContextClassLoader(ai.djl.Model.class.getClassLoader());
                     Path modelPath = mlEngine.getModelCachePath(modelId, modelName, version);
                     File pathFile = new File(modelPath.toUri());
@@ -334,8 +406,14 @@ public abstract class DLModel implements Predictable {
         if (output == null) {
             throw new MLException("No output generated");
         }
-        byte[] bytes = output.getData().getAsBytes();
-        ModelTensors tensorOutput = ModelTensors.fromBytes(bytes);
+        ModelTensors tensorOutput;
+        BytesSupplier data = output.getData();
+        if (data instanceof ModelTensorsSupplier) {
+            // built by a translator in this JVM, no need to serialize and parse the tensors again
+            tensorOutput = ((ModelTensorsSupplier) data).getModelTensors();
+        } else {
+            tensorOutput = ModelTensors.fromBytes(data.getAsBytes());
+        }
         if (resultFilter != null) {
             tensorOutput.filter(resultFilter);
         }
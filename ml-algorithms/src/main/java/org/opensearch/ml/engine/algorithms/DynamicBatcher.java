@@ -0,0 +1,175 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.opensearch.ml.common.exception.MLException;
+
+import ai.djl.inference.Predictor;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import ai.djl.translate.TranslateException;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Merges concurrent predict calls of a model into batched forward passes.
+ * <p>
+ * Callers enqueue their inputs and wait. One of the waiting callers collects a batch from the queue until it reaches
+ * the max batch size or the oldest queued input waited for the max delay, runs one {@link Predictor#batchPredict}
+ * with a predictor from the pool and hands the outputs back to the callers. While a batch is running another caller
+ * can collect the next one, so batching never runs on extra threads and keeps all predictors of the pool busy.
+ */
+@Log4j2
+public class DynamicBatcher {
+
+    private final PredictorPool predictorPool;
+    @Getter
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final ArrayDeque<BatchItem> queue = new ArrayDeque<>();
+    private boolean collecting;
+
+    public DynamicBatcher(PredictorPool predictorPool, int maxBatchSize, long maxDelayMicros) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("max batch size should be positive");
+        }
+        this.predictorPool = predictorPool;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(0, maxDelayMicros));
+    }
+
+    /**
+     * Predict the inputs, possibly batched together with inputs of other callers.
+     *
+     * @param inputs model inputs
+     * @return model outputs in the same order as the inputs
+     * @throws TranslateException if the batch containing any of the inputs failed
+     */
+    public List<Output> predict(List<Input> inputs) throws TranslateException {
+        List<BatchItem> items = new ArrayList<>(inputs.size());
+        long now = System.nanoTime();
+        for (Input input : inputs) {
+            items.add(new BatchItem(input, now));
+        }
+        lock.lock();
+        try {
+            queue.addAll(items);
+            changed.signalAll();
+            while (!allDone(items)) {
+                if (!collecting && !queue.isEmpty()) {
+                    List<BatchItem> batch = collectBatch();
+                    lock.unlock();
+                    try {
+                        runBatch(batch);
+                    } finally {
+                        lock.lock();
+                        changed.signalAll();
+                    }
+                } else {
+                    changed.await();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MLException("Interrupted while waiting for batched inference", e);
+        } finally {
+            lock.unlock();
+        }
+
+        List<Output> outputs = new ArrayList<>(items.size());
+        for (BatchItem item : items) {
+            if (item.error != null) {
+                throw item.error instanceof TranslateException ? (TranslateException) item.error : new TranslateException(item.error);
+            }
+            outputs.add(item.output);
+        }
+        return outputs;
+    }
+
+    // Called with the lock held. Waits until the batch is full or the oldest input is due, then drains the batch.
+    private List<BatchItem> collectBatch() throws InterruptedException {
+        collecting = true;
+        try {
+            long deadline = queue.peekFirst().enqueueNanos + maxDelayNanos;
+            long remaining = deadline - System.nanoTime();
+            while (queue.size() < maxBatchSize && remaining > 0) {
+                remaining = changed.awaitNanos(remaining);
+            }
+            List<BatchItem> batch = new ArrayList<>(Math.min(queue.size(), maxBatchSize));
+            while (!queue.isEmpty() && batch.size() < maxBatchSize) {
+                batch.add(queue.pollFirst());
+            }
+            return batch;
+        } finally {
+            collecting = false;
+            changed.signalAll();
+        }
+    }
+
+    private void runBatch(List<BatchItem> batch) {
+        try {
+            List<Output> outputs;
+            if (batch.size() == 1) {
+                Output output = predictorPool.execute(predictor -> predictor.predict(batch.get(0).input));
+                outputs = List.of(output);
+            } else {
+                List<Input> inputs = new ArrayList<>(batch.size());
+                for (BatchItem item : batch) {
+                    inputs.add(item.input);
+                }
+                outputs = predictorPool.execute(predictor -> predictor.batchPredict(inputs));
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).output = outputs.get(i);
+            }
+        } catch (Throwable e) {
+            log.error("Failed to run batched inference of {} inputs", batch.size(), e);
+            for (BatchItem item : batch) {
+                item.error = e;
+            }
+        }
+        lock.lock();
+        try {
+            for (BatchItem item : batch) {
+                item.done = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean allDone(List<BatchItem> items) {
+        for (BatchItem item : items) {
+            if (!item.done) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class BatchItem {
+        private final Input input;
+        private final long enqueueNanos;
+        private Output output;
+        private Throwable error;
+        private boolean done;
+
+        BatchItem(Input input, long enqueueNanos) {
+            this.input = input;
+            this.enqueueNanos = enqueueNanos;
+        }
+    }
+}
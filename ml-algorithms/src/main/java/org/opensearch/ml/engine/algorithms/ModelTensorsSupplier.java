@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.nio.ByteBuffer;
+
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import ai.djl.modality.Output;
+import ai.djl.ndarray.BytesSupplier;
+import lombok.Getter;
+
+/**
+ * Carries the model tensors built by a translator in a DJL {@link Output} to {@link DLModel} in the same JVM. The
+ * tensors are only serialized if a caller asks for the bytes of the output.
+ */
+public class ModelTensorsSupplier implements BytesSupplier {
+
+    @Getter
+    private final ModelTensors modelTensors;
+
+    public ModelTensorsSupplier(ModelTensors modelTensors) {
+        this.modelTensors = modelTensors;
+    }
+
+    @Override
+    public byte[] getAsBytes() {
+        return modelTensors.toBytes();
+    }
+
+    @Override
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(getAsBytes());
+    }
+
+    @Override
+    public Object getAsObject() {
+        return modelTensors;
+    }
+}
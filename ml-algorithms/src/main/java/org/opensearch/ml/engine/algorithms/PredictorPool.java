@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.opensearch.ml.common.exception.MLException;
+
+import ai.djl.inference.Predictor;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import ai.djl.translate.TranslateException;
+
+/**
+ * Pool of the predictors of a local model. A predictor is checked out by one thread at a time, callers wait if all
+ * predictors are busy.
+ */
+public class PredictorPool {
+
+    private final BlockingQueue<Predictor<Input, Output>> idlePredictors;
+    private final int size;
+
+    public PredictorPool(List<Predictor<Input, Output>> predictors) {
+        if (predictors == null || predictors.isEmpty()) {
+            throw new IllegalArgumentException("predictors should not be empty");
+        }
+        this.size = predictors.size();
+        this.idlePredictors = new ArrayBlockingQueue<>(size, false, predictors);
+    }
+
+    /**
+     * Run the function with an idle predictor, and return the predictor to the pool once the function completes.
+     *
+     * @param function function to run with the predictor
+     * @return result of the function
+     * @param <T> result type
+     * @throws TranslateException if the inference failed
+     */
+    public <T> T execute(PredictorFunction<T> function) throws TranslateException {
+        Predictor<Input, Output> predictor;
+        try {
+            predictor = idlePredictors.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MLException("Interrupted while waiting for an idle predictor", e);
+        }
+        try {
+            return function.apply(predictor);
+        } finally {
+            idlePredictors.offer(predictor);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int idleCount() {
+        return idlePredictors.size();
+    }
+
+    @FunctionalInterface
+    public interface PredictorFunction<T> {
+        T apply(Predictor<Input, Output> predictor) throws TranslateException;
+    }
+}
@@ -1,20 +1,29 @@
 package org.opensearch.ml.engine.algorithms;
 
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.SENTENCE_EMBEDDING;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.djl.modality.Input;
+import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
 import ai.djl.translate.Batchifier;
 import ai.djl.translate.ServingTranslator;
 import ai.djl.translate.TranslatorContext;
 
 public abstract class SentenceTransformerTranslator implements ServingTranslator {
+    private static final String BATCH_INPUTS = "batch_inputs";
+    private static final String BATCH_TOKEN_LENGTHS = "batch_token_lengths";
+    private static final String BATCH_PADDED_LENGTH = "batch_padded_length";
     protected HuggingFaceTokenizer tokenizer;
 
     @Override
@@ -48,6 +57,86 @@ public abstract class SentenceTransformerTranslator implements ServingTranslator
         return ndList;
     }
 
+    /**
+     * Tokenize the inputs together and pad them to the longest one, so they can run in one forward pass.
+     */
+    @Override
+    public NDList batchProcessInput(TranslatorContext ctx, List<Input> inputs) {
+        List<String> sentences = new ArrayList<>(inputs.size());
+        for (Input input : inputs) {
+            sentences.add(input.getAsString(0));
+        }
+        Encoding[] encodings = tokenizer.batchEncode(sentences);
+        long[][] indices = new long[encodings.length][];
+        long[][] attentionMask = new long[encodings.length][];
+        int[] tokenLengths = new int[encodings.length];
+        for (int i = 0; i < encodings.length; i++) {
+            indices[i] = encodings[i].getIds();
+            attentionMask[i] = encodings[i].getAttentionMask();
+            for (long mask : attentionMask[i]) {
+                tokenLengths[i] += (int) mask;
+            }
+        }
+        ctx.setAttachment(BATCH_INPUTS, inputs);
+        ctx.setAttachment(BATCH_TOKEN_LENGTHS, tokenLengths);
+        ctx.setAttachment(BATCH_PADDED_LENGTH, (long) indices[0].length);
+
+        NDManager manager = ctx.getNDManager();
+        NDArray indicesArray = manager.create(indices);
+        indicesArray.setName("input1.input_ids");
+        NDArray attentionMaskArray = manager.create(attentionMask);
+        attentionMaskArray.setName("input1.attention_mask");
+        return new NDList(indicesArray, attentionMaskArray);
+    }
+
+    /**
+     * Split the batched model output and remove the padding of the per token outputs, so every input gets the same
+     * output as predicting it alone.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Output> batchProcessOutput(TranslatorContext ctx, NDList list) throws Exception {
+        List<Input> inputs = (List<Input>) ctx.getAttachment(BATCH_INPUTS);
+        int[] tokenLengths = (int[]) ctx.getAttachment(BATCH_TOKEN_LENGTHS);
+        long paddedLength = (long) ctx.getAttachment(BATCH_PADDED_LENGTH);
+        NDList[] batch = getBatchifier().unbatchify(list);
+        List<Output> outputs = new ArrayList<>(batch.length);
+        for (int i = 0; i < batch.length; i++) {
+            outputs.add(processBatchItemOutput(ctx, inputs.get(i), removePadding(batch[i], paddedLength, tokenLengths[i])));
+        }
+        return outputs;
+    }
+
+    /**
+     * Process the output of one input of a batch.
+     * @param ctx translator context shared by the batch
+     * @param input the input of the output
+     * @param list model output of the input
+     * @return processed output
+     */
+    protected Output processBatchItemOutput(TranslatorContext ctx, Input input, NDList list) throws Exception {
+        return processOutput(ctx, list);
+    }
+
+    // Per token outputs like the input ids and token embeddings have the padded length as the first dimension.
+    private NDList removePadding(NDList list, long paddedLength, int tokenLength) {
+        if (tokenLength == paddedLength) {
+            return list;
+        }
+        NDList result = new NDList(list.size());
+        for (NDArray array : list) {
+            Shape shape = array.getShape();
+            if (!SENTENCE_EMBEDDING.equals(array.getName()) && shape.dimension() > 0 && shape.get(0) == paddedLength) {
+                NDArray trimmed = array.get("0:" + tokenLength);
+                trimmed.setName(array.getName());
+                result.add(trimmed);
+            } else {
+                result.add(array);
+            }
+        }
+        return result;
+    }
+
     @Override
     public void setArguments(Map<String, ?> arguments) {}
 }
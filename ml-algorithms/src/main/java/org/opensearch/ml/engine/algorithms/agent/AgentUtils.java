@@ -7,6 +7,7 @@ package org.opensearch.ml.engine.algorithms.agent;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.MCP_CLIENT_LEASE;
 import static org.opensearch.ml.common.CommonValue.MCP_CONNECTORS_FIELD;
 import static org.opensearch.ml.common.CommonValue.MCP_CONNECTOR_ID_FIELD;
 import static org.opensearch.ml.common.CommonValue.ML_CONNECTOR_INDEX;
@@ -33,6 +34,7 @@ import static org.opensearch.ml.engine.memory.ConversationIndexMemory.LAST_N_INT
 
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
@@ -43,6 +45,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -66,6 +69,7 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.IndexNotFoundException;
@@ -79,6 +83,7 @@ import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.spi.tools.Tool;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.MLEngineClassLoader;
+import org.opensearch.ml.engine.algorithms.remote.McpClientPool;
 import org.opensearch.ml.engine.algorithms.remote.McpConnectorExecutor;
 import org.opensearch.ml.engine.algorithms.remote.McpStreamableHttpConnectorExecutor;
 import org.opensearch.ml.engine.encryptor.Encryptor;
@@ -90,11 +95,14 @@ import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.common.SdkClientUtils;
 import org.opensearch.transport.client.Client;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
 import com.google.gson.reflect.TypeToken;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 
+import io.modelcontextprotocol.client.McpSyncClient;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -122,6 +130,11 @@ public class AgentUtils {
     public static final String TOOL_CALLS_TOOL_NAME = "tool_calls.tool_name";
     public static final String TOOL_CALLS_TOOL_INPUT = "tool_calls.tool_input";
     public static final String TOOL_CALL_ID_PATH = "tool_calls.id_path";
+    // all tool calls of an LLM response, set when the response has more than one
+    public static final String TOOL_CALLS = "tool_calls";
+    public static final String TOOL_NAME = "tool_name";
+    public static final String TOOL_INPUT = "tool_input";
+    public static final String MAX_PARALLEL_TOOL_CALLS = "max_parallel_tool_calls";
     private static final String NAME = "name";
     private static final String DESCRIPTION = "description";
 
@@ -362,11 +375,13 @@ public class AgentUtils {
                     String toolCallId = "";
                     if (functionCalling != null) {
                         toolCalls = functionCalling.handle(tmpModelTensorOutput, parameters);
-                        // TODO: support multiple tool calls here
                         if (!toolCalls.isEmpty()) {
-                            toolName = toolCalls.getFirst().get("tool_name");
-                            toolInput = toolCalls.getFirst().get("tool_input");
-                            toolCallId = toolCalls.getFirst().get("tool_call_id");
+                            toolName = toolCalls.getFirst().get(TOOL_NAME);
+                            toolInput = toolCalls.getFirst().get(TOOL_INPUT);
+                            toolCallId = toolCalls.getFirst().get(TOOL_CALL_ID);
+                        }
+                        if (toolCalls.size() > 1) {
+                            modelOutput.put(TOOL_CALLS, StringUtils.toJson(toolCalls));
                         }
                     } else {
                         String toolCallsPath = parameters.get(TOOL_CALLS_PATH);
@@ -381,6 +396,17 @@ public class AgentUtils {
                             toolInput = StringUtils.toJson(JsonPath.read(toolCalls.get(0), parameters.get(TOOL_CALLS_TOOL_INPUT)));
                             toolCallId = JsonPath.read(toolCalls.get(0), parameters.get(TOOL_CALL_ID_PATH));
                         }
+                        if (toolCalls.size() > 1) {
+                            List<Map<String, String>> calls = new ArrayList<>();
+                            for (Object toolCall : toolCalls) {
+                                Map<String, String> call = new HashMap<>();
+                                call.put(TOOL_NAME, JsonPath.read(toolCall, parameters.get(TOOL_CALLS_TOOL_NAME)));
+                                call.put(TOOL_INPUT, StringUtils.toJson(JsonPath.read(toolCall, parameters.get(TOOL_CALLS_TOOL_INPUT))));
+                                call.put(TOOL_CALL_ID, JsonPath.read(toolCall, parameters.get(TOOL_CALL_ID_PATH)));
+                                calls.add(call);
+                            }
+                            modelOutput.put(TOOL_CALLS, StringUtils.toJson(calls));
+                        }
                     }
                     String toolCallsMsgPath = parameters.get(INTERACTION_TEMPLATE_ASSISTANT_TOOL_CALLS_PATH);
                     String toolCallsMsgExcludePath = parameters.get(INTERACTION_TEMPLATE_ASSISTANT_TOOL_CALLS_EXCLUDE_PATH);
@@ -653,6 +679,14 @@ public class AgentUtils {
         return messageHistoryLimitStr != null ? Integer.parseInt(messageHistoryLimitStr) : LAST_N_INTERACTIONS;
     }
 
+    /**
+     * Get the max number of tool calls of one LLM response run at the same time, 1 runs only the first tool call.
+     */
+    public static int getMaxParallelToolCalls(Map<String, String> params) {
+        String maxParallelToolCallsStr = params.get(MAX_PARALLEL_TOOL_CALLS);
+        return maxParallelToolCallsStr != null ? Integer.parseInt(maxParallelToolCallsStr) : 1;
+    }
+
     public static List<MLToolSpec> getMlToolSpecs(MLAgent mlAgent, Map<String, String> params) {
         String selectedToolsStr = params.get(SELECTED_TOOLS);
         List<MLToolSpec> toolSpecs = new ArrayList<>();
@@ -724,6 +758,7 @@ public class AgentUtils {
                     }
                 }
 
+                releaseFilteredOut(mcpToolspecs, filteredTools);
                 finalToolSpecs.addAll(filteredTools);
 
                 // If this is the last connector, send the final response
@@ -740,6 +775,17 @@ public class AgentUtils {
         }
     }
 
+    /**
+     * Key of the pooled MCP session of a connector. The digest of the connector content is part of the key, so a
+     * connector update opens a new session.
+     */
+    @VisibleForTesting
+    static String getMcpSessionKey(String tenantId, String connectorId, Connector connector) {
+        String content = Strings.toString(MediaTypeRegistry.JSON, connector);
+        String digest = Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString();
+        return String.join(":", String.valueOf(tenantId), connectorId, digest);
+    }
+
     private static void getMCPToolSpecsFromConnector(
         String connectorId,
         String tenantId,
@@ -758,17 +804,18 @@ public class AgentUtils {
                 connector.decrypt("", (credential, tid) -> encryptor.decrypt(credential, tenantId), tenantId);
 
                 List<MLToolSpec> mcpToolSpecs;
+                String sessionKey = getMcpSessionKey(tenantId, connectorId, connector);
                 if (connector instanceof McpConnector) {
                     McpConnectorExecutor connectorExecutor = MLEngineClassLoader
                         .initInstance(connector.getProtocol(), connector, Connector.class);
-                    mcpToolSpecs = connectorExecutor.getMcpToolSpecs();
+                    mcpToolSpecs = connectorExecutor.getMcpToolSpecs(McpClientPool.getInstance(), sessionKey);
                     toolListener.onResponse(mcpToolSpecs);
                     return;
                 }
                 if (connector instanceof McpStreamableHttpConnector) {
                     McpStreamableHttpConnectorExecutor connectorExecutor = MLEngineClassLoader
                         .initInstance(connector.getProtocol(), connector, Connector.class);
-                    mcpToolSpecs = connectorExecutor.getMcpToolSpecs();
+                    mcpToolSpecs = connectorExecutor.getMcpToolSpecs(McpClientPool.getInstance(), sessionKey);
                     toolListener.onResponse(mcpToolSpecs);
                     return;
                 }
@@ -929,14 +976,55 @@ public class AgentUtils {
     }
 
     public static void cleanUpResource(Map<String, Tool> tools) {
+        // the tools of one acquisition share its lease, which is released once. Clients not from the pool are closed.
+        Set<McpClientPool.Lease> leases = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<McpSyncClient> mcpClients = Collections.newSetFromMap(new IdentityHashMap<>());
         for (Map.Entry<String, Tool> entry : tools.entrySet()) {
             Tool tool = entry.getValue();
             if (tool instanceof McpSseTool) {
                 // TODO: make this more general, avoid checking specific tool type
-                ((McpSseTool) tool).getMcpSyncClient().closeGracefully();
+                McpSseTool mcpTool = (McpSseTool) tool;
+                addMcpResource(leases, mcpClients, mcpTool.getMcpClientLease(), mcpTool.getMcpSyncClient());
             } else if (tool instanceof McpStreamableHttpTool) {
                 // TODO: make this more general, avoid checking specific tool type
-                ((McpStreamableHttpTool) tool).getMcpSyncClient().closeGracefully();
+                McpStreamableHttpTool mcpTool = (McpStreamableHttpTool) tool;
+                addMcpResource(leases, mcpClients, mcpTool.getMcpClientLease(), mcpTool.getMcpSyncClient());
+            }
+        }
+        leases.forEach(McpClientPool.Lease::release);
+        for (McpSyncClient mcpClient : mcpClients) {
+            McpClientPool.getInstance().release(mcpClient);
+        }
+    }
+
+    private static void addMcpResource(
+        Set<McpClientPool.Lease> leases,
+        Set<McpSyncClient> mcpClients,
+        McpClientPool.Lease lease,
+        McpSyncClient mcpClient
+    ) {
+        if (lease != null) {
+            leases.add(lease);
+        } else if (mcpClient != null) {
+            mcpClients.add(mcpClient);
+        }
+    }
+
+    /**
+     * Release the pooled clients of the tool specs which were filtered out. The leases of the kept tool specs are
+     * released once the agent ran.
+     */
+    private static void releaseFilteredOut(List<MLToolSpec> toolSpecs, List<MLToolSpec> filteredToolSpecs) {
+        Set<Object> keptLeases = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (MLToolSpec toolSpec : filteredToolSpecs) {
+            if (toolSpec.getRuntimeResources() != null && toolSpec.getRuntimeResources().get(MCP_CLIENT_LEASE) != null) {
+                keptLeases.add(toolSpec.getRuntimeResources().get(MCP_CLIENT_LEASE));
+            }
+        }
+        for (MLToolSpec toolSpec : toolSpecs) {
+            Object lease = toolSpec.getRuntimeResources() == null ? null : toolSpec.getRuntimeResources().get(MCP_CLIENT_LEASE);
+            if (lease instanceof McpClientPool.Lease && !keptLeases.contains(lease)) {
+                ((McpClientPool.Lease) lease).release();
             }
         }
     }
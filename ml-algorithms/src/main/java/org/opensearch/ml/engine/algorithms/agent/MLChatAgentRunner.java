@@ -18,7 +18,10 @@ import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PROMPT_CHAT_H
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PROMPT_PREFIX;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PROMPT_SUFFIX;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.RESPONSE_FORMAT_INSTRUCTION;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALLS;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALL_ID;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_INPUT;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_NAME;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_RESPONSE;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_RESULT;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.VERBOSE;
@@ -26,6 +29,7 @@ import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.cleanUpResour
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.constructToolParams;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.createTools;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.getCurrentDateTime;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.getMaxParallelToolCalls;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.getMcpToolSpecs;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.getMessageHistoryLimit;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.getMlToolSpecs;
@@ -34,6 +38,7 @@ import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.outputToOutpu
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.parseLLMOutput;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.substitute;
 import static org.opensearch.ml.engine.algorithms.agent.PromptTemplate.CHAT_HISTORY_PREFIX;
+import static org.opensearch.ml.engine.function_calling.BedrockConverseFunctionCalling.TOOL_ERROR;
 import static org.opensearch.ml.engine.tools.ReadFromScratchPadTool.SCRATCHPAD_NOTES_KEY;
 
 import java.security.PrivilegedActionException;
@@ -83,6 +88,7 @@ import org.opensearch.transport.TransportChannel;
 import org.opensearch.transport.client.Client;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.gson.reflect.TypeToken;
 
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -418,7 +424,21 @@ public class MLChatAgentRunner implements MLAgentRunner {
                         return;
                     }
 
-                    if (tools.containsKey(action)) {
+                    List<Map<String, String>> toolCalls = getToolCalls(modelOutput);
+                    int maxParallelToolCalls = getMaxParallelToolCalls(tmpParameters);
+                    if (maxParallelToolCalls > 1 && toolCalls.size() > 1) {
+                        lastToolParams.clear();
+                        new ParallelToolCalls(
+                            tools,
+                            toolSpecMap,
+                            tmpParameters,
+                            question,
+                            toolCalls,
+                            interactions,
+                            functionCalling,
+                            (ActionListener<Object>) nextStepListener
+                        ).run(maxParallelToolCalls);
+                    } else if (tools.containsKey(action)) {
                         Map<String, String> toolParams = constructToolParams(
                             tools,
                             toolSpecMap,
@@ -454,29 +474,36 @@ public class MLChatAgentRunner implements MLAgentRunner {
                         ((ActionListener<Object>) nextStepListener).onResponse(res);
                     }
                 } else {
-                    Object filteredOutput = filterToolOutput(lastToolParams, output);
-                    addToolOutputToAddtionalInfo(toolSpecMap, lastAction, additionalInfo, filteredOutput);
-
-                    String toolResponse = constructToolResponse(
-                        tmpParameters,
-                        lastAction,
-                        lastActionInput,
-                        lastToolSelectionResponse,
-                        filteredOutput
-                    );
-                    scratchpadBuilder.append(toolResponse).append("\n\n");
+                    List<ToolCallOutput> toolCallOutputs = output instanceof ToolCallOutputs
+                        ? ((ToolCallOutputs) output).outputs()
+                        : List.of(new ToolCallOutput(lastAction.get(), lastActionInput.get(), lastToolParams, output, null, false));
+                    for (ToolCallOutput toolCallOutput : toolCallOutputs) {
+                        Object filteredOutput = filterToolOutput(toolCallOutput.toolParams(), toolCallOutput.output());
+                        addToolOutputToAddtionalInfo(toolSpecMap, toolCallOutput.action(), additionalInfo, filteredOutput);
+
+                        String toolResponse = constructToolResponse(
+                            tmpParameters,
+                            toolCallOutput.action(),
+                            toolCallOutput.actionInput(),
+                            lastToolSelectionResponse.get(),
+                            filteredOutput
+                        );
+                        scratchpadBuilder.append(toolResponse).append("\n\n");
 
-                    saveTraceData(
-                        conversationIndexMemory,
-                        "ReAct",
-                        lastActionInput.get(),
-                        outputToOutputString(filteredOutput),
-                        sessionId,
-                        traceDisabled,
-                        parentInteractionId,
-                        traceNumber,
-                        lastAction.get()
-                    );
+                        saveTraceData(
+                            conversationIndexMemory,
+                            "ReAct",
+                            toolCallOutput.actionInput(),
+                            outputToOutputString(filteredOutput),
+                            sessionId,
+                            traceDisabled,
+                            parentInteractionId,
+                            traceNumber,
+                            toolCallOutput.action()
+                        );
+                        sessionMsgAnswerBuilder.append(outputToOutputString(filteredOutput));
+                        streamingWrapper.sendToolResponse(outputToOutputString(toolCallOutput.output()), sessionId, parentInteractionId);
+                    }
 
                     StringSubstitutor substitutor = new StringSubstitutor(Map.of(SCRATCHPAD, scratchpadBuilder), "${parameters.", "}");
                     newPrompt.set(substitutor.replace(finalPrompt));
@@ -485,8 +512,6 @@ public class MLChatAgentRunner implements MLAgentRunner {
                         tmpParameters.put(INTERACTIONS, ", " + String.join(", ", interactions));
                     }
 
-                    sessionMsgAnswerBuilder.append(outputToOutputString(filteredOutput));
-                    streamingWrapper.sendToolResponse(outputToOutputString(output), sessionId, parentInteractionId);
                     traceTensors
                         .add(
                             ModelTensors
@@ -542,9 +567,9 @@ public class MLChatAgentRunner implements MLAgentRunner {
 
     private static String constructToolResponse(
         Map<String, String> tmpParameters,
-        AtomicReference<String> lastAction,
-        AtomicReference<String> lastActionInput,
-        AtomicReference<String> lastToolSelectionResponse,
+        String action,
+        String actionInput,
+        String toolSelectionResponse,
         Object output
     ) throws PrivilegedActionException {
         String toolResponse = tmpParameters.get(TOOL_RESPONSE);
@@ -552,11 +577,11 @@ public class MLChatAgentRunner implements MLAgentRunner {
             Map
                 .of(
                     "llm_tool_selection_response",
-                    lastToolSelectionResponse.get(),
+                    toolSelectionResponse,
                     "tool_name",
-                    lastAction.get(),
+                    action,
                     "tool_input",
-                    lastActionInput.get(),
+                    actionInput,
                     "observation",
                     outputToOutputString(output)
                 ),
@@ -569,11 +594,11 @@ public class MLChatAgentRunner implements MLAgentRunner {
 
     private static void addToolOutputToAddtionalInfo(
         Map<String, MLToolSpec> toolSpecMap,
-        AtomicReference<String> lastAction,
+        String action,
         Map<String, Object> additionalInfo,
         Object output
     ) throws PrivilegedActionException {
-        MLToolSpec toolSpec = toolSpecMap.get(lastAction.get());
+        MLToolSpec toolSpec = toolSpecMap.get(action);
         if (toolSpec != null && toolSpec.isIncludeOutputInAgentResponse()) {
             String outputString = outputToOutputString(output);
             String toolOutputKey = String.format("%s.output", getToolName(toolSpec));
@@ -665,6 +690,180 @@ public class MLChatAgentRunner implements MLAgentRunner {
         }
     }
 
+    private static List<Map<String, String>> getToolCalls(Map<String, String> modelOutput) {
+        String toolCalls = modelOutput.get(TOOL_CALLS);
+        return toolCalls == null ? List.of() : gson.fromJson(toolCalls, new TypeToken<List<Map<String, String>>>() {
+        }.getType());
+    }
+
+    /**
+     * Output of a tool call.
+     * @param action tool name
+     * @param actionInput tool input generated by the LLM
+     * @param toolParams tool parameters used to filter the output
+     * @param output tool output, or the failure message
+     * @param toolCallId id of the tool call in the LLM response
+     * @param failed true if the tool call failed
+     */
+    record ToolCallOutput(String action, String actionInput, Map<String, String> toolParams, Object output, String toolCallId,
+        boolean failed) {
+    }
+
+    /**
+     * Outputs of the tool calls of one LLM response, in the order of the calls.
+     */
+    record ToolCallOutputs(List<ToolCallOutput> outputs) {
+    }
+
+    /**
+     * Runs all tool calls of one LLM response, a limited number at the same time, and gives their outputs to the next step
+     * once all are done. The tool results are added to the interactions in the order of the calls, so the next prompt
+     * answers every tool call of the response.
+     */
+    static class ParallelToolCalls {
+        private final Map<String, Tool> tools;
+        private final Map<String, MLToolSpec> toolSpecMap;
+        private final Map<String, String> tmpParameters;
+        private final Map<String, String> toolRunBaseParameters;
+        private final String question;
+        private final List<Map<String, String>> toolCalls;
+        private final List<String> interactions;
+        private final FunctionCalling functionCalling;
+        private final ActionListener<Object> nextStepListener;
+        private final ToolCallOutput[] outputs;
+        // parameters each tool ran with, the tools may update them for the tools run after
+        private final List<Map<String, String>> toolRunParameters;
+        private final AtomicInteger nextCall = new AtomicInteger();
+        private final AtomicInteger pendingCalls;
+
+        ParallelToolCalls(
+            Map<String, Tool> tools,
+            Map<String, MLToolSpec> toolSpecMap,
+            Map<String, String> tmpParameters,
+            String question,
+            List<Map<String, String>> toolCalls,
+            List<String> interactions,
+            FunctionCalling functionCalling,
+            ActionListener<Object> nextStepListener
+        ) {
+            this.tools = tools;
+            this.toolSpecMap = toolSpecMap;
+            this.tmpParameters = tmpParameters;
+            // the tools don't see the parameter updates of the tools running at the same time
+            this.toolRunBaseParameters = new HashMap<>(tmpParameters);
+            this.question = question;
+            this.toolCalls = toolCalls;
+            this.interactions = interactions;
+            this.functionCalling = functionCalling;
+            this.nextStepListener = nextStepListener;
+            this.outputs = new ToolCallOutput[toolCalls.size()];
+            this.toolRunParameters = new CopyOnWriteArrayList<>(Collections.nCopies(toolCalls.size(), null));
+            this.pendingCalls = new AtomicInteger(toolCalls.size());
+        }
+
+        void run(int maxParallelToolCalls) {
+            for (int i = 0; i < Math.min(maxParallelToolCalls, toolCalls.size()); i++) {
+                runNextToolCall();
+            }
+        }
+
+        private void runNextToolCall() {
+            int index = nextCall.getAndIncrement();
+            if (index >= toolCalls.size()) {
+                return;
+            }
+            Map<String, String> toolCall = toolCalls.get(index);
+            String action = toolCall.get(TOOL_NAME);
+            String toolCallId = toolCall.get(TOOL_CALL_ID);
+            AtomicReference<String> actionInput = new AtomicReference<>(toolCall.get(TOOL_INPUT));
+            if (!tools.containsKey(action)) {
+                String error = String.format(Locale.ROOT, "Failed to run the tool %s which is unsupported.", action);
+                complete(index, new ToolCallOutput(action, actionInput.get(), Map.of(), error, toolCallId, true));
+                return;
+            }
+            try {
+                Map<String, String> toolParams = constructToolParams(tools, toolSpecMap, question, actionInput, action, actionInput.get());
+                Tool tool = tools.get(action);
+                if (!tool.validate(toolParams)) {
+                    String error = String
+                        .format(Locale.ROOT, "Failed to run the tool %s due to wrong input %s.", action, actionInput.get());
+                    complete(index, new ToolCallOutput(action, actionInput.get(), toolParams, error, toolCallId, true));
+                    return;
+                }
+                Map<String, String> parameters = new HashMap<>(toolRunBaseParameters);
+                if (tool instanceof MLModelTool) {
+                    parameters.putAll(toolSpecMap.get(action).getParameters());
+                    parameters.put(MLAgentExecutor.QUESTION, actionInput.get());
+                } else {
+                    parameters.putAll(toolParams);
+                }
+                toolRunParameters.set(index, parameters);
+                ActionListener<Object> toolListener = ActionListener
+                    .wrap(r -> complete(index, new ToolCallOutput(action, actionInput.get(), toolParams, r, toolCallId, false)), e -> {
+                        String error = toolFailureMessage(action, e.getMessage());
+                        complete(index, new ToolCallOutput(action, actionInput.get(), toolParams, error, toolCallId, true));
+                    });
+                tool.run(parameters, toolListener);
+            } catch (Exception e) {
+                log.error("Failed to run tool {}", action, e);
+                String error = toolFailureMessage(action, e.getMessage());
+                complete(index, new ToolCallOutput(action, actionInput.get(), Map.of(), error, toolCallId, true));
+            }
+        }
+
+        private static String toolFailureMessage(String action, String message) {
+            return String.format(Locale.ROOT, "Failed to run the tool %s with the error message %s.", action, message);
+        }
+
+        private void complete(int index, ToolCallOutput output) {
+            outputs[index] = output;
+            if (pendingCalls.decrementAndGet() > 0) {
+                runNextToolCall();
+                return;
+            }
+            try {
+                addToolResults();
+            } catch (Exception e) {
+                nextStepListener.onFailure(e);
+                return;
+            }
+            nextStepListener.onResponse(new ToolCallOutputs(List.of(outputs)));
+        }
+
+        private void addToolResults() {
+            List<Map<String, Object>> toolResults = new ArrayList<>();
+            for (int i = 0; i < outputs.length; i++) {
+                ToolCallOutput output = outputs[i];
+                if (toolRunParameters.get(i) != null) {
+                    updateParametersAcrossTools(tmpParameters, toolRunParameters.get(i));
+                }
+                if (functionCalling != null) {
+                    String text = output.failed()
+                        ? String.valueOf(output.output())
+                        : parseResponse(filterToolOutput(output.toolParams(), output.output()));
+                    Map<String, Object> toolResult = new HashMap<>();
+                    toolResult.put(TOOL_CALL_ID, output.toolCallId());
+                    toolResult.put(TOOL_RESULT, Map.of("text", text));
+                    if (output.failed()) {
+                        toolResult.put(TOOL_ERROR, true);
+                    }
+                    toolResults.add(toolResult);
+                } else {
+                    String toolResponse = output.failed()
+                        ? String.valueOf(output.output())
+                        : processTextDoc(StringUtils.toJson(output.output()));
+                    Map<String, String> values = Map.of(TOOL_CALL_ID, String.valueOf(output.toolCallId()), "tool_response", toolResponse);
+                    interactions.add(substitute(tmpParameters.get(INTERACTION_TEMPLATE_TOOL_RESPONSE), values, INTERACTIONS_PREFIX));
+                }
+            }
+            if (functionCalling != null) {
+                for (LLMMessage message : functionCalling.supply(toolResults)) {
+                    interactions.add(message.getResponse());
+                }
+            }
+        }
+    }
+
     /**
      * In each tool runs, it copies agent parameters, which is tmpParameters into a new set of parameter llmToolTmpParameters,
      * after the tool runs, normally llmToolTmpParameters will be discarded, but for some special parameters like SCRATCHPAD_NOTES_KEY,
@@ -7,7 +7,10 @@ package org.opensearch.ml.engine.algorithms.remote;
 
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorClientConfig;
+import org.opensearch.ml.common.connector.functions.ConnectorScriptCache;
+import org.opensearch.script.ScriptService;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -15,6 +18,9 @@ import lombok.Setter;
 @Getter
 public abstract class AbstractConnectorExecutor implements RemoteConnectorExecutor {
     private ConnectorClientConfig connectorClientConfig;
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.NONE)
+    private volatile ConnectorScriptCache scriptCache;
 
     public void initialize(Connector connector) {
         if (connector.getConnectorClientConfig() != null) {
@@ -23,4 +29,18 @@ public abstract class AbstractConnectorExecutor implements RemoteConnectorExecut
             connectorClientConfig = new ConnectorClientConfig();
         }
     }
+
+    @Override
+    public ConnectorScriptCache getScriptCache() {
+        ScriptService scriptService = getScriptService();
+        if (scriptService == null) {
+            return null;
+        }
+        ConnectorScriptCache cache = scriptCache;
+        if (cache == null || cache.getScriptService() != scriptService) {
+            cache = new ConnectorScriptCache(scriptService);
+            scriptCache = cache;
+        }
+        return cache;
+    }
 }
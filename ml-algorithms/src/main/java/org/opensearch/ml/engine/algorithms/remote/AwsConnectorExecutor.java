@@ -82,7 +82,7 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
         Duration connectionTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getConnectionTimeout());
         Duration readTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getReadTimeout());
         Integer maxConnection = super.getConnectorClientConfig().getMaxConnections();
-        this.httpClient = MLHttpClientFactory.getAsyncHttpClient(connectionTimeout, readTimeout, maxConnection);
+        this.httpClient = MLHttpClientFactory.getSharedAsyncHttpClient(connectionTimeout, readTimeout, maxConnection);
     }
 
     @Override
@@ -90,6 +90,11 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
         return log;
     }
 
+    @Override
+    public void close() {
+        httpClient.close();
+    }
+
     @SuppressWarnings("removal")
     @Override
     public void invokeRemoteService(
@@ -124,6 +129,7 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
                         parameters,
                         connector,
                         scriptService,
+                        getScriptCache(),
                         mlGuard,
                         action
                     )
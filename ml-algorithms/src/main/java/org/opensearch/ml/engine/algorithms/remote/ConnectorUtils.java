@@ -22,6 +22,7 @@ import static org.opensearch.ml.common.utils.ToolUtils.NO_ESCAPE_PARAMS;
 import static org.opensearch.ml.engine.utils.ScriptUtils.executePostProcessFunction;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
@@ -40,6 +41,8 @@ import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.connector.MLPostProcessFunction;
 import org.opensearch.ml.common.connector.MLPreProcessFunction;
+import org.opensearch.ml.common.connector.functions.ConnectorScriptCache;
+import org.opensearch.ml.common.connector.functions.postprocess.StreamingEmbeddingExtractor;
 import org.opensearch.ml.common.connector.functions.preprocess.DefaultPreProcessFunction;
 import org.opensearch.ml.common.connector.functions.preprocess.RemoteInferencePreProcessFunction;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
@@ -83,6 +86,17 @@ public class ConnectorUtils {
         Connector connector,
         Map<String, String> parameters,
         ScriptService scriptService
+    ) {
+        return processInput(action, mlInput, connector, parameters, scriptService, null);
+    }
+
+    public static RemoteInferenceInputDataSet processInput(
+        String action,
+        MLInput mlInput,
+        Connector connector,
+        Map<String, String> parameters,
+        ScriptService scriptService,
+        ConnectorScriptCache scriptCache
     ) {
         if (mlInput == null) {
             throw new IllegalArgumentException("Input is null");
@@ -91,7 +105,7 @@ public class ConnectorUtils {
         if (connectorAction.isEmpty()) {
             throw new IllegalArgumentException("no " + action + " action found");
         }
-        RemoteInferenceInputDataSet inputData = processMLInput(action, mlInput, connector, parameters, scriptService);
+        RemoteInferenceInputDataSet inputData = processMLInput(action, mlInput, connector, parameters, scriptService, scriptCache);
         escapeRemoteInferenceInputData(inputData);
         return inputData;
     }
@@ -101,7 +115,8 @@ public class ConnectorUtils {
         MLInput mlInput,
         Connector connector,
         Map<String, String> parameters,
-        ScriptService scriptService
+        ScriptService scriptService,
+        ConnectorScriptCache scriptCache
     ) {
         String preProcessFunction = getPreprocessFunction(action, mlInput, connector);
         if (preProcessFunction == null) {
@@ -126,6 +141,7 @@ public class ConnectorUtils {
                         preProcessFunction,
                         params
                     );
+                    function.setScriptCache(scriptCache);
                     return function.apply(mlInput);
                 } else {
                     return (RemoteInferenceInputDataSet) mlInput.getInputDataset();
@@ -140,6 +156,7 @@ public class ConnectorUtils {
                     .preProcessFunction(preProcessFunction)
                     .convertInputToJsonString(convertInputToJsonString)
                     .build();
+                function.setScriptCache(scriptCache);
                 return function.apply(newInput);
             }
         }
@@ -210,11 +227,54 @@ public class ConnectorUtils {
         return null;
     }
 
+    /**
+     * Extract the embeddings of a built-in float embedding post process function while parsing the model response, so
+     * the response isn't materialized as a string and a json path document first.
+     *
+     * @return model tensors, or null if the response needs to be processed by {@link #processOutput}: the action has
+     * no such post process function, the response filter is overridden, an output guardrail needs the response text or
+     * the response doesn't have the expected structure
+     */
+    public static ModelTensors processEmbeddingOutput(
+        String action,
+        InputStream modelResponse,
+        Connector connector,
+        Map<String, String> parameters,
+        MLGuard mlGuard
+    ) {
+        if (mlGuard != null && mlGuard.hasOutputGuardrail()) {
+            return null;
+        }
+        Optional<ConnectorAction> connectorAction = connector.findAction(action);
+        if (connectorAction.isEmpty() || StringUtils.isNotBlank(parameters.get(RESPONSE_FILTER_FIELD))) {
+            return null;
+        }
+        String postProcessFunction = fillProcessFunctionParameter(parameters, connectorAction.get().getPostProcessFunction());
+        StreamingEmbeddingExtractor extractor = MLPostProcessFunction.getStreamingExtractor(postProcessFunction);
+        if (extractor == null) {
+            return null;
+        }
+        List<ModelTensor> modelTensors = extractor.extract(modelResponse);
+        return modelTensors == null ? null : ModelTensors.builder().mlModelTensors(modelTensors).build();
+    }
+
+    public static ModelTensors processOutput(
+        String action,
+        String modelResponse,
+        Connector connector,
+        ScriptService scriptService,
+        Map<String, String> parameters,
+        MLGuard mlGuard
+    ) throws IOException {
+        return processOutput(action, modelResponse, connector, scriptService, null, parameters, mlGuard);
+    }
+
     public static ModelTensors processOutput(
         String action,
         String modelResponse,
         Connector connector,
         ScriptService scriptService,
+        ConnectorScriptCache scriptCache,
         Map<String, String> parameters,
         MLGuard mlGuard
     ) throws IOException {
@@ -251,7 +311,7 @@ public class ConnectorUtils {
         }
 
         // execute user defined painless script.
-        Optional<String> processedResponse = executePostProcessFunction(scriptService, postProcessFunction, modelResponse);
+        Optional<String> processedResponse = executePostProcessFunction(scriptService, scriptCache, postProcessFunction, modelResponse);
         String response = processedResponse.orElse(modelResponse);
         boolean scriptReturnModelTensor = postProcessFunction != null
             && processedResponse.isPresent()
@@ -86,7 +86,7 @@ public class HttpJsonConnectorExecutor extends AbstractConnectorExecutor {
         Duration connectionTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getConnectionTimeout());
         Duration readTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getReadTimeout());
         Integer maxConnection = super.getConnectorClientConfig().getMaxConnections();
-        this.httpClient = MLHttpClientFactory.getAsyncHttpClient(connectionTimeout, readTimeout, maxConnection);
+        this.httpClient = MLHttpClientFactory.getSharedAsyncHttpClient(connectionTimeout, readTimeout, maxConnection);
     }
 
     @Override
@@ -94,6 +94,11 @@ public class HttpJsonConnectorExecutor extends AbstractConnectorExecutor {
         return log;
     }
 
+    @Override
+    public void close() {
+        httpClient.close();
+    }
+
     @SuppressWarnings("removal")
     @Override
     public void invokeRemoteService(
@@ -130,6 +135,7 @@ public class HttpJsonConnectorExecutor extends AbstractConnectorExecutor {
                         parameters,
                         connector,
                         scriptService,
+                        getScriptCache(),
                         mlGuard,
                         action
                     )
@@ -7,10 +7,10 @@ package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
 import static org.opensearch.ml.common.connector.ConnectorAction.ActionType.CANCEL_BATCH_PREDICT;
+import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processEmbeddingOutput;
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
 
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -21,9 +21,11 @@ import org.apache.logging.log4j.util.Strings;
 import org.jetbrains.annotations.NotNull;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.functions.ConnectorScriptCache;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.output.model.ModelTensors;
@@ -43,8 +45,8 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
     public static final String AMZ_ERROR_HEADER = "x-amzn-ErrorType";
     @Getter
     private Integer statusCode;
-    @Getter
-    private final StringBuilder responseBody = new StringBuilder();
+    // raw bytes of the response, only decoded into a string if the response can't be processed while parsing it
+    private final BytesStreamOutput responseBody = new BytesStreamOutput();
 
     private final ExecutionContext executionContext;
 
@@ -60,6 +62,8 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
 
     private final MLGuard mlGuard;
 
+    private final ConnectorScriptCache scriptCache;
+
     // used to cache exceptions before the invocation of response()
     private AtomicReference<Exception> exceptionHolder = new AtomicReference<>();
 
@@ -71,12 +75,26 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
         ScriptService scriptService,
         MLGuard mlGuard,
         String action
+    ) {
+        this(executionContext, actionListener, parameters, connector, scriptService, null, mlGuard, action);
+    }
+
+    public MLSdkAsyncHttpResponseHandler(
+        ExecutionContext executionContext,
+        ActionListener<Tuple<Integer, ModelTensors>> actionListener,
+        Map<String, String> parameters,
+        Connector connector,
+        ScriptService scriptService,
+        ConnectorScriptCache scriptCache,
+        MLGuard mlGuard,
+        String action
     ) {
         this.executionContext = executionContext;
         this.actionListener = actionListener;
         this.parameters = parameters;
         this.connector = connector;
         this.scriptService = scriptService;
+        this.scriptCache = scriptCache;
         this.mlGuard = mlGuard;
         this.action = action;
     }
@@ -147,7 +165,13 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            responseBody.append(StandardCharsets.UTF_8.decode(byteBuffer));
+            if (byteBuffer.hasArray()) {
+                responseBody.writeBytes(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+            } else {
+                byte[] bytes = new byte[byteBuffer.remaining()];
+                byteBuffer.get(bytes);
+                responseBody.writeBytes(bytes, 0, bytes.length);
+            }
             subscription.request(Long.MAX_VALUE);
         }
 
@@ -168,15 +192,35 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
         }
     }
 
+    public String getResponseBody() {
+        return responseBody.bytes().utf8ToString();
+    }
+
     private void response() {
-        String body = responseBody.toString();
-        log.debug("Received response from remote service: {}", body);
         if (exceptionHolder.get() != null) {
-            log.error("Remote server returned exception with status code: {} and body: {}", statusCode, body);
+            log.error("Remote server returned exception with status code: {} and body: {}", statusCode, getResponseBody());
             actionListener.onFailure(exceptionHolder.get());
             return;
         }
 
+        ModelTensors embeddings = null;
+        if (statusCode != null && statusCode >= HttpStatus.SC_OK && statusCode <= HttpStatus.SC_MULTIPLE_CHOICES) {
+            try {
+                embeddings = processEmbeddingOutput(action, responseBody.bytes().streamInput(), connector, parameters, mlGuard);
+            } catch (Exception e) {
+                log.debug("Failed to extract embeddings from response, fall back to post process function", e);
+            }
+        }
+        if (embeddings != null) {
+            log.debug("Extracted {} embeddings from response of remote service", embeddings.getMlModelTensors().size());
+            embeddings.setStatusCode(statusCode);
+            actionListener.onResponse(new Tuple<>(executionContext.getSequence(), embeddings));
+            return;
+        }
+
+        String body = getResponseBody();
+        log.debug("Received response from remote service: {}", body);
+
         // Handle error status codes (4xx, 5xx)
         if (statusCode == null || statusCode < HttpStatus.SC_OK || statusCode > HttpStatus.SC_MULTIPLE_CHOICES) {
             RestStatus status = (statusCode != null) ? RestStatus.fromCode(statusCode) : RestStatus.INTERNAL_SERVER_ERROR;
@@ -203,7 +247,7 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
         }
 
         try {
-            ModelTensors tensors = processOutput(action, body, connector, scriptService, parameters, mlGuard);
+            ModelTensors tensors = processOutput(action, body, connector, scriptService, scriptCache, parameters, mlGuard);
             tensors.setStatusCode(statusCode);
             actionListener.onResponse(new Tuple<>(executionContext.getSequence(), tensors));
         } catch (IllegalArgumentException e) {
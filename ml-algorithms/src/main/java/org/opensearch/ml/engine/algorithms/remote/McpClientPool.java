@@ -0,0 +1,305 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.unit.TimeValue;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level pool of MCP client sessions, so agents don't open a session and list the tools of an MCP server on every
+ * execution.
+ * <p>
+ * Sessions are keyed by the connector, including its content, so a connector update opens a new session and the old one
+ * is closed once idle. A session idle for longer than the health check interval is pinged before it's reused, and a
+ * session which fails the ping or fails to list the tools is replaced by a new one. The tools of a session are listed
+ * again once the tools TTL expired. Agents release the clients they acquired once they are done, and a session removed
+ * from the pool is closed once no agent uses it anymore.
+ */
+@Log4j2
+public class McpClientPool {
+
+    static final TimeValue DEFAULT_IDLE_TIMEOUT = TimeValue.timeValueMinutes(10);
+    static final TimeValue DEFAULT_TOOLS_TTL = TimeValue.timeValueMinutes(5);
+    static final TimeValue DEFAULT_HEALTH_CHECK_INTERVAL = TimeValue.timeValueSeconds(30);
+
+    private static final McpClientPool INSTANCE = new McpClientPool(
+        DEFAULT_IDLE_TIMEOUT,
+        DEFAULT_TOOLS_TTL,
+        DEFAULT_HEALTH_CHECK_INTERVAL,
+        System::nanoTime
+    );
+
+    private final Cache<String, McpSession> sessions;
+    // pooled sessions and removed sessions still used by agents, by client
+    private final Map<McpSyncClient, McpSession> sessionsByClient = new ConcurrentHashMap<>();
+    private final long toolsTtlNanos;
+    private final long healthCheckIntervalNanos;
+    private final LongSupplier nanoTime;
+
+    @VisibleForTesting
+    McpClientPool(TimeValue idleTimeout, TimeValue toolsTtl, TimeValue healthCheckInterval, LongSupplier nanoTime) {
+        this.sessions = CacheBuilder
+            .<String, McpSession>builder()
+            .setExpireAfterAccess(idleTimeout)
+            .removalListener(notification -> notification.getValue().retire())
+            .build();
+        this.toolsTtlNanos = toolsTtl.nanos();
+        this.healthCheckIntervalNanos = healthCheckInterval.nanos();
+        this.nanoTime = nanoTime;
+    }
+
+    public static McpClientPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Lease and tools of an MCP session.
+     * @param lease acquisition of the client of the session, released once the agent is done
+     * @param tools tools of the MCP server
+     */
+    public record McpTools(Lease lease, McpSchema.ListToolsResult tools) {
+        public McpSyncClient client() {
+            return lease.getClient();
+        }
+    }
+
+    /**
+     * One acquisition of a pooled client. The tools of an MCP server share the lease, which is released only once.
+     */
+    public class Lease {
+        @Getter
+        private final McpSyncClient client;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(McpSyncClient client) {
+            this.client = client;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                McpClientPool.this.release(client);
+            }
+        }
+    }
+
+    /**
+     * Acquire a client of the MCP server and its tools, from a pooled session if there is a healthy one.
+     *
+     * @param sessionKey    key of the session, changes when the connector changes
+     * @param clientFactory creates and initializes a client if there is no healthy session
+     * @return the acquired client and the tools of the MCP server
+     * @throws Exception if a session can't be opened or the tools can't be listed
+     */
+    public McpTools acquire(String sessionKey, CheckedSupplier<McpSyncClient, Exception> clientFactory) throws Exception {
+        // idle sessions are evicted when the pool is accessed
+        sessions.refresh();
+        McpSession session = getSession(sessionKey, clientFactory);
+        try {
+            return new McpTools(new Lease(session.client), session.listTools());
+        } catch (Exception e) {
+            log.warn("Failed to list the tools of MCP session {}, reconnecting", sessionKey, e);
+            session.release();
+            sessions.invalidate(sessionKey, session);
+        }
+        session = getSession(sessionKey, clientFactory);
+        try {
+            return new McpTools(new Lease(session.client), session.listTools());
+        } catch (Exception e) {
+            session.release();
+            sessions.invalidate(sessionKey, session);
+            throw e;
+        }
+    }
+
+    /**
+     * Release one acquisition of a client from the pool. Clients not from the pool are closed.
+     *
+     * @param client client to release
+     */
+    public void release(McpSyncClient client) {
+        McpSession session = sessionsByClient.get(client);
+        if (session == null) {
+            closeClient(client);
+            return;
+        }
+        session.release();
+    }
+
+    @VisibleForTesting
+    int size() {
+        return sessions.count();
+    }
+
+    private McpSession getSession(String sessionKey, CheckedSupplier<McpSyncClient, Exception> clientFactory) throws Exception {
+        McpSession session = sessions.get(sessionKey);
+        if (session != null && session.acquire(true)) {
+            return session;
+        }
+        if (session != null) {
+            sessions.invalidate(sessionKey, session);
+        }
+        try {
+            session = sessions.computeIfAbsent(sessionKey, key -> {
+                McpSession newSession = new McpSession(clientFactory.get());
+                sessionsByClient.put(newSession.client, newSession);
+                return newSession;
+            });
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+        // a new session is healthy, another thread may have retired it already though
+        if (!session.acquire(false)) {
+            throw new IllegalStateException("MCP session " + sessionKey + " was closed");
+        }
+        return session;
+    }
+
+    private static void closeClient(McpSyncClient client) {
+        try {
+            client.closeGracefully();
+        } catch (Exception e) {
+            log.debug("Failed to close MCP client", e);
+        }
+    }
+
+    private class McpSession {
+        private final McpSyncClient client;
+        // calls to the MCP server in flight, so concurrent agents wait for one call instead of each making their own
+        private final AtomicReference<CompletableFuture<Boolean>> healthCheck = new AtomicReference<>();
+        private final AtomicReference<CompletableFuture<McpSchema.ListToolsResult>> toolsLoad = new AtomicReference<>();
+        private McpSchema.ListToolsResult tools;
+        private long toolsLoadedAt;
+        private long lastCheckedAt;
+        private int leases;
+        private boolean retired;
+        private boolean closed;
+
+        McpSession(McpSyncClient client) {
+            this.client = client;
+            this.lastCheckedAt = nanoTime.getAsLong();
+        }
+
+        /**
+         * Acquire the session. The server is pinged outside of the session lock, holding a lease so the session isn't
+         * closed meanwhile.
+         *
+         * @param checkHealth ping the server if the session was idle for longer than the health check interval
+         * @return true if the session is healthy and was acquired
+         */
+        boolean acquire(boolean checkHealth) {
+            synchronized (this) {
+                if (retired) {
+                    return false;
+                }
+                long now = nanoTime.getAsLong();
+                leases++;
+                if (!checkHealth || now - lastCheckedAt <= healthCheckIntervalNanos) {
+                    lastCheckedAt = now;
+                    return true;
+                }
+            }
+            boolean healthy = callOnce(healthCheck, () -> {
+                try {
+                    client.ping();
+                } catch (Exception e) {
+                    log.warn("MCP session failed the health check, reconnecting", e);
+                    return false;
+                }
+                synchronized (this) {
+                    lastCheckedAt = nanoTime.getAsLong();
+                }
+                return true;
+            });
+            if (!healthy) {
+                release();
+            }
+            return healthy;
+        }
+
+        McpSchema.ListToolsResult listTools() {
+            synchronized (this) {
+                if (tools != null && nanoTime.getAsLong() - toolsLoadedAt <= toolsTtlNanos) {
+                    return tools;
+                }
+            }
+            return callOnce(toolsLoad, () -> {
+                long now = nanoTime.getAsLong();
+                McpSchema.ListToolsResult result = client.listTools();
+                synchronized (this) {
+                    tools = result;
+                    toolsLoadedAt = now;
+                }
+                return result;
+            });
+        }
+
+        synchronized void release() {
+            leases--;
+            closeIfUnused();
+        }
+
+        synchronized void retire() {
+            retired = true;
+            closeIfUnused();
+        }
+
+        private void closeIfUnused() {
+            if (retired && leases <= 0 && !closed) {
+                closed = true;
+                sessionsByClient.remove(client);
+                closeClient(client);
+            }
+        }
+    }
+
+    /**
+     * Make a call unless the same call is in flight already, in which case its result is awaited.
+     */
+    private static <T> T callOnce(AtomicReference<CompletableFuture<T>> inFlight, Supplier<T> call) {
+        while (true) {
+            CompletableFuture<T> future = inFlight.get();
+            if (future == null) {
+                CompletableFuture<T> own = new CompletableFuture<>();
+                if (!inFlight.compareAndSet(null, own)) {
+                    continue;
+                }
+                try {
+                    own.complete(call.get());
+                } catch (Throwable e) {
+                    // waiters are notified of any failure, or they would wait forever
+                    own.completeExceptionally(e);
+                } finally {
+                    inFlight.set(null);
+                }
+                future = own;
+            }
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.engine.algorithms.remote;
 
+import static org.opensearch.ml.common.CommonValue.MCP_CLIENT_LEASE;
 import static org.opensearch.ml.common.CommonValue.MCP_DEFAULT_SSE_ENDPOINT;
 import static org.opensearch.ml.common.CommonValue.MCP_SYNC_CLIENT;
 import static org.opensearch.ml.common.CommonValue.MCP_TOOLS_FIELD;
@@ -64,76 +65,110 @@ public class McpConnectorExecutor extends AbstractConnectorExecutor {
         this.connector = (McpConnector) connector;
     }
 
-    public List<MLToolSpec> getMcpToolSpecs() {
+    /**
+     * Create a client of the MCP server and initialize its session.
+     *
+     * @return the initialized client
+     */
+    public McpSyncClient createMcpClient() {
         String mcpServerUrl = connector.getUrl();
         String sseEndpoint = connector.getParameters() != null && connector.getParameters().containsKey(SSE_ENDPOINT_FIELD)
             ? connector.getParameters().get(SSE_ENDPOINT_FIELD)
             : MCP_DEFAULT_SSE_ENDPOINT;
-        List<MLToolSpec> mcpToolSpecs = new ArrayList<>();
-        try {
-            Duration connectionTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getConnectionTimeout());
-            Duration readTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getReadTimeout());
-
-            Consumer<HttpRequest.Builder> headerConfig = builder -> {
-                if (connector.getDecryptedHeaders() != null) {
-                    for (Map.Entry<String, String> entry : connector.getDecryptedHeaders().entrySet()) {
-                        builder.header(entry.getKey(), entry.getValue());
-                    }
-                }
-            };
-
-            // Create transport
-            McpClientTransport transport = HttpClientSseClientTransport
-                .builder(mcpServerUrl)
-                .sseEndpoint(sseEndpoint)
-                .customizeClient(clientBuilder -> {
-                    clientBuilder.connectTimeout(connectionTimeout);
-                })
-                .customizeRequest(headerConfig)
-                .build();
-
-            // Create and initialize client
-            McpSyncClient client = McpClient
-                .sync(transport)
-                .requestTimeout(readTimeout)
-                .capabilities(McpSchema.ClientCapabilities.builder().roots(false).build())
-                .build();
+        Duration connectionTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getConnectionTimeout());
+        Duration readTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getReadTimeout());
 
-            client.initialize();
-            McpSchema.ListToolsResult tools = client.listTools();
-
-            // Process the results
-            Gson gson = new Gson();
-            String json = gson.toJson(tools, McpSchema.ListToolsResult.class);
-            Map<String, Object> map = gson.fromJson(json, Map.class);
-
-            List<Object> mcpTools = (List<Object>) map.get(MCP_TOOLS_FIELD);
-
-            for (Object tool : mcpTools) {
-                Map<String, Object> toolMap = (Map<String, Object>) tool;
-                Map<String, String> attributes = new HashMap<>();
-                attributes.put(TOOL_INPUT_SCHEMA_FIELD, StringUtils.toJson(toolMap.get(MCP_TOOL_INPUT_SCHEMA_FIELD)));
-
-                String description = (toolMap.containsKey(MCP_TOOL_DESCRIPTION_FIELD))
-                    ? StringUtils.processTextDoc(toolMap.get(MCP_TOOL_DESCRIPTION_FIELD).toString())
-                    : McpSseTool.DEFAULT_DESCRIPTION;
-                MLToolSpec mlToolSpec = MLToolSpec
-                    .builder()
-                    .type(McpSseTool.TYPE)
-                    .name(toolMap.get(MCP_TOOL_NAME_FIELD).toString())
-                    .description(description)
-                    .attributes(attributes)
-                    .build();
-                mlToolSpec.addRuntimeResource(MCP_SYNC_CLIENT, client);
-                mcpToolSpecs.add(mlToolSpec);
+        Consumer<HttpRequest.Builder> headerConfig = builder -> {
+            if (connector.getDecryptedHeaders() != null) {
+                for (Map.Entry<String, String> entry : connector.getDecryptedHeaders().entrySet()) {
+                    builder.header(entry.getKey(), entry.getValue());
+                }
             }
+        };
+
+        // Create transport
+        McpClientTransport transport = HttpClientSseClientTransport
+            .builder(mcpServerUrl)
+            .sseEndpoint(sseEndpoint)
+            .customizeClient(clientBuilder -> { clientBuilder.connectTimeout(connectionTimeout); })
+            .customizeRequest(headerConfig)
+            .build();
+
+        // Create and initialize client
+        McpSyncClient client = McpClient
+            .sync(transport)
+            .requestTimeout(readTimeout)
+            .capabilities(McpSchema.ClientCapabilities.builder().roots(false).build())
+            .build();
+
+        client.initialize();
+        return client;
+    }
+
+    /**
+     * Get the tools of the MCP server with a new session.
+     *
+     * @return tool specs of the MCP server, run with the client of the new session
+     */
+    public List<MLToolSpec> getMcpToolSpecs() {
+        try {
+            McpSyncClient client = createMcpClient();
+            return toMcpToolSpecs(client, null, client.listTools());
+        } catch (Exception e) {
+            throw new MLException("Unexpected error while getting MCP tools", e);
+        }
+    }
 
-            return mcpToolSpecs;
+    /**
+     * Get the tools of the MCP server with a pooled session.
+     *
+     * @param clientPool pool of MCP sessions
+     * @param sessionKey key of the session of the connector in the pool
+     * @return tool specs of the MCP server, run with the pooled client which is released to the pool after the agent ran
+     */
+    public List<MLToolSpec> getMcpToolSpecs(McpClientPool clientPool, String sessionKey) {
+        try {
+            McpClientPool.McpTools mcpTools = clientPool.acquire(sessionKey, this::createMcpClient);
+            return toMcpToolSpecs(mcpTools.client(), mcpTools.lease(), mcpTools.tools());
         } catch (Exception e) {
             throw new MLException("Unexpected error while getting MCP tools", e);
         }
     }
 
+    private List<MLToolSpec> toMcpToolSpecs(McpSyncClient client, McpClientPool.Lease lease, McpSchema.ListToolsResult tools) {
+        List<MLToolSpec> mcpToolSpecs = new ArrayList<>();
+        // Process the results
+        Gson gson = new Gson();
+        String json = gson.toJson(tools, McpSchema.ListToolsResult.class);
+        Map<String, Object> map = gson.fromJson(json, Map.class);
+
+        List<Object> mcpTools = (List<Object>) map.get(MCP_TOOLS_FIELD);
+
+        for (Object tool : mcpTools) {
+            Map<String, Object> toolMap = (Map<String, Object>) tool;
+            Map<String, String> attributes = new HashMap<>();
+            attributes.put(TOOL_INPUT_SCHEMA_FIELD, StringUtils.toJson(toolMap.get(MCP_TOOL_INPUT_SCHEMA_FIELD)));
+
+            String description = (toolMap.containsKey(MCP_TOOL_DESCRIPTION_FIELD))
+                ? StringUtils.processTextDoc(toolMap.get(MCP_TOOL_DESCRIPTION_FIELD).toString())
+                : McpSseTool.DEFAULT_DESCRIPTION;
+            MLToolSpec mlToolSpec = MLToolSpec
+                .builder()
+                .type(McpSseTool.TYPE)
+                .name(toolMap.get(MCP_TOOL_NAME_FIELD).toString())
+                .description(description)
+                .attributes(attributes)
+                .build();
+            mlToolSpec.addRuntimeResource(MCP_SYNC_CLIENT, client);
+            if (lease != null) {
+                mlToolSpec.addRuntimeResource(MCP_CLIENT_LEASE, lease);
+            }
+            mcpToolSpecs.add(mlToolSpec);
+        }
+
+        return mcpToolSpecs;
+    }
+
     @Override
     public ScriptService getScriptService() {
         throw new UnsupportedOperationException("Not implemented.");
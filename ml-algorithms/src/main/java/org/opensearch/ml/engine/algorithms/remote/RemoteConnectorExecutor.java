@@ -44,6 +44,7 @@ import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.connector.ConnectorClientConfig;
 import org.opensearch.ml.common.connector.MLPreProcessFunction;
+import org.opensearch.ml.common.connector.functions.ConnectorScriptCache;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
@@ -167,6 +168,13 @@ public interface RemoteConnectorExecutor {
 
     ScriptService getScriptService();
 
+    /**
+     * Compiled pre and post process functions of the connector, null if scripts are compiled on every call.
+     */
+    default ConnectorScriptCache getScriptCache() {
+        return null;
+    }
+
     Connector getConnector();
 
     TokenBucket getRateLimiter();
@@ -195,6 +203,11 @@ public interface RemoteConnectorExecutor {
 
     default void setMlGuard(MLGuard mlGuard) {}
 
+    /**
+     * Release the resources of the executor when its model is undeployed or its connector replaced.
+     */
+    default void close() {}
+
     default void preparePayloadAndInvoke(
         String action,
         MLInput mlInput,
@@ -214,16 +227,16 @@ public interface RemoteConnectorExecutor {
     ) {
         Connector connector = getConnector();
 
-        Map<String, String> parameters = new HashMap<>();
-        if (connector.getParameters() != null) {
-            parameters.putAll(connector.getParameters());
-        }
         MLInputDataset inputDataset = mlInput.getInputDataset();
-        Map<String, String> inputParameters = new HashMap<>();
+        Map<String, String> inputParameters = Map.of();
         if (inputDataset instanceof RemoteInferenceInputDataSet && ((RemoteInferenceInputDataSet) inputDataset).getParameters() != null) {
             escapeRemoteInferenceInputData((RemoteInferenceInputDataSet) inputDataset);
-            inputParameters.putAll(((RemoteInferenceInputDataSet) inputDataset).getParameters());
+            inputParameters = new HashMap<>(((RemoteInferenceInputDataSet) inputDataset).getParameters());
         }
+        // leave room for the parameters added by pre-processing, so the map is not resized on every request
+        Map<String, String> connectorParameters = connector.getParameters() == null ? Map.of() : connector.getParameters();
+        Map<String, String> parameters = HashMap.newHashMap(connectorParameters.size() + inputParameters.size() + 16);
+        parameters.putAll(connectorParameters);
         parameters.putAll(inputParameters);
 
         MLAlgoParams algoParams = mlInput.getParameters();
@@ -237,7 +250,7 @@ public interface RemoteConnectorExecutor {
             }
         }
 
-        RemoteInferenceInputDataSet inputData = processInput(action, mlInput, connector, parameters, getScriptService());
+        RemoteInferenceInputDataSet inputData = processInput(action, mlInput, connector, parameters, getScriptService(), getScriptCache());
         if (inputData.getParameters() != null) {
             parameters.putAll(inputData.getParameters());
         }
@@ -22,7 +22,9 @@ import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLIndex;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.connector.ConnectorAction.ActionType;
+import org.opensearch.ml.common.connector.functions.ConnectorScriptCache;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
@@ -98,6 +100,9 @@ public class RemoteModel implements Predictable {
 
     @Override
     public void close() {
+        if (connectorExecutor != null) {
+            connectorExecutor.close();
+        }
         this.connectorExecutor = null;
     }
 
@@ -119,6 +124,10 @@ public class RemoteModel implements Predictable {
             if (connector.getTenantId() == null && model.getTenantId() != null) {
                 connector.setTenantId(model.getTenantId());
             }
+            // compile request bodies once at deploy time instead of on the first predict request
+            if (connector.getActions() != null) {
+                connector.getActions().forEach(ConnectorAction::getRequestBodyTemplate);
+            }
             this.connectorExecutor = MLEngineClassLoader.initInstance(connector.getProtocol(), connector, Connector.class);
             this.connectorExecutor.setScriptService((ScriptService) params.get(SCRIPT_SERVICE));
             this.connectorExecutor.setClusterService((ClusterService) params.get(CLUSTER_SERVICE));
@@ -128,6 +137,11 @@ public class RemoteModel implements Predictable {
             this.connectorExecutor.setUserRateLimiterMap((Map<String, TokenBucket>) params.get(USER_RATE_LIMITER_MAP));
             this.connectorExecutor.setMlGuard((MLGuard) params.get(GUARDRAILS));
             this.connectorExecutor.setConnectorPrivateIpEnabled((AtomicBoolean) params.get(CONNECTOR_PRIVATE_IP_ENABLED));
+            // compile custom pre and post process functions at deploy time too
+            ConnectorScriptCache scriptCache = this.connectorExecutor.getScriptCache();
+            if (scriptCache != null) {
+                scriptCache.compileConnectorScripts(connector);
+            }
             return CompletableFuture.completedStage(true);
         }).exceptionally(e -> {
             log.error("Failed to init remote model.", e);
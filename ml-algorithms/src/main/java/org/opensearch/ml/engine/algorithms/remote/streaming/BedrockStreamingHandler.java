@@ -88,6 +88,7 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
         String payload,
         StreamPredictActionListener<MLTaskResponse, ?> listener
     ) {
+        StreamingStats.StreamTracker streamTracker = StreamingStats.startStream();
         try {
             AtomicBoolean isStreamClosed = new AtomicBoolean(false);
             AtomicReference<String> toolName = new AtomicReference<>();
@@ -103,6 +104,7 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
             ConverseStreamRequest request = buildConverseStreamRequest(payload, parameters);
 
             ConverseStreamResponseHandler handler = ConverseStreamResponseHandler.builder().onResponse(response -> {}).onError(error -> {
+                streamTracker.close();
                 log.error("Converse stream error: {}", error.getMessage());
                 if (isThrottlingError(error)) {
                     listener
@@ -122,18 +124,23 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
                     listener.onFailure(new MLException(REMOTE_SERVICE_ERROR + error.getMessage(), error));
                 }
             }).onComplete(() -> {
+                streamTracker.close();
                 if (currentState.get() != StreamState.WAITING_FOR_TOOL_RESULT) {
                     sendCompletionResponse(isStreamClosed, listener);
                 } else {
                     log.debug("Tool execution in progress - keeping stream open");
                 }
             }).subscriber(event -> {
+                if (isContentDelta(event) || isToolInputDelta(event)) {
+                    streamTracker.onToken();
+                }
                 handleStreamEvent(event, listener, isStreamClosed, toolName, toolInput, toolUseId, toolInputAccumulator, currentState);
             }).build();
 
             // Start streaming
             bedrockClient.converseStream(request, handler);
         } catch (Exception e) {
+            streamTracker.close();
             log.error("Failed to execute Bedrock streaming", e);
             handleError(e, listener);
         }
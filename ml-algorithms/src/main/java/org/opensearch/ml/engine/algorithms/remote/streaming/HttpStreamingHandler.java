@@ -41,30 +41,17 @@ import okhttp3.sse.EventSources;
 public class HttpStreamingHandler extends BaseStreamingHandler {
 
     private final Connector connector;
-    private OkHttpClient okHttpClient;
+    private final OkHttpClient okHttpClient;
     private String llmInterface;
 
     public HttpStreamingHandler(String llmInterface, Connector connector, ConnectorClientConfig connectorClientConfig) {
         this.connector = connector;
         this.llmInterface = llmInterface;
 
-        // Get connector client configuration
+        // Streams share the clients and connections of the node level pool
         Duration connectionTimeout = Duration.ofSeconds(connectorClientConfig.getConnectionTimeout());
         Duration readTimeout = Duration.ofSeconds(connectorClientConfig.getReadTimeout());
-
-        // Initialize OkHttp client for SSE
-        try {
-            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
-                this.okHttpClient = new OkHttpClient.Builder()
-                    .connectTimeout(connectionTimeout)
-                    .readTimeout(readTimeout)
-                    .retryOnConnectionFailure(true)
-                    .build();
-                return null;
-            });
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to build OkHttpClient", e);
-        }
+        this.okHttpClient = StreamingHttpClientPool.getInstance().getClient(connectionTimeout, readTimeout);
     }
 
     @Override
@@ -74,9 +61,10 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
         String payload,
         StreamPredictActionListener<MLTaskResponse, ?> actionListener
     ) {
+        StreamingStats.StreamTracker streamTracker = StreamingStats.startStream();
         try {
             log.info("Creating SSE connection for streaming request");
-            EventSourceListener listener = new HTTPEventSourceListener(actionListener, llmInterface);
+            EventSourceListener listener = new HTTPEventSourceListener(actionListener, llmInterface, streamTracker);
             Request request = ConnectorUtils.buildOKHttpStreamingRequest(action, connector, parameters, payload);
 
             AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
@@ -85,6 +73,7 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
             });
 
         } catch (Exception e) {
+            streamTracker.close();
             log.error("Failed to start HTTP streaming", e);
             handleError(e, actionListener);
         }
@@ -99,6 +88,7 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
     public final class HTTPEventSourceListener extends EventSourceListener {
         private StreamPredictActionListener<MLTaskResponse, ?> streamActionListener;
         private final String llmInterface;
+        private final StreamingStats.StreamTracker streamTracker;
         private AtomicBoolean isStreamClosed;
         private boolean functionCallInProgress = false;
         private boolean agentExecutionInProgress = false;
@@ -106,9 +96,14 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
         private String accumulatedToolName = null;
         private String accumulatedArguments = "";
 
-        public HTTPEventSourceListener(StreamPredictActionListener<MLTaskResponse, ?> streamActionListener, String llmInterface) {
+        public HTTPEventSourceListener(
+            StreamPredictActionListener<MLTaskResponse, ?> streamActionListener,
+            String llmInterface,
+            StreamingStats.StreamTracker streamTracker
+        ) {
             this.streamActionListener = streamActionListener;
             this.llmInterface = llmInterface;
+            this.streamTracker = streamTracker;
             this.isStreamClosed = new AtomicBoolean(false);
         }
 
@@ -148,6 +143,7 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
         @Override
         public void onClosed(EventSource eventSource) {
             log.debug("SSE CLOSED.");
+            streamTracker.close();
         }
 
         /***
@@ -159,6 +155,7 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
          */
         @Override
         public void onFailure(EventSource eventSource, Throwable t, Response response) {
+            streamTracker.close();
             if (t != null) {
                 // Network/connection error
                 log.error("Error: " + t.getMessage(), t);
@@ -214,12 +211,14 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
             // Process content
             String content = extractPath(dataMap, "$.choices[0].delta.content");
             if (content != null && !content.isEmpty()) {
+                streamTracker.onToken();
                 sendContentResponse(content, false, streamActionListener);
             }
 
             // Process tool call
             List<?> toolCalls = extractPath(dataMap, "$.choices[0].delta.tool_calls");
             if (toolCalls != null) {
+                streamTracker.onToken();
                 accumulateFunctionCall(toolCalls);
                 sendContentResponse(StringUtils.toJson(toolCalls), false, streamActionListener);
             }
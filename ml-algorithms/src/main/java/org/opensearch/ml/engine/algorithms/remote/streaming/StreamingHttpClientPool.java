@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote.streaming;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.log4j.Log4j2;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+/**
+ * Node level pool of the OkHttp clients used to stream server-sent events from remote models.
+ * <p>
+ * Connectors with the same timeouts share one client, and all clients share one connection pool and dispatcher, so
+ * streams to the same host reuse connections instead of opening a new one for every request. Streams stay open until
+ * the model completes, so the dispatcher allows as many concurrent requests per host as the async HTTP clients of
+ * remote connectors.
+ */
+@Log4j2
+public class StreamingHttpClientPool {
+
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 1000;
+    static final int MAX_IDLE_CONNECTIONS = 50;
+    static final long KEEP_ALIVE_MINUTES = 5;
+
+    private static final StreamingHttpClientPool INSTANCE = new StreamingHttpClientPool();
+
+    private final Map<ClientKey, OkHttpClient> clients = new ConcurrentHashMap<>();
+    private volatile OkHttpClient baseClient;
+    private volatile int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+
+    StreamingHttpClientPool() {}
+
+    public static StreamingHttpClientPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the shared client for the timeouts of a connector.
+     *
+     * @param connectionTimeout connection timeout of the connector
+     * @param readTimeout       read timeout of the connector, the max time between two events of a stream
+     * @return client sharing the connection pool and dispatcher with the clients of the other connectors
+     */
+    public OkHttpClient getClient(Duration connectionTimeout, Duration readTimeout) {
+        return clients.computeIfAbsent(new ClientKey(connectionTimeout, readTimeout), key -> {
+            log.debug("Create streaming http client, connection timeout: {}, read timeout: {}", connectionTimeout, readTimeout);
+            OkHttpClient base = getBaseClient();
+            return AccessController
+                .doPrivileged(
+                    (PrivilegedAction<OkHttpClient>) () -> base
+                        .newBuilder()
+                        .connectTimeout(connectionTimeout)
+                        .readTimeout(readTimeout)
+                        .build()
+                );
+        });
+    }
+
+    /**
+     * Set the max concurrent streams per host. Applies to the shared dispatcher right away, streams queued over the
+     * previous limit start if the new one allows them.
+     *
+     * @param maxRequestsPerHost max concurrent requests per host
+     */
+    public synchronized void setMaxRequestsPerHost(int maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        if (baseClient != null) {
+            configureDispatcher(baseClient.dispatcher());
+        }
+    }
+
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    /**
+     * Close the connections and threads of the shared clients. Clients are created again if there are more streams.
+     */
+    public synchronized void close() {
+        clients.clear();
+        if (baseClient != null) {
+            baseClient.dispatcher().executorService().shutdown();
+            baseClient.connectionPool().evictAll();
+            baseClient = null;
+        }
+    }
+
+    private synchronized OkHttpClient getBaseClient() {
+        if (baseClient == null) {
+            baseClient = AccessController.doPrivileged((PrivilegedAction<OkHttpClient>) () -> {
+                Dispatcher dispatcher = new Dispatcher();
+                configureDispatcher(dispatcher);
+                return new OkHttpClient.Builder()
+                    .dispatcher(dispatcher)
+                    .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                    .retryOnConnectionFailure(true)
+                    .build();
+            });
+        }
+        return baseClient;
+    }
+
+    private void configureDispatcher(Dispatcher dispatcher) {
+        dispatcher.setMaxRequests(Math.max(dispatcher.getMaxRequests(), maxRequestsPerHost));
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+    }
+
+    private record ClientKey(Duration connectionTimeout, Duration readTimeout) {
+    }
+}
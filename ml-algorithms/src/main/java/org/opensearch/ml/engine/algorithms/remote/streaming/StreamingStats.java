@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote.streaming;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Node level stats of the streams to remote models: the streams currently open and the recent time to the first token.
+ */
+public class StreamingStats {
+
+    // weight of the latest stream in the moving average of the time to first token
+    static final double TIME_TO_FIRST_TOKEN_WEIGHT = 0.1;
+
+    private static final AtomicInteger openStreams = new AtomicInteger();
+    private static final AtomicLong totalStreams = new AtomicLong();
+    // bits of the moving average in milliseconds, NaN until the first token of a stream
+    private static final AtomicLong timeToFirstTokenBits = new AtomicLong(Double.doubleToLongBits(Double.NaN));
+
+    private StreamingStats() {}
+
+    /**
+     * Track a new stream. The stream is counted as open until {@link StreamTracker#close()} is called.
+     *
+     * @return tracker of the stream
+     */
+    public static StreamTracker startStream() {
+        openStreams.incrementAndGet();
+        totalStreams.incrementAndGet();
+        return new StreamTracker(System.nanoTime());
+    }
+
+    public static int getOpenStreamCount() {
+        return openStreams.get();
+    }
+
+    public static long getTotalStreamCount() {
+        return totalStreams.get();
+    }
+
+    /**
+     * @return moving average of the time to first token in milliseconds, 0 if no stream got a token yet
+     */
+    public static long getRecentTimeToFirstToken() {
+        double value = Double.longBitsToDouble(timeToFirstTokenBits.get());
+        return Double.isNaN(value) ? 0 : Math.round(value);
+    }
+
+    @VisibleForTesting
+    static void recordTimeToFirstToken(double millis) {
+        timeToFirstTokenBits.getAndUpdate(bits -> {
+            double average = Double.longBitsToDouble(bits);
+            double updated = Double.isNaN(average) ? millis : average + TIME_TO_FIRST_TOKEN_WEIGHT * (millis - average);
+            return Double.doubleToLongBits(updated);
+        });
+    }
+
+    @VisibleForTesting
+    static void reset() {
+        openStreams.set(0);
+        totalStreams.set(0);
+        timeToFirstTokenBits.set(Double.doubleToLongBits(Double.NaN));
+    }
+
+    /**
+     * Tracker of one stream. Both methods can be called more than once from the threads of the stream.
+     */
+    public static class StreamTracker {
+        private final long startNanos;
+        private final AtomicBoolean firstToken = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private StreamTracker(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Called for each token sent to the client, records the time to first token once.
+         */
+        public void onToken() {
+            if (firstToken.compareAndSet(false, true)) {
+                recordTimeToFirstToken(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos) / 1000.0);
+            }
+        }
+
+        /**
+         * Called when the stream completes or fails.
+         */
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                openStreams.decrementAndGet();
+            }
+        }
+    }
+}
@@ -29,11 +29,23 @@ public class SparseEncodingTranslator extends SentenceTransformerTranslator {
 
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) {
+        setEmbeddingFormat(ctx, input);
+        return super.processInput(ctx, input);
+    }
+
+    @Override
+    protected Output processBatchItemOutput(TranslatorContext ctx, Input input, NDList list) {
+        // inputs of one batch may come from requests with different embedding formats
+        String embeddingFormat = input.getAsString(SPARSE_EMBEDDING_FORMAT_FIELD);
+        ctx.setAttachment(SPARSE_EMBEDDING_FORMAT_FIELD, embeddingFormat != null ? embeddingFormat : SparseEmbeddingFormat.WORD.name());
+        return processOutput(ctx, list);
+    }
+
+    private void setEmbeddingFormat(TranslatorContext ctx, Input input) {
         String embeddingFormat = input.getAsString(SPARSE_EMBEDDING_FORMAT_FIELD);
         if (embeddingFormat != null) {
             ctx.setAttachment(SPARSE_EMBEDDING_FORMAT_FIELD, embeddingFormat);
         }
-        return super.processInput(ctx, input);
     }
 
     @Override
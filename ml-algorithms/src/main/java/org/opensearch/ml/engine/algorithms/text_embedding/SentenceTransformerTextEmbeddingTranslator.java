@@ -13,6 +13,7 @@ import java.util.List;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
 import ai.djl.modality.Output;
@@ -31,24 +32,26 @@ public class SentenceTransformerTextEmbeddingTranslator extends SentenceTransfor
         while (iterator.hasNext()) {
             NDArray ndArray = iterator.next();
             String name = ndArray.getName();
-            Number[] data = ndArray.toArray();
             long[] shape = ndArray.getShape().getShape();
             DataType dataType = ndArray.getDataType();
             MLResultDataType mlResultDataType = MLResultDataType.valueOf(dataType.name());
             ByteBuffer buffer = ndArray.toByteBuffer();
-            ModelTensor tensor = ModelTensor
+            ModelTensor.ModelTensorBuilder tensor = ModelTensor
                 .builder()
                 .name(name)
-                .data(data)
                 .shape(shape)
                 .dataType(mlResultDataType)
-                .byteBuffer(buffer)
-                .build();
-            outputs.add(tensor);
+                .byteBuffer(buffer);
+            if (dataType == DataType.FLOAT32) {
+                tensor.floatData(ndArray.toFloatArray());
+            } else {
+                tensor.data(ndArray.toArray());
+            }
+            outputs.add(tensor.build());
         }
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsSupplier(modelTensorOutput));
         return output;
     }
 }
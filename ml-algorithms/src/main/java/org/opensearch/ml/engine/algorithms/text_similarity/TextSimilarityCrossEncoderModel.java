@@ -18,10 +18,11 @@
 package org.opensearch.ml.engine.algorithms.text_similarity;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 import org.opensearch.ml.common.FunctionName;
-import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextSimilarityInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelConfig;
@@ -39,27 +40,138 @@ import ai.djl.translate.TranslatorFactory;
 @Function(FunctionName.TEXT_SIMILARITY)
 public class TextSimilarityCrossEncoderModel extends DLModel {
 
+    // max tokens of one batch if not set in the deploy setting, e.g. 16 pairs of 512 tokens
+    static final int DEFAULT_MAX_BATCH_TOKENS = 8192;
+    // to estimate the tokens of a word without running the tokenizer, which tokenizes the pair again in the translator
+    private static final int CHARS_PER_TOKEN = 4;
+    // special tokens added to a pair, like [CLS] query [SEP] document [SEP]
+    private static final int PAIR_SPECIAL_TOKENS = 3;
+
+    private volatile TextSimilarityTranslator translator;
+
+    /**
+     * Predict the similarity of the query and each document. The pairs are grouped into batches of pairs of similar
+     * length, so each batch runs in one forward pass with little padding, and the outputs are returned in the order of
+     * the documents.
+     */
     @Override
     public ModelTensorOutput predict(String modelId, MLInput mlInput) throws TranslateException {
-        MLInputDataset inputDataSet = mlInput.getInputDataset();
-        List<ModelTensors> tensorOutputs = new ArrayList<>();
-        Output output;
-        TextSimilarityInputDataSet textSimInput = (TextSimilarityInputDataSet) inputDataSet;
+        TextSimilarityInputDataSet textSimInput = (TextSimilarityInputDataSet) mlInput.getInputDataset();
         String queryText = textSimInput.getQueryText();
-        for (String doc : textSimInput.getTextDocs()) {
+        List<String> docs = textSimInput.getTextDocs();
+        List<Input> inputs = new ArrayList<>(docs.size());
+        int[] tokenCounts = new int[docs.size()];
+        for (int i = 0; i < docs.size(); i++) {
             Input input = new Input();
             input.add(queryText);
-            input.add(doc);
-            output = getPredictor().predict(input);
-            ModelTensors outputTensors = ModelTensors.fromBytes(output.getData().getAsBytes());
-            tensorOutputs.add(outputTensors);
+            input.add(docs.get(i));
+            inputs.add(input);
+            tokenCounts[i] = countTokens(queryText, docs.get(i));
+        }
+
+        Output[] outputs = new Output[inputs.size()];
+        for (List<Integer> batch : groupByLength(tokenCounts, getMaxBatchTokens())) {
+            List<Input> batchInputs = new ArrayList<>(batch.size());
+            for (int index : batch) {
+                batchInputs.add(inputs.get(index));
+            }
+            List<Output> batchOutputs;
+            if (batchInputs.size() == 1) {
+                Output output = withPredictor(predictor -> predictor.predict(batchInputs.get(0)));
+                batchOutputs = List.of(output);
+            } else {
+                batchOutputs = withPredictor(predictor -> predictor.batchPredict(batchInputs));
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                outputs[batch.get(i)] = batchOutputs.get(i);
+            }
+        }
+        List<ModelTensors> tensorOutputs = new ArrayList<>(outputs.length);
+        for (Output output : outputs) {
+            tensorOutputs.add(parseModelTensorOutput(output, null));
         }
         return new ModelTensorOutput(tensorOutputs);
     }
 
+    /**
+     * Group inputs into batches of inputs of similar length. The inputs are sorted by length, and each batch takes the next
+     * inputs as long as the batch padded to its longest input has at most the max batch tokens. An input longer than the
+     * max batch tokens is a batch of its own.
+     *
+     * @param tokenCounts    number of tokens of each input
+     * @param maxBatchTokens max tokens of a batch, including the padding
+     * @return indices of the inputs of each batch
+     */
+    static List<List<Integer>> groupByLength(int[] tokenCounts, int maxBatchTokens) {
+        Integer[] order = new Integer[tokenCounts.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(index -> tokenCounts[index]));
+        List<List<Integer>> batches = new ArrayList<>();
+        List<Integer> batch = new ArrayList<>();
+        for (int index : order) {
+            // the inputs are sorted, so the input is the longest of the batch
+            if (!batch.isEmpty() && (long) tokenCounts[index] * (batch.size() + 1) > maxBatchTokens) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+            }
+            batch.add(index);
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private int countTokens(String query, String doc) {
+        int tokens = PAIR_SPECIAL_TOKENS + estimateTokens(query) + estimateTokens(doc);
+        TextSimilarityTranslator currentTranslator = translator;
+        int maxLength = currentTranslator == null ? -1 : currentTranslator.getMaxLength();
+        return maxLength > 0 ? Math.min(tokens, maxLength) : tokens;
+    }
+
+    /**
+     * Estimate the tokens of a text, close enough to group pairs of similar length. Each run of letters or digits is a
+     * token per {@link #CHARS_PER_TOKEN} characters, each ideograph or other symbol is a token, and whitespace is none.
+     *
+     * @param text text to estimate
+     * @return estimated number of tokens
+     */
+    static int estimateTokens(String text) {
+        if (text == null) {
+            return 0;
+        }
+        int tokens = 0;
+        int wordLength = 0;
+        for (int i = 0; i < text.length();) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isLetterOrDigit(codePoint) && !Character.isIdeographic(codePoint)) {
+                wordLength++;
+                continue;
+            }
+            tokens += (wordLength + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+            wordLength = 0;
+            if (!Character.isWhitespace(codePoint)) {
+                tokens++;
+            }
+        }
+        return tokens + (wordLength + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+    }
+
+    private int getMaxBatchTokens() {
+        if (deploySetting == null || deploySetting.getMaxBatchTokens() == null) {
+            return DEFAULT_MAX_BATCH_TOKENS;
+        }
+        return deploySetting.getMaxBatchTokens();
+    }
+
     @Override
     public Translator<Input, Output> getTranslator(String engine, MLModelConfig modelConfig) throws IllegalArgumentException {
-        return new TextSimilarityTranslator();
+        TextSimilarityTranslator textSimilarityTranslator = new TextSimilarityTranslator();
+        translator = textSimilarityTranslator;
+        return textSimilarityTranslator;
     }
 
     @Override
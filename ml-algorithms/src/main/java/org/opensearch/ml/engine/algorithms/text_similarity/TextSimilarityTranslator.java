@@ -25,9 +25,11 @@ import java.util.List;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
 import ai.djl.huggingface.tokenizers.Encoding;
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
@@ -35,6 +37,7 @@ import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.translate.TranslatorContext;
+import ai.djl.util.PairList;
 
 public class TextSimilarityTranslator extends SentenceTransformerTranslator {
     public final String SIMILARITY_NAME = "similarity";
@@ -65,6 +68,62 @@ public class TextSimilarityTranslator extends SentenceTransformerTranslator {
         return ndList;
     }
 
+    /**
+     * Tokenize the query and document pairs together and pad them to the longest pair, so they run in one forward pass.
+     */
+    @Override
+    public NDList batchProcessInput(TranslatorContext ctx, List<Input> inputs) {
+        PairList<String, String> pairs = new PairList<>(inputs.size());
+        for (Input input : inputs) {
+            pairs.add(input.getAsString(0), input.getAsString(1));
+        }
+        Encoding[] encodings = tokenizer.batchEncode(pairs);
+        long[][] indices = new long[encodings.length][];
+        long[][] attentionMask = new long[encodings.length][];
+        long[][] tokenTypes = new long[encodings.length][];
+        for (int i = 0; i < encodings.length; i++) {
+            indices[i] = encodings[i].getIds();
+            attentionMask[i] = encodings[i].getAttentionMask();
+            tokenTypes[i] = encodings[i].getTypeIds();
+        }
+
+        NDManager manager = ctx.getNDManager();
+        NDArray indicesArray = manager.create(indices);
+        indicesArray.setName("input_ids");
+        NDArray attentionMaskArray = manager.create(attentionMask);
+        attentionMaskArray.setName("attention_mask");
+        NDArray tokenTypeArray = manager.create(tokenTypes);
+        tokenTypeArray.setName("token_type_ids");
+        return new NDList(indicesArray, attentionMaskArray, tokenTypeArray);
+    }
+
+    /**
+     * Split the batched model output into the similarity of each pair. The similarity has no per token output, so there
+     * is no padding to remove.
+     */
+    @Override
+    public List<Output> batchProcessOutput(TranslatorContext ctx, NDList list) {
+        NDList[] batch = getBatchifier().unbatchify(list);
+        List<Output> outputs = new ArrayList<>(batch.length);
+        for (NDList item : batch) {
+            outputs.add(processOutput(ctx, item));
+        }
+        return outputs;
+    }
+
+    /**
+     * Max tokens of a query and document pair, to cap the estimated length of long pairs which are truncated.
+     *
+     * @return max tokens of a pair, -1 if the tokenizer isn't loaded yet or doesn't truncate
+     */
+    public int getMaxLength() {
+        HuggingFaceTokenizer currentTokenizer = tokenizer;
+        if (currentTokenizer == null || currentTokenizer.getMaxLength() <= 0) {
+            return -1;
+        }
+        return currentTokenizer.getMaxLength();
+    }
+
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
         Output output = new Output(200, "OK");
@@ -74,24 +133,26 @@ public class TextSimilarityTranslator extends SentenceTransformerTranslator {
         while (iterator.hasNext()) {
             NDArray ndArray = iterator.next();
             String name = SIMILARITY_NAME;
-            Number[] data = ndArray.toArray();
             long[] shape = ndArray.getShape().getShape();
             DataType dataType = ndArray.getDataType();
             MLResultDataType mlResultDataType = MLResultDataType.valueOf(dataType.name());
             ByteBuffer buffer = ndArray.toByteBuffer();
-            ModelTensor tensor = ModelTensor
+            ModelTensor.ModelTensorBuilder tensor = ModelTensor
                 .builder()
                 .name(name)
-                .data(data)
                 .shape(shape)
                 .dataType(mlResultDataType)
-                .byteBuffer(buffer)
-                .build();
-            outputs.add(tensor);
+                .byteBuffer(buffer);
+            if (dataType == DataType.FLOAT32) {
+                tensor.floatData(ndArray.toFloatArray());
+            } else {
+                tensor.data(ndArray.toArray());
+            }
+            outputs.add(tensor.build());
         }
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsSupplier(modelTensorOutput));
         return output;
     }
 
@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.engine.tools;
 
+import static org.opensearch.ml.common.CommonValue.MCP_CLIENT_LEASE;
 import static org.opensearch.ml.common.CommonValue.MCP_SYNC_CLIENT;
 
 import java.util.List;
@@ -16,6 +17,7 @@ import org.opensearch.ml.common.spi.tools.ToolAnnotation;
 import org.opensearch.ml.common.spi.tools.WithModelTool;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.common.utils.ToolUtils;
+import org.opensearch.ml.engine.algorithms.remote.McpClientPool;
 import org.opensearch.ml.repackage.com.google.common.annotations.VisibleForTesting;
 
 import io.modelcontextprotocol.client.McpSyncClient;
@@ -45,6 +47,9 @@ public class McpSseTool implements WithModelTool {
     private String description = DEFAULT_DESCRIPTION;
     @Getter
     private McpSyncClient mcpSyncClient;
+    // acquisition of the pooled client, null if the client isn't from the pool
+    @Getter
+    private McpClientPool.Lease mcpClientLease;
     @Setter
     private Parser inputParser;
     @Setter
@@ -56,6 +61,11 @@ public class McpSseTool implements WithModelTool {
         this.mcpSyncClient = mcpSyncClient;
     }
 
+    public McpSseTool(McpSyncClient mcpSyncClient, McpClientPool.Lease mcpClientLease) {
+        this.mcpSyncClient = mcpSyncClient;
+        this.mcpClientLease = mcpClientLease;
+    }
+
     @Override
     public <T> void run(Map<String, String> originalParameters, ActionListener<T> listener) {
         try {
@@ -119,7 +129,7 @@ public class McpSseTool implements WithModelTool {
 
         @Override
         public McpSseTool create(Map<String, Object> map) {
-            return new McpSseTool((McpSyncClient) map.get(MCP_SYNC_CLIENT));
+            return new McpSseTool((McpSyncClient) map.get(MCP_SYNC_CLIENT), (McpClientPool.Lease) map.get(MCP_CLIENT_LEASE));
         }
 
         @Override
@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.engine.tools;
 
+import static org.opensearch.ml.common.CommonValue.MCP_CLIENT_LEASE;
 import static org.opensearch.ml.common.CommonValue.MCP_SYNC_CLIENT;
 
 import java.util.List;
@@ -16,6 +17,7 @@ import org.opensearch.ml.common.spi.tools.ToolAnnotation;
 import org.opensearch.ml.common.spi.tools.WithModelTool;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.common.utils.ToolUtils;
+import org.opensearch.ml.engine.algorithms.remote.McpClientPool;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -46,6 +48,9 @@ public class McpStreamableHttpTool implements WithModelTool {
     private String description = DEFAULT_DESCRIPTION;
     @Getter
     private McpSyncClient mcpSyncClient;
+    // acquisition of the pooled client, null if the client isn't from the pool
+    @Getter
+    private McpClientPool.Lease mcpClientLease;
     @Setter
     @Getter
     @VisibleForTesting
@@ -55,6 +60,11 @@ public class McpStreamableHttpTool implements WithModelTool {
         this.mcpSyncClient = mcpSyncClient;
     }
 
+    public McpStreamableHttpTool(McpSyncClient mcpSyncClient, McpClientPool.Lease mcpClientLease) {
+        this.mcpSyncClient = mcpSyncClient;
+        this.mcpClientLease = mcpClientLease;
+    }
+
     @Override
     public <T> void run(Map<String, String> originalParameters, ActionListener<T> listener) {
         try {
@@ -120,7 +130,7 @@ public class McpStreamableHttpTool implements WithModelTool {
 
         @Override
         public McpStreamableHttpTool create(Map<String, Object> map) {
-            return new McpStreamableHttpTool((McpSyncClient) map.get(MCP_SYNC_CLIENT));
+            return new McpStreamableHttpTool((McpSyncClient) map.get(MCP_SYNC_CLIENT), (McpClientPool.Lease) map.get(MCP_CLIENT_LEASE));
         }
 
         @Override
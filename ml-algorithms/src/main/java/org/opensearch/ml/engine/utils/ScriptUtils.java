@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.opensearch.ml.common.connector.functions.ConnectorScriptCache;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.script.Script;
 import org.opensearch.script.ScriptService;
@@ -31,9 +32,20 @@ public class ScriptUtils {
     }
 
     public static Optional<String> executePostProcessFunction(ScriptService scriptService, String postProcessFunction, String resultJson) {
+        return executePostProcessFunction(scriptService, null, postProcessFunction, resultJson);
+    }
+
+    public static Optional<String> executePostProcessFunction(
+        ScriptService scriptService,
+        ConnectorScriptCache scriptCache,
+        String postProcessFunction,
+        String resultJson
+    ) {
         Map<String, Object> result = StringUtils.fromJson(resultJson, "result");
         if (postProcessFunction != null) {
-            return Optional.ofNullable(executeScript(scriptService, addDefaultMethod(postProcessFunction), result));
+            String script = addDefaultMethod(postProcessFunction);
+            return Optional
+                .ofNullable(scriptCache == null ? executeScript(scriptService, script, result) : scriptCache.execute(script, result));
         }
         return Optional.empty();
     }
@@ -115,6 +115,20 @@ public class MLEngineTest extends MLStaticMockBase {
         predictions.forEach(row -> Assert.assertTrue(row.getValue(0).intValue() == 0 || row.getValue(0).intValue() == 1));
     }
 
+    @Test
+    public void initPredictableKMeans() {
+        MLModel model = trainKMeansModel();
+        DataFrame predictionDataFrame = constructTestDataFrame(10);
+        MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(predictionDataFrame).build();
+        Input mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(inputDataset).build();
+        Predictable predictable = mlEngine.initPredictable(mlInput, model);
+        assertTrue(predictable.isModelReady());
+        for (int i = 0; i < 2; i++) {
+            MLPredictionOutput output = (MLPredictionOutput) predictable.predict((MLInput) mlInput);
+            assertEquals(10, output.getPredictionResult().size());
+        }
+    }
+
     @Test
     public void predictLinearRegression() {
         MLModel model = trainLinearRegressionModel();
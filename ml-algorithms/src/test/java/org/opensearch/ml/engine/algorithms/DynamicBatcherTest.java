@@ -0,0 +1,157 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import ai.djl.inference.Predictor;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import ai.djl.translate.TranslateException;
+
+public class DynamicBatcherTest {
+
+    private Predictor<Input, Output> predictor;
+    private List<Integer> batchSizes;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws TranslateException {
+        predictor = mock(Predictor.class);
+        batchSizes = new CopyOnWriteArrayList<>();
+        when(predictor.predict(any(Input.class))).thenAnswer(invocation -> {
+            batchSizes.add(1);
+            return output(invocation.getArgument(0));
+        });
+        when(predictor.batchPredict(anyList())).thenAnswer(invocation -> {
+            List<Input> inputs = invocation.getArgument(0);
+            batchSizes.add(inputs.size());
+            List<Output> outputs = new ArrayList<>();
+            for (Input input : inputs) {
+                outputs.add(output(input));
+            }
+            return outputs;
+        });
+    }
+
+    @Test
+    public void predict_SingleCaller() throws TranslateException {
+        DynamicBatcher batcher = new DynamicBatcher(new PredictorPool(List.of(predictor)), 4, 0);
+        List<Output> outputs = batcher.predict(inputs("a", "b", "c"));
+        assertEquals(List.of("a", "b", "c"), texts(outputs));
+        assertEquals(List.of(3), batchSizes);
+        verify(predictor, never()).predict(any(Input.class));
+    }
+
+    @Test
+    public void predict_SplitByMaxBatchSize() throws TranslateException {
+        DynamicBatcher batcher = new DynamicBatcher(new PredictorPool(List.of(predictor)), 2, 0);
+        List<Output> outputs = batcher.predict(inputs("a", "b", "c", "d", "e"));
+        assertEquals(List.of("a", "b", "c", "d", "e"), texts(outputs));
+        assertEquals(List.of(2, 2, 1), batchSizes);
+    }
+
+    @Test
+    public void predict_ConcurrentCallersBatchedTogether() throws Exception {
+        int callers = 4;
+        // the delay is long enough that only a full batch can trigger the forward pass
+        DynamicBatcher batcher = new DynamicBatcher(new PredictorPool(List.of(predictor)), callers, TimeUnit.SECONDS.toMicros(30));
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Output>>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                String text = "doc" + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return batcher.predict(inputs(text));
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < callers; i++) {
+                assertEquals(List.of("doc" + i), texts(futures.get(i).get(10, TimeUnit.SECONDS)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(List.of(callers), batchSizes);
+        verify(predictor, times(1)).batchPredict(anyList());
+    }
+
+    @Test
+    public void predict_MaxDelayReached() throws TranslateException {
+        DynamicBatcher batcher = new DynamicBatcher(new PredictorPool(List.of(predictor)), 8, 1000);
+        List<Output> outputs = batcher.predict(inputs("a"));
+        assertEquals(List.of("a"), texts(outputs));
+        assertEquals(List.of(1), batchSizes);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void predict_BatchFailed() throws TranslateException {
+        when(predictor.batchPredict(anyList())).thenThrow(new TranslateException("inference failed"));
+        DynamicBatcher batcher = new DynamicBatcher(new PredictorPool(List.of(predictor)), 4, 0);
+        TranslateException e = assertThrows(TranslateException.class, () -> batcher.predict(inputs("a", "b")));
+        assertEquals("inference failed", e.getMessage());
+
+        // the batcher still works after a failed batch
+        List<Output> outputs = batcher.predict(inputs("c"));
+        assertEquals(List.of("c"), texts(outputs));
+        ArgumentCaptor<List<Input>> captor = ArgumentCaptor.forClass(List.class);
+        verify(predictor).batchPredict(captor.capture());
+        assertEquals(2, captor.getValue().size());
+    }
+
+    @Test
+    public void constructor_InvalidMaxBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new DynamicBatcher(new PredictorPool(List.of(predictor)), 0, 0));
+    }
+
+    private static List<Input> inputs(String... texts) {
+        List<Input> inputs = new ArrayList<>();
+        for (String text : texts) {
+            Input input = new Input();
+            input.add(text);
+            inputs.add(input);
+        }
+        return inputs;
+    }
+
+    private static Output output(Input input) {
+        Output output = new Output();
+        output.add(input.getAsString(0));
+        return output;
+    }
+
+    private static List<String> texts(List<Output> outputs) {
+        List<String> texts = new ArrayList<>();
+        for (Output output : outputs) {
+            texts.add(output.getAsString(0));
+        }
+        return texts;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel;
+
+import ai.djl.modality.Output;
+
+public class ModelTensorsSupplierTest {
+
+    private ModelTensors modelTensors;
+
+    @Before
+    public void setUp() {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .floatData(new float[] { 0.1f, 0.2f, 0.3f })
+            .shape(new long[] { 3 })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        modelTensors = new ModelTensors(List.of(tensor));
+    }
+
+    @Test
+    public void getAsBytes() {
+        ModelTensorsSupplier supplier = new ModelTensorsSupplier(modelTensors);
+        assertSame(modelTensors, supplier.getAsObject());
+        ModelTensors parsed = ModelTensors.fromBytes(supplier.getAsBytes());
+        assertEquals(modelTensors.getMlModelTensors(), parsed.getMlModelTensors());
+        assertEquals(modelTensors.getMlModelTensors(), ModelTensors.fromBytes(supplier.toByteBuffer().array()).getMlModelTensors());
+    }
+
+    @Test
+    public void parseModelTensorOutput_InProcess() {
+        Output output = new Output();
+        output.add(new ModelTensorsSupplier(modelTensors));
+        assertSame(modelTensors, new TextEmbeddingDenseModel().parseModelTensorOutput(output, null));
+    }
+
+    @Test
+    public void parseModelTensorOutput_Bytes() {
+        Output output = new Output();
+        output.add(modelTensors.toBytes());
+        ModelTensors parsed = new TextEmbeddingDenseModel().parseModelTensorOutput(output, null);
+        assertNotSame(modelTensors, parsed);
+        assertEquals(modelTensors.getMlModelTensors(), parsed.getMlModelTensors());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.opensearch.ml.common.exception.MLException;
+
+import ai.djl.inference.Predictor;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import ai.djl.translate.TranslateException;
+
+public class PredictorPoolTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void execute_ReturnsPredictorToPool() throws TranslateException {
+        Predictor<Input, Output> predictor = mock(Predictor.class);
+        PredictorPool pool = new PredictorPool(List.of(predictor));
+        assertSame(predictor, pool.execute(it -> {
+            assertEquals(0, pool.idleCount());
+            return it;
+        }));
+        assertEquals(1, pool.size());
+        assertEquals(1, pool.idleCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void execute_ReturnsPredictorToPoolOnFailure() {
+        PredictorPool pool = new PredictorPool(List.of(mock(Predictor.class)));
+        TranslateException e = assertThrows(
+            TranslateException.class,
+            () -> pool.execute(it -> { throw new TranslateException("inference failed"); })
+        );
+        assertEquals("inference failed", e.getMessage());
+        assertEquals(1, pool.idleCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void execute_PredictorNotSharedAcrossThreads() throws Exception {
+        int predictors = 2;
+        int callers = 8;
+        List<Predictor<Input, Output>> predictorList = new ArrayList<>();
+        for (int i = 0; i < predictors; i++) {
+            predictorList.add(mock(Predictor.class));
+        }
+        PredictorPool pool = new PredictorPool(predictorList);
+        Set<Predictor<Input, Output>> inUse = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        AtomicBoolean shared = new AtomicBoolean(false);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 50; j++) {
+                        pool.execute(predictor -> {
+                            if (!inUse.add(predictor)) {
+                                shared.set(true);
+                            }
+                            Thread.yield();
+                            inUse.remove(predictor);
+                            return null;
+                        });
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertFalse(shared.get());
+        assertEquals(predictors, pool.idleCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void execute_Interrupted() throws TranslateException {
+        PredictorPool pool = new PredictorPool(List.of(mock(Predictor.class)));
+        pool.execute(it -> {
+            Thread.currentThread().interrupt();
+            assertThrows(MLException.class, () -> pool.execute(other -> null));
+            assertTrue(Thread.interrupted());
+            return null;
+        });
+        assertEquals(1, pool.idleCount());
+    }
+
+    @Test
+    public void constructor_EmptyPredictors() {
+        assertThrows(IllegalArgumentException.class, () -> new PredictorPool(List.of()));
+    }
+}
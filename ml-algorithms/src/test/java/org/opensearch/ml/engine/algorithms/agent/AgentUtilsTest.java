@@ -6,17 +6,21 @@
 package org.opensearch.ml.engine.algorithms.agent;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.CommonValue.MCP_CONNECTORS_FIELD;
 import static org.opensearch.ml.common.CommonValue.MCP_CONNECTOR_ID_FIELD;
 import static org.opensearch.ml.common.CommonValue.TENANT_ID_FIELD;
+import static org.opensearch.ml.common.utils.StringUtils.gson;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.DEFAULT_DATETIME_PREFIX;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_FINISH_REASON_PATH;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_FINISH_REASON_TOOL_USE;
@@ -24,15 +28,19 @@ import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_GEN_INPUT
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_INTERFACE_BEDROCK_CONVERSE_CLAUDE;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_RESPONSE_EXCLUDE_PATH;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_RESPONSE_FILTER;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.MAX_PARALLEL_TOOL_CALLS;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PROMPT_PREFIX;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PROMPT_SUFFIX;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOLS;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALLS;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALLS_PATH;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALLS_TOOL_INPUT;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALLS_TOOL_NAME;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALL_ID;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALL_ID_PATH;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_FILTERS_FIELD;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_INPUT;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_NAME;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_TEMPLATE;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.createTool;
 import static org.opensearch.ml.engine.algorithms.agent.MLChatAgentRunner.ACTION;
@@ -84,6 +92,7 @@ import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.common.utils.ToolUtils;
 import org.opensearch.ml.engine.MLEngineClassLoader;
 import org.opensearch.ml.engine.MLStaticMockBase;
+import org.opensearch.ml.engine.algorithms.remote.McpClientPool;
 import org.opensearch.ml.engine.algorithms.remote.McpConnectorExecutor;
 import org.opensearch.ml.engine.algorithms.remote.McpStreamableHttpConnectorExecutor;
 import org.opensearch.ml.engine.encryptor.Encryptor;
@@ -99,6 +108,8 @@ import org.opensearch.transport.client.Client;
 
 import com.google.gson.JsonSyntaxException;
 
+import io.modelcontextprotocol.client.McpSyncClient;
+
 public class AgentUtilsTest extends MLStaticMockBase {
 
     @Mock
@@ -1284,6 +1295,19 @@ public class AgentUtilsTest extends MLStaticMockBase {
         });
     }
 
+    @Test
+    public void testGetMcpSessionKey() {
+        McpConnector connector = McpConnector.builder().name("mcp").protocol("mcp_sse").url("https://test.com").build();
+        McpConnector sameConnector = McpConnector.builder().name("mcp").protocol("mcp_sse").url("https://test.com").build();
+        McpConnector updatedConnector = McpConnector.builder().name("mcp").protocol("mcp_sse").url("https://test2.com").build();
+
+        String sessionKey = AgentUtils.getMcpSessionKey("tenant", "c1", connector);
+        Assert.assertTrue(sessionKey.startsWith("tenant:c1:"));
+        assertEquals(sessionKey, AgentUtils.getMcpSessionKey("tenant", "c1", sameConnector));
+        // an updated connector opens a new session
+        assertNotEquals(sessionKey, AgentUtils.getMcpSessionKey("tenant", "c1", updatedConnector));
+    }
+
     // create + register a mock McpConnector with Connector.createConnector
     private void mockMcpConnector(MockedStatic<Connector> connectorStatic) {
         McpConnector mockConnector = mock(McpConnector.class);
@@ -1322,7 +1346,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             // mock McpConnector, McpConnectorExecutor, agent, and listener
             mockMcpConnector(connStatic);
             McpConnectorExecutor exec = mock(McpConnectorExecutor.class);
-            when(exec.getMcpToolSpecs()).thenReturn(expected);
+            when(exec.getMcpToolSpecs(any(), anyString())).thenReturn(expected);
             loadStatic.when(() -> MLEngineClassLoader.initInstance(anyString(), any(), any())).thenReturn(exec);
 
             MLAgent mlAgent = mockAgent("[{\"" + MCP_CONNECTOR_ID_FIELD + "\":\"c1\"}]", "tenant");
@@ -1331,6 +1355,9 @@ public class AgentUtilsTest extends MLStaticMockBase {
             // run and verify
             AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, null, listener);
             verify(listener).onResponse(expected);
+            // the tools are listed with a pooled session of the connector
+            verify(exec)
+                .getMcpToolSpecs(argThat(pool -> pool == McpClientPool.getInstance()), argThat(key -> key.startsWith("tenant:c1:")));
         }
     }
 
@@ -1348,7 +1375,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             mockMcpConnector(connStatic);
 
             McpConnectorExecutor exec = mock(McpConnectorExecutor.class);
-            when(exec.getMcpToolSpecs()).thenReturn(repo);
+            when(exec.getMcpToolSpecs(any(), anyString())).thenReturn(repo);
             loadStatic.when(() -> MLEngineClassLoader.initInstance(anyString(), any(), any())).thenReturn(exec);
 
             String mcpJsonConfig = "[{\""
@@ -1384,7 +1411,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             mockMcpConnector(connStatic);
 
             McpConnectorExecutor exec = mock(McpConnectorExecutor.class);
-            when(exec.getMcpToolSpecs()).thenReturn(aTools, bTools);
+            when(exec.getMcpToolSpecs(any(), anyString())).thenReturn(aTools, bTools);
             loadStatic.when(() -> MLEngineClassLoader.initInstance(anyString(), any(), any())).thenReturn(exec);
 
             String mcpJsonConfig = "[{\"" + MCP_CONNECTOR_ID_FIELD + "\":\"A\"}," + "{\"" + MCP_CONNECTOR_ID_FIELD + "\":\"B\"}]";
@@ -1511,6 +1538,61 @@ public class AgentUtilsTest extends MLStaticMockBase {
         Assert.assertEquals("test_id", output.get(TOOL_CALL_ID));
     }
 
+    @Test
+    public void testParseLLMOutput_MultipleToolUses() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put(TOOL_CALLS_PATH, "$.tool_calls");
+        parameters.put(TOOL_CALLS_TOOL_NAME, "name");
+        parameters.put(TOOL_CALLS_TOOL_INPUT, "input");
+        parameters.put(TOOL_CALL_ID_PATH, "id");
+        parameters.put(LLM_RESPONSE_FILTER, "$.response");
+        parameters.put(LLM_FINISH_REASON_PATH, "$.finish_reason");
+        parameters.put(LLM_FINISH_REASON_TOOL_USE, "tool_use");
+
+        Map<String, Object> dataAsMap = new HashMap<>();
+        dataAsMap
+            .put(
+                "tool_calls",
+                List
+                    .of(
+                        Map.of("name", "test_tool", "input", "input 1", "id", "id_1"),
+                        Map.of("name", "other_tool", "input", "input 2", "id", "id_2")
+                    )
+            );
+        dataAsMap.put("response", "test response");
+        dataAsMap.put("finish_reason", "tool_use");
+
+        ModelTensorOutput modelTensorOutput = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(
+                List
+                    .of(
+                        ModelTensors
+                            .builder()
+                            .mlModelTensors(List.of(ModelTensor.builder().name("response").dataAsMap(dataAsMap).build()))
+                            .build()
+                    )
+            )
+            .build();
+
+        Map<String, String> output = AgentUtils
+            .parseLLMOutput(parameters, modelTensorOutput, null, Set.of("test_tool", "other_tool"), new ArrayList<>(), null);
+
+        // the first tool call is the action, all tool calls are kept for parallel execution
+        Assert.assertEquals("test_tool", output.get(ACTION));
+        Assert.assertEquals("id_1", output.get(TOOL_CALL_ID));
+        List<Map<String, String>> toolCalls = gson.fromJson(output.get(TOOL_CALLS), List.class);
+        Assert.assertEquals(2, toolCalls.size());
+        Assert.assertEquals(Map.of(TOOL_NAME, "test_tool", TOOL_INPUT, "input 1", TOOL_CALL_ID, "id_1"), toolCalls.get(0));
+        Assert.assertEquals(Map.of(TOOL_NAME, "other_tool", TOOL_INPUT, "input 2", TOOL_CALL_ID, "id_2"), toolCalls.get(1));
+    }
+
+    @Test
+    public void testGetMaxParallelToolCalls() {
+        Assert.assertEquals(1, AgentUtils.getMaxParallelToolCalls(Map.of()));
+        Assert.assertEquals(4, AgentUtils.getMaxParallelToolCalls(Map.of(MAX_PARALLEL_TOOL_CALLS, "4")));
+    }
+
     @Test
     public void testParseLLMOutput_WithFunctionCalling() {
         Map<String, String> parameters = new HashMap<>();
@@ -1916,7 +1998,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             // mock McpStreamableHttpConnector, McpStreamableHttpConnectorExecutor, agent, and listener
             mockMcpStreamableHttpConnector(connStatic);
             McpStreamableHttpConnectorExecutor exec = mock(McpStreamableHttpConnectorExecutor.class);
-            when(exec.getMcpToolSpecs()).thenReturn(expected);
+            when(exec.getMcpToolSpecs(any(), anyString())).thenReturn(expected);
             loadStatic.when(() -> MLEngineClassLoader.initInstance(anyString(), any(), any())).thenReturn(exec);
 
             MLAgent mlAgent = mockAgent("[{\"" + MCP_CONNECTOR_ID_FIELD + "\":\"c1\"}]", "tenant");
@@ -1957,7 +2039,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             // mock McpConnector, McpConnectorExecutor, agent, and listener
             mockMcpConnector(connStatic);
             McpConnectorExecutor exec = mock(McpConnectorExecutor.class);
-            when(exec.getMcpToolSpecs()).thenThrow(new RuntimeException("Test exception"));
+            when(exec.getMcpToolSpecs(any(), anyString())).thenThrow(new RuntimeException("Test exception"));
             loadStatic.when(() -> MLEngineClassLoader.initInstance(anyString(), any(), any())).thenReturn(exec);
 
             MLAgent mlAgent = mockAgent("[{\"" + MCP_CONNECTOR_ID_FIELD + "\":\"c1\"}]", "tenant");
@@ -2000,4 +2082,22 @@ public class AgentUtilsTest extends MLStaticMockBase {
         doNothing().when(mockConnector).decrypt(anyString(), any(), anyString());
         connectorStatic.when(() -> Connector.createConnector(any(XContentParser.class))).thenReturn(mockConnector);
     }
+
+    @Test
+    public void testCleanUpResource_ReleasesEachAcquisition() {
+        McpSyncClient mcpClient = mock(McpSyncClient.class);
+        McpClientPool.Lease lease1 = mock(McpClientPool.Lease.class);
+        McpClientPool.Lease lease2 = mock(McpClientPool.Lease.class);
+        Map<String, Tool> tools = new HashMap<>();
+        tools.put("tool1", new McpSseTool(mcpClient, lease1));
+        tools.put("tool2", new McpStreamableHttpTool(mcpClient, lease1));
+        // a second acquisition of the same pooled client
+        tools.put("tool3", new McpSseTool(mcpClient, lease2));
+
+        AgentUtils.cleanUpResource(tools);
+
+        verify(lease1, times(1)).release();
+        verify(lease2, times(1)).release();
+        verify(mcpClient, never()).closeGracefully();
+    }
 }
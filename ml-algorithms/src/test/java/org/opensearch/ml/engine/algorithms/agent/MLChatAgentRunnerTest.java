@@ -8,6 +8,7 @@ package org.opensearch.ml.engine.algorithms.agent;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.isA;
@@ -20,6 +21,7 @@ import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.DEFAULT_DATET
 import static org.opensearch.ml.engine.algorithms.agent.MLAgentExecutor.MESSAGE_HISTORY_LIMIT;
 import static org.opensearch.ml.engine.memory.ConversationIndexMemory.LAST_N_INTERACTIONS;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -56,6 +58,8 @@ import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.spi.memory.Memory;
 import org.opensearch.ml.common.spi.tools.Tool;
 import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.engine.function_calling.FunctionCalling;
+import org.opensearch.ml.engine.function_calling.FunctionCallingFactory;
 import org.opensearch.ml.engine.memory.ConversationIndexMemory;
 import org.opensearch.ml.engine.memory.MLMemoryManager;
 import org.opensearch.ml.engine.tools.ReadFromScratchPadTool;
@@ -920,6 +924,201 @@ public class MLChatAgentRunnerTest {
         Assert.assertTrue(toolParamsCapture.getValue().containsKey(MLChatAgentRunner.CHAT_HISTORY));
     }
 
+    @Test
+    public void testRunParallelToolCalls() {
+        MLAgent mlAgent = createMLAgentWithTwoTools();
+        Map<String, String> params = new HashMap<>();
+        params.put(AgentUtils.TOOL_CALLS_PATH, "$.tool_calls");
+        params.put(AgentUtils.TOOL_CALLS_TOOL_NAME, "name");
+        params.put(AgentUtils.TOOL_CALLS_TOOL_INPUT, "input");
+        params.put(AgentUtils.TOOL_CALL_ID_PATH, "id");
+        params.put(AgentUtils.LLM_RESPONSE_FILTER, "$.response");
+        params.put(AgentUtils.LLM_FINISH_REASON_PATH, "$.finish_reason");
+        params.put(AgentUtils.LLM_FINISH_REASON_TOOL_USE, "tool_use");
+        params.put(MLChatAgentRunner.INTERACTION_TEMPLATE_TOOL_RESPONSE, "{\"id\":\"${_interactions.tool_call_id}\"}");
+        params.put(AgentUtils.MAX_PARALLEL_TOOL_CALLS, "2");
+
+        Map<String, Object> toolUse = Map
+            .of(
+                "tool_calls",
+                List
+                    .of(
+                        Map.of("name", FIRST_TOOL, "input", "input 1", "id", "id_1"),
+                        Map.of("name", SECOND_TOOL, "input", "input 2", "id", "id_2")
+                    ),
+                "finish_reason",
+                "tool_use"
+            );
+        Map<String, Object> finalAnswer = Map.of("response", "This is the final answer", "finish_reason", "stop");
+        Mockito
+            .doAnswer(getLLMAnswerAsObject(toolUse))
+            .doAnswer(getLLMAnswerAsObject(finalAnswer))
+            .when(client)
+            .execute(any(ActionType.class), any(ActionRequest.class), isA(ActionListener.class));
+
+        mlChatAgentRunner.run(mlAgent, params, agentActionListener, null);
+
+        // both tool calls of the LLM response run in the same step
+        verify(firstTool).run(any(), any());
+        verify(secondTool).run(any(), any());
+        verify(client, Mockito.times(2)).execute(any(ActionType.class), any(ActionRequest.class), isA(ActionListener.class));
+        Mockito.verify(agentActionListener).onResponse(objectCaptor.capture());
+        ModelTensorOutput modelTensorOutput = (ModelTensorOutput) objectCaptor.getValue();
+        List<ModelTensor> agentOutput = modelTensorOutput.getMlModelOutputs().get(1).getMlModelTensors();
+        assertEquals("This is the final answer", agentOutput.get(0).getDataAsMap().get("response"));
+    }
+
+    @Test
+    public void testParallelToolCalls_OutputsInCallOrder() {
+        List<ActionListener<Object>> toolListeners = new ArrayList<>();
+        doAnswer(invocation -> toolListeners.add(invocation.getArgument(1))).when(firstTool).run(any(), any());
+        doAnswer(invocation -> toolListeners.add(invocation.getArgument(1))).when(secondTool).run(any(), any());
+        Map<String, String> tmpParameters = new HashMap<>();
+        tmpParameters
+            .put(MLChatAgentRunner.INTERACTION_TEMPLATE_TOOL_RESPONSE, "${_interactions.tool_call_id}:${_interactions.tool_response}");
+        List<String> interactions = new ArrayList<>();
+        List<Object> outputs = new ArrayList<>();
+
+        runParallelToolCalls(
+            tmpParameters,
+            List.of(toolCall(FIRST_TOOL, "id_1"), toolCall(SECOND_TOOL, "id_2"), toolCall("unknownTool", "id_3")),
+            interactions,
+            ActionListener.wrap(outputs::add, e -> fail(e.getMessage())),
+            2
+        );
+
+        // the first two tool calls run at the same time
+        assertEquals(2, toolListeners.size());
+        toolListeners.get(1).onResponse("Second tool response");
+        assertTrue(outputs.isEmpty());
+        toolListeners.get(0).onResponse("First tool response");
+
+        assertEquals(1, outputs.size());
+        List<MLChatAgentRunner.ToolCallOutput> toolCallOutputs = ((MLChatAgentRunner.ToolCallOutputs) outputs.get(0)).outputs();
+        assertEquals(List.of(FIRST_TOOL, SECOND_TOOL, "unknownTool"), toolCallOutputs.stream().map(o -> o.action()).toList());
+        assertEquals("First tool response", toolCallOutputs.get(0).output());
+        assertEquals("Second tool response", toolCallOutputs.get(1).output());
+        assertTrue(toolCallOutputs.get(2).failed());
+        assertEquals("Failed to run the tool unknownTool which is unsupported.", toolCallOutputs.get(2).output());
+        assertEquals(
+            List
+                .of(
+                    "id_1:First tool response",
+                    "id_2:Second tool response",
+                    "id_3:Failed to run the tool unknownTool which is unsupported."
+                ),
+            interactions
+        );
+    }
+
+    @Test
+    public void testParallelToolCalls_Limit() {
+        List<ActionListener<Object>> toolListeners = new ArrayList<>();
+        doAnswer(invocation -> toolListeners.add(invocation.getArgument(1))).when(firstTool).run(any(), any());
+        List<Object> outputs = new ArrayList<>();
+
+        runParallelToolCalls(
+            new HashMap<>(),
+            List.of(toolCall(FIRST_TOOL, "id_1"), toolCall(FIRST_TOOL, "id_2"), toolCall(FIRST_TOOL, "id_3")),
+            new ArrayList<>(),
+            ActionListener.wrap(outputs::add, e -> fail(e.getMessage())),
+            2
+        );
+
+        assertEquals(2, toolListeners.size());
+        toolListeners.get(0).onFailure(new IllegalArgumentException("tool error"));
+        // the next tool call starts once one completes
+        assertEquals(3, toolListeners.size());
+        toolListeners.get(1).onResponse("response 2");
+        toolListeners.get(2).onResponse("response 3");
+
+        List<MLChatAgentRunner.ToolCallOutput> toolCallOutputs = ((MLChatAgentRunner.ToolCallOutputs) outputs.get(0)).outputs();
+        assertTrue(toolCallOutputs.get(0).failed());
+        assertEquals("Failed to run the tool firstTool with the error message tool error.", toolCallOutputs.get(0).output());
+        assertEquals("response 2", toolCallOutputs.get(1).output());
+        assertEquals("response 3", toolCallOutputs.get(2).output());
+    }
+
+    @Test
+    public void testParallelToolCalls_FunctionCalling() {
+        List<String> interactions = new ArrayList<>();
+        FunctionCalling functionCalling = FunctionCallingFactory.create(AgentUtils.LLM_INTERFACE_OPENAI_V1_CHAT_COMPLETIONS);
+
+        new MLChatAgentRunner.ParallelToolCalls(
+            Map.of(FIRST_TOOL, firstTool, SECOND_TOOL, secondTool),
+            createToolSpecMap(),
+            new HashMap<>(),
+            "question",
+            List.of(toolCall(FIRST_TOOL, "id_1"), toolCall(SECOND_TOOL, "id_2")),
+            interactions,
+            functionCalling,
+            ActionListener.wrap(r -> {}, e -> fail(e.getMessage()))
+        ).run(2);
+
+        // every tool call of the LLM response gets its own tool message
+        assertEquals(2, interactions.size());
+        assertTrue(interactions.get(0).contains("\"tool_call_id\":\"id_1\""));
+        assertTrue(interactions.get(0).contains("First tool response"));
+        assertTrue(interactions.get(1).contains("\"tool_call_id\":\"id_2\""));
+        assertTrue(interactions.get(1).contains("Second tool response"));
+    }
+
+    private void runParallelToolCalls(
+        Map<String, String> tmpParameters,
+        List<Map<String, String>> toolCalls,
+        List<String> interactions,
+        ActionListener<Object> listener,
+        int maxParallelToolCalls
+    ) {
+        new MLChatAgentRunner.ParallelToolCalls(
+            Map.of(FIRST_TOOL, firstTool, SECOND_TOOL, secondTool),
+            createToolSpecMap(),
+            tmpParameters,
+            "question",
+            toolCalls,
+            interactions,
+            null,
+            listener
+        ).run(maxParallelToolCalls);
+    }
+
+    private Map<String, MLToolSpec> createToolSpecMap() {
+        return Map
+            .of(
+                FIRST_TOOL,
+                MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).build(),
+                SECOND_TOOL,
+                MLToolSpec.builder().name(SECOND_TOOL).type(SECOND_TOOL).build()
+            );
+    }
+
+    private Map<String, String> toolCall(String toolName, String toolCallId) {
+        return Map.of(AgentUtils.TOOL_NAME, toolName, AgentUtils.TOOL_INPUT, "input", AgentUtils.TOOL_CALL_ID, toolCallId);
+    }
+
+    private MLAgent createMLAgentWithTwoTools() {
+        LLMSpec llmSpec = LLMSpec.builder().modelId("MODEL_ID").build();
+        return MLAgent
+            .builder()
+            .name("TestAgent")
+            .type(MLAgentType.CONVERSATIONAL.name())
+            .tools(createToolSpecMap().values().stream().sorted((a, b) -> a.getName().compareTo(b.getName())).toList())
+            .memory(mlMemorySpec)
+            .llm(llmSpec)
+            .build();
+    }
+
+    private Answer getLLMAnswerAsObject(Map<String, Object> llmResponse) {
+        return invocation -> {
+            ActionListener<Object> listener = invocation.getArgument(2);
+            ModelTensor modelTensor = ModelTensor.builder().dataAsMap(llmResponse).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+            listener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        };
+    }
+
     // Helper methods to create MLAgent and parameters
     private MLAgent createMLAgentWithTools() {
         LLMSpec llmSpec = LLMSpec.builder().modelId("MODEL_ID").build();
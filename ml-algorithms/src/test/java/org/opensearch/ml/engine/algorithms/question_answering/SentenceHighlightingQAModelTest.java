@@ -38,6 +38,7 @@ import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.algorithms.DLModel;
+import org.opensearch.ml.engine.algorithms.PredictorPool;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 
@@ -183,6 +184,9 @@ public class SentenceHighlightingQAModelTest {
         java.lang.reflect.Field predictorsField = DLModel.class.getDeclaredField("predictors");
         predictorsField.setAccessible(true);
         predictorsField.set(questionAnsweringModel, new Predictor[] { mockPredictor });
+        java.lang.reflect.Field predictorPoolField = DLModel.class.getDeclaredField("predictorPool");
+        predictorPoolField.setAccessible(true);
+        predictorPoolField.set(questionAnsweringModel, new PredictorPool(List.of(mockPredictor)));
 
         // Get prediction
         ModelTensorOutput output = questionAnsweringModel.predict("test_model_id", mlInput);
@@ -5,7 +5,10 @@
 
 package org.opensearch.ml.engine.algorithms.remote;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -15,7 +18,9 @@ import static org.opensearch.ml.common.connector.ConnectorAction.ActionType.PRED
 import static org.opensearch.ml.engine.algorithms.remote.MLSdkAsyncHttpResponseHandler.AMZ_ERROR_HEADER;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -32,6 +37,7 @@ import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.connector.MLPostProcessFunction;
+import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.script.ScriptService;
 import org.reactivestreams.Publisher;
@@ -449,4 +455,85 @@ public class MLSdkAsyncHttpResponseHandlerTest {
             exceptionCaptor.getValue().getMessage()
         );
     }
+
+    @Test
+    public void test_onNext_multiByteCharacterSplitAcrossBuffers() {
+        test_onSubscribe();
+        byte[] bytes = "{\"text\": \"h\u00e9llo\"}".getBytes(StandardCharsets.UTF_8);
+        int split = 12; // in the middle of the two bytes of \u00e9
+        responseSubscriber.onNext(ByteBuffer.wrap(bytes, 0, split));
+        responseSubscriber.onNext(ByteBuffer.wrap(bytes, split, bytes.length - split));
+        assertEquals("{\"text\": \"h\u00e9llo\"}", mlSdkAsyncHttpResponseHandler.getResponseBody());
+    }
+
+    @Test
+    public void test_OnStream_openAIEmbedding_extractedWhileParsing() throws Exception {
+        String response = "{\"object\": \"list\", \"data\": ["
+            + "{\"object\": \"embedding\", \"index\": 0, \"embedding\": [0.0023064255, -0.009327292, 1]},"
+            + "{\"object\": \"embedding\", \"index\": 1, \"embedding\": [-0.0028842222, 0.7, -2.5E-4]}"
+            + "], \"model\": \"text-embedding-ada-002\", \"usage\": {\"prompt_tokens\": 8, \"total_tokens\": 8}}";
+        Connector openAIConnector = embeddingConnector(MLPostProcessFunction.OPENAI_EMBEDDING);
+        Map<String, String> params = new HashMap<>();
+        ModelTensors streamed = onStream(openAIConnector, params, response);
+        ModelTensors expected = ConnectorUtils.processOutput(action, response, openAIConnector, scriptService, params, null);
+
+        assertEquals(200, streamed.getStatusCode().intValue());
+        assertEquals(expected.getMlModelTensors().size(), streamed.getMlModelTensors().size());
+        for (int i = 0; i < expected.getMlModelTensors().size(); i++) {
+            ModelTensor expectedTensor = expected.getMlModelTensors().get(i);
+            ModelTensor streamedTensor = streamed.getMlModelTensors().get(i);
+            assertNotNull(streamedTensor.getFloatData());
+            assertEquals(expectedTensor.getName(), streamedTensor.getName());
+            assertEquals(expectedTensor.getDataType(), streamedTensor.getDataType());
+            assertArrayEquals(expectedTensor.getShape(), streamedTensor.getShape());
+            float[] expectedData = new float[expectedTensor.getData().length];
+            for (int j = 0; j < expectedData.length; j++) {
+                expectedData[j] = expectedTensor.getData()[j].floatValue();
+            }
+            assertArrayEquals(expectedData, streamedTensor.getFloatData(), 0f);
+        }
+    }
+
+    @Test
+    public void test_OnStream_embeddingWithResponseFilter_usesPostProcessFunction() {
+        String response = "{\"result\": {\"embedding\": [0.1, 0.2]}}";
+        Map<String, String> params = new HashMap<>();
+        params.put("response_filter", "$.result.embedding");
+        ModelTensors tensors = onStream(embeddingConnector(MLPostProcessFunction.BEDROCK_EMBEDDING), params, response);
+        assertNull(tensors.getMlModelTensors().get(0).getFloatData());
+        assertEquals(2, tensors.getMlModelTensors().get(0).getData().length);
+    }
+
+    private Connector embeddingConnector(String postProcessFunction) {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(PREDICT)
+            .method("POST")
+            .postProcessFunction(postProcessFunction)
+            .url("http://test.com/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .build();
+        return HttpConnector.builder().name("test connector").version("1").protocol("http").actions(List.of(predictAction)).build();
+    }
+
+    private ModelTensors onStream(Connector connector, Map<String, String> params, String response) {
+        MLSdkAsyncHttpResponseHandler handler = new MLSdkAsyncHttpResponseHandler(
+            executionContext,
+            actionListener,
+            params,
+            connector,
+            scriptService,
+            null,
+            action
+        );
+        handler.onHeaders(sdkHttpResponse);
+        handler.onStream(s -> {
+            s.onSubscribe(mock(Subscription.class));
+            s.onNext(ByteBuffer.wrap(response.getBytes(StandardCharsets.UTF_8)));
+            s.onComplete();
+        });
+        ArgumentCaptor<Tuple<Integer, ModelTensors>> captor = ArgumentCaptor.forClass(Tuple.class);
+        verify(actionListener).onResponse(captor.capture());
+        return captor.getValue().v2();
+    }
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.common.unit.TimeValue;
+
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpSchema;
+
+public class McpClientPoolTest {
+
+    private static final McpSchema.ListToolsResult TOOLS = new McpSchema.ListToolsResult(
+        List.of(new McpSchema.Tool("tool1", "desc1", "{\"type\":\"object\"}")),
+        null
+    );
+
+    private long now;
+    private List<McpSyncClient> clients;
+    private McpClientPool pool;
+
+    @Before
+    public void setUp() {
+        now = 0;
+        clients = new ArrayList<>();
+        pool = new McpClientPool(TimeValue.timeValueMinutes(10), TimeValue.timeValueMinutes(5), TimeValue.timeValueSeconds(30), () -> now);
+    }
+
+    @Test
+    public void acquire_ReusesSession() throws Exception {
+        McpClientPool.McpTools first = pool.acquire("key", this::newClient);
+        now += TimeValue.timeValueSeconds(10).nanos();
+        McpClientPool.McpTools second = pool.acquire("key", this::newClient);
+
+        assertEquals(1, clients.size());
+        assertSame(first.client(), second.client());
+        assertSame(TOOLS, second.tools());
+        // the tools are cached and the session wasn't idle long enough for a health check
+        verify(clients.get(0), times(1)).listTools();
+        verify(clients.get(0), never()).ping();
+
+        pool.release(first.client());
+        pool.release(second.client());
+        verify(clients.get(0), never()).closeGracefully();
+    }
+
+    @Test
+    public void acquire_SessionPerKey() throws Exception {
+        pool.acquire("key1", this::newClient);
+        pool.acquire("key2", this::newClient);
+
+        assertEquals(2, clients.size());
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void acquire_ListsToolsAfterTtl() throws Exception {
+        pool.acquire("key", this::newClient);
+        now += TimeValue.timeValueMinutes(6).nanos();
+        pool.acquire("key", this::newClient);
+
+        assertEquals(1, clients.size());
+        verify(clients.get(0), times(2)).listTools();
+        verify(clients.get(0), times(1)).ping();
+    }
+
+    @Test
+    public void acquire_ReconnectsAfterFailedHealthCheck() throws Exception {
+        McpSyncClient first = pool.acquire("key", this::newClient).client();
+        when(first.ping()).thenThrow(new RuntimeException("connection closed"));
+        now += TimeValue.timeValueMinutes(1).nanos();
+
+        McpSyncClient second = pool.acquire("key", this::newClient).client();
+
+        assertEquals(2, clients.size());
+        assertSame(clients.get(1), second);
+        // the old session is closed once the agent using it released it
+        verify(first, never()).closeGracefully();
+        pool.release(first);
+        verify(first).closeGracefully();
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void acquire_ReconnectsAfterFailedListTools() throws Exception {
+        McpSyncClient broken = mock(McpSyncClient.class);
+        when(broken.listTools()).thenThrow(new RuntimeException("session expired"));
+        List<McpSyncClient> created = new ArrayList<>(List.of(broken));
+
+        McpClientPool.McpTools tools = pool.acquire("key", () -> created.isEmpty() ? newClient() : created.remove(0));
+
+        assertSame(clients.get(0), tools.client());
+        assertSame(TOOLS, tools.tools());
+        verify(broken).closeGracefully();
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void lease_ReleasedOncePerAcquisition() throws Exception {
+        McpClientPool.McpTools first = pool.acquire("key", this::newClient);
+        McpClientPool.McpTools second = pool.acquire("key", this::newClient);
+        McpSyncClient client = first.client();
+        when(client.ping()).thenThrow(new RuntimeException("connection closed"));
+        now += TimeValue.timeValueMinutes(1).nanos();
+        pool.acquire("key", this::newClient);
+
+        // releasing the lease of the first acquisition again doesn't release the second one
+        first.lease().release();
+        first.lease().release();
+        verify(client, never()).closeGracefully();
+        second.lease().release();
+        verify(client).closeGracefully();
+    }
+
+    @Test(timeout = 10_000)
+    public void acquire_ListsToolsOutsideSessionLock() throws Exception {
+        McpClientPool.McpTools first = pool.acquire("key", this::newClient);
+        McpSyncClient client = first.client();
+        CountDownLatch listing = new CountDownLatch(1);
+        CountDownLatch listed = new CountDownLatch(1);
+        when(client.listTools()).thenAnswer(invocation -> {
+            listing.countDown();
+            listed.await();
+            return TOOLS;
+        });
+        now += TimeValue.timeValueMinutes(6).nanos();
+        Thread agent = new Thread(() -> {
+            try {
+                pool.acquire("key", this::newClient).lease().release();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        agent.start();
+        listing.await();
+
+        // another agent releases its client while the tools are listed
+        first.lease().release();
+        listed.countDown();
+        agent.join();
+        verify(client, times(2)).listTools();
+    }
+
+    @Test
+    public void acquire_FailsToConnect() {
+        assertThrows(RuntimeException.class, () -> pool.acquire("key", () -> { throw new RuntimeException("connection refused"); }));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void release_ClosesClientNotFromPool() {
+        McpSyncClient client = mock(McpSyncClient.class);
+        pool.release(client);
+        verify(client).closeGracefully();
+    }
+
+    @Test
+    public void acquire_EvictsIdleSessions() throws Exception {
+        pool = new McpClientPool(TimeValue.timeValueNanos(1), TimeValue.timeValueMinutes(5), TimeValue.timeValueSeconds(30), () -> now);
+        McpSyncClient idle = pool.acquire("idle", this::newClient).client();
+        pool.release(idle);
+        Thread.sleep(5);
+
+        pool.acquire("key", this::newClient);
+
+        verify(idle).closeGracefully();
+    }
+
+    private McpSyncClient newClient() {
+        McpSyncClient client = mock(McpSyncClient.class);
+        when(client.listTools()).thenReturn(TOOLS);
+        clients.add(client);
+        return client;
+    }
+}
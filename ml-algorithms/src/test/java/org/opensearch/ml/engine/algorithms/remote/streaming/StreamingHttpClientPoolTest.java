@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote.streaming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.time.Duration;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import okhttp3.OkHttpClient;
+
+public class StreamingHttpClientPoolTest {
+
+    private StreamingHttpClientPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new StreamingHttpClientPool();
+    }
+
+    @After
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    public void getClient_ReusesClientForSameTimeouts() {
+        OkHttpClient first = pool.getClient(Duration.ofSeconds(10), Duration.ofSeconds(30));
+        OkHttpClient second = pool.getClient(Duration.ofSeconds(10), Duration.ofSeconds(30));
+
+        assertSame(first, second);
+        assertEquals(1, pool.getClientCount());
+        assertEquals(10_000, first.connectTimeoutMillis());
+        assertEquals(30_000, first.readTimeoutMillis());
+    }
+
+    @Test
+    public void getClient_SharesConnectionsAcrossTimeouts() {
+        OkHttpClient first = pool.getClient(Duration.ofSeconds(10), Duration.ofSeconds(30));
+        OkHttpClient second = pool.getClient(Duration.ofSeconds(10), Duration.ofSeconds(60));
+
+        assertNotSame(first, second);
+        assertEquals(2, pool.getClientCount());
+        assertSame(first.connectionPool(), second.connectionPool());
+        assertSame(first.dispatcher(), second.dispatcher());
+        assertEquals(60_000, second.readTimeoutMillis());
+    }
+
+    @Test
+    public void getClient_MaxRequestsPerHost() {
+        pool.setMaxRequestsPerHost(200);
+        OkHttpClient client = pool.getClient(Duration.ofSeconds(10), Duration.ofSeconds(30));
+
+        assertEquals(200, client.dispatcher().getMaxRequestsPerHost());
+        assertEquals(200, client.dispatcher().getMaxRequests());
+    }
+
+    @Test
+    public void setMaxRequestsPerHost_AppliesToExistingClients() {
+        OkHttpClient client = pool.getClient(Duration.ofSeconds(10), Duration.ofSeconds(30));
+        assertEquals(StreamingHttpClientPool.DEFAULT_MAX_REQUESTS_PER_HOST, client.dispatcher().getMaxRequestsPerHost());
+
+        pool.setMaxRequestsPerHost(2000);
+        assertEquals(2000, client.dispatcher().getMaxRequestsPerHost());
+        assertEquals(2000, client.dispatcher().getMaxRequests());
+
+        pool.setMaxRequestsPerHost(100);
+        assertEquals(100, client.dispatcher().getMaxRequestsPerHost());
+    }
+
+    @Test
+    public void close_CreatesNewClientsAfterwards() {
+        OkHttpClient first = pool.getClient(Duration.ofSeconds(10), Duration.ofSeconds(30));
+        pool.close();
+        assertEquals(0, pool.getClientCount());
+
+        OkHttpClient second = pool.getClient(Duration.ofSeconds(10), Duration.ofSeconds(30));
+        assertNotSame(first, second);
+        assertNotSame(first.connectionPool(), second.connectionPool());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote.streaming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StreamingStatsTest {
+
+    @Before
+    public void setUp() {
+        StreamingStats.reset();
+    }
+
+    @After
+    public void tearDown() {
+        StreamingStats.reset();
+    }
+
+    @Test
+    public void startStream_CountsOpenStreams() {
+        StreamingStats.StreamTracker first = StreamingStats.startStream();
+        StreamingStats.StreamTracker second = StreamingStats.startStream();
+        assertEquals(2, StreamingStats.getOpenStreamCount());
+
+        first.close();
+        first.close();
+        assertEquals(1, StreamingStats.getOpenStreamCount());
+
+        second.close();
+        assertEquals(0, StreamingStats.getOpenStreamCount());
+        assertEquals(2, StreamingStats.getTotalStreamCount());
+    }
+
+    @Test
+    public void onToken_RecordsFirstTokenOnce() throws InterruptedException {
+        StreamingStats.StreamTracker tracker = StreamingStats.startStream();
+        assertEquals(0, StreamingStats.getRecentTimeToFirstToken());
+
+        Thread.sleep(20);
+        tracker.onToken();
+        long timeToFirstToken = StreamingStats.getRecentTimeToFirstToken();
+        Thread.sleep(20);
+        tracker.onToken();
+
+        assertEquals(timeToFirstToken, StreamingStats.getRecentTimeToFirstToken());
+        assertTrue(timeToFirstToken >= 20);
+        tracker.close();
+    }
+
+    @Test
+    public void recordTimeToFirstToken_MovingAverage() {
+        StreamingStats.recordTimeToFirstToken(100);
+        assertEquals(100, StreamingStats.getRecentTimeToFirstToken());
+
+        StreamingStats.recordTimeToFirstToken(200);
+        assertEquals(110, StreamingStats.getRecentTimeToFirstToken());
+    }
+}
@@ -17,20 +17,29 @@
  */
 package org.opensearch.ml.engine.algorithms.text_similarity;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.engine.algorithms.DLModel.*;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -38,6 +47,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.junit.After;
 import org.junit.Before;
@@ -47,18 +57,25 @@ import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataset.TextSimilarityInputDataSet;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.model.MLDeploySetting;
+import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.algorithms.DLModel;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
+import org.opensearch.ml.engine.algorithms.PredictorPool;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.utils.FileUtils;
 
 import ai.djl.Model;
+import ai.djl.inference.Predictor;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
@@ -66,6 +83,7 @@ import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
+import ai.djl.translate.TranslateException;
 import ai.djl.translate.TranslatorContext;
 import lombok.extern.log4j.Log4j2;
 
@@ -155,6 +173,9 @@ public class TextSimilarityCrossEncoderModelTest {
         when(ndArray.squeeze()).thenReturn(ndArray);
         when(ndArray.getFloat(any())).thenReturn(1.0f);
         when(ndArray.toArray()).thenReturn(new Number[] { 1.245f });
+        when(ndArray.toFloatArray()).thenReturn(new float[] { 1.245f });
+        ByteBuffer buffer = ByteBuffer.allocate(Float.BYTES).order(ByteOrder.LITTLE_ENDIAN).putFloat(0, 1.245f);
+        when(ndArray.toByteBuffer()).thenReturn(buffer);
         when(ndArray.getName()).thenReturn("output");
         when(ndArray.getShape()).thenReturn(shape);
         when(shape.getShape()).thenReturn(new long[] { 1 });
@@ -171,6 +192,119 @@ public class TextSimilarityCrossEncoderModelTest {
         assertEquals("similarity", modelTensor.getName());
         Number[] data = modelTensor.getData();
         assertEquals(1, data.length);
+        // the REST output keeps the byte buffer of float results
+        assertArrayEquals(buffer.array(), modelTensor.getByteBuffer().array());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, modelTensor.getByteBuffer().order());
+    }
+
+    @Test
+    public void test_TextSimilarity_Translator_BatchProcessInput() throws URISyntaxException, IOException {
+        TextSimilarityTranslator textSimilarityTranslator = new TextSimilarityTranslator();
+        TranslatorContext translatorContext = mock(TranslatorContext.class);
+        Model mlModel = mock(Model.class);
+        when(translatorContext.getModel()).thenReturn(mlModel);
+        when(mlModel.getModelPath()).thenReturn(Paths.get(getClass().getResource("../tokenize/tokenizer.json").toURI()).getParent());
+        assertEquals(-1, textSimilarityTranslator.getMaxLength());
+        textSimilarityTranslator.prepare(translatorContext);
+
+        NDManager manager = mock(NDManager.class);
+        when(translatorContext.getNDManager()).thenReturn(manager);
+        List<long[][]> arrays = new ArrayList<>();
+        when(manager.create((long[][]) any())).thenAnswer(invocation -> {
+            arrays.add(invocation.getArgument(0));
+            return mock(NDArray.class);
+        });
+        Input shortPair = new Input();
+        shortPair.add("hello");
+        shortPair.add("hello");
+        Input longPair = new Input();
+        longPair.add("hello");
+        longPair.add("hello world");
+
+        NDList ndList = textSimilarityTranslator.batchProcessInput(translatorContext, List.of(shortPair, longPair));
+        assertEquals(3, ndList.size());
+        // input ids, attention mask and token types of both pairs are padded to the longer pair
+        assertEquals(3, arrays.size());
+        int longPairTokens = arrays.get(0)[1].length;
+        for (long[][] array : arrays) {
+            assertEquals(2, array.length);
+            assertEquals(longPairTokens, array[0].length);
+            assertEquals(longPairTokens, array[1].length);
+        }
+        assertEquals(0, arrays.get(1)[0][longPairTokens - 1]);
+        assertEquals(1, arrays.get(1)[1][longPairTokens - 1]);
+    }
+
+    @Test
+    public void estimateTokens() {
+        assertEquals(0, TextSimilarityCrossEncoderModel.estimateTokens(null));
+        assertEquals(0, TextSimilarityCrossEncoderModel.estimateTokens(" "));
+        // "hello" is 2 tokens, "world" 2 and "!" 1
+        assertEquals(5, TextSimilarityCrossEncoderModel.estimateTokens("hello world!"));
+        assertEquals(1, TextSimilarityCrossEncoderModel.estimateTokens("abc"));
+        // each ideograph is a token
+        assertEquals(4, TextSimilarityCrossEncoderModel.estimateTokens("你好世界"));
+        assertTrue(
+            TextSimilarityCrossEncoderModel.estimateTokens("a much longer document text")
+                > TextSimilarityCrossEncoderModel.estimateTokens("short text")
+        );
+    }
+
+    @Test
+    public void groupByLength() {
+        int[] tokenCounts = new int[] { 100, 10, 50, 12, 1000, 11 };
+        List<List<Integer>> batches = TextSimilarityCrossEncoderModel.groupByLength(tokenCounts, 200);
+        // sorted by length, each batch padded to its longest input has at most 200 tokens
+        assertEquals(List.of(List.of(1, 5, 3, 2), List.of(0), List.of(4)), batches);
+        assertEquals(List.of(List.of(1, 5, 3, 2, 0, 4)), TextSimilarityCrossEncoderModel.groupByLength(tokenCounts, 6000));
+        assertEquals(6, TextSimilarityCrossEncoderModel.groupByLength(tokenCounts, 1).size());
+        assertEquals(List.of(), TextSimilarityCrossEncoderModel.groupByLength(new int[0], 200));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void predict_BatchesPairsBySimilarLength() throws Exception {
+        Predictor<Input, Output> predictor = mock(Predictor.class);
+        when(predictor.predict(any())).thenAnswer(invocation -> similarityOutput(invocation.getArgument(0)));
+        when(predictor.batchPredict(anyList())).thenAnswer(invocation -> {
+            List<Input> inputs = invocation.getArgument(0);
+            return inputs.stream().map(this::similarityOutput).collect(Collectors.toList());
+        });
+        setDLModelField("predictorPool", new PredictorPool(List.of(predictor)));
+        setDLModelField("deploySetting", MLDeploySetting.builder().maxBatchTokens(100).build());
+
+        String longDoc = "long document ".repeat(30);
+        List<String> docs = List.of("short doc one", longDoc, "short doc two", "short doc three");
+        TextSimilarityInputDataSet dataSet = TextSimilarityInputDataSet.builder().textDocs(docs).queryText("query").build();
+        ModelTensorOutput output = textSimilarityCrossEncoderModel
+            .predict("test_model_id", MLInput.builder().algorithm(FunctionName.TEXT_SIMILARITY).inputDataset(dataSet).build());
+
+        // the short pairs run in one batch, the long pair on its own, and the outputs keep the order of the documents
+        verify(predictor, times(1)).batchPredict(anyList());
+        verify(predictor, times(1)).predict(any());
+        assertEquals(docs.size(), output.getMlModelOutputs().size());
+        for (int i = 0; i < docs.size(); i++) {
+            assertEquals(docs.get(i), output.getMlModelOutputs().get(i).getMlModelTensors().get(0).getName());
+        }
+    }
+
+    private Output similarityOutput(Input input) {
+        Output output = new Output(200, "OK");
+        // name the tensor by the document to check the order of the outputs
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name(input.getAsString(1))
+            .dataType(MLResultDataType.FLOAT32)
+            .data(new Number[] { 1.0f })
+            .build();
+        output.add(new ModelTensorsSupplier(new ModelTensors(List.of(tensor))));
+        return output;
+    }
+
+    private void setDLModelField(String name, Object value) throws Exception {
+        java.lang.reflect.Field field = DLModel.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(textSimilarityCrossEncoderModel, value);
     }
 
     @Test
@@ -189,6 +323,26 @@ public class TextSimilarityCrossEncoderModelTest {
         textSimilarityCrossEncoderModel.close();
     }
 
+    @Test
+    public void initModel_WarmsUpEveryPredictor() {
+        List<Predictor> warmedUp = new ArrayList<>();
+        TextSimilarityCrossEncoderModel crossEncoderModel = new TextSimilarityCrossEncoderModel() {
+            @Override
+            public void warmUp(Predictor predictor, String modelId, MLModelConfig modelConfig) throws TranslateException {
+                warmedUp.add(predictor);
+                super.warmUp(predictor, modelId, modelConfig);
+            }
+        };
+        model = model.toBuilder().deploySetting(MLDeploySetting.builder().predictorReplicas(2).build()).build();
+
+        crossEncoderModel.initModel(model, params, encryptor);
+
+        // no predictor of the pool serves its first request cold
+        assertEquals(2, warmedUp.size());
+        assertNotSame(warmedUp.get(0), warmedUp.get(1));
+        crossEncoderModel.close();
+    }
+
     @Test
     public void initModel_predict_ONNX_CrossEncoder() throws URISyntaxException {
         model = MLModel
@@ -8,6 +8,7 @@ package org.opensearch.ml.engine.function_calling;
 import static org.junit.Assert.*;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_INTERFACE_OPENAI_V1_CHAT_COMPLETIONS;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_RESPONSE_FILTER;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.MAX_PARALLEL_TOOL_CALLS;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALL_ID;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_RESULT;
 import static org.opensearch.ml.engine.function_calling.OpenaiV1ChatCompletionsFunctionCalling.FINISH_REASON;
@@ -60,6 +61,16 @@ public class OpenaiV1ChatCompletionsFunctionCallingTests {
         functionCalling.configure(parameters);
         Assert.assertEquals(16, parameters.size());
         Assert.assertEquals(OPENAI_V1_CHAT_COMPLETION_TEMPLATE, parameters.get("tool_template"));
+        Assert.assertEquals("false", parameters.get("parallel_tool_calls"));
+    }
+
+    @Test
+    public void configure_ParallelToolCalls() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put(MAX_PARALLEL_TOOL_CALLS, "4");
+        functionCalling.configure(parameters);
+        Assert.assertEquals("true", parameters.get("parallel_tool_calls"));
+        Assert.assertTrue(parameters.get("tool_configs").endsWith("\"parallel_tool_calls\": true"));
     }
 
     @Test
@@ -89,4 +100,21 @@ public class OpenaiV1ChatCompletionsFunctionCallingTests {
         Assert.assertEquals("test_tool_call_id", message.getToolCallId());
         Assert.assertEquals("test result for openai v1", message.getContent());
     }
+
+    @Test
+    public void supply_MultipleToolResults() {
+        List<LLMMessage> messages = functionCalling
+            .supply(
+                List
+                    .of(
+                        ImmutableMap.of(TOOL_CALL_ID, "call_1", TOOL_RESULT, ImmutableMap.of("text", "result 1")),
+                        ImmutableMap.of(TOOL_CALL_ID, "call_2", TOOL_RESULT, ImmutableMap.of("text", "result 2"))
+                    )
+            );
+        Assert.assertEquals(2, messages.size());
+        Assert.assertEquals("call_1", ((OpenaiMessage) messages.get(0)).getToolCallId());
+        Assert.assertEquals("result 1", ((OpenaiMessage) messages.get(0)).getContent());
+        Assert.assertEquals("call_2", ((OpenaiMessage) messages.get(1)).getToolCallId());
+        Assert.assertEquals("result 2", ((OpenaiMessage) messages.get(1)).getContent());
+    }
 }
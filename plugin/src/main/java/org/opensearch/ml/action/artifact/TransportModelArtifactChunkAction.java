@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.artifact;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkAction;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodeRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodeResponse;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodesRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodesResponse;
+import org.opensearch.ml.model.MLModelArtifactDistributor;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Serve a range of a cached model zip to another node deploying the model.
+ */
+public class TransportModelArtifactChunkAction extends
+    TransportNodesAction<MLModelArtifactChunkNodesRequest, MLModelArtifactChunkNodesResponse, MLModelArtifactChunkNodeRequest, MLModelArtifactChunkNodeResponse> {
+    private final ClusterService clusterService;
+    private final MLModelArtifactDistributor modelArtifactDistributor;
+
+    @Inject
+    public TransportModelArtifactChunkAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        MLModelArtifactDistributor modelArtifactDistributor
+    ) {
+        super(
+            MLModelArtifactChunkAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            MLModelArtifactChunkNodesRequest::new,
+            MLModelArtifactChunkNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            MLModelArtifactChunkNodeResponse.class
+        );
+        this.clusterService = clusterService;
+        this.modelArtifactDistributor = modelArtifactDistributor;
+    }
+
+    @Override
+    protected MLModelArtifactChunkNodesResponse newResponse(
+        MLModelArtifactChunkNodesRequest nodesRequest,
+        List<MLModelArtifactChunkNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new MLModelArtifactChunkNodesResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected MLModelArtifactChunkNodeRequest newNodeRequest(MLModelArtifactChunkNodesRequest request) {
+        return new MLModelArtifactChunkNodeRequest(request);
+    }
+
+    @Override
+    protected MLModelArtifactChunkNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new MLModelArtifactChunkNodeResponse(in);
+    }
+
+    @Override
+    protected MLModelArtifactChunkNodeResponse nodeOperation(MLModelArtifactChunkNodeRequest request) {
+        MLModelArtifactChunkNodesRequest chunkRequest = request.getArtifactChunkNodesRequest();
+        return modelArtifactDistributor
+            .readChunk(clusterService.localNode(), chunkRequest.getModelContentHash(), chunkRequest.getOffset(), chunkRequest.getLength());
+    }
+}
@@ -8,11 +8,15 @@ package org.opensearch.ml.action.memorycontainer.memory;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.MEMORY_FIELD;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.ml.common.memorycontainer.MemoryConfiguration;
 import org.opensearch.ml.common.memorycontainer.MemoryStrategy;
@@ -41,79 +45,117 @@ public class MemorySearchService {
         MemoryConfiguration memoryConfig,
         ActionListener<List<FactSearchResult>> listener
     ) {
-        if (input.getNamespace() == null || input.getNamespace().isEmpty() || facts.isEmpty()) {
+        if (memoryConfig == null || input.getNamespace() == null || input.getNamespace().isEmpty() || facts.isEmpty()) {
             log.debug("Skipping fact search: facts count={}", facts.size());
             listener.onResponse(new ArrayList<>());
             return;
         }
 
-        List<FactSearchResult> allResults = new ArrayList<>();
-        int maxInferSize = memoryConfig != null && memoryConfig.getMaxInferSize() != null ? memoryConfig.getMaxInferSize() : 5;
+        int maxInferSize = memoryConfig.getMaxInferSize() != null ? memoryConfig.getMaxInferSize() : 5;
 
         // Limit the number of facts to process based on maxInferSize
         List<String> factsToProcess = facts.size() > maxInferSize ? facts.subList(0, maxInferSize) : facts;// TODO: check this part
 
-        searchFactsSequentially(strategy, input, factsToProcess, 0, memoryConfig, maxInferSize, allResults, listener);
+        List<String> searchedFacts = new ArrayList<>();
+        List<SearchSourceBuilder> searchSources = new ArrayList<>();
+        for (String fact : factsToProcess) {
+            try {
+                QueryBuilder queryBuilder = MemorySearchQueryBuilder
+                    .buildFactSearchQuery(
+                        strategy,
+                        fact,
+                        input.getNamespace(),
+                        input.getOwnerId(),
+                        memoryConfig,
+                        input.getMemoryContainerId()
+                    );
+
+                log.debug("Searching for similar facts with query: {}", queryBuilder.toString());
+
+                SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+                searchSourceBuilder.query(queryBuilder);
+                searchSourceBuilder.size(maxInferSize);
+                searchSourceBuilder.fetchSource(new String[] { MEMORY_FIELD }, null);
+                searchedFacts.add(fact);
+                searchSources.add(searchSourceBuilder);
+            } catch (Exception e) {
+                log.error("Failed to build search query for fact: {}", fact, e);
+            }
+        }
+        if (searchSources.isEmpty()) {
+            listener.onResponse(new ArrayList<>());
+            return;
+        }
+
+        searchFactsConcurrently(searchedFacts, searchSources, memoryConfig, listener);
     }
 
-    private void searchFactsSequentially(
-        MemoryStrategy strategy,
-        MLAddMemoriesInput input,
+    private void searchFactsConcurrently(
         List<String> facts,
-        int currentIndex,
+        List<SearchSourceBuilder> searchSources,
         MemoryConfiguration memoryConfig,
-        int maxInferSize,
-        List<FactSearchResult> allResults,
         ActionListener<List<FactSearchResult>> listener
     ) {
-        if (currentIndex >= facts.size()) {
-            listener.onResponse(allResults);
-            return;
+        List<SearchDataObjectRequest> searchRequests = new ArrayList<>();
+        for (SearchSourceBuilder searchSource : searchSources) {
+            searchRequests
+                .add(
+                    SearchDataObjectRequest
+                        .builder()
+                        .indices(memoryConfig.getLongMemoryIndexName())
+                        .searchSourceBuilder(searchSource)
+                        .tenantId(memoryConfig.getTenantId())
+                        .build()
+                );
         }
+        memoryContainerHelper.searchDataConcurrently(memoryConfig, searchRequests, ActionListener.wrap(multiSearchResponse -> {
+            List<SearchResponse> responses = new ArrayList<>();
+            MultiSearchResponse.Item[] items = multiSearchResponse.getResponses();
+            for (int i = 0; i < items.length; i++) {
+                if (items[i].isFailure()) {
+                    logSearchFailure(facts.get(i), items[i].getFailure());
+                } else {
+                    responses.add(items[i].getResponse());
+                }
+            }
+            listener.onResponse(mergeFactSearchResults(responses));
+        }, e -> {
+            logSearchFailure(String.join(", ", facts), e);
+            listener.onResponse(new ArrayList<>());
+        }));
+    }
 
-        String fact = facts.get(currentIndex);
-
-        try {
-            QueryBuilder queryBuilder = MemorySearchQueryBuilder
-                .buildFactSearchQuery(strategy, fact, input.getNamespace(), input.getOwnerId(), memoryConfig, input.getMemoryContainerId());
-
-            log.debug("Searching for similar facts with query: {}", queryBuilder.toString());
-
-            SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
-            searchSourceBuilder.query(queryBuilder);
-            searchSourceBuilder.size(maxInferSize);
-            searchSourceBuilder.fetchSource(new String[] { MEMORY_FIELD }, null);
-
-            String indexName = memoryConfig.getLongMemoryIndexName();
-            String tenantId = memoryConfig.getTenantId();
-
-            SearchDataObjectRequest searchRequest = SearchDataObjectRequest
-                .builder()
-                .indices(indexName)
-                .searchSourceBuilder(searchSourceBuilder)
-                .tenantId(tenantId)
-                .build();
+    private void logSearchFailure(String fact, Exception e) {
+        if (ExceptionsHelper.unwrapCause(e) instanceof IndexNotFoundException) {
+            log.debug("Memory index doesn't exist, no similar facts for: {}", fact);
+        } else {
+            log.error("Failed to search for similar facts for: {}", fact, e);
+        }
+    }
 
-            ActionListener<SearchResponse> searchResponseActionListener = ActionListener.wrap(response -> {
-                for (SearchHit hit : response.getHits().getHits()) {
-                    Map<String, Object> sourceMap = hit.getSourceAsMap();
-                    String memory = (String) sourceMap.get(MEMORY_FIELD);
-                    if (memory != null) {
-                        allResults.add(new FactSearchResult(hit.getId(), memory, hit.getScore()));
-                    }
+    /**
+     * Merge the similar facts found for each new fact, so a stored fact similar to several new facts is given once to
+     * the memory decision.
+     *
+     * @param responses search responses of the new facts, in the order of the facts
+     * @return the similar facts in the order they were first found, with their highest score
+     */
+    static List<FactSearchResult> mergeFactSearchResults(List<SearchResponse> responses) {
+        Map<String, FactSearchResult> results = new LinkedHashMap<>();
+        for (SearchResponse response : responses) {
+            for (SearchHit hit : response.getHits().getHits()) {
+                Map<String, Object> sourceMap = hit.getSourceAsMap();
+                String memory = sourceMap == null ? null : (String) sourceMap.get(MEMORY_FIELD);
+                if (memory != null) {
+                    results
+                        .merge(
+                            hit.getId(),
+                            new FactSearchResult(hit.getId(), memory, hit.getScore()),
+                            (first, second) -> second.getScore() > first.getScore() ? second : first
+                        );
                 }
-
-                log.debug("Found {} similar facts for: {}", response.getHits().getHits().length, fact);
-
-                searchFactsSequentially(strategy, input, facts, currentIndex + 1, memoryConfig, maxInferSize, allResults, listener);
-            }, e -> {
-                log.error("Failed to search for similar facts for: {}", fact, e);
-                searchFactsSequentially(strategy, input, facts, currentIndex + 1, memoryConfig, maxInferSize, allResults, listener);
-            });
-            memoryContainerHelper.searchData(memoryConfig, searchRequest, searchResponseActionListener);
-        } catch (Exception e) {
-            log.error("Failed to build search query for fact: {}", fact, e);
-            searchFactsSequentially(strategy, input, facts, currentIndex + 1, memoryConfig, maxInferSize, allResults, listener);
+            }
         }
+        return new ArrayList<>(results.values());
     }
 }
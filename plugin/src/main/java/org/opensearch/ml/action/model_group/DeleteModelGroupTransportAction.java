@@ -211,6 +211,7 @@ public class DeleteModelGroupTransportAction extends HandledTransportAction<Acti
         String modelGroupId,
         ActionListener<DeleteResponse> actionListener
     ) {
+        modelAccessControlHelper.invalidateModelGroup(modelGroupId);
         if (throwable != null) {
             Exception cause = SdkClientUtils.unwrapAndConvertToException(throwable);
             log.error("Failed to delete ML Model Group {}", modelGroupId, cause);
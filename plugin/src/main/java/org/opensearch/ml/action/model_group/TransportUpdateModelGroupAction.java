@@ -268,6 +268,7 @@ public class TransportUpdateModelGroupAction extends HandledTransportAction<Acti
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<MLUpdateModelGroupResponse> wrappedListener = ActionListener.runBefore(listener, context::restore);
             sdkClient.updateDataObjectAsync(updateDataObjectRequest).whenComplete((ur, ut) -> {
+                modelAccessControlHelper.invalidateModelGroup(modelGroupId);
                 if (ut == null) {
                     wrappedListener.onResponse(new MLUpdateModelGroupResponse("Updated"));
                 } else {
@@ -75,6 +75,7 @@ import org.opensearch.ml.common.transport.model.MLModelDeleteRequest;
 import org.opensearch.ml.common.transport.model.MLModelGetRequest;
 import org.opensearch.ml.engine.utils.AgentModelsSearcher;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.ml.model.MLPredictableCache;
 import org.opensearch.ml.utils.RestActionUtils;
 import org.opensearch.ml.utils.TenantAwareHelper;
 import org.opensearch.remote.metadata.client.DeleteDataObjectRequest;
@@ -114,6 +115,7 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
     private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
 
     final AgentModelsSearcher agentModelsSearcher;
+    final MLPredictableCache predictableCache;
 
     @Inject
     public DeleteModelTransportAction(
@@ -126,6 +128,7 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
         ClusterService clusterService,
         ModelAccessControlHelper modelAccessControlHelper,
         AgentModelsSearcher agentModelsSearcher,
+        MLPredictableCache predictableCache,
         MLFeatureEnabledSetting mlFeatureEnabledSetting
     ) {
         super(MLModelDeleteAction.NAME, transportService, actionFilters, MLModelDeleteRequest::new);
@@ -135,6 +138,7 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
         this.clusterService = clusterService;
         this.modelAccessControlHelper = modelAccessControlHelper;
         this.agentModelsSearcher = agentModelsSearcher;
+        this.predictableCache = predictableCache;
         isSafeDelete = ML_COMMONS_SAFE_DELETE_WITH_USAGE_CHECK.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_SAFE_DELETE_WITH_USAGE_CHECK, it -> isSafeDelete = it);
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
@@ -341,6 +345,8 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
             .tenantId(tenantId)
             .build();
         sdkClient.deleteDataObjectAsync(deleteDataObjectRequest).whenComplete((r, throwable) -> {
+            // Other nodes drop their cached predictable of the model on next predict as the model document is gone
+            predictableCache.invalidate(modelId);
             if (throwable == null) {
                 try {
                     DeleteResponse deleteResponse = r.deleteResponse();
@@ -46,6 +46,9 @@ import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.log4j.Log4j2;
@@ -297,11 +300,20 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
 
         if (modelCacheHelper.getModelInterface(modelId) != null && modelCacheHelper.getModelInterface(modelId).get("input") != null) {
             String inputSchemaString = modelCacheHelper.getModelInterface(modelId).get("input");
+            JsonSchema inputSchema = modelCacheHelper.getModelInterfaceSchema(modelId, "input");
             try {
-                String InputString = mlInput.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString();
-                // Process the parameters field in the input dataset to convert it back to its original datatype, instead of a string
-                String processedInputString = MLNodeUtils.processRemoteInferenceInputDataSetParametersValue(InputString, inputSchemaString);
-                MLNodeUtils.validateSchema(inputSchemaString, processedInputString);
+                if (inputSchema != null) {
+                    // Process the parameters field in the input dataset to convert it back to its original datatype, instead of a string
+                    JsonNode processedInput = MLNodeUtils
+                        .processRemoteInferenceInputDataSetParametersValue(MLNodeUtils.toJsonNode(mlInput), inputSchema.getSchemaNode());
+                    MLNodeUtils.validateSchema(inputSchema, inputSchemaString, processedInput);
+                } else {
+                    String InputString = mlInput.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString();
+                    // Process the parameters field in the input dataset to convert it back to its original datatype, instead of a string
+                    String processedInputString = MLNodeUtils
+                        .processRemoteInferenceInputDataSetParametersValue(InputString, inputSchemaString);
+                    MLNodeUtils.validateSchema(inputSchemaString, processedInputString);
+                }
             } catch (Exception e) {
                 throw new OpenSearchStatusException(
                     "Error validating input schema, if you think this is expected, please update your 'input' field in the 'interface' field for this model: "
@@ -6,6 +6,7 @@
 package org.opensearch.ml.action.stats;
 
 import java.io.IOException;
+import java.util.EnumMap;
 import java.util.Locale;
 import java.util.Map;
 
@@ -95,7 +96,13 @@ public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentF
         super.writeTo(out);
         if (nodeStats != null) {
             out.writeBoolean(true);
-            out.writeMap(nodeStats, (stream, v) -> stream.writeEnum(v), StreamOutput::writeGenericValue);
+            Map<MLNodeLevelStat, Object> supportedStats = new EnumMap<>(MLNodeLevelStat.class);
+            nodeStats.forEach((stat, value) -> {
+                if (stat.isSupportedBy(out.getVersion())) {
+                    supportedStats.put(stat, value);
+                }
+            });
+            out.writeMap(supportedStats, (stream, v) -> stream.writeEnum(v), StreamOutput::writeGenericValue);
         } else {
             out.writeBoolean(false);
         }
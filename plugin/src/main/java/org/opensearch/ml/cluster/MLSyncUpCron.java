@@ -66,6 +66,9 @@ import lombok.extern.log4j.Log4j2;
 public class MLSyncUpCron implements Runnable {
 
     public static final int DEPLOY_MODEL_TASK_GRACE_TIME_IN_MS = 20_000;
+    // number of runs after which the full model routing table is synced to all nodes again
+    @VisibleForTesting
+    static final int FULL_ROUTING_SYNC_INTERVAL = 10;
     private Client client;
     private final SdkClient sdkClient;
     private ClusterService clusterService;
@@ -76,6 +79,10 @@ public class MLSyncUpCron implements Runnable {
     private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
     @VisibleForTesting
     Semaphore updateModelStateSemaphore;
+    // model routing table and nodes it was last synced to, null if the next run syncs the full routing table
+    private Map<String, Set<String>> syncedRoutingTable;
+    private Set<String> syncedNodeIds;
+    private int runsSinceFullRoutingSync;
 
     public MLSyncUpCron(
         Client client,
@@ -180,38 +187,114 @@ public class MLSyncUpCron implements Runnable {
             for (Map.Entry<String, Set<String>> entry : runningDeployModelTasks.entrySet()) {
                 log.debug("will sync running task: {}: {}", entry.getKey(), entry.getValue().toArray(new String[0]));
             }
-            MLSyncUpInput.MLSyncUpInputBuilder inputBuilder = MLSyncUpInput
-                .builder()
-                .syncRunningDeployModelTasks(true)
-                .runningDeployModelTasks(runningDeployModelTasks);
-            if (modelWorkerNodes.isEmpty()) {
-                log.debug("No deployed model found. Will clear model routing on all nodes");
-                inputBuilder.clearRoutingTable(true);
-            } else {
-                inputBuilder.modelRoutingTable(modelWorkerNodes);
+            MLSyncUpInput syncUpInput = buildRoutingSyncUpInput(allNodes, modelWorkerNodes, runningDeployModelTasks);
+            if (syncUpInput == null) {
+                log.debug("Model routing table not changed, skip syncing it to nodes");
+                afterRoutingSynced(modelsToUndeploy, modelWorkerNodes, deployingModels);
+                return;
             }
-            MLSyncUpInput syncUpInput = inputBuilder.build();
             MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(allNodes, syncUpInput);
             // sync up running model/tasks on nodes
             client.execute(MLSyncUpAction.INSTANCE, syncUpRequest, ActionListener.wrap(re -> {
                 log.debug("sync model routing job finished");
-                if (!modelsToUndeploy.isEmpty()) {
-                    // Undeploy expired models
-                    undeployExpiredModels(modelsToUndeploy, modelWorkerNodes, deployingModels);
-                    return;
+                if (re.failures() != null && !re.failures().isEmpty()) {
+                    // nodes which failed to apply the changes get the full routing table in the next run
+                    resetSyncedRoutingTable();
                 }
-                // refresh model status
-                mlIndicesHandler.initModelIndexIfAbsent(ActionListener.wrap(res -> {
-                    if (!res) {
-                        log.error("No response to create ML model index");
-                        return;
-                    }
-                    refreshModelState(modelWorkerNodes, deployingModels);
-                }, e -> { log.error("Failed to init model index", e); }));
-            }, ex -> { log.error("Failed to sync model routing", ex); }));
+                afterRoutingSynced(modelsToUndeploy, modelWorkerNodes, deployingModels);
+            }, ex -> {
+                resetSyncedRoutingTable();
+                log.error("Failed to sync model routing", ex);
+            }));
         }, e -> { log.error("Failed to sync model routing", e); }));
     }
 
+    /**
+     * Build the input to sync the model routing table to all nodes. Nodes are sent the changes since the last routing table
+     * synced to them, and the full routing table when nodes joined or left, after a failed sync and every
+     * {@link #FULL_ROUTING_SYNC_INTERVAL} runs, so a node which missed a change doesn't keep a stale routing table.
+     * Deploying and undeploying a model update the routing table on all nodes right away, so most runs have no change.
+     *
+     * @return the sync up input, null if the routing table has no change to sync
+     */
+    @VisibleForTesting
+    synchronized MLSyncUpInput buildRoutingSyncUpInput(
+        DiscoveryNode[] allNodes,
+        Map<String, Set<String>> modelWorkerNodes,
+        Map<String, Set<String>> runningDeployModelTasks
+    ) {
+        Set<String> nodeIds = Arrays.stream(allNodes).map(DiscoveryNode::getId).collect(Collectors.toSet());
+        MLSyncUpInput.MLSyncUpInputBuilder inputBuilder = MLSyncUpInput
+            .builder()
+            .syncRunningDeployModelTasks(true)
+            .runningDeployModelTasks(runningDeployModelTasks);
+        if (syncedRoutingTable == null || !nodeIds.equals(syncedNodeIds) || ++runsSinceFullRoutingSync >= FULL_ROUTING_SYNC_INTERVAL) {
+            if (modelWorkerNodes.isEmpty()) {
+                log.debug("No deployed model found. Will clear model routing on all nodes");
+                inputBuilder.clearRoutingTable(true);
+            } else {
+                inputBuilder.modelRoutingTable(modelWorkerNodes);
+            }
+            syncedRoutingTable = modelWorkerNodes;
+            syncedNodeIds = nodeIds;
+            runsSinceFullRoutingSync = 0;
+            return inputBuilder.build();
+        }
+
+        Map<String, String[]> addedWorkerNodes = diffWorkerNodes(modelWorkerNodes, syncedRoutingTable);
+        Map<String, String[]> removedWorkerNodes = diffWorkerNodes(syncedRoutingTable, modelWorkerNodes);
+        if (addedWorkerNodes.isEmpty() && removedWorkerNodes.isEmpty()) {
+            return null;
+        }
+        log
+            .debug(
+                "Sync model routing changes, added worker nodes of {} models, removed worker nodes of {} models",
+                addedWorkerNodes.size(),
+                removedWorkerNodes.size()
+            );
+        syncedRoutingTable = modelWorkerNodes;
+        return inputBuilder.addedWorkerNodes(addedWorkerNodes).removedWorkerNodes(removedWorkerNodes).build();
+    }
+
+    @VisibleForTesting
+    synchronized void resetSyncedRoutingTable() {
+        syncedRoutingTable = null;
+        syncedNodeIds = null;
+    }
+
+    // key is model id, value is the worker nodes of the model in the routing table which aren't in the other routing table
+    private static Map<String, String[]> diffWorkerNodes(Map<String, Set<String>> routingTable, Map<String, Set<String>> other) {
+        Map<String, String[]> diff = new HashMap<>();
+        for (Map.Entry<String, Set<String>> entry : routingTable.entrySet()) {
+            Set<String> otherWorkerNodes = other.getOrDefault(entry.getKey(), Set.of());
+            String[] workerNodes = entry.getValue().stream().filter(nodeId -> !otherWorkerNodes.contains(nodeId)).toArray(String[]::new);
+            if (workerNodes.length > 0) {
+                diff.put(entry.getKey(), workerNodes);
+            }
+        }
+        return diff;
+    }
+
+    private void afterRoutingSynced(
+        Set<String> modelsToUndeploy,
+        Map<String, Set<String>> modelWorkerNodes,
+        Map<String, Set<String>> deployingModels
+    ) {
+        if (!modelsToUndeploy.isEmpty()) {
+            // Undeploy expired models
+            undeployExpiredModels(modelsToUndeploy, modelWorkerNodes, deployingModels);
+            return;
+        }
+        // refresh model status
+        mlIndicesHandler.initModelIndexIfAbsent(ActionListener.wrap(res -> {
+            if (!res) {
+                log.error("No response to create ML model index");
+                return;
+            }
+            refreshModelState(modelWorkerNodes, deployingModels);
+        }, e -> { log.error("Failed to init model index", e); }));
+    }
+
     private void undeployExpiredModels(
         Set<String> expiredModels,
         Map<String, Set<String>> modelWorkerNodes,
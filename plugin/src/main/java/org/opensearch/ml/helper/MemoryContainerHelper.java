@@ -17,6 +17,8 @@ import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.
 import static org.opensearch.ml.utils.RestActionUtils.wrapListenerToHandleSearchIndexNotFound;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.lucene.search.join.ScoreMode;
 import org.opensearch.ExceptionsHelper;
@@ -30,6 +32,7 @@ import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
 import org.opensearch.action.update.UpdateRequest;
@@ -258,6 +261,52 @@ public class MemoryContainerHelper {
         }
     }
 
+    /**
+     * Send the searches concurrently through the remote metadata client, one {@link #searchData} call each. The client
+     * has no multi search, so the results are collected into a multi search response where a failed search is a failed
+     * item, in the order of the requests.
+     */
+    public void searchDataConcurrently(
+        MemoryConfiguration configuration,
+        List<SearchDataObjectRequest> searchRequests,
+        ActionListener<MultiSearchResponse> listener
+    ) {
+        try {
+            long startTime = System.nanoTime();
+            MultiSearchResponse.Item[] items = new MultiSearchResponse.Item[searchRequests.size()];
+            AtomicInteger pendingSearches = new AtomicInteger(searchRequests.size());
+            if (searchRequests.isEmpty()) {
+                listener.onResponse(new MultiSearchResponse(items, 0));
+                return;
+            }
+            for (int i = 0; i < searchRequests.size(); i++) {
+                int index = i;
+                searchData(configuration, searchRequests.get(i), ActionListener.wrap(response -> {
+                    items[index] = new MultiSearchResponse.Item(response, null);
+                    onSearchCompleted(items, pendingSearches, startTime, listener);
+                }, e -> {
+                    items[index] = new MultiSearchResponse.Item(null, e);
+                    onSearchCompleted(items, pendingSearches, startTime, listener);
+                }));
+            }
+        } catch (Exception e) {
+            log.error("Failed to search data concurrently", e);
+            listener.onFailure(e);
+        }
+    }
+
+    private void onSearchCompleted(
+        MultiSearchResponse.Item[] items,
+        AtomicInteger pendingSearches,
+        long startTime,
+        ActionListener<MultiSearchResponse> listener
+    ) {
+        // the decrement publishes the items set by the other searches
+        if (pendingSearches.decrementAndGet() == 0) {
+            listener.onResponse(new MultiSearchResponse(items, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+        }
+    }
+
     public void indexData(MemoryConfiguration configuration, IndexRequest indexRequest, ActionListener<IndexResponse> listener) {
         if (configuration.isUseSystemIndex()) {
             try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
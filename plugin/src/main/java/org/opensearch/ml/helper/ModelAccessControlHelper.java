@@ -10,12 +10,14 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 import static org.opensearch.ml.common.CommonValue.BACKEND_ROLES_FIELD;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_GROUP_INDEX;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_GROUP_ACCESS_CACHE_TTL;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.lucene.search.join.ScoreMode;
 import org.opensearch.ExceptionsHelper;
@@ -23,7 +25,10 @@ import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.commons.authuser.User;
@@ -67,13 +72,30 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class ModelAccessControlHelper {
 
+    static final int MAX_CACHED_MODEL_GROUPS = 10_000;
+
     private volatile Boolean modelAccessControlEnabled;
+    // model groups read for access checks by id, null if the cache is disabled
+    private volatile Cache<String, MLModelGroup> modelGroupCache;
+    private final LongAdder cacheHitCount = new LongAdder();
+    private final LongAdder cacheMissCount = new LongAdder();
 
     public ModelAccessControlHelper(ClusterService clusterService, Settings settings) {
         modelAccessControlEnabled = ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED.get(settings);
+        modelGroupCache = createModelGroupCache(ML_COMMONS_MODEL_GROUP_ACCESS_CACHE_TTL.get(settings));
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED, it -> modelAccessControlEnabled = it);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_GROUP_ACCESS_CACHE_TTL, it -> modelGroupCache = createModelGroupCache(it));
+    }
+
+    private static Cache<String, MLModelGroup> createModelGroupCache(TimeValue ttl) {
+        if (ttl.nanos() <= 0) {
+            return null;
+        }
+        return CacheBuilder.<String, MLModelGroup>builder().setExpireAfterWrite(ttl).setMaximumWeight(MAX_CACHED_MODEL_GROUPS).build();
     }
 
     public boolean modelAccessControlEnabled() {
@@ -124,6 +146,11 @@ public class ModelAccessControlHelper {
             listener.onResponse(true);
             return;
         }
+        MLModelGroup cachedModelGroup = getCachedModelGroup(modelGroupId);
+        if (cachedModelGroup != null) {
+            checkCachedModelGroupPermission(cachedModelGroup, user, listener);
+            return;
+        }
 
         GetRequest getModelGroupRequest = new GetRequest(ML_MODEL_GROUP_INDEX).id(modelGroupId);
 
@@ -137,6 +164,7 @@ public class ModelAccessControlHelper {
                     ) {
                         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
                         MLModelGroup mlModelGroup = MLModelGroup.parse(parser);
+                        cacheModelGroup(modelGroupId, mlModelGroup);
                         checkModelGroupPermission(mlModelGroup, user, wrappedListener);
                     } catch (Exception e) {
                         log.error("Failed to parse ml model group");
@@ -205,6 +233,13 @@ public class ModelAccessControlHelper {
             listener.onResponse(true);  // Admin or security disabled
             return;
         }
+        MLModelGroup cachedModelGroup = getCachedModelGroup(modelGroupId);
+        if (cachedModelGroup != null) {
+            if (TenantAwareHelper.validateTenantResource(mlFeatureEnabledSetting, tenantId, cachedModelGroup.getTenantId(), listener)) {
+                checkCachedModelGroupPermission(cachedModelGroup, user, listener);
+            }
+            return;
+        }
         GetDataObjectRequest getModelGroupRequest = GetDataObjectRequest
             .builder()
             .index(ML_MODEL_GROUP_INDEX)
@@ -224,6 +259,7 @@ public class ModelAccessControlHelper {
                             ) {
                                 ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
                                 MLModelGroup mlModelGroup = MLModelGroup.parse(parser);
+                                cacheModelGroup(modelGroupId, mlModelGroup);
                                 if (TenantAwareHelper
                                     .validateTenantResource(mlFeatureEnabledSetting, tenantId, mlModelGroup.getTenantId(), listener)) {
                                     if (isAdmin(user) || !isSecurityEnabledAndModelAccessControlEnabled(user)) {
@@ -258,6 +294,56 @@ public class ModelAccessControlHelper {
         }
     }
 
+    private MLModelGroup getCachedModelGroup(String modelGroupId) {
+        Cache<String, MLModelGroup> cache = modelGroupCache;
+        if (cache == null) {
+            return null;
+        }
+        MLModelGroup modelGroup = cache.get(modelGroupId);
+        if (modelGroup == null) {
+            cacheMissCount.increment();
+        } else {
+            cacheHitCount.increment();
+        }
+        return modelGroup;
+    }
+
+    private void cacheModelGroup(String modelGroupId, MLModelGroup modelGroup) {
+        Cache<String, MLModelGroup> cache = modelGroupCache;
+        if (cache != null) {
+            cache.put(modelGroupId, modelGroup);
+        }
+    }
+
+    private void checkCachedModelGroupPermission(MLModelGroup modelGroup, User user, ActionListener<Boolean> listener) {
+        try {
+            checkModelGroupPermission(modelGroup, user, listener);
+        } catch (Exception e) {
+            log.error("Failed to validate Access", e);
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Remove the cached model group, e.g. when it's updated or deleted.
+     *
+     * @param modelGroupId model group id
+     */
+    public void invalidateModelGroup(String modelGroupId) {
+        Cache<String, MLModelGroup> cache = modelGroupCache;
+        if (cache != null && modelGroupId != null) {
+            cache.invalidate(modelGroupId);
+        }
+    }
+
+    public long getCacheHitCount() {
+        return cacheHitCount.sum();
+    }
+
+    public long getCacheMissCount() {
+        return cacheMissCount.sum();
+    }
+
     public void checkModelGroupPermission(MLModelGroup mlModelGroup, User user, ActionListener<Boolean> wrappedListener) {
         AccessMode modelAccessMode = AccessMode.from(mlModelGroup.getAccess());
         if (mlModelGroup.getOwner() == null) {
@@ -0,0 +1,227 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.apache.commons.io.FileUtils;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.ml.breaker.CircuitBreaker;
+
+import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Local cache of model zip files keyed by the hash of their content, kept across undeploy and node restart, so
+ * deploying a model whose content is cached doesn't fetch its chunks again.
+ * <p>
+ * The least recently used files are removed once the cache is larger than its max size, or while the disk circuit
+ * breaker is open. Files are written to a temp file first and moved into place, so a cached file is always complete.
+ * The hash of a cached file is checked again when it's used, so a corrupted file is removed rather than deployed.
+ */
+@Log4j2
+public class MLModelArtifactCache {
+
+    private static final String ARTIFACT_SUFFIX = ".zip";
+    private static final String TEMP_SUFFIX = ".tmp";
+    // SHA-256 hex of the model content, the hash is user input so it's checked before used as file name
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-fA-F]{64}");
+    // temp files are removed once they are older than this, a younger temp file may still be written by a put
+    private static final long TEMP_FILE_EXPIRE_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final Path rootPath;
+    private final CircuitBreaker diskCircuitBreaker;
+    @Setter
+    private volatile long maxSizeInBytes;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * @param rootPath           folder of the cached files
+     * @param diskCircuitBreaker disk circuit breaker, nothing is cached while it's open
+     * @param maxSizeInBytes     max total size of the cached files, 0 disables the cache
+     */
+    public MLModelArtifactCache(Path rootPath, CircuitBreaker diskCircuitBreaker, long maxSizeInBytes) {
+        this.rootPath = rootPath;
+        this.diskCircuitBreaker = diskCircuitBreaker;
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    /**
+     * Copy the cached model zip with a content hash to a file. A cached file whose content doesn't match the hash is
+     * removed.
+     *
+     * @param hash   model content hash
+     * @param target file to copy the model zip to
+     * @return true if the model zip was cached and copied
+     */
+    public boolean get(String hash, File target) {
+        if (maxSizeInBytes <= 0 || !isValidHash(hash)) {
+            return false;
+        }
+        File cached = getArtifactPath(hash).toFile();
+        try {
+            FileUtils.forceMkdir(target.getParentFile());
+            Files.copy(cached.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            if (!hash.equalsIgnoreCase(calculateFileHash(target))) {
+                log.warn("Content of cached model file {} doesn't match its hash, remove it", cached);
+                FileUtils.deleteQuietly(cached);
+                FileUtils.deleteQuietly(target);
+                missCount.increment();
+                return false;
+            }
+            // last modified time orders the files for eviction
+            cached.setLastModified(System.currentTimeMillis());
+            hitCount.increment();
+            return true;
+        } catch (NoSuchFileException e) {
+            missCount.increment();
+            return false;
+        } catch (IOException e) {
+            log.warn("Failed to read cached model file {}", cached, e);
+            FileUtils.deleteQuietly(target);
+            missCount.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Cache a model zip file, the caller must have verified that its content matches the hash.
+     *
+     * @param hash model content hash
+     * @param file model zip file
+     * @return true if the model zip file is cached
+     */
+    public boolean put(String hash, File file) {
+        if (maxSizeInBytes <= 0 || !isValidHash(hash)) {
+            return false;
+        }
+        if (diskCircuitBreaker != null && diskCircuitBreaker.isOpen()) {
+            log.debug("Disk circuit breaker is open, skip caching model file {}", file);
+            evict();
+            return false;
+        }
+        if (file.length() > maxSizeInBytes) {
+            return false;
+        }
+        Path tempFile = null;
+        boolean cached = false;
+        try {
+            FileUtils.forceMkdir(rootPath.toFile());
+            tempFile = Files.createTempFile(rootPath, hash, TEMP_SUFFIX);
+            Files.copy(file.toPath(), tempFile, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempFile, getArtifactPath(hash), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            cached = true;
+        } catch (IOException e) {
+            log.warn("Failed to cache model file {}", file, e);
+            if (tempFile != null) {
+                FileUtils.deleteQuietly(tempFile.toFile());
+            }
+        }
+        evict();
+        return cached && Files.exists(getArtifactPath(hash));
+    }
+
+    /**
+     * Read a range of a cached model zip.
+     *
+     * @param hash   model content hash
+     * @param offset offset of the range
+     * @param length max length of the range
+     * @return size of the model zip and the range read, null if the model zip isn't cached
+     * @throws IOException if reading the model zip fails
+     */
+    public Tuple<Long, byte[]> read(String hash, long offset, int length) throws IOException {
+        if (!isValidHash(hash)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(getArtifactPath(hash), StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.max(0, Math.min(length, size - offset)));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new EOFException("Cached model file " + hash + " is truncated");
+                }
+            }
+            return new Tuple<>(size, buffer.array());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Remove the least recently used files until the cache fits its max size and the disk circuit breaker is closed.
+     * Expired temp files, left by a node crash, are removed first.
+     */
+    synchronized void evict() {
+        File[] files = rootPath.toFile().listFiles(File::isFile);
+        if (files == null) {
+            return;
+        }
+        long expireTime = System.currentTimeMillis() - TEMP_FILE_EXPIRE_MILLIS;
+        for (File file : files) {
+            if (file.getName().endsWith(TEMP_SUFFIX) && file.lastModified() < expireTime && file.delete()) {
+                log.debug("Removed expired temp file {}", file);
+            }
+        }
+        files = rootPath.toFile().listFiles(file -> file.isFile() && file.getName().endsWith(ARTIFACT_SUFFIX));
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        long size = Arrays.stream(files).mapToLong(File::length).sum();
+        for (File file : files) {
+            boolean diskShortage = diskCircuitBreaker != null && diskCircuitBreaker.isOpen();
+            if (size <= maxSizeInBytes && !diskShortage) {
+                break;
+            }
+            long length = file.length();
+            if (file.delete()) {
+                log.debug("Removed cached model file {}", file);
+                size -= length;
+            }
+        }
+    }
+
+    public long getSizeInBytes() {
+        File[] files = rootPath.toFile().listFiles(File::isFile);
+        return files == null ? 0 : Arrays.stream(files).mapToLong(File::length).sum();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private Path getArtifactPath(String hash) {
+        return rootPath.resolve(hash.toLowerCase(Locale.ROOT) + ARTIFACT_SUFFIX);
+    }
+
+    private static boolean isValidHash(String hash) {
+        return hash != null && HASH_PATTERN.matcher(hash).matches();
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.opensearch.action.support.ThreadedActionListener;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkAction;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodeResponse;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodeResponse.ArtifactState;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodesRequest;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Distribute model zips between the worker nodes of a local model, so only one node retrieves the model chunks from
+ * the model index.
+ * <p>
+ * The worker nodes sorted by id form a binary tree: the first node retrieves the model zip from the index and every
+ * other node fetches it from its parent once the parent has cached it in its {@link MLModelArtifactCache}, so each node
+ * serves at most two nodes and the model zip reaches all nodes after log(N) transfers. The fetched model zip is checked
+ * against the model content hash, and a node retrieves the model chunks from the index if fetching from its parent
+ * fails.
+ */
+@Log4j2
+public class MLModelArtifactDistributor {
+
+    static final TimeValue POLL_INTERVAL = TimeValue.timeValueSeconds(1);
+    // deploy requests reach the worker nodes at different times, so a parent may not know the model zip yet
+    static final TimeValue MISSING_GRACE_PERIOD = TimeValue.timeValueSeconds(30);
+    private static final TimeValue ASSEMBLY_STATE_EXPIRE_AFTER_WRITE = TimeValue.timeValueMinutes(30);
+
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final MLModelArtifactCache artifactCache;
+    private final int chunkSize;
+    // model zips this node is retrieving or failed to cache, by content hash
+    private final Cache<String, ArtifactState> assemblyStates;
+    @Getter
+    @Setter
+    private volatile boolean enabled;
+    @Setter
+    private volatile TimeValue waitTimeout;
+
+    private final LongAdder peerFetchCount = new LongAdder();
+    private final LongAdder peerFetchFailureCount = new LongAdder();
+
+    /**
+     * @param client        client
+     * @param threadPool    thread pool
+     * @param artifactCache local artifact cache, model zips are served from it
+     * @param chunkSize     max bytes of a model zip sent in one transport message
+     * @param enabled       fetch model zips from other nodes
+     * @param waitTimeout   max time to wait for the parent node to retrieve the model zip
+     */
+    public MLModelArtifactDistributor(
+        Client client,
+        ThreadPool threadPool,
+        MLModelArtifactCache artifactCache,
+        int chunkSize,
+        boolean enabled,
+        TimeValue waitTimeout
+    ) {
+        this.client = client;
+        this.threadPool = threadPool;
+        this.artifactCache = artifactCache;
+        this.chunkSize = chunkSize;
+        this.enabled = enabled;
+        this.waitTimeout = waitTimeout;
+        this.assemblyStates = CacheBuilder.<String, ArtifactState>builder().setExpireAfterWrite(ASSEMBLY_STATE_EXPIRE_AFTER_WRITE).build();
+    }
+
+    /**
+     * Get the node to fetch a model zip from.
+     *
+     * @param workerNodes worker node ids of the model
+     * @param localNodeId local node id
+     * @return parent of the local node in the tree of worker nodes, null if the local node retrieves the model zip
+     * from the model index
+     */
+    public String getSourceNode(List<String> workerNodes, String localNodeId) {
+        if (workerNodes == null) {
+            return null;
+        }
+        List<String> nodes = workerNodes.stream().distinct().sorted().collect(Collectors.toList());
+        int index = nodes.indexOf(localNodeId);
+        return index > 0 ? nodes.get((index - 1) / 2) : null;
+    }
+
+    /**
+     * Record that this node started retrieving a model zip, so nodes fetching it wait for it.
+     *
+     * @param hash model content hash
+     */
+    public void onAssemblyStarted(String hash) {
+        if (hash != null) {
+            assemblyStates.put(hash, ArtifactState.PENDING);
+        }
+    }
+
+    /**
+     * Record that this node finished retrieving a model zip.
+     *
+     * @param hash   model content hash
+     * @param cached true if the model zip was verified and cached, so it can be served
+     */
+    public void onAssemblyCompleted(String hash, boolean cached) {
+        if (hash == null) {
+            return;
+        }
+        if (cached) {
+            assemblyStates.invalidate(hash);
+        } else {
+            assemblyStates.put(hash, ArtifactState.FAILED);
+        }
+    }
+
+    /**
+     * Read a range of a model zip to serve another node.
+     *
+     * @param localNode local node
+     * @param hash      model content hash
+     * @param offset    offset of the range
+     * @param length    max length of the range
+     * @return the range if the model zip is cached, otherwise the state of the model zip on this node
+     */
+    public MLModelArtifactChunkNodeResponse readChunk(DiscoveryNode localNode, String hash, long offset, int length) {
+        try {
+            Tuple<Long, byte[]> chunk = artifactCache.read(hash, offset, Math.min(length, chunkSize));
+            if (chunk != null) {
+                return new MLModelArtifactChunkNodeResponse(localNode, ArtifactState.READY, chunk.v1(), new BytesArray(chunk.v2()));
+            }
+        } catch (IOException e) {
+            log.warn("Failed to read cached model file {}", hash, e);
+            return new MLModelArtifactChunkNodeResponse(localNode, ArtifactState.FAILED);
+        }
+        ArtifactState state = assemblyStates.get(hash);
+        return new MLModelArtifactChunkNodeResponse(localNode, state == null ? ArtifactState.MISSING : state);
+    }
+
+    /**
+     * Fetch a model zip from another node into a file.
+     *
+     * @param sourceNodeId node to fetch the model zip from
+     * @param hash         model content hash
+     * @param file         file to write the model zip to
+     * @param parallelism  max number of ranges fetched at the same time
+     * @param listener     listener notified once the model zip is fetched and matches the hash
+     */
+    public void fetch(String sourceNodeId, String hash, File file, int parallelism, ActionListener<File> listener) {
+        ActionListener<File> countingListener = ActionListener.wrap(r -> {
+            peerFetchCount.increment();
+            listener.onResponse(r);
+        }, e -> {
+            peerFetchFailureCount.increment();
+            listener.onFailure(e);
+        });
+        long now = threadPool.relativeTimeInNanos();
+        long deadline = now + waitTimeout.nanos();
+        long missingDeadline = Math.min(deadline, now + MISSING_GRACE_PERIOD.nanos());
+        pollFirstChunk(sourceNodeId, hash, deadline, missingDeadline, ActionListener.wrap(first -> {
+            long totalSize = first.getTotalSize();
+            int totalChunks = (int) ((totalSize + chunkSize - 1) / chunkSize);
+            MLModelChunkFetcher chunkFetcher = new MLModelChunkFetcher(totalChunks, parallelism, file, (chunk, chunkListener) -> {
+                if (chunk == 0) {
+                    readContent(first, 0, totalSize, chunkListener);
+                    return;
+                }
+                long offset = (long) chunk * chunkSize;
+                requestChunk(
+                    sourceNodeId,
+                    hash,
+                    offset,
+                    ActionListener.wrap(response -> readContent(response, offset, totalSize, chunkListener), chunkListener::onFailure)
+                );
+            }, ActionListener.wrap(fetchedHash -> {
+                if (!hash.equalsIgnoreCase(fetchedHash)) {
+                    FileUtils.deleteQuietly(file);
+                    countingListener.onFailure(new MLException("Model file fetched from node " + sourceNodeId + " doesn't match hash"));
+                    return;
+                }
+                countingListener.onResponse(file);
+            }, countingListener::onFailure));
+            chunkFetcher.fetch();
+        }, countingListener::onFailure));
+    }
+
+    private void pollFirstChunk(
+        String sourceNodeId,
+        String hash,
+        long deadline,
+        long missingDeadline,
+        ActionListener<MLModelArtifactChunkNodeResponse> listener
+    ) {
+        requestChunk(sourceNodeId, hash, 0, ActionListener.wrap(response -> {
+            long now = threadPool.relativeTimeInNanos();
+            ArtifactState state = response.getState();
+            if (state == ArtifactState.READY) {
+                listener.onResponse(response);
+            } else if ((state == ArtifactState.PENDING && now < deadline) || (state == ArtifactState.MISSING && now < missingDeadline)) {
+                threadPool
+                    .schedule(
+                        () -> pollFirstChunk(sourceNodeId, hash, deadline, missingDeadline, listener),
+                        POLL_INTERVAL,
+                        DEPLOY_THREAD_POOL
+                    );
+            } else {
+                listener.onFailure(new MLException("Model file is " + state + " on node " + sourceNodeId));
+            }
+        }, listener::onFailure));
+    }
+
+    private void readContent(MLModelArtifactChunkNodeResponse response, long offset, long totalSize, ActionListener<byte[]> listener) {
+        long expectedLength = Math.min(chunkSize, totalSize - offset);
+        if (response.getState() != ArtifactState.READY
+            || response.getTotalSize() != totalSize
+            || response.getContent().length() != expectedLength) {
+            listener.onFailure(new MLException("Model file changed on the source node while fetching it"));
+            return;
+        }
+        listener.onResponse(BytesReference.toBytes(response.getContent()));
+    }
+
+    private void requestChunk(String nodeId, String hash, long offset, ActionListener<MLModelArtifactChunkNodeResponse> listener) {
+        MLModelArtifactChunkNodesRequest request = new MLModelArtifactChunkNodesRequest(new String[] { nodeId }, hash, offset, chunkSize);
+        // the response is written to disk, so it's not handled on a transport thread
+        ActionListener<MLModelArtifactChunkNodeResponse> threadedListener = new ThreadedActionListener<>(
+            log,
+            threadPool,
+            DEPLOY_THREAD_POOL,
+            listener,
+            false
+        );
+        client.execute(MLModelArtifactChunkAction.INSTANCE, request, ActionListener.wrap(response -> {
+            if (response.hasFailures()) {
+                threadedListener.onFailure(response.failures().get(0));
+            } else if (response.getNodes().isEmpty()) {
+                threadedListener.onFailure(new MLException("Node " + nodeId + " didn't return model file"));
+            } else {
+                threadedListener.onResponse(response.getNodes().get(0));
+            }
+        }, threadedListener::onFailure));
+    }
+
+    public long getPeerFetchCount() {
+        return peerFetchCount.sum();
+    }
+
+    public long getPeerFetchFailureCount() {
+        return peerFetchFailureCount.sum();
+    }
+}
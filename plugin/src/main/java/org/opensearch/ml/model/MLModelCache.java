@@ -25,6 +25,7 @@ import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.profile.MLPredictRequestStats;
 
 import com.google.common.math.Quantiles;
+import com.networknt.schema.JsonSchema;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -49,6 +50,8 @@ public class MLModelCache {
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationGPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) MLGuard mlGuard;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Map<String, String> modelInterface;
+    // compiled schemas of the model interface, by interface field
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Map<String, JsonSchema> modelInterfaceSchemas;
 
     // In rare case, this could be null, e.g. model info not synced up yet a predict request comes in.
     @Setter
@@ -179,6 +182,7 @@ public class MLModelCache {
         userRateLimiterMap = null;
         mlGuard = null;
         modelInterface = null;
+        modelInterfaceSchemas = null;
     }
 
     public void addModelInferenceDuration(double duration, long maxRequestCount) {
@@ -9,12 +9,14 @@ import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MON
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.BooleanUtils;
@@ -30,15 +32,23 @@ import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.profile.MLModelProfile;
+import org.opensearch.ml.utils.MLNodeUtils;
+
+import com.networknt.schema.JsonSchema;
 
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public class MLModelCacheHelper {
+    // weight of the latest inference duration in the recent inference latency
+    private static final double INFERENCE_LATENCY_WEIGHT = 0.2;
+
     private final Map<String, MLModelCache> modelCaches;
 
     private final Map<String, MLModel> autoDeployModels;
     private volatile Long maxRequestCount;
+    // exponentially weighted moving average of the inference duration of all models, in milliseconds
+    private final AtomicLong recentInferenceLatency = new AtomicLong(Double.doubleToLongBits(0));
 
     public MLModelCacheHelper(ClusterService clusterService, Settings settings) {
         this.modelCaches = new ConcurrentHashMap<>();
@@ -197,7 +207,28 @@ public class MLModelCacheHelper {
      */
     public synchronized void setModelInterface(String modelId, Map<String, String> modelInterface) {
         log.debug("Setting ML Interface {} for Model {}", modelInterface, modelId);
-        getExistingModelCache(modelId).setModelInterface(modelInterface);
+        MLModelCache modelCache = getExistingModelCache(modelId);
+        modelCache.setModelInterfaceSchemas(compileSchemas(modelId, modelInterface));
+        modelCache.setModelInterface(modelInterface);
+    }
+
+    private Map<String, JsonSchema> compileSchemas(String modelId, Map<String, String> modelInterface) {
+        if (modelInterface == null) {
+            return null;
+        }
+        Map<String, JsonSchema> schemas = new HashMap<>();
+        for (Map.Entry<String, String> entry : modelInterface.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            try {
+                schemas.put(entry.getKey(), MLNodeUtils.compileSchema(entry.getValue()));
+            } catch (Exception e) {
+                // invalid schemas are reported to the predict requests by validating with the schema string
+                log.warn("Failed to compile the {} schema of the ML Interface for Model {}", entry.getKey(), modelId, e);
+            }
+        }
+        return schemas;
     }
 
     /**
@@ -213,6 +244,21 @@ public class MLModelCacheHelper {
         return modelCache.getModelInterface();
     }
 
+    /**
+     * Get the compiled schema of a field of the ml interface for the model
+     *
+     * @param modelId model id
+     * @param field interface field, input or output
+     * @return compiled schema, null if the model has no valid schema for the field
+     */
+    public JsonSchema getModelInterfaceSchema(String modelId, String field) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null || modelCache.getModelInterfaceSchemas() == null) {
+            return null;
+        }
+        return modelCache.getModelInterfaceSchemas().get(field);
+    }
+
     /**
      * Remove the ml interface from cache
      *
@@ -220,7 +266,9 @@ public class MLModelCacheHelper {
      */
     public synchronized void removeModelInterface(String modelId) {
         log.debug("Removing the ML Interface from Model {}", modelId);
-        getExistingModelCache(modelId).setModelInterface(null);
+        MLModelCache modelCache = getExistingModelCache(modelId);
+        modelCache.setModelInterface(null);
+        modelCache.setModelInterfaceSchemas(null);
     }
 
     /**
@@ -701,6 +749,19 @@ public class MLModelCacheHelper {
     public void addModelInferenceDuration(String modelId, double duration) {
         MLModelCache modelCache = getOrCreateModelCache(modelId);
         modelCache.addModelInferenceDuration(duration, maxRequestCount);
+        recentInferenceLatency.getAndUpdate(bits -> {
+            double latency = Double.longBitsToDouble(bits);
+            return Double.doubleToLongBits(latency == 0 ? duration : latency + INFERENCE_LATENCY_WEIGHT * (duration - latency));
+        });
+    }
+
+    /**
+     * Get the moving average of the inference duration of all models on this node.
+     *
+     * @return recent inference latency in milliseconds
+     */
+    public long getRecentInferenceLatency() {
+        return Math.round(Double.longBitsToDouble(recentInferenceLatency.get()));
     }
 
     public void addPredictRequestDuration(String modelId, double duration) {
@@ -0,0 +1,177 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.apache.commons.io.FileUtils;
+import org.opensearch.core.action.ActionListener;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Fetch the chunks of a model into one file, fetching up to a number of chunks in parallel.
+ * <p>
+ * Chunks can have any size, so a chunk's offset in the file is only known once the chunks before it are fetched.
+ * Fetched chunks are appended to the file and the SHA-256 hash in chunk order, chunks fetched ahead of the next
+ * chunk to append are kept in memory until then. A chunk is only fetched once it's less than the parallelism ahead
+ * of the next chunk to append, which bounds the chunks kept in memory.
+ */
+@Log4j2
+public class MLModelChunkFetcher {
+
+    private final int totalChunks;
+    private final int parallelism;
+    private final File file;
+    // fetches the decoded content of a chunk
+    private final BiConsumer<Integer, ActionListener<byte[]>> chunkLoader;
+    private final ActionListener<String> listener;
+
+    private final Map<Integer, byte[]> fetchedChunks = new HashMap<>();
+    private OutputStream output;
+    private MessageDigest digest;
+    private int nextChunkToFetch;
+    private int nextChunkToWrite;
+    private boolean done;
+
+    /**
+     * @param totalChunks number of chunks
+     * @param parallelism max number of chunks fetched or kept in memory at the same time
+     * @param file        file to write the chunks to
+     * @param chunkLoader fetches the decoded content of the chunk with a number
+     * @param listener    listener of the SHA-256 hash of the file
+     */
+    public MLModelChunkFetcher(
+        int totalChunks,
+        int parallelism,
+        File file,
+        BiConsumer<Integer, ActionListener<byte[]>> chunkLoader,
+        ActionListener<String> listener
+    ) {
+        this.totalChunks = totalChunks;
+        this.parallelism = parallelism;
+        this.file = file;
+        this.chunkLoader = chunkLoader;
+        this.listener = listener;
+    }
+
+    /**
+     * Start fetching the chunks.
+     */
+    public void fetch() {
+        try {
+            FileUtils.forceMkdir(file.getParentFile());
+            synchronized (this) {
+                output = new FileOutputStream(file);
+                digest = MessageDigest.getInstance("SHA-256");
+            }
+        } catch (IOException | NoSuchAlgorithmException e) {
+            fail(e);
+            return;
+        }
+        if (totalChunks == 0) {
+            synchronized (this) {
+                done = true;
+            }
+            complete();
+            return;
+        }
+        fetchChunks();
+    }
+
+    private void fetchChunks() {
+        List<Integer> chunks = new ArrayList<>();
+        synchronized (this) {
+            while (!done && nextChunkToFetch < totalChunks && nextChunkToFetch < nextChunkToWrite + parallelism) {
+                chunks.add(nextChunkToFetch++);
+            }
+        }
+        for (int chunk : chunks) {
+            try {
+                chunkLoader.accept(chunk, ActionListener.wrap(content -> onChunk(chunk, content), this::fail));
+            } catch (Exception e) {
+                fail(e);
+            }
+        }
+    }
+
+    private void onChunk(int chunk, byte[] content) {
+        boolean completed;
+        IOException writeFailure = null;
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            fetchedChunks.put(chunk, content);
+            try {
+                // append the chunks which follow the written ones
+                while (fetchedChunks.containsKey(nextChunkToWrite)) {
+                    byte[] data = fetchedChunks.remove(nextChunkToWrite);
+                    output.write(data);
+                    digest.update(data);
+                    nextChunkToWrite++;
+                }
+            } catch (IOException e) {
+                writeFailure = e;
+            }
+            completed = writeFailure == null && nextChunkToWrite == totalChunks;
+            done = completed;
+        }
+        if (writeFailure != null) {
+            log.error("Failed to write model chunk {} to {}", chunk, file, writeFailure);
+            fail(writeFailure);
+        } else if (completed) {
+            complete();
+        } else {
+            fetchChunks();
+        }
+    }
+
+    private void complete() {
+        try {
+            output.close();
+        } catch (IOException e) {
+            cleanUp();
+            listener.onFailure(e);
+            return;
+        }
+        listener.onResponse(HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private void fail(Exception e) {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            done = true;
+        }
+        cleanUp();
+        listener.onFailure(e);
+    }
+
+    private synchronized void cleanUp() {
+        fetchedChunks.clear();
+        if (output != null) {
+            try {
+                output.close();
+            } catch (IOException e) {
+                log.debug("Failed to close model file {}", file, e);
+            }
+        }
+        FileUtils.deleteQuietly(file);
+    }
+}
@@ -27,6 +27,7 @@ import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_FETCH_PARALLELISM;
 import static org.opensearch.ml.common.utils.StringUtils.getErrorMessage;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
@@ -45,7 +46,6 @@ import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.XCONTENT_RE
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
-import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
@@ -57,7 +57,6 @@ import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
 import java.io.File;
-import java.nio.file.Path;
 import java.security.PrivilegedActionException;
 import java.time.Instant;
 import java.util.Arrays;
@@ -70,7 +69,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -95,6 +93,7 @@ import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -138,7 +137,6 @@ import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
-import org.opensearch.ml.engine.utils.FileUtils;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
@@ -162,6 +160,7 @@ import org.opensearch.transport.client.Client;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.Files;
+import com.networknt.schema.JsonSchema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -183,6 +182,9 @@ public class MLModelManager {
     private final NamedXContentRegistry xContentRegistry;
     private final ModelHelper modelHelper;
     private Settings settings;
+    private final int chunkFetchParallelism;
+    private final MLModelArtifactCache modelArtifactCache;
+    private final MLModelArtifactDistributor modelArtifactDistributor;
 
     private final MLModelCacheHelper modelCacheHelper;
     private final MLStats mlStats;
@@ -225,7 +227,9 @@ public class MLModelManager {
         MLModelCacheHelper modelCacheHelper,
         MLEngine mlEngine,
         DiscoveryNodeHelper nodeHelper,
-        MLFeatureEnabledSetting mlFeatureEnabledSetting
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        MLModelArtifactCache modelArtifactCache,
+        MLModelArtifactDistributor modelArtifactDistributor
     ) {
         this.client = client;
         this.sdkClient = sdkClient;
@@ -243,7 +247,10 @@ public class MLModelManager {
         this.mlEngine = mlEngine;
         this.nodeHelper = nodeHelper;
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+        this.modelArtifactCache = modelArtifactCache;
+        this.modelArtifactDistributor = modelArtifactDistributor;
 
+        this.chunkFetchParallelism = ML_COMMONS_MODEL_CHUNK_FETCH_PARALLELISM.get(settings);
         this.maxModelPerNode = ML_COMMONS_MAX_MODELS_PER_NODE.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_MODELS_PER_NODE, it -> maxModelPerNode = it);
 
@@ -1232,8 +1239,9 @@ public class MLModelManager {
                 deployControllerWithDeployingModel(mlModel, eligibleNodeCount);
                 // check circuit breaker before deploying custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
-                    String hash = calculateFileHash(modelZipFile);
+                retrieveModelChunks(mlModel, mlTask.getWorkerNodes(), ActionListener.wrap(modelZip -> {// read model chunks
+                    File modelZipFile = modelZip.v1();
+                    String hash = modelZip.v2();
                     if (modelContentHash != null && !modelContentHash.equals(hash)) {
                         log.error("Model content hash can't match original hash value");
                         removeModel(modelId);
@@ -1383,8 +1391,9 @@ public class MLModelManager {
                 deployControllerWithDeployingModel(mlModel, eligibleNodeCount);
                 // check circuit breaker before deploying custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
-                    String hash = calculateFileHash(modelZipFile);
+                retrieveModelChunks(mlModel, mlTask.getWorkerNodes(), ActionListener.wrap(modelZip -> {// read model chunks
+                    File modelZipFile = modelZip.v1();
+                    String hash = modelZip.v2();
                     if (modelContentHash != null && !modelContentHash.equals(hash)) {
                         log.error("Model content hash can't match original hash value");
                         removeModel(modelId);
@@ -1859,6 +1868,17 @@ public class MLModelManager {
         return modelCacheHelper.getModelInterface(modelId);
     }
 
+    /**
+     * Get the compiled schema of a model interface field with model id.
+     *
+     * @param modelId model id
+     * @param field interface field, input or output
+     * @return compiled schema, null if the model has no valid schema for the field
+     */
+    public JsonSchema getModelInterfaceSchema(String modelId, String field) {
+        return modelCacheHelper.getModelInterfaceSchema(modelId, field);
+    }
+
     /**
      * Set up ML guard with model id.
      *
@@ -2116,50 +2136,72 @@ public class MLModelManager {
     }
 
     /**
-     * Retreive a model's all chunks.
+     * Retreive a model's all chunks. The model zip is copied from the local artifact cache if its content is cached, or
+     * fetched from another worker node of the model if possible.
      *
      * @param mlModelMeta model meta
+     * @param workerNodes worker node ids of the model
      * @param listener    action listener
      */
-    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<File> listener) throws InterruptedException {
+    private void retrieveModelChunks(MLModel mlModelMeta, List<String> workerNodes, ActionListener<Tuple<File, String>> listener) {
         String modelId = mlModelMeta.getModelId();
-        String modelName = mlModelMeta.getName();
-        Integer totalChunks = mlModelMeta.getTotalChunks();
-        GetRequest getRequest = new GetRequest();
-        getRequest.index(ML_MODEL_INDEX);
-        getRequest.id();
-        Semaphore semaphore = new Semaphore(1);
-        AtomicBoolean stopNow = new AtomicBoolean(false);
-        String modelZip = mlEngine.getDeployModelZipPath(modelId, modelName);
-        ConcurrentLinkedDeque<File> chunkFiles = new ConcurrentLinkedDeque();
-        AtomicInteger retrievedChunks = new AtomicInteger(0);
-        for (int i = 0; i < totalChunks; i++) {
-            semaphore.tryAcquire(10, TimeUnit.SECONDS);
-            if (stopNow.get()) {
-                throw new MLException("Failed to deploy model");
-            }
-            String modelChunkId = this.getModelChunkId(modelId, i);
-            int currentChunk = i;
-            this.getModel(modelChunkId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(model -> {
-                Path chunkPath = mlEngine.getDeployModelChunkPath(modelId, currentChunk);
-                FileUtils.write(Base64.getDecoder().decode(model.getContent()), chunkPath.toString());
-                chunkFiles.add(new File(chunkPath.toUri()));
-                retrievedChunks.getAndIncrement();
-                if (retrievedChunks.get() == totalChunks) {
-                    File modelZipFile = new File(modelZip);
-                    FileUtils.mergeFiles(chunkFiles, modelZipFile);
-                    listener.onResponse(modelZipFile);
-                }
-                semaphore.release();
-            }, e -> {
-                stopNow.set(true);
-                semaphore.release();
-                log.error("Failed to retrieve model chunk {}", modelChunkId, e);
-                if (retrievedChunks.get() == totalChunks - 1) {
-                    listener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
-                }
-            })));
+        String modelContentHash = mlModelMeta.getModelContentHash();
+        File modelZipFile = new File(mlEngine.getDeployModelZipPath(modelId, mlModelMeta.getName()));
+        if (modelArtifactCache.get(modelContentHash, modelZipFile)) {
+            log.info("Found content of model {} in local artifact cache, skip retrieving model chunks", modelId);
+            listener.onResponse(new Tuple<>(modelZipFile, modelContentHash));
+            return;
         }
+        // other worker nodes may fetch the model zip from this node once it's cached
+        modelArtifactDistributor.onAssemblyStarted(modelContentHash);
+        ActionListener<String> hashListener = ActionListener.wrap(hash -> {
+            boolean cached = hash.equals(modelContentHash) && modelArtifactCache.put(hash, modelZipFile);
+            modelArtifactDistributor.onAssemblyCompleted(modelContentHash, cached);
+            listener.onResponse(new Tuple<>(modelZipFile, hash));
+        }, e -> {
+            modelArtifactDistributor.onAssemblyCompleted(modelContentHash, false);
+            listener.onFailure(e);
+        });
+        String sourceNodeId = modelContentHash != null && modelArtifactDistributor.isEnabled()
+            ? modelArtifactDistributor.getSourceNode(workerNodes, clusterService.localNode().getId())
+            : null;
+        if (sourceNodeId == null) {
+            retrieveModelChunksFromIndex(mlModelMeta, modelZipFile, hashListener);
+            return;
+        }
+        modelArtifactDistributor.fetch(sourceNodeId, modelContentHash, modelZipFile, chunkFetchParallelism, ActionListener.wrap(file -> {
+            log.info("Fetched model {} from node {}", modelId, sourceNodeId);
+            hashListener.onResponse(modelContentHash);
+        }, e -> {
+            log.warn("Failed to fetch model {} from node {}, retrieve model chunks from model index", modelId, sourceNodeId, e);
+            retrieveModelChunksFromIndex(mlModelMeta, modelZipFile, hashListener);
+        }));
+    }
+
+    private void retrieveModelChunksFromIndex(MLModel mlModelMeta, File modelZipFile, ActionListener<String> listener) {
+        String modelId = mlModelMeta.getModelId();
+        MLModelChunkFetcher chunkFetcher = new MLModelChunkFetcher(
+            mlModelMeta.getTotalChunks(),
+            chunkFetchParallelism,
+            modelZipFile,
+            (chunk, chunkListener) -> {
+                String modelChunkId = this.getModelChunkId(modelId, chunk);
+                this
+                    .getModel(
+                        modelChunkId,
+                        threadedActionListener(
+                            DEPLOY_THREAD_POOL,
+                            ActionListener
+                                .wrap(model -> chunkListener.onResponse(Base64.getDecoder().decode(model.getContent())), e -> {
+                                    log.error("Failed to retrieve model chunk {}", modelChunkId, e);
+                                    chunkListener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
+                                })
+                        )
+                    );
+            },
+            listener
+        );
+        chunkFetcher.fetch();
     }
 
     /**
@@ -0,0 +1,165 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_PREDICTABLE_CACHE_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_PREDICTABLE_CACHE_SIZE;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.input.parameter.MLAlgoParams;
+import org.opensearch.ml.engine.Predictable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node-local cache of loaded {@link Predictable} instances for models which don't need to be deployed, like KMeans,
+ * batch RCF and the regression models. Without this cache every predict request has to decode the model content again.
+ * <p>
+ * Entries are keyed by model id and validated against the sequence number and primary term of the model document, so
+ * a model which was changed or deleted and recreated on any node is loaded again on the next request.
+ */
+@Log4j2
+public class MLPredictableCache {
+
+    // Algorithms whose predict method only reads the loaded model, so one instance can serve many requests.
+    // FIT_RCF is not in the list as its predict updates the forest state.
+    private static final Set<FunctionName> CACHEABLE_FUNCTIONS = Set
+        .of(
+            FunctionName.KMEANS,
+            FunctionName.BATCH_RCF,
+            FunctionName.RCF_SUMMARIZE,
+            FunctionName.LINEAR_REGRESSION,
+            FunctionName.LOGISTIC_REGRESSION,
+            FunctionName.AD_LIBSVM
+        );
+
+    private final Cache<String, CachedPredictable> cache;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private volatile boolean enabled;
+
+    public MLPredictableCache(ClusterService clusterService, Settings settings) {
+        this.cache = CacheBuilder
+            .<String, CachedPredictable>builder()
+            .setMaximumWeight(ML_COMMONS_PREDICTABLE_CACHE_SIZE.get(settings).getBytes())
+            .weigher((modelId, cached) -> cached.getSizeInBytes())
+            .build();
+        this.enabled = ML_COMMONS_PREDICTABLE_CACHE_ENABLED.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICTABLE_CACHE_ENABLED, it -> {
+            enabled = it;
+            if (!it) {
+                clear();
+            }
+        });
+    }
+
+    /**
+     * Check if the loaded model of the function can be cached.
+     *
+     * @param functionName function name
+     * @return true if the cache is enabled and the function is cacheable
+     */
+    public boolean isCacheable(FunctionName functionName) {
+        return enabled && CACHEABLE_FUNCTIONS.contains(functionName);
+    }
+
+    /**
+     * Get the cached predictable of a model.
+     *
+     * @param modelId     model id
+     * @param seqNo       sequence number of the current model document
+     * @param primaryTerm primary term of the current model document
+     * @param parameters  algorithm parameters of the predict request
+     * @return the cached predictable, or null if it's not cached or was loaded from another version of the model
+     */
+    public Predictable get(String modelId, long seqNo, long primaryTerm, MLAlgoParams parameters) {
+        CachedPredictable cached = enabled ? cache.get(modelId) : null;
+        if (cached != null && cached.matches(seqNo, primaryTerm, parameters)) {
+            hitCount.increment();
+            return cached.getPredictable();
+        }
+        missCount.increment();
+        return null;
+    }
+
+    /**
+     * Cache the loaded predictable of a model.
+     *
+     * @param modelId     model id
+     * @param seqNo       sequence number of the model document the predictable was loaded from
+     * @param primaryTerm primary term of the model document the predictable was loaded from
+     * @param parameters  algorithm parameters the predictable was created with
+     * @param predictable loaded predictable
+     * @param content     base64 encoded model content, used to estimate the memory size of the loaded model
+     */
+    public void put(String modelId, long seqNo, long primaryTerm, MLAlgoParams parameters, Predictable predictable, String content) {
+        if (!enabled || seqNo == SequenceNumbers.UNASSIGNED_SEQ_NO || predictable == null) {
+            return;
+        }
+        cache.put(modelId, new CachedPredictable(seqNo, primaryTerm, parameters, predictable, estimateSizeInBytes(modelId, content)));
+    }
+
+    /**
+     * Remove the cached predictable of a model, e.g. when the model is deleted.
+     *
+     * @param modelId model id
+     */
+    public void invalidate(String modelId) {
+        log.debug("Invalidate cached predictable of model {}", modelId);
+        cache.invalidate(modelId);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getMemorySizeInBytes() {
+        return cache.weight();
+    }
+
+    public int count() {
+        return cache.count();
+    }
+
+    // The decoded model content is used as the memory estimation of the loaded model.
+    private static long estimateSizeInBytes(String modelId, String content) {
+        long contentSize = content == null ? 0 : (long) content.length() * 3 / 4;
+        return contentSize + 2L * modelId.length();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedPredictable {
+        private final long seqNo;
+        private final long primaryTerm;
+        private final MLAlgoParams parameters;
+        private final Predictable predictable;
+        private final long sizeInBytes;
+
+        boolean matches(long seqNo, long primaryTerm, MLAlgoParams parameters) {
+            return this.seqNo == seqNo && this.primaryTerm == primaryTerm && Objects.equals(this.parameters, parameters);
+        }
+    }
+}
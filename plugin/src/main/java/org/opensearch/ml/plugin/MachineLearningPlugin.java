@@ -57,6 +57,7 @@ import org.opensearch.common.settings.IndexScopedSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
@@ -81,6 +82,7 @@ import org.opensearch.ml.action.agents.GetAgentTransportAction;
 import org.opensearch.ml.action.agents.TransportRegisterAgentAction;
 import org.opensearch.ml.action.agents.TransportSearchAgentAction;
 import org.opensearch.ml.action.agents.UpdateAgentTransportAction;
+import org.opensearch.ml.action.artifact.TransportModelArtifactChunkAction;
 import org.opensearch.ml.action.batch.TransportBatchIngestionAction;
 import org.opensearch.ml.action.config.GetConfigTransportAction;
 import org.opensearch.ml.action.connector.DeleteConnectorTransportAction;
@@ -153,12 +155,16 @@ import org.opensearch.ml.action.upload_chunk.MLModelChunkUploader;
 import org.opensearch.ml.action.upload_chunk.TransportRegisterModelMetaAction;
 import org.opensearch.ml.action.upload_chunk.TransportUploadModelChunkAction;
 import org.opensearch.ml.autoredeploy.MLModelAutoReDeployer;
+import org.opensearch.ml.breaker.BreakerName;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.cluster.MLCommonsClusterEventListener;
 import org.opensearch.ml.cluster.MLCommonsClusterManagerEventListener;
 import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.connector.functions.ConnectorScriptCache;
+import org.opensearch.ml.common.httpclient.MLAsyncHttpClientPool;
+import org.opensearch.ml.common.httpclient.MLHttpClientFactory;
 import org.opensearch.ml.common.input.execute.anomalylocalization.AnomalyLocalizationInput;
 import org.opensearch.ml.common.input.execute.metricscorrelation.MetricsCorrelationInput;
 import org.opensearch.ml.common.input.execute.samplecalculator.LocalSampleCalculatorInput;
@@ -183,6 +189,7 @@ import org.opensearch.ml.common.transport.agent.MLAgentGetAction;
 import org.opensearch.ml.common.transport.agent.MLAgentUpdateAction;
 import org.opensearch.ml.common.transport.agent.MLRegisterAgentAction;
 import org.opensearch.ml.common.transport.agent.MLSearchAgentAction;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkAction;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionAction;
 import org.opensearch.ml.common.transport.config.MLConfigGetAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteAction;
@@ -257,6 +264,8 @@ import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.algorithms.agent.MLAgentExecutor;
 import org.opensearch.ml.engine.algorithms.anomalylocalization.AnomalyLocalizerImpl;
 import org.opensearch.ml.engine.algorithms.metrics_correlation.MetricsCorrelation;
+import org.opensearch.ml.engine.algorithms.remote.streaming.StreamingHttpClientPool;
+import org.opensearch.ml.engine.algorithms.remote.streaming.StreamingStats;
 import org.opensearch.ml.engine.algorithms.sample.LocalSampleCalculator;
 import org.opensearch.ml.engine.algorithms.tool.MLToolExecutor;
 import org.opensearch.ml.engine.analysis.DJLUtils;
@@ -315,8 +324,11 @@ import org.opensearch.ml.memory.action.conversation.UpdateInteractionAction;
 import org.opensearch.ml.memory.action.conversation.UpdateInteractionTransportAction;
 import org.opensearch.ml.memory.index.ConversationMetaIndex;
 import org.opensearch.ml.memory.index.OpenSearchConversationalMemoryHandler;
+import org.opensearch.ml.model.MLModelArtifactCache;
+import org.opensearch.ml.model.MLModelArtifactDistributor;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLPredictableCache;
 import org.opensearch.ml.processor.MLInferenceIngestProcessor;
 import org.opensearch.ml.processor.MLInferenceSearchRequestProcessor;
 import org.opensearch.ml.processor.MLInferenceSearchResponseProcessor;
@@ -407,6 +419,7 @@ import org.opensearch.ml.stats.otel.counters.MLOperationalMetricsCounter;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
 import org.opensearch.ml.stats.suppliers.IndexStatusSupplier;
 import org.opensearch.ml.task.MLExecuteTaskRunner;
+import org.opensearch.ml.task.MLNodeLoadTable;
 import org.opensearch.ml.task.MLPredictTaskRunner;
 import org.opensearch.ml.task.MLTaskDispatcher;
 import org.opensearch.ml.task.MLTaskManager;
@@ -415,6 +428,7 @@ import org.opensearch.ml.task.MLTrainingTaskRunner;
 import org.opensearch.ml.tools.GetToolTransportAction;
 import org.opensearch.ml.tools.ListToolsTransportAction;
 import org.opensearch.ml.utils.IndexUtils;
+import org.opensearch.ml.utils.MLNodeUtils;
 import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.monitor.os.OsService;
 import org.opensearch.plugins.ActionPlugin;
@@ -482,6 +496,7 @@ public class MachineLearningPlugin extends Plugin
 
     private MLStats mlStats;
     private MLModelCacheHelper modelCacheHelper;
+    private MLPredictableCache predictableCache;
     private MLTaskManager mlTaskManager;
     private MLModelManager mlModelManager;
     private MLIndicesHandler mlIndicesHandler;
@@ -507,6 +522,7 @@ public class MachineLearningPlugin extends Plugin
     private NamedXContentRegistry xContentRegistry;
 
     private ModelAccessControlHelper modelAccessControlHelper;
+    private MLModelArtifactDistributor modelArtifactDistributor;
 
     private ConnectorAccessControlHelper connectorAccessControlHelper;
 
@@ -555,6 +571,7 @@ public class MachineLearningPlugin extends Plugin
                 new ActionHandler<>(MLUpdateModelCacheAction.INSTANCE, UpdateModelCacheTransportAction.class),
                 new ActionHandler<>(MLForwardAction.INSTANCE, TransportForwardAction.class),
                 new ActionHandler<>(MLSyncUpAction.INSTANCE, TransportSyncUpOnNodeAction.class),
+                new ActionHandler<>(MLModelArtifactChunkAction.INSTANCE, TransportModelArtifactChunkAction.class),
                 new ActionHandler<>(MLRegisterModelGroupAction.INSTANCE, TransportRegisterModelGroupAction.class),
                 new ActionHandler<>(MLUpdateModelGroupAction.INSTANCE, TransportUpdateModelGroupAction.class),
                 new ActionHandler<>(MLModelGroupGetAction.INSTANCE, GetModelGroupTransportAction.class),
@@ -683,8 +700,28 @@ public class MachineLearningPlugin extends Plugin
         encryptor = new EncryptorImpl(clusterService, client, sdkClient, mlIndicesHandler);
 
         mlEngine = new MLEngine(dataPath, encryptor);
+        mlEngine.setLocalModelIntraOpThreads(MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_INTRA_OP_THREADS.get(settings));
+        MLAsyncHttpClientPool httpClientPool = MLHttpClientFactory.getSharedClientPool();
+        httpClientPool.setMaxConnectionsPerHost(MLCommonsSettings.ML_COMMONS_REMOTE_HTTP_CLIENT_MAX_CONNECTIONS_PER_HOST.get(settings));
+        StreamingHttpClientPool
+            .getInstance()
+            .setMaxRequestsPerHost(MLCommonsSettings.ML_COMMONS_REMOTE_HTTP_CLIENT_MAX_CONNECTIONS_PER_HOST.get(settings));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(MLCommonsSettings.ML_COMMONS_REMOTE_HTTP_CLIENT_MAX_CONNECTIONS_PER_HOST, it -> {
+                // the async clients are built with their max connections, so it applies to the clients created afterwards
+                httpClientPool.setMaxConnectionsPerHost(it);
+                StreamingHttpClientPool.getInstance().setMaxRequestsPerHost(it);
+            });
+        threadPool
+            .scheduleWithFixedDelay(
+                () -> httpClientPool.evictIdleClients(MLAsyncHttpClientPool.DEFAULT_CLIENT_IDLE_TIME),
+                TimeValue.timeValueMinutes(1),
+                GENERAL_THREAD_POOL
+            );
         nodeHelper = new DiscoveryNodeHelper(clusterService, settings);
         modelCacheHelper = new MLModelCacheHelper(clusterService, settings);
+        predictableCache = new MLPredictableCache(clusterService, settings);
         cmHandler = new OpenSearchConversationalMemoryHandler(client, clusterService);
         DJLUtils.setMlEngine(mlEngine);
 
@@ -713,13 +750,86 @@ public class MachineLearningPlugin extends Plugin
         stats.put(MLNodeLevelStat.ML_FAILURE_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_PREDICTABLE_CACHE_HIT_COUNT, new MLStat<>(false, predictableCache::getHitCount));
+        stats.put(MLNodeLevelStat.ML_PREDICTABLE_CACHE_MISS_COUNT, new MLStat<>(false, predictableCache::getMissCount));
+        stats.put(MLNodeLevelStat.ML_PREDICTABLE_CACHE_MEMORY_SIZE_IN_BYTES, new MLStat<>(false, predictableCache::getMemorySizeInBytes));
+        stats.put(MLNodeLevelStat.ML_REMOTE_HTTP_CLIENT_COUNT, new MLStat<>(false, httpClientPool::getClientCount));
+        stats.put(MLNodeLevelStat.ML_REMOTE_HTTP_CLIENT_CREATED_COUNT, new MLStat<>(false, httpClientPool::getCreatedClientCount));
+        stats.put(MLNodeLevelStat.ML_REMOTE_HTTP_CLIENT_CLOSED_COUNT, new MLStat<>(false, httpClientPool::getClosedClientCount));
+        stats.put(MLNodeLevelStat.ML_REMOTE_HTTP_LEASED_CONNECTION_COUNT, new MLStat<>(false, httpClientPool::getLeasedCount));
+        stats.put(MLNodeLevelStat.ML_REMOTE_HTTP_PENDING_ACQUIRE_COUNT, new MLStat<>(false, httpClientPool::getPendingAcquireCount));
+        stats.put(MLNodeLevelStat.ML_OPEN_STREAM_COUNT, new MLStat<>(false, StreamingStats::getOpenStreamCount));
+        stats.put(MLNodeLevelStat.ML_STREAM_COUNT, new MLStat<>(false, StreamingStats::getTotalStreamCount));
+        stats.put(MLNodeLevelStat.ML_RECENT_STREAM_TIME_TO_FIRST_TOKEN, new MLStat<>(false, StreamingStats::getRecentTimeToFirstToken));
+        stats
+            .put(
+                MLNodeLevelStat.ML_STREAMING_HTTP_CLIENT_COUNT,
+                new MLStat<>(false, StreamingHttpClientPool.getInstance()::getClientCount)
+            );
+        stats.put(MLNodeLevelStat.ML_CONNECTOR_SCRIPT_COMPILATION_COUNT, new MLStat<>(false, ConnectorScriptCache::getCompilationCount));
+        stats.put(MLNodeLevelStat.ML_CONNECTOR_SCRIPT_CACHE_HIT_COUNT, new MLStat<>(false, ConnectorScriptCache::getHitCount));
+        stats
+            .put(
+                MLNodeLevelStat.ML_TASK_QUEUE_SIZE,
+                new MLStat<>(
+                    false,
+                    () -> MLNodeUtils
+                        .getQueueSize(threadPool, PREDICT_THREAD_POOL, REMOTE_PREDICT_THREAD_POOL, TRAIN_THREAD_POOL, EXECUTE_THREAD_POOL)
+                )
+            );
+        stats.put(MLNodeLevelStat.ML_RECENT_INFERENCE_LATENCY, new MLStat<>(false, modelCacheHelper::getRecentInferenceLatency));
+        MLNodeLoadTable nodeLoadTable = new MLNodeLoadTable(
+            MLCommonsSettings.ML_COMMONS_NODE_LOAD_REFRESH_INTERVAL.get(settings).nanos(),
+            MLCommonsSettings.ML_COMMONS_NODE_LOAD_MAX_STALENESS.get(settings).nanos()
+        );
+        stats.put(MLNodeLevelStat.ML_NODE_LOAD_TABLE_HIT_COUNT, new MLStat<>(false, nodeLoadTable::getHitCount));
+        stats.put(MLNodeLevelStat.ML_NODE_LOAD_TABLE_MISS_COUNT, new MLStat<>(false, nodeLoadTable::getMissCount));
+        stats.put(MLNodeLevelStat.ML_NODE_LOAD_TABLE_REFRESH_COUNT, new MLStat<>(false, nodeLoadTable::getRefreshCount));
+        modelAccessControlHelper = new ModelAccessControlHelper(clusterService, settings);
+        stats.put(MLNodeLevelStat.ML_MODEL_GROUP_ACCESS_CACHE_HIT_COUNT, new MLStat<>(false, modelAccessControlHelper::getCacheHitCount));
+        stats.put(MLNodeLevelStat.ML_MODEL_GROUP_ACCESS_CACHE_MISS_COUNT, new MLStat<>(false, modelAccessControlHelper::getCacheMissCount));
+        MLModelArtifactCache modelArtifactCache = new MLModelArtifactCache(
+            mlEngine.getModelArtifactCacheRootPath(),
+            mlCircuitBreakerService.getBreaker(BreakerName.DISK),
+            MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE.get(settings).getBytes()
+        );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE,
+                it -> modelArtifactCache.setMaxSizeInBytes(it.getBytes())
+            );
+        stats.put(MLNodeLevelStat.ML_MODEL_ARTIFACT_CACHE_HIT_COUNT, new MLStat<>(false, modelArtifactCache::getHitCount));
+        stats.put(MLNodeLevelStat.ML_MODEL_ARTIFACT_CACHE_MISS_COUNT, new MLStat<>(false, modelArtifactCache::getMissCount));
+        modelArtifactDistributor = new MLModelArtifactDistributor(
+            client,
+            threadPool,
+            modelArtifactCache,
+            ModelHelper.CHUNK_SIZE,
+            MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_TRANSFER_ENABLED.get(settings),
+            MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_TRANSFER_WAIT_TIMEOUT.get(settings)
+        );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_TRANSFER_ENABLED, modelArtifactDistributor::setEnabled);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_TRANSFER_WAIT_TIMEOUT,
+                modelArtifactDistributor::setWaitTimeout
+            );
+        stats.put(MLNodeLevelStat.ML_MODEL_ARTIFACT_PEER_FETCH_COUNT, new MLStat<>(false, modelArtifactDistributor::getPeerFetchCount));
+        stats
+            .put(
+                MLNodeLevelStat.ML_MODEL_ARTIFACT_PEER_FETCH_FAILURE_COUNT,
+                new MLStat<>(false, modelArtifactDistributor::getPeerFetchFailureCount)
+            );
         this.mlStats = new MLStats(stats);
 
         mlTaskManager = new MLTaskManager(client, sdkClient, threadPool, mlIndicesHandler);
         modelHelper = new ModelHelper(mlEngine);
 
         mlInputDatasetHandler = new MLInputDatasetHandler(client);
-        modelAccessControlHelper = new ModelAccessControlHelper(clusterService, settings);
         connectorAccessControlHelper = new ConnectorAccessControlHelper(clusterService, settings);
 
         mlModelManager = new MLModelManager(
@@ -738,12 +848,14 @@ public class MachineLearningPlugin extends Plugin
             modelCacheHelper,
             mlEngine,
             nodeHelper,
-            mlFeatureEnabledSetting
+            mlFeatureEnabledSetting,
+            modelArtifactCache,
+            modelArtifactDistributor
         );
 
         mlModelChunkUploader = new MLModelChunkUploader(mlIndicesHandler, client, xContentRegistry, modelAccessControlHelper);
 
-        MLTaskDispatcher mlTaskDispatcher = new MLTaskDispatcher(clusterService, client, settings, nodeHelper);
+        MLTaskDispatcher mlTaskDispatcher = new MLTaskDispatcher(clusterService, client, settings, nodeHelper, nodeLoadTable);
         mlTrainingTaskRunner = new MLTrainingTaskRunner(
             threadPool,
             clusterService,
@@ -770,6 +882,7 @@ public class MachineLearningPlugin extends Plugin
             mlModelManager,
             nodeHelper,
             mlEngine,
+            predictableCache,
             settings
         );
         mlTrainAndPredictTaskRunner = new MLTrainAndPredictTaskRunner(
@@ -920,6 +1033,7 @@ public class MachineLearningPlugin extends Plugin
                 mlEngine,
                 nodeHelper,
                 modelCacheHelper,
+                predictableCache,
                 mlStats,
                 mlTaskManager,
                 mlModelManager,
@@ -945,7 +1059,8 @@ public class MachineLearningPlugin extends Plugin
                 sdkClient,
                 toolFactoryWrapper,
                 mcpToolsHelper,
-                statelessServerHolder
+                statelessServerHolder,
+                modelArtifactDistributor
             );
     }
 
@@ -1364,7 +1479,19 @@ public class MachineLearningPlugin extends Plugin
                 MLCommonsSettings.ML_COMMONS_INDEX_INSIGHT_FEATURE_ENABLED,
                 MLCommonsSettings.REMOTE_METADATA_GLOBAL_TENANT_ID,
                 MLCommonsSettings.REMOTE_METADATA_GLOBAL_RESOURCE_CACHE_TTL,
-                MLCommonsSettings.ML_COMMONS_STREAM_ENABLED
+                MLCommonsSettings.ML_COMMONS_STREAM_ENABLED,
+                MLCommonsSettings.ML_COMMONS_PREDICTABLE_CACHE_ENABLED,
+                MLCommonsSettings.ML_COMMONS_PREDICTABLE_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_INTRA_OP_THREADS,
+                MLCommonsSettings.ML_COMMONS_REMOTE_HTTP_CLIENT_MAX_CONNECTIONS_PER_HOST,
+                MLCommonsSettings.ML_COMMONS_NODE_LOAD_REFRESH_INTERVAL,
+                MLCommonsSettings.ML_COMMONS_NODE_LOAD_MAX_STALENESS,
+                MLCommonsSettings.ML_COMMONS_PREDICT_LATENCY_DECAY_TIME,
+                MLCommonsSettings.ML_COMMONS_MODEL_GROUP_ACCESS_CACHE_TTL,
+                MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_FETCH_PARALLELISM,
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_TRANSFER_ENABLED,
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_TRANSFER_WAIT_TIMEOUT
             );
         return settings;
     }
@@ -1556,4 +1683,10 @@ public class MachineLearningPlugin extends Plugin
     public ScheduledJobParser getJobParser() {
         return (parser, id, jobDocVersion) -> MLJobParameter.parse(parser);
     }
+
+    @Override
+    public void close() {
+        MLHttpClientFactory.getSharedClientPool().close();
+        StreamingHttpClientPool.getInstance().close();
+    }
 }
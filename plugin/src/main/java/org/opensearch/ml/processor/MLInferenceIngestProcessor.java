@@ -7,43 +7,73 @@ package org.opensearch.ml.processor;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
-import org.opensearch.ingest.AbstractProcessor;
+import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 import org.opensearch.ingest.ValueSource;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.script.ScriptService;
 import org.opensearch.script.TemplateScript;
 import org.opensearch.transport.client.Client;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
 import com.jayway.jsonpath.JsonPath;
 
 /**
  * MLInferenceIngestProcessor requires a modelId string to call model inferences
  * maps fields in document for model input, and maps model inference output to new document fields
  * this processor also handles dot path notation for nested object( map of array) by rewriting json path accordingly
+ * with batch_size greater than 1, the predictions of the documents in a batch are merged into one model call when
+ * their model input is text_docs, or, with merge_remote_inputs enabled, when a remote model reads a json array of
+ * inputs from its "input" or "text_docs" parameter. Other remote model inputs, like a single text in the parameters,
+ * are still predicted per document
  */
-public class MLInferenceIngestProcessor extends AbstractProcessor implements ModelExecutor {
+public class MLInferenceIngestProcessor extends AbstractBatchingProcessor implements ModelExecutor {
 
     private static final Logger logger = LogManager.getLogger(MLInferenceIngestProcessor.class);
 
@@ -70,7 +100,20 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
     // it can be overwritten using max_prediction_tasks when creating processor
     public static final int DEFAULT_MAX_PREDICTION_TASKS = 10;
     public static final String DEFAULT_MODEl_INPUT = "{ \"parameters\": ${ml_inference.parameters} }";
+    // By default the documents of a bulk request are processed one at a time. With a larger batch_size, up to that
+    // many documents are processed together, and their text_docs inputs, or the json array inputs of a remote model
+    // in a batchable parameter, are merged into one model call
+    public static final int DEFAULT_BATCH_SIZE = 1;
+    // parameters of a remote model which are merged across documents when they hold a json array of inputs
+    public static final Set<String> BATCHABLE_PARAMETERS = Set.of("input", MLInput.TEXT_DOCS_FIELD);
+    // merging the batchable parameters of remote models is opt-in, since the connector must return one output per input
+    public static final String MERGE_REMOTE_INPUTS = "merge_remote_inputs";
+    // how long remote predictions are not merged after the output of a merged prediction couldn't be split
+    static final long REMOTE_MERGE_RETRY_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(10);
     private final NamedXContentRegistry xContentRegistry;
+    private final boolean mergeRemoteInputs;
+    private volatile long remoteMergeDisabledUntil;
+    private LongSupplier clock = System::currentTimeMillis;
 
     protected MLInferenceIngestProcessor(
         String modelId,
@@ -90,7 +133,49 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         Client client,
         NamedXContentRegistry xContentRegistry
     ) {
-        super(tag, description);
+        this(
+            modelId,
+            inputMaps,
+            outputMaps,
+            modelConfigMaps,
+            maxPredictionTask,
+            tag,
+            description,
+            ignoreMissing,
+            functionName,
+            fullResponsePath,
+            ignoreFailure,
+            override,
+            modelInput,
+            scriptService,
+            client,
+            xContentRegistry,
+            DEFAULT_BATCH_SIZE,
+            false
+        );
+    }
+
+    protected MLInferenceIngestProcessor(
+        String modelId,
+        List<Map<String, String>> inputMaps,
+        List<Map<String, String>> outputMaps,
+        Map<String, String> modelConfigMaps,
+        int maxPredictionTask,
+        String tag,
+        String description,
+        boolean ignoreMissing,
+        String functionName,
+        boolean fullResponsePath,
+        boolean ignoreFailure,
+        boolean override,
+        String modelInput,
+        ScriptService scriptService,
+        Client client,
+        NamedXContentRegistry xContentRegistry,
+        int batchSize,
+        boolean mergeRemoteInputs
+    ) {
+        super(tag, description, batchSize);
         this.inferenceProcessorAttributes = new InferenceProcessorAttributes(
             modelId,
             inputMaps,
@@ -107,6 +192,12 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         this.scriptService = scriptService;
         this.client = client;
         this.xContentRegistry = xContentRegistry;
+        this.mergeRemoteInputs = mergeRemoteInputs;
+    }
+
+    @VisibleForTesting
+    void setClock(LongSupplier clock) {
+        this.clock = clock;
     }
 
     /**
@@ -161,6 +252,330 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         throw new UnsupportedOperationException("this method should not get executed.");
     }
 
+    /**
+     * Executes the inference of a batch of documents. The predictions of text docs inputs which only differ in their
+     * text docs are merged into one model call, the connector of a remote model splits the merged text docs by its
+     * input_docs_processed_step_size. Remote predictions which only differ in the json array of a batchable parameter
+     * are merged the same way, other remote predictions run per document. The outputs are scattered back to the
+     * documents by the position of their inputs. A merged prediction whose output can't be split, or which the model
+     * rejected as a bad request, falls back to one prediction per document, other failures fail every document of the
+     * merged prediction.
+     *
+     * @param ingestDocumentWrappers The documents to be processed.
+     * @param handler                A consumer for handling the processed documents.
+     */
+    @Override
+    protected void subBatchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        List<IngestDocumentWrapper> wrappers = new ArrayList<>();
+        for (IngestDocumentWrapper wrapper : ingestDocumentWrappers) {
+            if (wrapper.getIngestDocument() != null && wrapper.getException() == null) {
+                wrappers.add(wrapper);
+            }
+        }
+        if (wrappers.isEmpty()) {
+            handler.accept(ingestDocumentWrappers);
+            return;
+        }
+
+        List<Map<String, String>> processInputMap = inferenceProcessorAttributes.getInputMaps();
+        List<Map<String, String>> processOutputMap = inferenceProcessorAttributes.getOutputMaps();
+        int inputMapSize = (processInputMap != null) ? processInputMap.size() : 0;
+        int predictionsPerDocument = Math.max(inputMapSize, 1);
+
+        AtomicInteger pendingDocuments = new AtomicInteger(wrappers.size());
+        List<GroupedActionListener<Void>> documentListeners = new ArrayList<>(wrappers.size());
+        for (IngestDocumentWrapper wrapper : wrappers) {
+            documentListeners.add(new GroupedActionListener<>(ActionListener.wrap(voids -> {
+                wrapper.update(wrapper.getIngestDocument(), null);
+                onDocumentProcessed(pendingDocuments, ingestDocumentWrappers, handler);
+            }, e -> {
+                if (ignoreFailure) {
+                    wrapper.update(wrapper.getIngestDocument(), null);
+                } else {
+                    wrapper.update(null, e);
+                }
+                onDocumentProcessed(pendingDocuments, ingestDocumentWrappers, handler);
+            }), predictionsPerDocument));
+        }
+
+        // text docs predictions grouped by their model input without the text docs
+        Map<String, List<PredictionTask>> mergeableTasks = new LinkedHashMap<>();
+        Map<PredictionTask, ActionListener<Void>> taskListeners = new IdentityHashMap<>();
+        for (int inputMapIndex = 0; inputMapIndex < predictionsPerDocument; inputMapIndex++) {
+            for (int i = 0; i < wrappers.size(); i++) {
+                GroupedActionListener<Void> documentListener = documentListeners.get(i);
+                try {
+                    PredictionTask task = preparePrediction(
+                        wrappers.get(i).getIngestDocument(),
+                        processInputMap,
+                        processOutputMap,
+                        inputMapIndex,
+                        inputMapSize
+                    );
+                    if (task == null) {
+                        documentListener.onResponse(null);
+                        continue;
+                    }
+                    String mergeKey = getMergeKey(task);
+                    if (mergeKey == null) {
+                        executePrediction(task, documentListener);
+                    } else {
+                        mergeableTasks.computeIfAbsent(mergeKey, key -> new ArrayList<>()).add(task);
+                        taskListeners.put(task, documentListener);
+                    }
+                } catch (Exception e) {
+                    documentListener.onFailure(e);
+                }
+            }
+        }
+        for (List<PredictionTask> tasks : mergeableTasks.values()) {
+            if (tasks.size() == 1) {
+                executePrediction(tasks.get(0), taskListeners.get(tasks.get(0)));
+            } else {
+                executeMergedPrediction(tasks, taskListeners);
+            }
+        }
+    }
+
+    private void onDocumentProcessed(
+        AtomicInteger pendingDocuments,
+        List<IngestDocumentWrapper> ingestDocumentWrappers,
+        Consumer<List<IngestDocumentWrapper>> handler
+    ) {
+        if (pendingDocuments.decrementAndGet() == 0) {
+            handler.accept(ingestDocumentWrappers);
+        }
+    }
+
+    /**
+     * Returns the key of the predictions which can be merged with this one: text docs predictions with the same
+     * model input except for the text docs, and remote predictions with the same parameters except for a batchable
+     * parameter holding a json array of inputs.
+     *
+     * @return the merge key, or null if the prediction can't be merged with others
+     */
+    private String getMergeKey(PredictionTask task) {
+        if (!(task.request() instanceof MLPredictionTaskRequest)) {
+            return null;
+        }
+        MLInput mlInput = ((MLPredictionTaskRequest) task.request()).getMlInput();
+        if (mlInput == null) {
+            return null;
+        }
+        String batchableParameter = null;
+        if (mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
+            TextDocsInputDataSet textDocs = (TextDocsInputDataSet) mlInput.getInputDataset();
+            if (textDocs.getDocs() == null || textDocs.getDocs().isEmpty()) {
+                return null;
+            }
+        } else if (mlInput.getInputDataset() instanceof RemoteInferenceInputDataSet) {
+            batchableParameter = getBatchableParameter((RemoteInferenceInputDataSet) mlInput.getInputDataset());
+            if (batchableParameter == null) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+        try {
+            Map<String, Object> inputWithoutDocs = XContentHelper
+                .convertToMap(JsonXContent.jsonXContent, Strings.toString(MediaTypeRegistry.JSON, mlInput), true);
+            if (batchableParameter == null) {
+                inputWithoutDocs.remove(MLInput.TEXT_DOCS_FIELD);
+                return StringUtils.toJson(inputWithoutDocs);
+            }
+            ((Map<?, ?>) inputWithoutDocs.get(MLInput.PARAMETERS_FIELD)).remove(batchableParameter);
+            return batchableParameter + ":" + StringUtils.toJson(inputWithoutDocs);
+        } catch (Exception e) {
+            logger.debug("Failed to build the merge key of the model input, predicting the document on its own", e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the batchable parameter of a remote prediction: the only one of {@link #BATCHABLE_PARAMETERS} whose
+     * value is a non-empty json array. A connector declares that it takes an array of inputs by reading such a
+     * parameter as a json array in its request body.
+     *
+     * @return the parameter name, or null if the prediction has no batchable parameter, merging remote predictions
+     * isn't enabled, or it's paused because the output of a merged prediction couldn't be split
+     */
+    private String getBatchableParameter(RemoteInferenceInputDataSet inputDataSet) {
+        if (!mergeRemoteInputs || clock.getAsLong() < remoteMergeDisabledUntil || inputDataSet.getParameters() == null) {
+            return null;
+        }
+        String batchableParameter = null;
+        for (String parameter : BATCHABLE_PARAMETERS) {
+            String value = inputDataSet.getParameters().get(parameter);
+            if (value == null || !StringUtils.isJson(value)) {
+                continue;
+            }
+            JsonElement inputs = JsonParser.parseString(value);
+            if (!inputs.isJsonArray() || inputs.getAsJsonArray().isEmpty()) {
+                continue;
+            }
+            if (batchableParameter != null) {
+                return null;
+            }
+            batchableParameter = parameter;
+        }
+        return batchableParameter;
+    }
+
+    private void executeMergedPrediction(List<PredictionTask> tasks, Map<PredictionTask, ActionListener<Void>> taskListeners) {
+        int[] docCounts = new int[tasks.size()];
+        MLPredictionTaskRequest firstRequest = (MLPredictionTaskRequest) tasks.get(0).request();
+        MLInput firstInput = firstRequest.getMlInput();
+        boolean remoteParameters = firstInput.getInputDataset() instanceof RemoteInferenceInputDataSet;
+        MLInput mergedInput;
+        if (remoteParameters) {
+            RemoteInferenceInputDataSet firstDataSet = (RemoteInferenceInputDataSet) firstInput.getInputDataset();
+            String batchableParameter = getBatchableParameter(firstDataSet);
+            if (batchableParameter == null) {
+                // merging was paused by another batch in the meantime
+                executeEach(tasks, taskListeners);
+                return;
+            }
+            JsonArray mergedInputs = new JsonArray();
+            for (int i = 0; i < tasks.size(); i++) {
+                RemoteInferenceInputDataSet dataSet = (RemoteInferenceInputDataSet) ((MLPredictionTaskRequest) tasks.get(i).request())
+                    .getMlInput()
+                    .getInputDataset();
+                JsonArray inputs = JsonParser.parseString(dataSet.getParameters().get(batchableParameter)).getAsJsonArray();
+                mergedInputs.addAll(inputs);
+                docCounts[i] = inputs.size();
+            }
+            Map<String, String> mergedParameters = new HashMap<>(firstDataSet.getParameters());
+            mergedParameters.put(batchableParameter, mergedInputs.toString());
+            mergedInput = firstInput.toBuilder().inputDataset(firstDataSet.toBuilder().parameters(mergedParameters).build()).build();
+        } else {
+            List<String> mergedDocs = new ArrayList<>();
+            for (int i = 0; i < tasks.size(); i++) {
+                List<String> docs = getTextDocs(tasks.get(i)).getDocs();
+                mergedDocs.addAll(docs);
+                docCounts[i] = docs.size();
+            }
+            mergedInput = firstInput.toBuilder().inputDataset(getTextDocs(tasks.get(0)).toBuilder().docs(mergedDocs).build()).build();
+        }
+        MLPredictionTaskRequest mergedRequest = new MLPredictionTaskRequest(firstRequest.getModelId(), mergedInput);
+
+        client.execute(MLPredictionTaskAction.INSTANCE, mergedRequest, new ActionListener<>() {
+
+            @Override
+            public void onResponse(MLTaskResponse mlTaskResponse) {
+                List<MLOutput> outputs = splitMergedOutput(mlTaskResponse.getOutput(), docCounts);
+                if (outputs == null) {
+                    if (remoteParameters) {
+                        // the connector returns one output for all the inputs, merging would cost an extra call per batch
+                        long now = clock.getAsLong();
+                        if (now >= remoteMergeDisabledUntil) {
+                            logger.warn("Can't split the output of the remote model by its inputs, pausing merging its predictions");
+                        }
+                        remoteMergeDisabledUntil = now + REMOTE_MERGE_RETRY_INTERVAL_MILLIS;
+                    }
+                    logger.debug("Can't split the output of {} merged predictions, predicting the documents one by one", tasks.size());
+                    executeEach(tasks, taskListeners);
+                    return;
+                }
+                for (int i = 0; i < tasks.size(); i++) {
+                    ActionListener<Void> listener = taskListeners.get(tasks.get(i));
+                    try {
+                        applyPredictionOutput(tasks.get(i), outputs.get(i));
+                    } catch (Exception e) {
+                        listener.onFailure(e);
+                        continue;
+                    }
+                    listener.onResponse(null);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (isInputError(e)) {
+                    logger.debug("The model rejected the input of {} merged documents, predicting the documents one by one", tasks.size());
+                    executeEach(tasks, taskListeners);
+                    return;
+                }
+                // throttling, open circuit breakers or an unavailable model would fail each document again
+                for (PredictionTask task : tasks) {
+                    taskListeners.get(task).onFailure(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Whether a prediction failed because of its input, in which case the documents of a merged prediction are
+     * predicted one by one so only the ones with a bad input fail.
+     */
+    @VisibleForTesting
+    static boolean isInputError(Exception e) {
+        Throwable cause = ExceptionsHelper.unwrapCause(e);
+        if (!(cause instanceof OpenSearchStatusException)) {
+            return false;
+        }
+        RestStatus status = ((OpenSearchStatusException) cause).status();
+        return status == RestStatus.BAD_REQUEST
+            || status == RestStatus.REQUEST_ENTITY_TOO_LARGE
+            || status == RestStatus.UNPROCESSABLE_ENTITY;
+    }
+
+    private void executeEach(List<PredictionTask> tasks, Map<PredictionTask, ActionListener<Void>> taskListeners) {
+        for (PredictionTask task : tasks) {
+            executePrediction(task, taskListeners.get(task));
+        }
+    }
+
+    private static TextDocsInputDataSet getTextDocs(PredictionTask task) {
+        return (TextDocsInputDataSet) ((MLPredictionTaskRequest) task.request()).getMlInput().getInputDataset();
+    }
+
+    /**
+     * Splits the output of merged inputs into the outputs of each prediction. Local models and connectors which
+     * call the model per input return one model tensors per input. Connectors which call the model for chunks of
+     * the inputs return one model tensors per chunk, with one tensor per input, so the tensors of all the model
+     * tensors are matched to the inputs in order.
+     *
+     * @param mlOutput  the output of the merged prediction
+     * @param docCounts the number of inputs of each prediction, in the order they were merged
+     * @return the output of each prediction, or null if the output doesn't match the inputs
+     */
+    @VisibleForTesting
+    static List<MLOutput> splitMergedOutput(MLOutput mlOutput, int[] docCounts) {
+        if (!(mlOutput instanceof ModelTensorOutput) || ((ModelTensorOutput) mlOutput).getMlModelOutputs() == null) {
+            return null;
+        }
+        List<ModelTensors> modelOutputs = ((ModelTensorOutput) mlOutput).getMlModelOutputs();
+        int totalDocs = Arrays.stream(docCounts).sum();
+        List<MLOutput> outputs = new ArrayList<>(docCounts.length);
+        int offset = 0;
+        if (modelOutputs.size() == totalDocs) {
+            for (int docCount : docCounts) {
+                outputs.add(new ModelTensorOutput(new ArrayList<>(modelOutputs.subList(offset, offset + docCount))));
+                offset += docCount;
+            }
+            return outputs;
+        }
+        List<ModelTensor> tensors = new ArrayList<>(totalDocs);
+        for (ModelTensors modelTensors : modelOutputs) {
+            if (modelTensors == null || modelTensors.getMlModelTensors() == null) {
+                return null;
+            }
+            tensors.addAll(modelTensors.getMlModelTensors());
+        }
+        if (tensors.size() != totalDocs) {
+            return null;
+        }
+        for (int docCount : docCounts) {
+            ModelTensors modelTensors = ModelTensors
+                .builder()
+                .mlModelTensors(new ArrayList<>(tensors.subList(offset, offset + docCount)))
+                .build();
+            outputs.add(new ModelTensorOutput(List.of(modelTensors)));
+            offset += docCount;
+        }
+        return outputs;
+    }
+
     /**
      * process predictions for one model for multiple rounds of predictions
      * ingest documents after prediction rounds are completed,
@@ -182,6 +597,26 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         List<Map<String, String>> processOutputMap,
         int inputMapIndex,
         int inputMapSize
+    ) throws IOException {
+        PredictionTask task = preparePrediction(ingestDocument, processInputMap, processOutputMap, inputMapIndex, inputMapSize);
+        if (task == null) {
+            batchPredictionListener.onResponse(null);
+            return;
+        }
+        executePrediction(task, batchPredictionListener);
+    }
+
+    /**
+     * Builds the prediction request of one input map for a document.
+     *
+     * @return the prediction task, or null if all the output fields exist in the document and are not overridden
+     */
+    private PredictionTask preparePrediction(
+        IngestDocument ingestDocument,
+        List<Map<String, String>> processInputMap,
+        List<Map<String, String>> processOutputMap,
+        int inputMapIndex,
+        int inputMapSize
     ) throws IOException {
         Map<String, String> modelParameters = new HashMap<>();
         Map<String, String> modelConfigs = new HashMap<>();
@@ -221,8 +656,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
                 }
             }
             if (newOutputMapping.size() == 0) {
-                batchPredictionListener.onResponse(null);
-                return;
+                return null;
             }
         }
         // when no input mapping is provided, default to read all fields from documents as model input
@@ -258,38 +692,47 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
             functionName,
             modelInput
         );
+        return new PredictionTask(ingestDocument, inputMapIndex, newOutputMapping, request);
+    }
 
-        client.execute(MLPredictionTaskAction.INSTANCE, request, new ActionListener<>() {
+    private void executePrediction(PredictionTask task, ActionListener<Void> listener) {
+        client.execute(MLPredictionTaskAction.INSTANCE, task.request(), new ActionListener<>() {
 
             @Override
             public void onResponse(MLTaskResponse mlTaskResponse) {
-                MLOutput mlOutput = mlTaskResponse.getOutput();
-                if (processOutputMap == null || processOutputMap.isEmpty()) {
-                    appendFieldValue(mlOutput, null, DEFAULT_OUTPUT_FIELD_NAME, ingestDocument);
-                } else {
-                    // outMapping serves as a filter to modelTensorOutput, the fields that are not specified
-                    // in the outputMapping will not write to document
-                    Map<String, String> outputMapping = processOutputMap.get(inputMapIndex);
-
-                    for (Map.Entry<String, String> entry : outputMapping.entrySet()) {
-                        // document field as key, model field as value
-                        String newDocumentFieldName = entry.getKey();
-                        String modelOutputFieldName = entry.getValue();
-                        if (!newOutputMapping.containsKey(newDocumentFieldName)) {
-                            continue;
-                        }
-                        appendFieldValue(mlOutput, modelOutputFieldName, newDocumentFieldName, ingestDocument);
-                    }
-                }
-                batchPredictionListener.onResponse(null);
+                applyPredictionOutput(task, mlTaskResponse.getOutput());
+                listener.onResponse(null);
             }
 
             @Override
             public void onFailure(Exception e) {
-                batchPredictionListener.onFailure(e);
+                listener.onFailure(e);
             }
         });
+    }
 
+    /**
+     * Writes the model output of a prediction task to its document.
+     */
+    private void applyPredictionOutput(PredictionTask task, MLOutput mlOutput) {
+        List<Map<String, String>> processOutputMap = inferenceProcessorAttributes.getOutputMaps();
+        if (processOutputMap == null || processOutputMap.isEmpty()) {
+            appendFieldValue(mlOutput, null, DEFAULT_OUTPUT_FIELD_NAME, task.ingestDocument());
+        } else {
+            // outMapping serves as a filter to modelTensorOutput, the fields that are not specified
+            // in the outputMapping will not write to document
+            Map<String, String> outputMapping = processOutputMap.get(task.inputMapIndex());
+
+            for (Map.Entry<String, String> entry : outputMapping.entrySet()) {
+                // document field as key, model field as value
+                String newDocumentFieldName = entry.getKey();
+                String modelOutputFieldName = entry.getValue();
+                if (!task.newOutputMapping().containsKey(newDocumentFieldName)) {
+                    continue;
+                }
+                appendFieldValue(mlOutput, modelOutputFieldName, newDocumentFieldName, task.ingestDocument());
+            }
+        }
     }
 
     /**
@@ -449,6 +892,18 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         return TYPE;
     }
 
+    /**
+     * Prediction of one input map for a document.
+     *
+     * @param ingestDocument   the document to write the output to
+     * @param inputMapIndex    index of the input map and output map
+     * @param newOutputMapping document fields to write, with their dot paths
+     * @param request          the prediction request
+     */
+    private record PredictionTask(IngestDocument ingestDocument, int inputMapIndex, Map<String, List<String>> newOutputMapping,
+        ActionRequest request) {
+    }
+
     public static class Factory implements Processor.Factory {
 
         private final ScriptService scriptService;
@@ -510,6 +965,13 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
 
             boolean ignoreFailure = ConfigurationUtils
                 .readBooleanProperty(TYPE, processorTag, config, ConfigurationUtils.IGNORE_FAILURE_KEY, false);
+            // batch_size only saves model calls for text_docs inputs and, with merge_remote_inputs, for remote models
+            // reading a json array from their "input" or "text_docs" parameter, other inputs are predicted per document
+            int batchSize = ConfigurationUtils.readIntProperty(TYPE, processorTag, config, BATCH_SIZE_FIELD, DEFAULT_BATCH_SIZE);
+            if (batchSize < 1) {
+                throw new IllegalArgumentException(BATCH_SIZE_FIELD + " must be a positive integer");
+            }
+            boolean mergeRemoteInputs = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, MERGE_REMOTE_INPUTS, false);
             // convert model config user input data structure to Map<String, String>
             Map<String, String> modelConfigMaps = null;
             if (modelConfigInput != null) {
@@ -545,7 +1007,9 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
                 modelInput,
                 scriptService,
                 client,
-                xContentRegistry
+                xContentRegistry,
+                batchSize,
+                mergeRemoteInputs
             );
         }
     }
@@ -5,7 +5,6 @@
 
 package org.opensearch.ml.rest;
 
-import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.STREAM_PREDICT_THREAD_POOL;
@@ -142,112 +141,73 @@ public class RestMLPredictionStreamAction extends BaseRestHandler {
         String modelId = getParameterId(request, PARAMETER_MODEL_ID);
         Optional<FunctionName> functionName = modelManager.getOptionalModelFunctionName(modelId);
 
-        // If model not in cache, validate it exists before start streaming
-        if (!functionName.isPresent()) {
-            if (!isModelValid(modelId, request, client)) {
-                throw new OpenSearchStatusException("Failed to find model", RestStatus.NOT_FOUND);
-            }
-        }
-
         return channel -> {
             StreamingRestChannel streamingChannel = (StreamingRestChannel) channel;
+            if (functionName.isPresent()) {
+                startStreaming(client, modelId, functionName.get().name(), request, streamingChannel);
+                return;
+            }
 
-            // Set streaming headers
-            Map<String, List<String>> headers = Map
-                .of(
-                    "Content-Type",
-                    List.of("text/event-stream"),
-                    "Cache-Control",
-                    List.of("no-cache"),
-                    "Connection",
-                    List.of("keep-alive")
-                );
-            streamingChannel.prepareResponse(RestStatus.OK, headers);
-
-            // Use Flux with cache check
-            Flux.from(streamingChannel).ofType(HttpChunk.class).concatMap(chunk -> {
-                final CompletableFuture<HttpChunk> future = new CompletableFuture<>();
-                try {
-                    BytesReference chunkContent = chunk.content();
-
-                    // Check if model is in cache
-                    if (functionName.isPresent()) {
-                        MLPredictionTaskRequest taskRequest = getRequest(modelId, functionName.get().name(), request, chunkContent);
-                        executeStreamingRequest(client, taskRequest, streamingChannel, future);
-                    } else {
-                        // Model not in cache - load it first
-                        loadModelAndExecuteStreaming(client, modelId, userAlgorithm, request, chunkContent, streamingChannel, future);
-                    }
-
-                } catch (IOException e) {
-                    future.completeExceptionally(e);
-                }
-
-                return Mono.fromCompletionStage(future);
-            }).doOnNext(streamingChannel::sendChunk).onErrorComplete(ex -> {
-                // Error handling
+            // Model not in cache, get it once without blocking the transport thread and start streaming if it exists
+            ActionListener<MLModel> listener = ActionListener.wrap(mlModel -> {
+                String modelAlgorithm = Objects.requireNonNullElse(userAlgorithm, mlModel.getAlgorithm().name());
+                startStreaming(client, modelId, modelAlgorithm, request, streamingChannel);
+            }, e -> {
+                log.error("Failed to find model {}", modelId, e);
                 try {
-                    streamingChannel.sendResponse(new BytesRestResponse(streamingChannel, (Exception) ex));
-                    return true;
-                } catch (final IOException e) {
-                    throw new UncheckedIOException(e);
+                    streamingChannel
+                        .sendResponse(
+                            new BytesRestResponse(
+                                streamingChannel,
+                                new OpenSearchStatusException("Failed to find model", RestStatus.NOT_FOUND)
+                            )
+                        );
+                } catch (IOException ex) {
+                    log.error("Failed to send error response", ex);
                 }
-            }).subscribe();
-        };
-    }
-
-    private boolean isModelValid(String modelId, RestRequest request, NodeClient client) throws IOException {
-        try {
-            CompletableFuture<MLModel> future = new CompletableFuture<>();
-
+            });
             try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
                 modelManager
                     .getModel(
                         modelId,
                         getTenantID(mlFeatureEnabledSetting.isMultiTenancyEnabled(), request),
-                        ActionListener.runBefore(ActionListener.wrap(future::complete, future::completeExceptionally), context::restore)
+                        ActionListener.runBefore(listener, context::restore)
                     );
             }
-
-            // TODO: make this async
-            // Wait for validation
-            future.get(5, SECONDS);
-            return true;
-        } catch (Exception e) {
-            log.error("Failed to validate model {}", e.getMessage());
-            return false;
-        }
+        };
     }
 
-    private void loadModelAndExecuteStreaming(
+    private void startStreaming(
         NodeClient client,
         String modelId,
-        String userAlgorithm,
+        String algorithm,
         RestRequest request,
-        BytesReference chunkContent,
-        StreamingRestChannel channel,
-        CompletableFuture<HttpChunk> future
+        StreamingRestChannel streamingChannel
     ) {
-        ActionListener<MLModel> listener = ActionListener.wrap(mlModel -> {
-            try {
-                String modelType = mlModel.getAlgorithm().name();
-                String modelAlgorithm = Objects.requireNonNullElse(userAlgorithm, modelType);
+        // Set streaming headers
+        Map<String, List<String>> headers = Map
+            .of("Content-Type", List.of("text/event-stream"), "Cache-Control", List.of("no-cache"), "Connection", List.of("keep-alive"));
+        streamingChannel.prepareResponse(RestStatus.OK, headers);
 
-                MLPredictionTaskRequest taskRequest = getRequest(modelId, modelAlgorithm, request, chunkContent);
-                executeStreamingRequest(client, taskRequest, channel, future);
+        Flux.from(streamingChannel).ofType(HttpChunk.class).concatMap(chunk -> {
+            final CompletableFuture<HttpChunk> future = new CompletableFuture<>();
+            try {
+                MLPredictionTaskRequest taskRequest = getRequest(modelId, algorithm, request, chunk.content());
+                executeStreamingRequest(client, taskRequest, streamingChannel, future);
             } catch (IOException e) {
                 future.completeExceptionally(e);
             }
-        }, future::completeExceptionally);
-
-        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
-            modelManager
-                .getModel(
-                    modelId,
-                    getTenantID(mlFeatureEnabledSetting.isMultiTenancyEnabled(), request),
-                    ActionListener.runBefore(listener, context::restore)
-                );
-        }
+
+            return Mono.fromCompletionStage(future);
+        }).doOnNext(streamingChannel::sendChunk).onErrorComplete(ex -> {
+            // Error handling
+            try {
+                streamingChannel.sendResponse(new BytesRestResponse(streamingChannel, (Exception) ex));
+                return true;
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).subscribe();
     }
 
     private void executeStreamingRequest(
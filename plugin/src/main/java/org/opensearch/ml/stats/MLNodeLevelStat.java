@@ -5,18 +5,66 @@
 
 package org.opensearch.ml.stats;
 
+import static org.opensearch.ml.common.CommonValue.VERSION_3_4_0;
+
+import org.opensearch.Version;
+
 /**
  * ML commons has 4 levels of stats: cluster, node, algorithm and action.
  * This enum represents node level stats.
  */
 public enum MLNodeLevelStat {
+    // Stats are serialized by ordinal, so new stats must only be appended, with the version of the release adding them.
     ML_JVM_HEAP_USAGE,
     ML_EXECUTING_TASK_COUNT, // How many tasks are executing currently. If any task starts, then it will increase by 1,
                              // if the task finished then it will decrease by 0.
     ML_REQUEST_COUNT,
     ML_FAILURE_COUNT,
     ML_DEPLOYED_MODEL_COUNT,
-    ML_CIRCUIT_BREAKER_TRIGGER_COUNT;
+    ML_CIRCUIT_BREAKER_TRIGGER_COUNT,
+    ML_PREDICTABLE_CACHE_HIT_COUNT(VERSION_3_4_0),
+    ML_PREDICTABLE_CACHE_MISS_COUNT(VERSION_3_4_0),
+    ML_PREDICTABLE_CACHE_MEMORY_SIZE_IN_BYTES(VERSION_3_4_0),
+    ML_REMOTE_HTTP_CLIENT_COUNT(VERSION_3_4_0), // shared http clients of remote connectors, one per host
+    ML_REMOTE_HTTP_CLIENT_CREATED_COUNT(VERSION_3_4_0),
+    ML_REMOTE_HTTP_CLIENT_CLOSED_COUNT(VERSION_3_4_0),
+    ML_REMOTE_HTTP_LEASED_CONNECTION_COUNT(VERSION_3_4_0),
+    ML_REMOTE_HTTP_PENDING_ACQUIRE_COUNT(VERSION_3_4_0),
+    ML_CONNECTOR_SCRIPT_COMPILATION_COUNT(VERSION_3_4_0), // custom pre and post process functions of connectors compiled on this node
+    ML_CONNECTOR_SCRIPT_CACHE_HIT_COUNT(VERSION_3_4_0),
+    ML_TASK_QUEUE_SIZE(VERSION_3_4_0), // tasks waiting in the predict, train and execute thread pools
+    ML_RECENT_INFERENCE_LATENCY(VERSION_3_4_0), // moving average of the model inference duration in milliseconds
+    ML_NODE_LOAD_TABLE_HIT_COUNT(VERSION_3_4_0), // least_load dispatches served by the node load table
+    ML_NODE_LOAD_TABLE_MISS_COUNT(VERSION_3_4_0),
+    ML_NODE_LOAD_TABLE_REFRESH_COUNT(VERSION_3_4_0),
+    ML_MODEL_GROUP_ACCESS_CACHE_HIT_COUNT(VERSION_3_4_0), // model access checks served by the cached model group
+    ML_MODEL_GROUP_ACCESS_CACHE_MISS_COUNT(VERSION_3_4_0),
+    ML_MODEL_ARTIFACT_CACHE_HIT_COUNT(VERSION_3_4_0), // local model deployments which copied the model zip from the artifact cache
+    ML_MODEL_ARTIFACT_CACHE_MISS_COUNT(VERSION_3_4_0),
+    ML_MODEL_ARTIFACT_PEER_FETCH_COUNT(VERSION_3_4_0), // model zips fetched from another worker node instead of the model index
+    ML_MODEL_ARTIFACT_PEER_FETCH_FAILURE_COUNT(VERSION_3_4_0),
+    ML_OPEN_STREAM_COUNT(VERSION_3_4_0), // streams to remote models currently open on this node
+    ML_STREAM_COUNT(VERSION_3_4_0),
+    ML_RECENT_STREAM_TIME_TO_FIRST_TOKEN(VERSION_3_4_0), // moving average of the time to the first streamed token in milliseconds
+    ML_STREAMING_HTTP_CLIENT_COUNT(VERSION_3_4_0);
+
+    private final Version minimalVersion;
+
+    MLNodeLevelStat() {
+        this(null);
+    }
+
+    MLNodeLevelStat(Version minimalVersion) {
+        this.minimalVersion = minimalVersion;
+    }
+
+    /**
+     * @param version transport version of the receiving node
+     * @return true if a node of the given version can read this stat
+     */
+    public boolean isSupportedBy(Version version) {
+        return minimalVersion == null || version.onOrAfter(minimalVersion);
+    }
 
     public static MLNodeLevelStat from(String value) {
         try {
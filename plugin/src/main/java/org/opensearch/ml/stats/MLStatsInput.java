@@ -131,7 +131,13 @@ public class MLStatsInput implements ToXContentObject, Writeable {
     public void writeTo(StreamOutput out) throws IOException {
         out.writeOptionalEnumSet(targetStatLevels);
         out.writeOptionalEnumSet(clusterLevelStats);
-        out.writeOptionalEnumSet(nodeLevelStats);
+        if (nodeLevelStats != null) {
+            EnumSet<MLNodeLevelStat> supportedStats = EnumSet.copyOf(nodeLevelStats);
+            supportedStats.removeIf(stat -> !stat.isSupportedBy(out.getVersion()));
+            out.writeOptionalEnumSet(supportedStats);
+        } else {
+            out.writeOptionalEnumSet(null);
+        }
         out.writeOptionalEnumSet(actionLevelStats);
         out.writeOptionalStringCollection(nodeIds);
         out.writeOptionalStringCollection(models);
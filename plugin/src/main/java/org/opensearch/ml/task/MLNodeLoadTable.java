@@ -0,0 +1,221 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.ml.action.stats.MLStatsNodeResponse;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Latest known load of the nodes this node dispatches tasks to, used by the least_load dispatch policy.
+ * <p>
+ * Loads are filled from the node stats responses of the dispatcher. A load older than the refresh interval is
+ * refreshed in the background while it's still used, a load older than the max staleness is not used, so the
+ * dispatcher fetches it before dispatching. Tasks dispatched to a node since its load was fetched are counted on
+ * top of its executing tasks, so a burst of dispatches doesn't go to the same node until the next refresh.
+ */
+public class MLNodeLoadTable {
+
+    private final Map<String, MLNodeLoad> loads = new ConcurrentHashMap<>();
+    private final Set<String> refreshingNodes = ConcurrentHashMap.newKeySet();
+    private final LongSupplier nanoClock;
+    @Setter
+    private volatile long refreshIntervalNanos;
+    @Setter
+    private volatile long maxStalenessNanos;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder refreshCount = new LongAdder();
+
+    public MLNodeLoadTable(long refreshIntervalNanos, long maxStalenessNanos) {
+        this(refreshIntervalNanos, maxStalenessNanos, System::nanoTime);
+    }
+
+    MLNodeLoadTable(long refreshIntervalNanos, long maxStalenessNanos, LongSupplier nanoClock) {
+        this.refreshIntervalNanos = refreshIntervalNanos;
+        this.maxStalenessNanos = maxStalenessNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Update the load of a node from its stats.
+     *
+     * @param response node stats response
+     */
+    public void update(MLStatsNodeResponse response) {
+        String nodeId = response.getNode().getId();
+        refreshingNodes.remove(nodeId);
+        loads
+            .put(
+                nodeId,
+                new MLNodeLoad(
+                    response.getNode(),
+                    getLongStat(response, MLNodeLevelStat.ML_EXECUTING_TASK_COUNT),
+                    getLongStat(response, MLNodeLevelStat.ML_JVM_HEAP_USAGE),
+                    getLongStat(response, MLNodeLevelStat.ML_TASK_QUEUE_SIZE),
+                    getLongStat(response, MLNodeLevelStat.ML_RECENT_INFERENCE_LATENCY),
+                    nanoClock.getAsLong()
+                )
+            );
+    }
+
+    private static long getLongStat(MLStatsNodeResponse response, MLNodeLevelStat stat) {
+        Object value = response.getNodeLevelStat(stat);
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    /**
+     * Get the loads of nodes.
+     *
+     * @param nodes nodes
+     * @return loads of the nodes in the same order, null if the load of any node is unknown or too stale
+     */
+    public List<MLNodeLoad> getLoads(DiscoveryNode[] nodes) {
+        long now = nanoClock.getAsLong();
+        List<MLNodeLoad> nodeLoads = new ArrayList<>(nodes.length);
+        for (DiscoveryNode node : nodes) {
+            MLNodeLoad load = loads.get(node.getId());
+            if (load == null || now - load.updateTime > maxStalenessNanos) {
+                missCount.increment();
+                return null;
+            }
+            nodeLoads.add(load);
+        }
+        hitCount.increment();
+        return nodeLoads;
+    }
+
+    /**
+     * Get the nodes whose load should be refreshed, and mark them as being refreshed.
+     *
+     * @param nodes nodes
+     * @return nodes whose load is older than the refresh interval and not being refreshed yet
+     */
+    public List<DiscoveryNode> startRefresh(DiscoveryNode[] nodes) {
+        long now = nanoClock.getAsLong();
+        List<DiscoveryNode> refreshNodes = new ArrayList<>();
+        for (DiscoveryNode node : nodes) {
+            MLNodeLoad load = loads.get(node.getId());
+            if ((load == null || now - load.updateTime > refreshIntervalNanos) && refreshingNodes.add(node.getId())) {
+                refreshNodes.add(node);
+            }
+        }
+        if (!refreshNodes.isEmpty()) {
+            refreshCount.increment();
+        }
+        return refreshNodes;
+    }
+
+    /**
+     * Stop refreshing the loads of nodes, e.g. if fetching their stats failed.
+     *
+     * @param nodes nodes
+     */
+    public void endRefresh(List<DiscoveryNode> nodes) {
+        nodes.forEach(node -> refreshingNodes.remove(node.getId()));
+    }
+
+    /**
+     * Record a task dispatched to a node.
+     *
+     * @param nodeId node id
+     */
+    public void onDispatched(String nodeId) {
+        MLNodeLoad load = loads.get(nodeId);
+        if (load != null) {
+            load.dispatchedTaskCount.incrementAndGet();
+        }
+    }
+
+    public int size() {
+        return loads.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    /**
+     * Load of a node.
+     */
+    public static class MLNodeLoad implements Comparable<MLNodeLoad> {
+        @Getter
+        private final DiscoveryNode node;
+        private final long executingTaskCount;
+        @Getter
+        private final long jvmHeapUsage;
+        @Getter
+        private final long queueSize;
+        @Getter
+        private final long recentInferenceLatency;
+        private final long updateTime;
+        // tasks dispatched to the node since its stats were fetched
+        private final AtomicInteger dispatchedTaskCount = new AtomicInteger();
+
+        MLNodeLoad(
+            DiscoveryNode node,
+            long executingTaskCount,
+            long jvmHeapUsage,
+            long queueSize,
+            long recentInferenceLatency,
+            long updateTime
+        ) {
+            this.node = node;
+            this.executingTaskCount = executingTaskCount;
+            this.jvmHeapUsage = jvmHeapUsage;
+            this.queueSize = queueSize;
+            this.recentInferenceLatency = recentInferenceLatency;
+            this.updateTime = updateTime;
+        }
+
+        /**
+         * @return executing tasks of the node, including the tasks dispatched to it since its stats were fetched
+         */
+        public long getExecutingTaskCount() {
+            return executingTaskCount + dispatchedTaskCount.get();
+        }
+
+        /**
+         * Compare the loads of two nodes, by the number of executing and queued tasks, then the recent inference latency,
+         * then the JVM heap usage.
+         *
+         * @param other load of another node
+         * @return negative if this node is less loaded than the other node
+         */
+        @Override
+        public int compareTo(MLNodeLoad other) {
+            int result = Long.compare(getExecutingTaskCount() + queueSize, other.getExecutingTaskCount() + other.queueSize);
+            if (result == 0) {
+                result = Long.compare(recentInferenceLatency, other.recentInferenceLatency);
+            }
+            if (result == 0) {
+                result = Long.compare(jvmHeapUsage, other.jvmHeapUsage);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.transport.TransportException;
+
+import lombok.Setter;
+
+/**
+ * Predict latency of the worker nodes of each model, observed by this node when dispatching predict requests, used by
+ * the latency_aware dispatch policy.
+ * <p>
+ * The latency of a node is a peak EWMA: a slower response replaces the average right away, faster responses and idle
+ * time decay it with the decay time, so a node which becomes slow, e.g. during a GC pause, gets less traffic
+ * immediately and is tried again once it has been avoided for a while. The cost of a node is its latency multiplied by
+ * its outstanding requests plus one, and the node is picked as the cheaper of two random nodes.
+ */
+public class MLPredictLatencyTracker {
+
+    // cost of a node which has outstanding requests but no observed latency yet, and latency observed for a node failure
+    static final double PENALTY = Long.MAX_VALUE >> 16;
+    private static final TimeValue MODEL_EXPIRE_AFTER_ACCESS = TimeValue.timeValueMinutes(30);
+
+    private final Cache<String, Map<String, NodeLatency>> modelLatencies;
+    private final LongSupplier nanoClock;
+    @Setter
+    private volatile long decayTimeNanos;
+
+    public MLPredictLatencyTracker(long decayTimeNanos) {
+        this(decayTimeNanos, System::nanoTime);
+    }
+
+    MLPredictLatencyTracker(long decayTimeNanos, LongSupplier nanoClock) {
+        this.decayTimeNanos = decayTimeNanos;
+        this.nanoClock = nanoClock;
+        // models which are undeployed or not predicted anymore are dropped
+        this.modelLatencies = CacheBuilder
+            .<String, Map<String, NodeLatency>>builder()
+            .setExpireAfterAccess(MODEL_EXPIRE_AFTER_ACCESS)
+            .build();
+    }
+
+    /**
+     * Select the worker node to predict a model with.
+     *
+     * @param modelId model id
+     * @param nodeIds worker node ids of the model
+     * @return the less costly of two random worker nodes
+     */
+    public String select(String modelId, String[] nodeIds) {
+        if (nodeIds.length == 1) {
+            return nodeIds[0];
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(nodeIds.length);
+        int second = random.nextInt(nodeIds.length - 1);
+        if (second >= first) {
+            second++;
+        }
+        Map<String, NodeLatency> latencies = getLatencies(modelId);
+        long now = nanoClock.getAsLong();
+        double firstCost = getCost(latencies, nodeIds[first], now);
+        double secondCost = getCost(latencies, nodeIds[second], now);
+        return firstCost <= secondCost ? nodeIds[first] : nodeIds[second];
+    }
+
+    /**
+     * Track a predict request dispatched to a node until its response.
+     *
+     * @param modelId  model id
+     * @param nodeId   node id the request is dispatched to
+     * @param listener listener of the predict response
+     * @return listener which observes the latency of the request and delegates to the listener. A failure of the node,
+     * like a disconnect, timeout, rejection or server error, is observed as a penalty latency, so a node failing fast
+     * doesn't look like the fastest node. A failure caused by the request, like invalid input, is observed with its
+     * latency. The request is observed once, even if the listener is notified again
+     */
+    public <T> ActionListener<T> track(String modelId, String nodeId, ActionListener<T> listener) {
+        NodeLatency latency = getLatencies(modelId).computeIfAbsent(nodeId, it -> new NodeLatency());
+        long startTime = start(latency);
+        AtomicBoolean ended = new AtomicBoolean();
+        return new ActionListener<>() {
+            @Override
+            public void onResponse(T response) {
+                if (ended.compareAndSet(false, true)) {
+                    end(latency, startTime);
+                }
+                listener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (ended.compareAndSet(false, true)) {
+                    if (isNodeFailure(e)) {
+                        fail(latency);
+                    } else {
+                        end(latency, startTime);
+                    }
+                }
+                listener.onFailure(e);
+            }
+        };
+    }
+
+    long start(NodeLatency latency) {
+        latency.start();
+        return nanoClock.getAsLong();
+    }
+
+    void end(NodeLatency latency, long startTime) {
+        long now = nanoClock.getAsLong();
+        latency.end(now - startTime, now, decayTimeNanos);
+    }
+
+    void fail(NodeLatency latency) {
+        latency.end((long) PENALTY, nanoClock.getAsLong(), decayTimeNanos);
+    }
+
+    /**
+     * @param e failure of a predict request
+     * @return true if the failure is caused by the node rather than by the request
+     */
+    static boolean isNodeFailure(Exception e) {
+        Throwable cause = ExceptionsHelper.unwrapCause(e);
+        if (cause instanceof TransportException
+            || cause instanceof OpenSearchTimeoutException
+            || cause instanceof TimeoutException
+            || cause instanceof OpenSearchRejectedExecutionException) {
+            return true;
+        }
+        RestStatus status = ExceptionsHelper.status(cause);
+        return status == RestStatus.TOO_MANY_REQUESTS || status.getStatus() >= 500;
+    }
+
+    /**
+     * Get the current latency estimate of a model on a node.
+     *
+     * @param modelId model id
+     * @param nodeId  node id
+     * @return latency estimate in nanoseconds, 0 if no latency was observed yet
+     */
+    public double getLatency(String modelId, String nodeId) {
+        Map<String, NodeLatency> latencies = modelLatencies.get(modelId);
+        NodeLatency latency = latencies == null ? null : latencies.get(nodeId);
+        return latency == null ? 0 : latency.getLatency(nanoClock.getAsLong(), decayTimeNanos);
+    }
+
+    public long size() {
+        return modelLatencies.count();
+    }
+
+    Map<String, NodeLatency> getLatencies(String modelId) {
+        try {
+            return modelLatencies.computeIfAbsent(modelId, it -> new ConcurrentHashMap<>());
+        } catch (ExecutionException e) {
+            // the loader doesn't throw
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double getCost(Map<String, NodeLatency> latencies, String nodeId, long now) {
+        NodeLatency latency = latencies.get(nodeId);
+        return latency == null ? 0 : latency.getCost(now, decayTimeNanos);
+    }
+
+    /**
+     * Peak EWMA latency and outstanding requests of a model on a node.
+     */
+    static class NodeLatency {
+        private double latency;
+        private long updateTime;
+        private int outstanding;
+
+        synchronized void start() {
+            outstanding++;
+        }
+
+        synchronized void end(long elapsed, long now, long decayTimeNanos) {
+            outstanding--;
+            observe(elapsed, now, decayTimeNanos);
+        }
+
+        synchronized double getLatency(long now, long decayTimeNanos) {
+            // decay the latency towards zero while no response is observed
+            observe(0, now, decayTimeNanos);
+            return latency;
+        }
+
+        synchronized double getCost(long now, long decayTimeNanos) {
+            double estimate = getLatency(now, decayTimeNanos);
+            if (estimate == 0 && outstanding != 0) {
+                return PENALTY;
+            }
+            return estimate * (outstanding + 1);
+        }
+
+        private void observe(long elapsed, long now, long decayTimeNanos) {
+            long sinceUpdate = Math.max(now - updateTime, 0);
+            updateTime = now;
+            if (elapsed > latency) {
+                latency = elapsed;
+            } else {
+                double weight = Math.exp(-(double) sinceUpdate / decayTimeNanos);
+                latency = latency * weight + elapsed * (1 - weight);
+            }
+        }
+    }
+}
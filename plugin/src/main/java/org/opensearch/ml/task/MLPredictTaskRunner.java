@@ -71,6 +71,7 @@ import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLPredictableCache;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
 import org.opensearch.ml.stats.MLNodeLevelStat;
@@ -78,6 +79,8 @@ import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.stats.otel.counters.MLOperationalMetricsCounter;
 import org.opensearch.ml.stats.otel.metrics.OperationalMetric;
 import org.opensearch.ml.utils.MLNodeUtils;
+import org.opensearch.ml.utils.ModelTensorJsonUtils;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.StreamTransportResponseHandler;
 import org.opensearch.transport.TransportChannel;
@@ -89,6 +92,7 @@ import org.opensearch.transport.client.Client;
 import org.opensearch.transport.stream.StreamTransportResponse;
 
 import com.google.common.collect.ImmutableList;
+import com.networknt.schema.JsonSchema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -105,10 +109,12 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
     private final MLModelManager mlModelManager;
     private final DiscoveryNodeHelper nodeHelper;
     private final MLEngine mlEngine;
+    private final MLPredictableCache predictableCache;
     private volatile boolean autoDeploymentEnabled;
 
     public static final String BUCKET_FIELD = "bucket";
     public static final String REGION_FIELD = "region";
+    private static final String[] MODEL_CONTENT_FIELDS = new String[] { MLModel.MODEL_CONTENT_FIELD, MLModel.OLD_MODEL_CONTENT_FIELD };
 
     public MLPredictTaskRunner(
         ThreadPool threadPool,
@@ -123,6 +129,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         MLModelManager mlModelManager,
         DiscoveryNodeHelper nodeHelper,
         MLEngine mlEngine,
+        MLPredictableCache predictableCache,
         Settings settings
     ) {
         super(mlTaskManager, mlStats, nodeHelper, mlTaskDispatcher, mlCircuitBreakerService, clusterService);
@@ -134,6 +141,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         this.mlModelManager = mlModelManager;
         this.nodeHelper = nodeHelper;
         this.mlEngine = mlEngine;
+        this.predictableCache = predictableCache;
         autoDeploymentEnabled = ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE.get(settings);
         clusterService
             .getClusterSettings()
@@ -224,7 +232,13 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                 if (clusterService.localNode().getId().equals(node.getId())) {
                     log.debug("Execute ML predict request {} locally on node {}", request.getRequestID(), node.getId());
                     request.setDispatchTask(false);
-                    checkCBAndExecute(functionName, request, listener);
+                    ActionListener<MLTaskResponse> trackedListener = mlTaskDispatcher.trackPredictLatency(modelId, node.getId(), listener);
+                    try {
+                        checkCBAndExecute(functionName, request, trackedListener);
+                    } catch (Exception e) {
+                        // release the request tracked on the node
+                        trackedListener.onFailure(e);
+                    }
                 } else {
                     log.debug("Execute ML predict request {} remotely on node {}", request.getRequestID(), node.getId());
                     request.setDispatchTask(false);
@@ -240,7 +254,14 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                                 getResponseStreamHandler(request)
                             );
                     } else {
-                        transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(listener));
+                        ActionListener<MLTaskResponse> trackedListener = mlTaskDispatcher
+                            .trackPredictLatency(modelId, node.getId(), listener);
+                        try {
+                            transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(trackedListener));
+                        } catch (Exception e) {
+                            // release the request tracked on the node
+                            trackedListener.onFailure(e);
+                        }
                     }
                 }
             }, listener::onFailure);
@@ -289,7 +310,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                             if (planningWorkerNodes == null || planningWorkerNodes.length == 0) {
                                 planningWorkerNodes = nodeHelper.getEligibleNodeIds(functionName);
                             }
-                            mlTaskDispatcher.dispatchPredictTask(planningWorkerNodes, actionListener);
+                            mlTaskDispatcher.dispatchPredictTask(modelId, planningWorkerNodes, actionListener);
                         }, e -> {
                             log.error("Failed to get model " + modelId, e);
                             listener.onFailure(e);
@@ -305,7 +326,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             } else {
                 mlModelManager.removeAutoDeployModel(modelId);
             }
-            mlTaskDispatcher.dispatchPredictTask(workerNodes, actionListener);
+            mlTaskDispatcher.dispatchPredictTask(modelId, workerNodes, actionListener);
         } catch (Exception e) {
             log.error("Failed to predict model " + modelId, e);
             listener.onFailure(e);
@@ -613,23 +634,16 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                 throw new IllegalArgumentException("Model not ready to be used: " + modelId);
             }
 
-            // search model by model id.
+            // search model by model id. If the loaded model can be cached, skip the model content and only load it on cache miss.
+            boolean cacheable = predictableCache.isCacheable(algorithm);
             try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
                 ActionListener<GetResponse> getModelListener = ActionListener.wrap(r -> {
                     if (r == null || !r.isExists()) {
                         internalListener.onFailure(new ResourceNotFoundException("No model found, please check the modelId."));
                         return;
                     }
-                    try (
-                        XContentParser xContentParser = XContentType.JSON
-                            .xContent()
-                            .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, r.getSourceAsString())
-                    ) {
-                        ensureExpectedToken(XContentParser.Token.START_OBJECT, xContentParser.nextToken(), xContentParser);
-                        GetResponse getResponse = r;
-                        String algorithmName = getResponse.getSource().get(ALGORITHM_FIELD).toString();
-                        MLModel mlModel = MLModel.parse(xContentParser, algorithmName);
-                        mlModel.setModelId(modelId);
+                    try {
+                        MLModel mlModel = parseModel(modelId, r);
                         User resourceUser = mlModel.getUser();
                         User requestUser = getUserContext(client);
                         if (!checkUserPermissions(requestUser, resourceUser, modelId)) {
@@ -644,17 +658,17 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                         if (mlTaskManager.contains(mlTask.getTaskId())) {
                             mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), tenantId, mlTask.isAsync());
                         }
-                        MLOutput output = mlEngine.predict(mlInput, mlModel);
-                        if (output instanceof MLPredictionOutput) {
-                            ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
-                        }
-                        if (output instanceof ModelTensorOutput) {
-                            validateOutputSchema(modelId, (ModelTensorOutput) output);
+                        if (cacheable) {
+                            Predictable cachedPredictable = predictableCache
+                                .get(modelId, r.getSeqNo(), r.getPrimaryTerm(), mlInput.getParameters());
+                            if (cachedPredictable != null) {
+                                onPredictComplete(modelId, mlTask, cachedPredictable.predict(mlInput), internalListener);
+                            } else {
+                                loadPredictableAndPredict(modelId, mlTask, mlInput, actionName, internalListener);
+                            }
+                            return;
                         }
-                        // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
-                        handleAsyncMLTaskComplete(mlTask);
-                        MLTaskResponse response = MLTaskResponse.builder().output(output).build();
-                        internalListener.onResponse(response);
+                        onPredictComplete(modelId, mlTask, mlEngine.predict(mlInput, mlModel), internalListener);
                     } catch (Exception e) {
                         log.error("Failed to predict model " + modelId, e);
                         internalListener.onFailure(e);
@@ -665,6 +679,9 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                     handlePredictFailure(mlTask, internalListener, e, true, modelId, actionName);
                 });
                 GetRequest getRequest = new GetRequest(ML_MODEL_INDEX, mlTask.getModelId());
+                if (cacheable) {
+                    getRequest.fetchSourceContext(new FetchSourceContext(true, null, MODEL_CONTENT_FIELDS));
+                }
                 client
                     .get(
                         getRequest,
@@ -684,6 +701,74 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         }
     }
 
+    /**
+     * Load the model with content, cache the loaded predictable and run predict with it.
+     */
+    private void loadPredictableAndPredict(
+        String modelId,
+        MLTask mlTask,
+        MLInput mlInput,
+        ActionName actionName,
+        ActionListener<MLTaskResponse> internalListener
+    ) {
+        try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
+            ActionListener<GetResponse> getModelListener = ActionListener.wrap(r -> {
+                if (r == null || !r.isExists()) {
+                    internalListener.onFailure(new ResourceNotFoundException("No model found, please check the modelId."));
+                    return;
+                }
+                try {
+                    MLModel mlModel = parseModel(modelId, r);
+                    Predictable predictable = mlEngine.initPredictable(mlInput, mlModel);
+                    predictableCache
+                        .put(modelId, r.getSeqNo(), r.getPrimaryTerm(), mlInput.getParameters(), predictable, mlModel.getContent());
+                    onPredictComplete(modelId, mlTask, predictable.predict(mlInput), internalListener);
+                } catch (Exception e) {
+                    log.error("Failed to predict model " + modelId, e);
+                    internalListener.onFailure(e);
+                }
+            }, e -> {
+                log.error("Failed to load model content for predict, modelId: " + modelId, e);
+                handlePredictFailure(mlTask, internalListener, e, true, modelId, actionName);
+            });
+            client
+                .get(
+                    new GetRequest(ML_MODEL_INDEX, modelId),
+                    threadedActionListener(mlTask.getFunctionName(), ActionListener.runBefore(getModelListener, context::restore))
+                );
+        } catch (Exception e) {
+            log.error("Failed to get model " + modelId, e);
+            handlePredictFailure(mlTask, internalListener, e, true, modelId, actionName);
+        }
+    }
+
+    private MLModel parseModel(String modelId, GetResponse getResponse) throws IOException {
+        try (
+            XContentParser xContentParser = XContentType.JSON
+                .xContent()
+                .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, getResponse.getSourceAsString())
+        ) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, xContentParser.nextToken(), xContentParser);
+            String algorithmName = getResponse.getSource().get(ALGORITHM_FIELD).toString();
+            MLModel mlModel = MLModel.parse(xContentParser, algorithmName);
+            mlModel.setModelId(modelId);
+            return mlModel;
+        }
+    }
+
+    private void onPredictComplete(String modelId, MLTask mlTask, MLOutput output, ActionListener<MLTaskResponse> internalListener) {
+        if (output instanceof MLPredictionOutput) {
+            ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
+        }
+        if (output instanceof ModelTensorOutput) {
+            validateOutputSchema(modelId, (ModelTensorOutput) output);
+        }
+        // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
+        handleAsyncMLTaskComplete(mlTask);
+        MLTaskResponse response = MLTaskResponse.builder().output(output).build();
+        internalListener.onResponse(response);
+    }
+
     private <T> ThreadedActionListener<T> threadedActionListener(FunctionName functionName, ActionListener<T> listener) {
         String threadPoolName = getPredictThreadPool(functionName);
         return new ThreadedActionListener<>(log, threadPool, threadPoolName, listener, false);
@@ -717,12 +802,17 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
     public void validateOutputSchema(String modelId, ModelTensorOutput output) {
         if (mlModelManager.getModelInterface(modelId) != null && mlModelManager.getModelInterface(modelId).get("output") != null) {
             String outputSchemaString = mlModelManager.getModelInterface(modelId).get("output");
+            JsonSchema outputSchema = mlModelManager.getModelInterfaceSchema(modelId, "output");
             try {
-                MLNodeUtils
-                    .validateSchema(
-                        outputSchemaString,
-                        output.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString()
-                    );
+                if (outputSchema != null) {
+                    MLNodeUtils.validateSchema(outputSchema, outputSchemaString, ModelTensorJsonUtils.toJsonNode(output));
+                } else {
+                    MLNodeUtils
+                        .validateSchema(
+                            outputSchemaString,
+                            output.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString()
+                        );
+                }
             } catch (Exception e) {
                 throw new OpenSearchStatusException(
                     "Error validating output schema, if you think this is expected, please update your 'output' field in the 'interface' field for this model: "
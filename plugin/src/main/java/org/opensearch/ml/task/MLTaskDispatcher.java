@@ -5,11 +5,18 @@
 
 package org.opensearch.ml.task;
 
+import static org.opensearch.ml.common.CommonValue.VERSION_3_4_0;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_NODE_LOAD_MAX_STALENESS;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_NODE_LOAD_REFRESH_INTERVAL;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_PREDICT_LATENCY_DECAY_TIME;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -25,10 +32,12 @@ import org.opensearch.ml.action.stats.MLStatsNodesRequest;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.task.MLNodeLoadTable.MLNodeLoad;
 import org.opensearch.transport.client.Client;
 
 import com.google.common.collect.ImmutableSet;
 
+import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -41,22 +50,76 @@ public class MLTaskDispatcher {
     private final short DEFAULT_JVM_HEAP_USAGE_THRESHOLD = 85;
     private final String ROUND_ROBIN = "round_robin";
     private final String LEAST_LOAD = "least_load";
+    // predict requests are dispatched by the observed latency of the model on its worker nodes, other tasks round robin
+    private final String LATENCY_AWARE = "latency_aware";
     private final ClusterService clusterService;
     private final Client client;
     private AtomicInteger nextNode;
     private volatile Integer maxMLBatchTaskPerNode;
     private volatile String dispatchPolicy;
     private DiscoveryNodeHelper nodeHelper;
+    @Getter
+    private final MLNodeLoadTable nodeLoadTable;
+    @Getter
+    private final MLPredictLatencyTracker predictLatencyTracker;
 
     public MLTaskDispatcher(ClusterService clusterService, Client client, Settings settings, DiscoveryNodeHelper nodeHelper) {
+        this(
+            clusterService,
+            client,
+            settings,
+            nodeHelper,
+            new MLNodeLoadTable(
+                ML_COMMONS_NODE_LOAD_REFRESH_INTERVAL.get(settings).nanos(),
+                ML_COMMONS_NODE_LOAD_MAX_STALENESS.get(settings).nanos()
+            )
+        );
+    }
+
+    public MLTaskDispatcher(
+        ClusterService clusterService,
+        Client client,
+        Settings settings,
+        DiscoveryNodeHelper nodeHelper,
+        MLNodeLoadTable nodeLoadTable
+    ) {
+        this(
+            clusterService,
+            client,
+            settings,
+            nodeHelper,
+            nodeLoadTable,
+            new MLPredictLatencyTracker(ML_COMMONS_PREDICT_LATENCY_DECAY_TIME.get(settings).nanos())
+        );
+    }
+
+    public MLTaskDispatcher(
+        ClusterService clusterService,
+        Client client,
+        Settings settings,
+        DiscoveryNodeHelper nodeHelper,
+        MLNodeLoadTable nodeLoadTable,
+        MLPredictLatencyTracker predictLatencyTracker
+    ) {
         this.clusterService = clusterService;
         this.client = client;
         this.nodeHelper = nodeHelper;
+        this.nodeLoadTable = nodeLoadTable;
+        this.predictLatencyTracker = predictLatencyTracker;
         this.maxMLBatchTaskPerNode = ML_COMMONS_MAX_ML_TASK_PER_NODE.get(settings);
         this.nextNode = new AtomicInteger(0);
         this.dispatchPolicy = ML_COMMONS_TASK_DISPATCH_POLICY.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_TASK_DISPATCH_POLICY, it -> dispatchPolicy = it);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_ML_TASK_PER_NODE, it -> maxMLBatchTaskPerNode = it);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_NODE_LOAD_REFRESH_INTERVAL, it -> nodeLoadTable.setRefreshIntervalNanos(it.nanos()));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_NODE_LOAD_MAX_STALENESS, it -> nodeLoadTable.setMaxStalenessNanos(it.nanos()));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_PREDICT_LATENCY_DECAY_TIME, it -> predictLatencyTracker.setDecayTimeNanos(it.nanos()));
     }
 
     /**
@@ -65,7 +128,7 @@ public class MLTaskDispatcher {
      * @param actionListener action listener
      */
     public void dispatch(FunctionName functionName, ActionListener<DiscoveryNode> actionListener) {
-        if (ROUND_ROBIN.equals(dispatchPolicy)) {
+        if (ROUND_ROBIN.equals(dispatchPolicy) || LATENCY_AWARE.equals(dispatchPolicy)) {
             dispatchTaskWithRoundRobin(functionName, actionListener);
         } else if (LEAST_LOAD.equals(dispatchPolicy)) {
             dispatchTaskWithLeastLoad(functionName, actionListener);
@@ -75,10 +138,22 @@ public class MLTaskDispatcher {
     }
 
     public void dispatchPredictTask(String[] nodeIds, ActionListener<DiscoveryNode> actionListener) {
+        dispatchPredictTask(null, nodeIds, actionListener);
+    }
+
+    /**
+     * Dispatch predict task to one of the worker nodes of the model.
+     * @param modelId model id
+     * @param nodeIds worker node ids
+     * @param actionListener action listener
+     */
+    public void dispatchPredictTask(String modelId, String[] nodeIds, ActionListener<DiscoveryNode> actionListener) {
         if (nodeIds == null || nodeIds.length == 0) {
             throw new IllegalArgumentException("no eligible node to run predict request");
         }
-        if (ROUND_ROBIN.equals(dispatchPolicy)) {
+        if (LATENCY_AWARE.equals(dispatchPolicy) && modelId != null) {
+            actionListener.onResponse(nodeHelper.getNode(predictLatencyTracker.select(modelId, nodeIds)));
+        } else if (ROUND_ROBIN.equals(dispatchPolicy) || LATENCY_AWARE.equals(dispatchPolicy)) {
             dispatchTaskWithRoundRobin(
                 nodeIds,
                 ActionListener.wrap(nodeId -> actionListener.onResponse(nodeHelper.getNode(nodeId)), e -> actionListener.onFailure(e))
@@ -90,6 +165,20 @@ public class MLTaskDispatcher {
         }
     }
 
+    /**
+     * Track the latency of a predict request dispatched to a node, if predict requests are dispatched by latency.
+     * @param modelId model id
+     * @param nodeId node id the request is dispatched to
+     * @param listener listener of the predict response
+     * @return listener which records the latency of the request on response, or the listener itself
+     */
+    public <T> ActionListener<T> trackPredictLatency(String modelId, String nodeId, ActionListener<T> listener) {
+        if (LATENCY_AWARE.equals(dispatchPolicy) && modelId != null) {
+            return predictLatencyTracker.track(modelId, nodeId, listener);
+        }
+        return listener;
+    }
+
     private <T> void dispatchTaskWithRoundRobin(T[] nodes, ActionListener<T> listener) {
         int currentNode = nextNode.getAndIncrement();
         if (currentNode > nodes.length - 1) {
@@ -105,10 +194,98 @@ public class MLTaskDispatcher {
     }
 
     private void dispatchTaskWithLeastLoad(DiscoveryNode[] nodes, ActionListener<DiscoveryNode> listener) {
+        List<MLNodeLoad> nodeLoads = nodes == null || nodes.length == 0 ? null : nodeLoadTable.getLoads(nodes);
+        if (nodeLoads == null) {
+            // the load of some nodes is unknown or too stale, fetch it before dispatching
+            dispatchTaskWithNodeStats(nodes, listener);
+            return;
+        }
+        refreshNodeLoads(nodes);
+
+        // Check JVM pressure
+        List<MLNodeLoad> candidates = nodeLoads
+            .stream()
+            .filter(load -> load.getJvmHeapUsage() < DEFAULT_JVM_HEAP_USAGE_THRESHOLD)
+            .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            String errorMessage = "All nodes' memory usage exceeds limitation "
+                + DEFAULT_JVM_HEAP_USAGE_THRESHOLD
+                + ". No eligible node available to run ml jobs ";
+            log.warn(errorMessage);
+            listener.onFailure(new LimitExceededException(errorMessage));
+            return;
+        }
+
+        // Check # of executing ML task
+        candidates = candidates.stream().filter(load -> load.getExecutingTaskCount() < maxMLBatchTaskPerNode).collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            String errorMessage = "All nodes' executing ML task count reach limitation.";
+            log.warn(errorMessage);
+            listener.onFailure(new LimitExceededException(errorMessage));
+            return;
+        }
+
+        // power of two choices: the less loaded of two random nodes, so that dispatchers with the same view of the loads
+        // don't all pick the same node
+        MLNodeLoad target = candidates.get(0);
+        if (candidates.size() > 1) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(candidates.size());
+            int second = random.nextInt(candidates.size() - 1);
+            if (second >= first) {
+                second++;
+            }
+            target = candidates.get(first).compareTo(candidates.get(second)) <= 0 ? candidates.get(first) : candidates.get(second);
+        }
+        nodeLoadTable.onDispatched(target.getNode().getId());
+        listener.onResponse(target.getNode());
+    }
+
+    /**
+     * Refresh the loads older than the refresh interval in the background.
+     */
+    private void refreshNodeLoads(DiscoveryNode[] nodes) {
+        List<DiscoveryNode> refreshNodes = nodeLoadTable.startRefresh(nodes);
+        if (refreshNodes.isEmpty()) {
+            return;
+        }
+        DiscoveryNode[] targetNodes = refreshNodes.toArray(new DiscoveryNode[0]);
+        MLStatsNodesRequest mlStatsNodesRequest = new MLStatsNodesRequest(targetNodes);
+        mlStatsNodesRequest.addNodeLevelStats(getNodeLoadStats(targetNodes));
+        try {
+            client.execute(MLStatsNodesAction.INSTANCE, mlStatsNodesRequest, ActionListener.wrap(mlStatsResponse -> {
+                mlStatsResponse.getNodes().forEach(nodeLoadTable::update);
+                nodeLoadTable.endRefresh(refreshNodes);
+            }, e -> {
+                log.debug("Failed to refresh node loads", e);
+                nodeLoadTable.endRefresh(refreshNodes);
+            }));
+        } catch (Exception e) {
+            log.debug("Failed to refresh node loads", e);
+            nodeLoadTable.endRefresh(refreshNodes);
+        }
+    }
+
+    private Set<MLNodeLevelStat> getNodeLoadStats(DiscoveryNode[] nodes) {
+        // nodes of older versions can't read the newer stats
+        if (nodes != null && Arrays.stream(nodes).allMatch(node -> node.getVersion().onOrAfter(VERSION_3_4_0))) {
+            return ImmutableSet
+                .of(
+                    MLNodeLevelStat.ML_EXECUTING_TASK_COUNT,
+                    MLNodeLevelStat.ML_JVM_HEAP_USAGE,
+                    MLNodeLevelStat.ML_TASK_QUEUE_SIZE,
+                    MLNodeLevelStat.ML_RECENT_INFERENCE_LATENCY
+                );
+        }
+        return ImmutableSet.of(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, MLNodeLevelStat.ML_JVM_HEAP_USAGE);
+    }
+
+    private void dispatchTaskWithNodeStats(DiscoveryNode[] nodes, ActionListener<DiscoveryNode> listener) {
         MLStatsNodesRequest MLStatsNodesRequest = new MLStatsNodesRequest(nodes);
-        MLStatsNodesRequest.addNodeLevelStats(ImmutableSet.of(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, MLNodeLevelStat.ML_JVM_HEAP_USAGE));
+        MLStatsNodesRequest.addNodeLevelStats(getNodeLoadStats(nodes));
 
         client.execute(MLStatsNodesAction.INSTANCE, MLStatsNodesRequest, ActionListener.wrap(mlStatsResponse -> {
+            mlStatsResponse.getNodes().forEach(nodeLoadTable::update);
             // Check JVM pressure
             List<MLStatsNodeResponse> candidateNodeResponse = mlStatsResponse
                 .getNodes()
@@ -152,6 +329,7 @@ public class MLTaskDispatcher {
                     return result;
                 })
                 .findFirst();
+            nodeLoadTable.onDispatched(targetNode.get().getNode().getId());
             listener.onResponse(targetNode.get().getNode());
         }, exception -> {
             log.error("Failed to get node's task stats", exception);
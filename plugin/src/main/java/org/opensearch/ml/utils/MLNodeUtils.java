@@ -6,27 +6,38 @@
 package org.opensearch.ml.utils;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.input.remote.RemoteInferenceMLInput.ACTION_TYPE_FIELD;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_ROLE_NAME;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Function;
 
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
+import org.opensearch.ml.common.connector.ConnectorAction.ActionType;
+import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
+import org.opensearch.threadpool.ThreadPool;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -40,6 +51,8 @@ import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class MLNodeUtils {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     public boolean isMLNode(DiscoveryNode node) {
         return node.getRoles().stream().anyMatch(role -> role.roleName().equalsIgnoreCase(ML_ROLE_NAME));
     }
@@ -68,22 +81,48 @@ public class MLNodeUtils {
     }
 
     public static void validateSchema(String schemaString, String instanceString) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        // parse the schema JSON as string
-        JsonNode schemaNode = mapper.readTree(schemaString);
-        JsonSchema schema = JsonSchemaFactory.getInstance(VersionFlag.V202012).getSchema(schemaNode);
+        JsonSchema schema = compileSchema(schemaString);
 
         // JSON data to validate
-        JsonNode jsonNode = mapper.readTree(instanceString);
+        JsonNode jsonNode = MAPPER.readTree(instanceString);
 
         // Validate JSON node against the schema
-        Set<ValidationMessage> errors = schema.validate(jsonNode);
+        throwIfInvalid(schema.validate(jsonNode), instanceString, schemaString);
+    }
+
+    /**
+     * Compile a JSON schema once, so that it can validate many instances. The compiled schema is thread safe.
+     *
+     * @param schemaString JSON schema
+     * @return compiled schema
+     */
+    public static JsonSchema compileSchema(String schemaString) throws IOException {
+        // parse the schema JSON as string
+        JsonNode schemaNode = MAPPER.readTree(schemaString);
+        JsonSchema schema = JsonSchemaFactory.getInstance(VersionFlag.V202012).getSchema(schemaNode);
+        // resolve references now instead of lazily on the first validation
+        schema.initializeValidators();
+        return schema;
+    }
+
+    /**
+     * Validate a JSON tree against a compiled schema.
+     *
+     * @param schema       compiled schema
+     * @param schemaString JSON schema, only used in the error message
+     * @param instance     JSON data to validate
+     */
+    public static void validateSchema(JsonSchema schema, String schemaString, JsonNode instance) {
+        throwIfInvalid(schema.validate(instance), instance, schemaString);
+    }
+
+    private static void throwIfInvalid(Set<ValidationMessage> errors, Object instance, String schemaString) {
         if (!errors.isEmpty()) {
             throw new OpenSearchParseException(
                 "Validation failed: "
                     + Arrays.toString(errors.toArray(new ValidationMessage[0]))
                     + " for instance: "
-                    + instanceString
+                    + instance
                     + " with schema: "
                     + schemaString
             );
@@ -97,10 +136,47 @@ public class MLNodeUtils {
      * @return The processed JSON string
      */
     public static String processRemoteInferenceInputDataSetParametersValue(String inputJson, String schemaJson) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode rootNode = mapper.readTree(inputJson);
-        JsonNode schemaNode = mapper.readTree(schemaJson);
+        JsonNode rootNode = MAPPER.readTree(inputJson);
+        JsonNode schemaNode = MAPPER.readTree(schemaJson);
+        return MAPPER.writeValueAsString(processRemoteInferenceInputDataSetParametersValue(rootNode, schemaNode));
+    }
 
+    /**
+     * Build the JSON tree of a model input, the same tree as parsing the JSON of {@link MLInput#toXContent}. The tree of
+     * a remote model input is built from its parameters, without writing and parsing the JSON.
+     *
+     * @param mlInput model input
+     * @return JSON tree of the input
+     */
+    public static JsonNode toJsonNode(MLInput mlInput) throws IOException {
+        if (mlInput.getParameters() == null && mlInput.getInputDataset() instanceof RemoteInferenceInputDataSet) {
+            RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) mlInput.getInputDataset();
+            ObjectNode node = MAPPER.createObjectNode();
+            node.put(MLInput.ALGORITHM_FIELD, mlInput.getAlgorithm().name());
+            if (inputDataSet.getParameters() == null) {
+                node.putNull(MLInput.PARAMETERS_FIELD);
+            } else {
+                ObjectNode parameters = node.putObject(MLInput.PARAMETERS_FIELD);
+                inputDataSet.getParameters().forEach(parameters::put);
+            }
+            ActionType actionType = inputDataSet.getActionType();
+            node.put(ACTION_TYPE_FIELD, actionType == null ? null : actionType.toString());
+            return node;
+        }
+        XContentBuilder builder = mlInput.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
+        try (InputStream stream = BytesReference.bytes(builder).streamInput()) {
+            return MAPPER.readTree(stream);
+        }
+    }
+
+    /**
+     * Same as {@link #processRemoteInferenceInputDataSetParametersValue(String, String)} on parsed JSON, the input tree is
+     * updated in place.
+     * @param rootNode The input JSON tree
+     * @param schemaNode The schema matching the input JSON tree
+     * @return The processed JSON tree
+     */
+    public static JsonNode processRemoteInferenceInputDataSetParametersValue(JsonNode rootNode, JsonNode schemaNode) {
         // Get the schema properties for parameters if they exist
         JsonNode parametersSchema = schemaNode.path("properties").path("parameters").path("properties");
 
@@ -113,7 +189,7 @@ public class MLNodeUtils {
 
                 if (value.isTextual() && !isStringTypeInSchema(parametersSchema, key)) {
                     try {
-                        JsonNode parsedValue = mapper.readTree(value.asText());
+                        JsonNode parsedValue = MAPPER.readTree(value.asText());
                         parametersNode.set(key, parsedValue);
                     } catch (IOException e) {
                         // If parsing fails, keep it as is
@@ -122,7 +198,7 @@ public class MLNodeUtils {
                 }
             });
         }
-        return mapper.writeValueAsString(rootNode);
+        return rootNode;
     }
 
     private static boolean isStringTypeInSchema(JsonNode schema, String fieldName) {
@@ -130,6 +206,24 @@ public class MLNodeUtils {
         return typeNode.isTextual() && typeNode.asText().equals("string");
     }
 
+    /**
+     * Get the number of tasks waiting in thread pools.
+     *
+     * @param threadPool thread pool service
+     * @param names names of the thread pools
+     * @return number of queued tasks
+     */
+    public static long getQueueSize(ThreadPool threadPool, String... names) {
+        long queueSize = 0;
+        for (String name : names) {
+            ExecutorService executor = threadPool.executor(name);
+            if (executor instanceof ThreadPoolExecutor) {
+                queueSize += ((ThreadPoolExecutor) executor).getQueue().size();
+            }
+        }
+        return queueSize;
+    }
+
     public static void checkOpenCircuitBreaker(MLCircuitBreakerService mlCircuitBreakerService, MLStats mlStats) {
         ThresholdCircuitBreaker openCircuitBreaker = mlCircuitBreakerService.checkOpenCB();
         if (openCircuitBreaker != null) {
@@ -0,0 +1,175 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.utils;
+
+import static org.opensearch.ml.common.output.model.ModelTensor.BYTE_BUFFER_ARRAY_FIELD;
+import static org.opensearch.ml.common.output.model.ModelTensor.BYTE_BUFFER_FIELD;
+import static org.opensearch.ml.common.output.model.ModelTensor.BYTE_BUFFER_ORDER_FIELD;
+import static org.opensearch.ml.common.output.model.ModelTensor.DATA_AS_MAP_FIELD;
+import static org.opensearch.ml.common.output.model.ModelTensor.DATA_FIELD;
+import static org.opensearch.ml.common.output.model.ModelTensor.DATA_TYPE_FIELD;
+import static org.opensearch.ml.common.output.model.ModelTensor.NAME_FIELD;
+import static org.opensearch.ml.common.output.model.ModelTensor.RESULT_FIELD;
+import static org.opensearch.ml.common.output.model.ModelTensor.SHAPE_FIELD;
+import static org.opensearch.ml.common.output.model.ModelTensorOutput.INFERENCE_RESULT_FIELD;
+import static org.opensearch.ml.common.output.model.ModelTensors.OUTPUT_FIELD;
+import static org.opensearch.ml.common.output.model.ModelTensors.STATUS_CODE_FIELD;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Base64;
+import java.util.Map;
+
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class ModelTensorJsonUtils {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    /**
+     * Build the JSON tree of a model tensor output by walking its tensors, the same tree as parsing the JSON of
+     * {@link ModelTensorOutput#toXContent}, without writing and parsing the JSON.
+     *
+     * @param output model tensor output
+     * @return JSON tree of the output
+     */
+    public static JsonNode toJsonNode(ModelTensorOutput output) throws IOException {
+        try {
+            ObjectNode node = NODES.objectNode();
+            if (output.getMlModelOutputs() != null && !output.getMlModelOutputs().isEmpty()) {
+                ArrayNode results = node.putArray(INFERENCE_RESULT_FIELD);
+                for (ModelTensors tensors : output.getMlModelOutputs()) {
+                    results.add(toJsonNode(tensors));
+                }
+            }
+            return node;
+        } catch (UnsupportedValueException e) {
+            // values which only XContent knows how to write
+            String json = output.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString();
+            return new ObjectMapper().readTree(json);
+        }
+    }
+
+    private static JsonNode toJsonNode(ModelTensors tensors) {
+        ObjectNode node = NODES.objectNode();
+        if (tensors.getMlModelTensors() != null && !tensors.getMlModelTensors().isEmpty()) {
+            ArrayNode outputs = node.putArray(OUTPUT_FIELD);
+            for (ModelTensor tensor : tensors.getMlModelTensors()) {
+                outputs.add(toJsonNode(tensor));
+            }
+        }
+        if (tensors.getStatusCode() != null) {
+            node.put(STATUS_CODE_FIELD, tensors.getStatusCode());
+        }
+        return node;
+    }
+
+    private static JsonNode toJsonNode(ModelTensor tensor) {
+        ObjectNode node = NODES.objectNode();
+        if (tensor.getName() != null) {
+            node.put(NAME_FIELD, tensor.getName());
+        }
+        if (tensor.getDataType() != null) {
+            node.put(DATA_TYPE_FIELD, tensor.getDataType().toString());
+        }
+        if (tensor.getShape() != null) {
+            ArrayNode shape = node.putArray(SHAPE_FIELD);
+            for (long dimension : tensor.getShape()) {
+                shape.add(dimension);
+            }
+        }
+        if (tensor.getFloatData() != null) {
+            ArrayNode data = node.putArray(DATA_FIELD);
+            for (float value : tensor.getFloatData()) {
+                data.add(toJsonNode(value));
+            }
+        } else if (tensor.getData() != null) {
+            ArrayNode data = node.putArray(DATA_FIELD);
+            for (Number value : tensor.getData()) {
+                data.add(toJsonNode(value));
+            }
+        }
+        if (tensor.getByteBuffer() != null) {
+            ObjectNode byteBuffer = node.putObject(BYTE_BUFFER_FIELD);
+            byteBuffer.put(BYTE_BUFFER_ARRAY_FIELD, Base64.getEncoder().encodeToString(tensor.getByteBuffer().array()));
+            byteBuffer.put(BYTE_BUFFER_ORDER_FIELD, tensor.getByteBuffer().order().toString());
+        }
+        if (tensor.getResult() != null) {
+            node.put(RESULT_FIELD, tensor.getResult());
+        }
+        if (tensor.getDataAsMap() != null) {
+            node.set(DATA_AS_MAP_FIELD, toJsonNode(tensor.getDataAsMap()));
+        }
+        return node;
+    }
+
+    private static JsonNode toJsonNode(Object value) {
+        if (value == null) {
+            return NODES.nullNode();
+        } else if (value instanceof String) {
+            return NODES.textNode((String) value);
+        } else if (value instanceof Boolean) {
+            return NODES.booleanNode((Boolean) value);
+        } else if (value instanceof Float) {
+            float number = (Float) value;
+            // non finite numbers are written as strings
+            return Float.isFinite(number) ? NODES.numberNode(number) : NODES.textNode(Float.toString(number));
+        } else if (value instanceof Double) {
+            double number = (Double) value;
+            return Double.isFinite(number) ? NODES.numberNode(number) : NODES.textNode(Double.toString(number));
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return NODES.numberNode(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            return NODES.numberNode((Long) value);
+        } else if (value instanceof BigInteger) {
+            return NODES.numberNode((BigInteger) value);
+        } else if (value instanceof BigDecimal) {
+            return NODES.numberNode((BigDecimal) value);
+        } else if (value instanceof Map) {
+            ObjectNode node = NODES.objectNode();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!(entry.getKey() instanceof String)) {
+                    throw new UnsupportedValueException();
+                }
+                node.set((String) entry.getKey(), toJsonNode(entry.getValue()));
+            }
+            return node;
+        } else if (value instanceof Iterable) {
+            ArrayNode node = NODES.arrayNode();
+            for (Object element : (Iterable<?>) value) {
+                node.add(toJsonNode(element));
+            }
+            return node;
+        } else if (value instanceof Object[]) {
+            ArrayNode node = NODES.arrayNode();
+            for (Object element : (Object[]) value) {
+                node.add(toJsonNode(element));
+            }
+            return node;
+        }
+        throw new UnsupportedValueException();
+    }
+
+    private static class UnsupportedValueException extends RuntimeException {
+        UnsupportedValueException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.artifact;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodeRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodeResponse;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodeResponse.ArtifactState;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodesRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodesResponse;
+import org.opensearch.ml.model.MLModelArtifactDistributor;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+public class TransportModelArtifactChunkActionTests extends OpenSearchTestCase {
+
+    private static final String HASH = "a".repeat(64);
+
+    @Mock
+    private TransportService transportService;
+
+    @Mock
+    private ActionFilters actionFilters;
+
+    @Mock
+    private ClusterService clusterService;
+
+    @Mock
+    private ThreadPool threadPool;
+
+    @Mock
+    private MLModelArtifactDistributor modelArtifactDistributor;
+
+    private DiscoveryNode localNode;
+    private TransportModelArtifactChunkAction action;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        localNode = new DiscoveryNode(
+            "node1",
+            buildNewFakeTransportAddress(),
+            Map.of(),
+            Set.of(DiscoveryNodeRole.DATA_ROLE),
+            Version.CURRENT
+        );
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(clusterService.getClusterName()).thenReturn(new ClusterName("test"));
+        action = new TransportModelArtifactChunkAction(
+            transportService,
+            actionFilters,
+            clusterService,
+            threadPool,
+            modelArtifactDistributor
+        );
+    }
+
+    public void testNodeOperation() {
+        MLModelArtifactChunkNodeResponse response = new MLModelArtifactChunkNodeResponse(
+            localNode,
+            ArtifactState.READY,
+            10,
+            new BytesArray("0123")
+        );
+        when(modelArtifactDistributor.readChunk(localNode, HASH, 4, 4)).thenReturn(response);
+        MLModelArtifactChunkNodesRequest request = new MLModelArtifactChunkNodesRequest(new String[] { "node1" }, HASH, 4, 4);
+
+        assertSame(response, action.nodeOperation(action.newNodeRequest(request)));
+        verify(modelArtifactDistributor).readChunk(localNode, HASH, 4, 4);
+    }
+
+    public void testNewResponse() {
+        MLModelArtifactChunkNodesRequest request = new MLModelArtifactChunkNodesRequest(new String[] { "node1" }, HASH, 0, 4);
+        MLModelArtifactChunkNodeResponse response = new MLModelArtifactChunkNodeResponse(localNode, ArtifactState.PENDING);
+        MLModelArtifactChunkNodesResponse nodesResponse = action
+            .newResponse(request, List.of(response), List.of(new FailedNodeException("node2", "node left", new RuntimeException())));
+
+        assertEquals(List.of(response), nodesResponse.getNodes());
+        assertEquals(1, nodesResponse.failures().size());
+    }
+
+    public void testNewNodeRequest() {
+        MLModelArtifactChunkNodesRequest request = new MLModelArtifactChunkNodesRequest(new String[] { "node1" }, HASH, 0, 4);
+        MLModelArtifactChunkNodeRequest nodeRequest = action.newNodeRequest(request);
+        assertSame(request, nodeRequest.getArtifactChunkNodesRequest());
+    }
+}
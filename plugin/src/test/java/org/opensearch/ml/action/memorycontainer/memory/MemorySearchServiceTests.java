@@ -5,11 +5,15 @@
 
 package org.opensearch.ml.action.memorycontainer.memory;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.MEMORY_FIELD;
@@ -19,14 +23,18 @@ import static org.opensearch.ml.utils.TestHelper.createTestContent;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.apache.lucene.search.TotalHits;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.action.ActionListener;
@@ -128,42 +136,81 @@ public class MemorySearchServiceTests {
         Exception searchException = new RuntimeException("Search failed");
 
         doAnswer(invocation -> {
-            ActionListener<SearchResponse> searchListener = invocation.getArgument(2);
+            ActionListener<MultiSearchResponse> searchListener = invocation.getArgument(2);
             searchListener.onFailure(searchException);
             return null;
-        }).when(memoryContainerHelper).searchData(any(), any(SearchDataObjectRequest.class), any());
+        }).when(memoryContainerHelper).searchDataConcurrently(any(), anyList(), any());
 
         memorySearchService.searchSimilarFactsForSession(strategy, input, facts, memoryConfig, listener);
 
-        verify(memoryContainerHelper).searchData(any(), any(SearchDataObjectRequest.class), any());
+        verify(memoryContainerHelper).searchDataConcurrently(any(), anyList(), any());
+        verify(listener).onResponse(List.of());
     }
 
     @Test
     public void testSearchSimilarFactsForSession_WithMaxInferSizeLimit() throws IOException {
-        List<String> facts = Arrays.asList("Fact1", "Fact2", "Fact3");
+        List<String> facts = Arrays.asList("Fact1", "Fact2", "Fact3", "Fact4", "Fact5", "Fact6");
+        SearchResponse searchResponse = searchResponse(hit("memory-1", "test memory", 1.0f));
+        ArgumentCaptor<List<SearchDataObjectRequest>> requestCaptor = ArgumentCaptor.forClass(List.class);
 
-        SearchResponse searchResponse = mock(SearchResponse.class);
-        XContentBuilder sourceContent = XContentBuilder
-            .builder(XContentType.JSON.xContent())
-            .startObject()
-            .field(MEMORY_FIELD, "test memory")
-            .endObject();
-        SearchHit h1 = new SearchHit(1);
-        h1.sourceRef(BytesReference.bytes(sourceContent));
+        doAnswer(invocation -> {
+            List<SearchDataObjectRequest> requests = invocation.getArgument(1);
+            ActionListener<MultiSearchResponse> searchListener = invocation.getArgument(2);
+            searchListener.onResponse(multiSearchResponse(Collections.nCopies(requests.size(), searchResponse)));
+            return null;
+        }).when(memoryContainerHelper).searchDataConcurrently(any(), requestCaptor.capture(), any());
+
+        memorySearchService.searchSimilarFactsForSession(strategy, input, facts, memoryConfig, listener);
 
-        SearchHits hits = new SearchHits(new SearchHit[] { h1 }, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0f);
-        when(searchResponse.getHits()).thenReturn(hits);
+        // all facts are searched concurrently, limited by maxInferSize
+        verify(memoryContainerHelper, never()).searchData(any(), any(SearchDataObjectRequest.class), any());
+        assertEquals(5, requestCaptor.getValue().size());
+        verify(listener).onResponse(argThat(results -> results.size() == 1 && results.get(0).getId().equals("memory-1")));
+    }
 
+    @Test
+    public void testSearchSimilarFactsForSession_DeduplicateResults() throws IOException {
+        List<String> facts = Arrays.asList("User name is Bob", "Bob likes swimming", "Bob lives in Seattle");
+        MultiSearchResponse response = multiSearchResponse(
+            Arrays
+                .asList(
+                    searchResponse(hit("memory-1", "Name is Bob", 0.9f), hit("memory-2", "Likes swimming", 0.5f)),
+                    null,
+                    searchResponse(hit("memory-2", "Likes swimming", 0.8f), hit("memory-3", "Lives in Seattle", 0.7f))
+                )
+        );
         doAnswer(invocation -> {
-            ActionListener<SearchResponse> searchListener = invocation.getArgument(2);
-            searchListener.onResponse(searchResponse);
+            ActionListener<MultiSearchResponse> searchListener = invocation.getArgument(2);
+            searchListener.onResponse(response);
             return null;
-        }).when(memoryContainerHelper).searchData(any(), any(SearchDataObjectRequest.class), any());
+        }).when(memoryContainerHelper).searchDataConcurrently(any(), anyList(), any());
 
         memorySearchService.searchSimilarFactsForSession(strategy, input, facts, memoryConfig, listener);
 
-        verify(memoryContainerHelper, times(3)).searchData(any(), any(SearchDataObjectRequest.class), any()); // Limited by maxInferSize
-        verify(listener).onResponse(any(List.class));
+        ArgumentCaptor<List<FactSearchResult>> resultsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(listener).onResponse(resultsCaptor.capture());
+        List<FactSearchResult> results = resultsCaptor.getValue();
+        assertEquals(
+            List.of("memory-1", "memory-2", "memory-3"),
+            results.stream().map(FactSearchResult::getId).collect(Collectors.toList())
+        );
+        // the highest score of a fact found for several new facts is kept
+        assertEquals(0.8f, results.get(1).getScore(), 0.0f);
+    }
+
+    @Test
+    public void testSearchSimilarFactsForSession_TenantSearchesConcurrently() {
+        List<String> facts = Arrays.asList("Fact1", "Fact2");
+        when(memoryConfig.getTenantId()).thenReturn("tenant-1");
+        ArgumentCaptor<List<SearchDataObjectRequest>> requestCaptor = ArgumentCaptor.forClass(List.class);
+
+        memorySearchService.searchSimilarFactsForSession(strategy, input, facts, memoryConfig, listener);
+
+        // every search goes through the remote metadata client with the tenant of the container
+        verify(memoryContainerHelper).searchDataConcurrently(eq(memoryConfig), requestCaptor.capture(), any());
+        assertEquals(2, requestCaptor.getValue().size());
+        requestCaptor.getValue().forEach(request -> assertEquals("tenant-1", request.tenantId()));
+        verify(memoryContainerHelper, never()).searchData(any(), any(SearchDataObjectRequest.class), any());
     }
 
     @Test
@@ -185,4 +232,35 @@ public class MemorySearchServiceTests {
         verify(listener).onResponse(any(List.class));
     }
 
+    private static SearchHit hit(String id, String memory, float score) throws IOException {
+        XContentBuilder sourceContent = XContentBuilder
+            .builder(XContentType.JSON.xContent())
+            .startObject()
+            .field(MEMORY_FIELD, memory)
+            .endObject();
+        SearchHit hit = new SearchHit(1, id, null, null);
+        hit.sourceRef(BytesReference.bytes(sourceContent));
+        hit.score(score);
+        return hit;
+    }
+
+    private static SearchResponse searchResponse(SearchHit... hits) {
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+        return searchResponse;
+    }
+
+    // a null response is a failed search
+    private static MultiSearchResponse multiSearchResponse(List<SearchResponse> responses) {
+        MultiSearchResponse.Item[] items = responses
+            .stream()
+            .map(
+                r -> r == null
+                    ? new MultiSearchResponse.Item(null, new RuntimeException("Search failed"))
+                    : new MultiSearchResponse.Item(r, null)
+            )
+            .toArray(MultiSearchResponse.Item[]::new);
+        return new MultiSearchResponse(items, 10);
+    }
+
 }
@@ -154,6 +154,7 @@ public class DeleteModelGroupTransportActionTests extends OpenSearchTestCase {
         assertEquals(deleteResponse.getIndex(), actualResponse.getIndex());
         assertEquals(deleteResponse.getVersion(), actualResponse.getVersion());
         assertEquals(deleteResponse.getResult(), actualResponse.getResult());
+        verify(modelAccessControlHelper).invalidateModelGroup("test_id");
     }
 
     @Test
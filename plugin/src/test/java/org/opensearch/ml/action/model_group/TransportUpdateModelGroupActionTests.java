@@ -306,6 +306,7 @@ public class TransportUpdateModelGroupActionTests extends OpenSearchTestCase {
         transportUpdateModelGroupAction.doExecute(task, actionRequest, actionListener);
         ArgumentCaptor<MLUpdateModelGroupResponse> argumentCaptor = ArgumentCaptor.forClass(MLUpdateModelGroupResponse.class);
         verify(actionListener).onResponse(argumentCaptor.capture());
+        verify(modelAccessControlHelper).invalidateModelGroup(actionRequest.getUpdateModelGroupInput().getModelGroupID());
     }
 
     public void test_SuccessRestricedWithOwnerAsUser() {
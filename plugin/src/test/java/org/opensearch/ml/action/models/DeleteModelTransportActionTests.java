@@ -81,6 +81,7 @@ import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.utils.AgentModelsSearcher;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLPredictableCache;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.impl.SdkClientFactory;
 import org.opensearch.search.SearchHit;
@@ -143,6 +144,9 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
     @Mock
     private AgentModelsSearcher agentModelsSearcher;
 
+    @Mock
+    private MLPredictableCache predictableCache;
+
     @Mock
     private GetSearchPipelineResponse getSearchPipelineResponse;
 
@@ -182,6 +186,7 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
                 clusterService,
                 modelAccessControlHelper,
                 agentModelsSearcher,
+                predictableCache,
                 mlFeatureEnabledSetting
             )
         );
@@ -233,6 +238,7 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
         assertEquals(deleteResponse.getIndex(), actualResponse.getIndex());
         assertEquals(deleteResponse.getVersion(), actualResponse.getVersion());
         assertEquals(deleteResponse.getResult(), actualResponse.getResult());
+        verify(predictableCache).invalidate("test_id");
     }
 
     @Test
@@ -935,6 +941,7 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
                 clusterService,
                 modelAccessControlHelper,
                 agentModelsSearcher,
+                predictableCache,
                 mlFeatureEnabledSetting
             )
         );
@@ -16,6 +16,7 @@ import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.common.FunctionName;
@@ -57,6 +58,22 @@ public class MLStatsNodeResponseTests extends OpenSearchTestCase {
         Assert.assertEquals(newResponse.getNodeLevelStatSize(), response.getNodeLevelStatSize());
     }
 
+    public void testSerializationDeserialization_OlderNodeSkipsNewStats() throws IOException {
+        Map<MLNodeLevelStat, Object> statsToValues = new HashMap<>();
+        statsToValues.put(MLNodeLevelStat.ML_REQUEST_COUNT, 10l);
+        statsToValues.put(MLNodeLevelStat.ML_OPEN_STREAM_COUNT, 2l);
+        MLStatsNodeResponse response = new MLStatsNodeResponse(node, statsToValues);
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_3_3_0);
+        response.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_3_3_0);
+        MLStatsNodeResponse newResponse = new MLStatsNodeResponse(input);
+        assertEquals(1, newResponse.getNodeLevelStatSize());
+        assertEquals(10l, newResponse.getNodeLevelStat(MLNodeLevelStat.ML_REQUEST_COUNT));
+        assertNull(newResponse.getNodeLevelStat(MLNodeLevelStat.ML_OPEN_STREAM_COUNT));
+    }
+
     public void testToXContent_NodeLevelStats() throws IOException {
         XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
         builder.startObject();
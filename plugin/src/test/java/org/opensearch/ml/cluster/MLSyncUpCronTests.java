@@ -69,6 +69,7 @@ import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodeResponse;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodesResponse;
 import org.opensearch.ml.engine.encryptor.Encryptor;
@@ -239,6 +240,61 @@ public class MLSyncUpCronTests extends OpenSearchTestCase {
         verify(client, times(1)).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
     }
 
+    public void testRun_RoutingTableNotChanged() {
+        DiscoveryNode[] allNodes = new DiscoveryNode[] { mlNode1 };
+        when(nodeHelper.getAllNodes()).thenReturn(allNodes);
+        doAnswer(invocation -> {
+            ActionListener<MLSyncUpNodesResponse> listener = invocation.getArgument(2);
+            MLSyncUpNodeResponse nodeResponse = new MLSyncUpNodeResponse(mlNode1, "ok", new String[] { "model1" }, null, null, null);
+            listener.onResponse(new MLSyncUpNodesResponse(ClusterName.DEFAULT, List.of(nodeResponse), List.of()));
+            return null;
+        }).when(client).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
+
+        syncUpCron.run();
+        syncUpCron.run();
+        // the second run only gathers the deployed models as the routing table didn't change
+        verify(client, times(3)).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
+    }
+
+    public void testBuildRoutingSyncUpInput() {
+        DiscoveryNode[] allNodes = new DiscoveryNode[] { mlNode1, mlNode2 };
+        Map<String, Set<String>> routingTable = Map.of("model1", Set.of(mlNode1Id), "model2", Set.of(mlNode1Id, mlNode2Id));
+
+        MLSyncUpInput input = syncUpCron.buildRoutingSyncUpInput(allNodes, routingTable, Map.of());
+        assertEquals(routingTable, input.getModelRoutingTable());
+        assertNull(input.getAddedWorkerNodes());
+        assertTrue(input.isSyncRunningDeployModelTasks());
+        assertNull(syncUpCron.buildRoutingSyncUpInput(allNodes, routingTable, Map.of()));
+
+        Map<String, Set<String>> changedRoutingTable = Map.of("model1", Set.of(mlNode1Id, mlNode2Id), "model3", Set.of(mlNode2Id));
+        input = syncUpCron.buildRoutingSyncUpInput(allNodes, changedRoutingTable, Map.of());
+        assertNull(input.getModelRoutingTable());
+        assertEquals(Set.of("model1", "model3"), input.getAddedWorkerNodes().keySet());
+        assertArrayEquals(new String[] { mlNode2Id }, input.getAddedWorkerNodes().get("model1"));
+        assertEquals(Set.of("model2"), input.getRemovedWorkerNodes().keySet());
+        assertEquals(Set.of(mlNode1Id, mlNode2Id), Set.of(input.getRemovedWorkerNodes().get("model2")));
+
+        // the full routing table is synced when nodes changed
+        input = syncUpCron.buildRoutingSyncUpInput(new DiscoveryNode[] { mlNode1 }, changedRoutingTable, Map.of());
+        assertEquals(changedRoutingTable, input.getModelRoutingTable());
+
+        // and after a failed sync
+        syncUpCron.resetSyncedRoutingTable();
+        input = syncUpCron.buildRoutingSyncUpInput(new DiscoveryNode[] { mlNode1 }, Map.of(), Map.of());
+        assertTrue(input.isClearRoutingTable());
+    }
+
+    public void testBuildRoutingSyncUpInput_FullSyncInterval() {
+        DiscoveryNode[] allNodes = new DiscoveryNode[] { mlNode1 };
+        Map<String, Set<String>> routingTable = Map.of("model1", Set.of(mlNode1Id));
+        assertNotNull(syncUpCron.buildRoutingSyncUpInput(allNodes, routingTable, Map.of()));
+        for (int i = 1; i < MLSyncUpCron.FULL_ROUTING_SYNC_INTERVAL; i++) {
+            assertNull(syncUpCron.buildRoutingSyncUpInput(allNodes, routingTable, Map.of()));
+        }
+        MLSyncUpInput input = syncUpCron.buildRoutingSyncUpInput(allNodes, routingTable, Map.of());
+        assertEquals(routingTable, input.getModelRoutingTable());
+    }
+
     public void testRefreshModelState_NoSemaphore() throws InterruptedException {
         syncUpCron.updateModelStateSemaphore.acquire();
         syncUpCron.refreshModelState(null, null);
@@ -9,6 +9,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.DEFAULT_LLM_RESULT_PATH;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.LLM_RESULT_PATH_FIELD;
@@ -16,12 +18,14 @@ import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.lucene.search.TotalHits;
 import org.junit.Before;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
 import org.opensearch.action.bulk.BulkRequest;
@@ -32,6 +36,7 @@ import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
@@ -300,6 +305,48 @@ public class MemoryContainerHelperTests extends OpenSearchTestCase {
         assertEquals("system index search failure", exception.getMessage());
     }
 
+    public void testSearchDataConcurrently() {
+        MemoryConfiguration configuration = MemoryConfiguration.builder().indexPrefix("prefix").tenantId("tenant-1").build();
+        SearchDataObjectRequest firstRequest = searchDataObjectRequest("tenant-1");
+        SearchDataObjectRequest secondRequest = searchDataObjectRequest("tenant-1");
+
+        SearchResponse searchResponse = createSearchResponse(2);
+        CompletableFuture<SearchDataObjectResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new RuntimeException("search failure"));
+        when(sdkClient.searchDataObjectAsync(any()))
+            .thenReturn(CompletableFuture.completedFuture(new SearchDataObjectResponse(searchResponse)))
+            .thenReturn(failed);
+
+        PlainActionFuture<MultiSearchResponse> future = PlainActionFuture.newFuture();
+        helper.searchDataConcurrently(configuration, List.of(firstRequest, secondRequest), future);
+
+        // each search is sent on its own through the remote metadata client
+        ArgumentCaptor<SearchDataObjectRequest> requestCaptor = ArgumentCaptor.forClass(SearchDataObjectRequest.class);
+        verify(sdkClient, times(2)).searchDataObjectAsync(requestCaptor.capture());
+        assertEquals(List.of(firstRequest, secondRequest), requestCaptor.getAllValues());
+        MultiSearchResponse.Item[] items = future.actionGet().getResponses();
+        assertEquals(2, items.length);
+        assertSame(searchResponse, items[0].getResponse());
+        assertEquals("search failure", items[1].getFailure().getMessage());
+    }
+
+    public void testSearchDataConcurrently_Empty() {
+        MemoryConfiguration configuration = MemoryConfiguration.builder().indexPrefix("prefix").build();
+        PlainActionFuture<MultiSearchResponse> future = PlainActionFuture.newFuture();
+        helper.searchDataConcurrently(configuration, List.of(), future);
+        assertEquals(0, future.actionGet().getResponses().length);
+    }
+
+    public void testSearchDataConcurrently_Exception() {
+        PlainActionFuture<MultiSearchResponse> future = PlainActionFuture.newFuture();
+        helper.searchDataConcurrently(null, null, future);
+        expectThrows(NullPointerException.class, future::actionGet);
+    }
+
+    private SearchDataObjectRequest searchDataObjectRequest(String tenantId) {
+        return SearchDataObjectRequest.builder().indices("index").searchSourceBuilder(new SearchSourceBuilder()).tenantId(tenantId).build();
+    }
+
     public void testDataOperations() {
         MemoryConfiguration configuration = MemoryConfiguration.builder().indexPrefix("prefix").build();
 
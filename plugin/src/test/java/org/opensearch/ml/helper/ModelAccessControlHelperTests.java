@@ -7,9 +7,12 @@ package org.opensearch.ml.helper;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_GROUP_ACCESS_CACHE_TTL;
 import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
 import java.io.IOException;
@@ -87,7 +90,11 @@ public class ModelAccessControlHelperTests extends OpenSearchTestCase {
         Settings settings = Settings.builder().put(ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED.getKey(), true).build();
         sdkClient = SdkClientFactory.createSdkClient(client, NamedXContentRegistry.EMPTY, Collections.emptyMap());
         threadContext = new ThreadContext(settings);
-        ClusterSettings clusterSettings = clusterSetting(settings, ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED);
+        ClusterSettings clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED,
+            ML_COMMONS_MODEL_GROUP_ACCESS_CACHE_TTL
+        );
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
         modelAccessControlHelper = new ModelAccessControlHelper(clusterService, settings);
         assertNotNull(modelAccessControlHelper);
@@ -457,6 +464,74 @@ public class ModelAccessControlHelperTests extends OpenSearchTestCase {
         assertTrue(argumentCaptor.getValue());
     }
 
+    public void test_ModelGroupCache() throws IOException {
+        setupModelGroup("owner|IT,HR|myTenant", AccessMode.RESTRICTED.getValue(), Arrays.asList("IT", "HR"));
+        ActionListener<Boolean> matchingListener = mock(ActionListener.class);
+        modelAccessControlHelper.validateModelGroupAccess(User.parse("user|IT|myTenant"), "testGroupID", null, client, matchingListener);
+        verify(matchingListener).onResponse(true);
+
+        // the access of another user is checked against the cached model group
+        ActionListener<Boolean> otherListener = mock(ActionListener.class);
+        modelAccessControlHelper.validateModelGroupAccess(User.parse("user|Finance|myTenant"), "testGroupID", null, client, otherListener);
+        verify(otherListener).onResponse(false);
+
+        verify(client, times(1)).get(any(), any());
+        assertEquals(1, modelAccessControlHelper.getCacheHitCount());
+        assertEquals(1, modelAccessControlHelper.getCacheMissCount());
+    }
+
+    public void test_ModelGroupCache_Invalidate() throws IOException {
+        setupModelGroup("owner|IT,HR|myTenant", AccessMode.PUBLIC.getValue(), null);
+        User user = User.parse("user|Finance|myTenant");
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", null, client, actionListener);
+
+        setupModelGroup("owner|IT,HR|myTenant", AccessMode.PRIVATE.getValue(), null);
+        modelAccessControlHelper.invalidateModelGroup("testGroupID");
+        ActionListener<Boolean> privateListener = mock(ActionListener.class);
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", null, client, privateListener);
+
+        verify(actionListener).onResponse(true);
+        verify(privateListener).onResponse(false);
+        verify(client, times(2)).get(any(), any());
+        assertEquals(0, modelAccessControlHelper.getCacheHitCount());
+    }
+
+    public void test_ModelGroupCache_SdkClient() throws IOException, InterruptedException {
+        setupModelGroup("owner|IT,HR|myTenant", AccessMode.RESTRICTED.getValue(), Arrays.asList("IT", "HR"));
+        User user = User.parse("user|IT|myTenant");
+
+        CountDownLatch latch = new CountDownLatch(1);
+        LatchedActionListener<Boolean> latchedActionListener = new LatchedActionListener<>(actionListener, latch);
+        modelAccessControlHelper
+            .validateModelGroupAccess(user, mlFeatureEnabledSetting, null, "testGroupID", null, client, sdkClient, latchedActionListener);
+        latch.await(500, TimeUnit.MILLISECONDS);
+        ActionListener<Boolean> cachedListener = mock(ActionListener.class);
+        modelAccessControlHelper
+            .validateModelGroupAccess(user, mlFeatureEnabledSetting, null, "testGroupID", null, client, sdkClient, cachedListener);
+
+        verify(actionListener).onResponse(true);
+        verify(cachedListener).onResponse(true);
+        verify(client, times(1)).get(any(), any());
+        assertEquals(1, modelAccessControlHelper.getCacheHitCount());
+    }
+
+    public void test_ModelGroupCache_Disabled() throws IOException {
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED.getKey(), true)
+            .put(ML_COMMONS_MODEL_GROUP_ACCESS_CACHE_TTL.getKey(), "0s")
+            .build();
+        modelAccessControlHelper = new ModelAccessControlHelper(clusterService, settings);
+        setupModelGroup("owner|IT,HR|myTenant", AccessMode.PUBLIC.getValue(), null);
+        User user = User.parse("user|Finance|myTenant");
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", null, client, actionListener);
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", null, client, actionListener);
+
+        verify(actionListener, times(2)).onResponse(true);
+        verify(client, times(2)).get(any(), any());
+        assertEquals(0, modelAccessControlHelper.getCacheMissCount());
+    }
+
     private GetResponse modelGroupBuilder(List<String> backendRoles, String access, String owner) throws IOException {
         MLModelGroup mlModelGroup = MLModelGroup
             .builder()
@@ -0,0 +1,160 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.ml.breaker.CircuitBreaker;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLModelArtifactCacheTests extends OpenSearchTestCase {
+
+    private Path rootPath;
+    private Path sourcePath;
+    private Path deployPath;
+    private CircuitBreaker diskCircuitBreaker;
+    private MLModelArtifactCache cache;
+
+    @Before
+    public void setup() {
+        Path tempDir = createTempDir();
+        rootPath = tempDir.resolve("artifacts");
+        sourcePath = tempDir.resolve("source");
+        deployPath = tempDir.resolve("deploy");
+        diskCircuitBreaker = mock(CircuitBreaker.class);
+        cache = new MLModelArtifactCache(rootPath, diskCircuitBreaker, 100);
+    }
+
+    public void testPutAndGet() throws IOException {
+        String hash1 = put("model1", 10);
+        File target = deployPath.resolve("model1").resolve("model.zip").toFile();
+        assertTrue(cache.get(hash1, target));
+        assertArrayEquals(content("model1", 10), Files.readAllBytes(target.toPath()));
+        assertTrue(cache.get(hash1.toUpperCase(Locale.ROOT), target));
+
+        assertFalse(cache.get(calculateFileHash(modelFile("model2", 10)), deployPath.resolve("model2.zip").toFile()));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(10, cache.getSizeInBytes());
+    }
+
+    public void testRead() throws IOException {
+        File file = modelFile("model1", 10);
+        String hash = calculateFileHash(file);
+        assertNull(cache.read(hash, 0, 4));
+        assertTrue(cache.put(hash, file));
+
+        Tuple<Long, byte[]> chunk = cache.read(hash, 4, 4);
+        assertEquals(10L, chunk.v1().longValue());
+        assertEquals("l101", new String(chunk.v2(), StandardCharsets.UTF_8));
+        assertEquals("23", new String(cache.read(hash, 8, 4).v2(), StandardCharsets.UTF_8));
+        assertEquals(0, cache.read(hash, 12, 4).v2().length);
+        assertNull(cache.read("../model", 0, 4));
+    }
+
+    public void testInvalidHash() throws IOException {
+        cache.put("../model", modelFile("model1", 10));
+        cache.put(null, modelFile("model1", 10));
+        assertEquals(0, cache.getSizeInBytes());
+        assertFalse(cache.get("../model", deployPath.resolve("model.zip").toFile()));
+        assertFalse(cache.get(null, deployPath.resolve("model.zip").toFile()));
+    }
+
+    public void testGet_CorruptedFile() throws IOException {
+        String hash = put("model1", 10);
+        Files.write(rootPath.resolve(hash + ".zip"), content("model2", 10));
+
+        File target = deployPath.resolve("model1.zip").toFile();
+        assertFalse(cache.get(hash, target));
+        assertFalse(target.exists());
+        assertEquals(0, cache.getSizeInBytes());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    public void testEvictLeastRecentlyUsed() throws IOException {
+        String hash1 = put("model1", 40);
+        String hash2 = put("model2", 40);
+        // the first model was used after the second one
+        rootPath.resolve(hash2 + ".zip").toFile().setLastModified(System.currentTimeMillis() - 60_000);
+        String hash3 = put("model3", 40);
+
+        assertTrue(cache.get(hash1, deployPath.resolve("model1.zip").toFile()));
+        assertFalse(cache.get(hash2, deployPath.resolve("model2.zip").toFile()));
+        assertTrue(cache.get(hash3, deployPath.resolve("model3.zip").toFile()));
+        assertEquals(80, cache.getSizeInBytes());
+    }
+
+    public void testEvictTempFiles() throws IOException {
+        String hash1 = put("model1", 40);
+        // a temp file left by a node crash, and one being written by a put
+        Path expiredTempFile = rootPath.resolve("model2.tmp");
+        Files.write(expiredTempFile, content("model2", 50));
+        expiredTempFile.toFile().setLastModified(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(2));
+        Path tempFile = rootPath.resolve("model3.tmp");
+        Files.write(tempFile, content("model3", 50));
+        String hash4 = put("model4", 40);
+
+        assertFalse(Files.exists(expiredTempFile));
+        assertTrue(Files.exists(tempFile));
+        assertTrue(cache.get(hash1, deployPath.resolve("model1.zip").toFile()));
+        assertTrue(cache.get(hash4, deployPath.resolve("model4.zip").toFile()));
+        assertEquals(130, cache.getSizeInBytes());
+    }
+
+    public void testPut_TooLarge() throws IOException {
+        put("model1", 101);
+        assertEquals(0, cache.getSizeInBytes());
+    }
+
+    public void testPut_DiskCircuitBreakerOpen() throws IOException {
+        String hash1 = put("model1", 10);
+        when(diskCircuitBreaker.isOpen()).thenReturn(true, true, false);
+        String hash2 = put("model2", 10);
+
+        // nothing is cached and cached files are removed until the breaker is closed
+        assertFalse(cache.get(hash1, deployPath.resolve("model1.zip").toFile()));
+        assertFalse(cache.get(hash2, deployPath.resolve("model2.zip").toFile()));
+    }
+
+    public void testDisabled() throws IOException {
+        String hash1 = put("model1", 10);
+        cache.setMaxSizeInBytes(0);
+        assertFalse(cache.get(hash1, deployPath.resolve("model1.zip").toFile()));
+        put("model2", 10);
+        assertEquals(10, cache.getSizeInBytes());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    private String put(String name, int size) throws IOException {
+        File file = modelFile(name, size);
+        String hash = calculateFileHash(file);
+        cache.put(hash, file);
+        return hash;
+    }
+
+    private File modelFile(String name, int size) throws IOException {
+        Path path = sourcePath.resolve(name + ".zip");
+        Files.createDirectories(sourcePath);
+        Files.write(path, content(name, size));
+        return path.toFile();
+    }
+
+    private static byte[] content(String name, int size) {
+        return (name + "0123456789".repeat(size / 10 + 1)).substring(0, size).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.opensearch.Version;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkAction;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodeResponse;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodeResponse.ArtifactState;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodesRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodesResponse;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+public class MLModelArtifactDistributorTests extends OpenSearchTestCase {
+
+    private static final int CHUNK_SIZE = 4;
+    private static final byte[] CONTENT = "model zip content".getBytes(StandardCharsets.UTF_8);
+
+    private String hash;
+    private long now;
+    private int scheduledPolls;
+    private Runnable onPoll;
+    private boolean nodeFailure;
+    private Path tempDir;
+    private DiscoveryNode sourceNode;
+    private ThreadPool threadPool;
+    private MLModelArtifactCache sourceCache;
+    private MLModelArtifactDistributor sourceDistributor;
+    private MLModelArtifactDistributor distributor;
+    private File target;
+    private List<File> fetched;
+    private List<Exception> failures;
+
+    @Before
+    public void setup() throws Exception {
+        hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(CONTENT));
+        now = 0;
+        scheduledPolls = 0;
+        onPoll = () -> {};
+        nodeFailure = false;
+        tempDir = createTempDir();
+        sourceNode = new DiscoveryNode(
+            "node1",
+            buildNewFakeTransportAddress(),
+            Map.of(),
+            Set.of(DiscoveryNodeRole.DATA_ROLE),
+            Version.CURRENT
+        );
+
+        threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(DEPLOY_THREAD_POOL)).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        when(threadPool.relativeTimeInNanos()).thenAnswer(invocation -> now);
+        doAnswer(invocation -> {
+            TimeValue delay = invocation.getArgument(1);
+            now += delay.nanos();
+            scheduledPolls++;
+            onPoll.run();
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(threadPool).schedule(any(Runnable.class), any(TimeValue.class), anyString());
+
+        // the client sends the chunk requests to the source distributor
+        Client client = mock(Client.class);
+        doAnswer(invocation -> {
+            MLModelArtifactChunkNodesRequest request = invocation.getArgument(1);
+            ActionListener<MLModelArtifactChunkNodesResponse> listener = invocation.getArgument(2);
+            assertArrayEquals(new String[] { "node1" }, request.nodesIds());
+            if (nodeFailure) {
+                listener
+                    .onResponse(
+                        new MLModelArtifactChunkNodesResponse(
+                            new ClusterName("test"),
+                            List.of(),
+                            List.of(new FailedNodeException("node1", "node left", new RuntimeException()))
+                        )
+                    );
+                return null;
+            }
+            MLModelArtifactChunkNodeResponse response = sourceDistributor
+                .readChunk(sourceNode, request.getModelContentHash(), request.getOffset(), request.getLength());
+            listener.onResponse(new MLModelArtifactChunkNodesResponse(new ClusterName("test"), List.of(response), List.of()));
+            return null;
+        }).when(client).execute(eq(MLModelArtifactChunkAction.INSTANCE), any(), any());
+
+        sourceCache = new MLModelArtifactCache(tempDir.resolve("source"), null, 1000);
+        sourceDistributor = new MLModelArtifactDistributor(null, threadPool, sourceCache, CHUNK_SIZE, true, TimeValue.timeValueMinutes(5));
+        MLModelArtifactCache cache = new MLModelArtifactCache(tempDir.resolve("local"), null, 1000);
+        distributor = new MLModelArtifactDistributor(client, threadPool, cache, CHUNK_SIZE, true, TimeValue.timeValueMinutes(5));
+        target = tempDir.resolve("deploy").resolve("model.zip").toFile();
+        fetched = new ArrayList<>();
+        failures = new ArrayList<>();
+    }
+
+    public void testGetSourceNode() {
+        List<String> workerNodes = List.of("node3", "node1", "node2", "node4", "node5", "node1");
+        assertNull(distributor.getSourceNode(workerNodes, "node1"));
+        assertEquals("node1", distributor.getSourceNode(workerNodes, "node2"));
+        assertEquals("node1", distributor.getSourceNode(workerNodes, "node3"));
+        assertEquals("node2", distributor.getSourceNode(workerNodes, "node4"));
+        assertEquals("node2", distributor.getSourceNode(workerNodes, "node5"));
+        assertNull(distributor.getSourceNode(workerNodes, "node6"));
+        assertNull(distributor.getSourceNode(null, "node1"));
+    }
+
+    public void testReadChunk() throws Exception {
+        assertEquals(ArtifactState.MISSING, sourceDistributor.readChunk(sourceNode, hash, 0, CHUNK_SIZE).getState());
+        sourceDistributor.onAssemblyStarted(hash);
+        assertEquals(ArtifactState.PENDING, sourceDistributor.readChunk(sourceNode, hash, 0, CHUNK_SIZE).getState());
+        sourceDistributor.onAssemblyCompleted(hash, false);
+        assertEquals(ArtifactState.FAILED, sourceDistributor.readChunk(sourceNode, hash, 0, CHUNK_SIZE).getState());
+
+        cacheSourceArtifact();
+        // the length is capped to the chunk size
+        MLModelArtifactChunkNodeResponse response = sourceDistributor.readChunk(sourceNode, hash, 16, 100);
+        assertEquals(ArtifactState.READY, response.getState());
+        assertEquals(CONTENT.length, response.getTotalSize());
+        assertEquals("t", response.getContent().utf8ToString());
+        assertEquals("zip ", sourceDistributor.readChunk(sourceNode, hash, 6, 100).getContent().utf8ToString());
+    }
+
+    public void testFetch() throws Exception {
+        cacheSourceArtifact();
+        fetch();
+
+        assertEquals(List.of(target), fetched);
+        assertTrue(failures.isEmpty());
+        assertArrayEquals(CONTENT, Files.readAllBytes(target.toPath()));
+        assertEquals(0, scheduledPolls);
+        assertEquals(1, distributor.getPeerFetchCount());
+    }
+
+    public void testFetch_WaitForPendingSource() {
+        sourceDistributor.onAssemblyStarted(hash);
+        onPoll = () -> {
+            if (scheduledPolls == 3) {
+                cacheSourceArtifact();
+            }
+        };
+        fetch();
+
+        assertEquals(List.of(target), fetched);
+        assertEquals(3, scheduledPolls);
+    }
+
+    public void testFetch_SourceMissing() {
+        fetch();
+
+        assertTrue(fetched.isEmpty());
+        assertEquals(1, failures.size());
+        assertEquals("Model file is MISSING on node node1", failures.get(0).getMessage());
+        // polled until the grace period
+        assertEquals(MLModelArtifactDistributor.MISSING_GRACE_PERIOD.seconds(), scheduledPolls);
+        assertEquals(1, distributor.getPeerFetchFailureCount());
+    }
+
+    public void testFetch_SourceFailed() {
+        sourceDistributor.onAssemblyStarted(hash);
+        sourceDistributor.onAssemblyCompleted(hash, false);
+        fetch();
+
+        assertEquals(1, failures.size());
+        assertEquals("Model file is FAILED on node node1", failures.get(0).getMessage());
+        assertEquals(0, scheduledPolls);
+    }
+
+    public void testFetch_PendingSourceTimeout() {
+        distributor.setWaitTimeout(TimeValue.timeValueSeconds(60));
+        sourceDistributor.onAssemblyStarted(hash);
+        fetch();
+
+        assertEquals("Model file is PENDING on node node1", failures.get(0).getMessage());
+        assertEquals(60, scheduledPolls);
+    }
+
+    public void testFetch_HashMismatch() throws Exception {
+        File file = tempDir.resolve("other.zip").toFile();
+        Files.write(file.toPath(), "other content".getBytes(StandardCharsets.UTF_8));
+        sourceCache.put(hash, file);
+        fetch();
+
+        assertTrue(fetched.isEmpty());
+        assertEquals("Model file fetched from node node1 doesn't match hash", failures.get(0).getMessage());
+        assertFalse(target.exists());
+    }
+
+    public void testFetch_NodeFailure() {
+        nodeFailure = true;
+        fetch();
+
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof FailedNodeException);
+        assertFalse(target.exists());
+    }
+
+    private void fetch() {
+        distributor.fetch("node1", hash, target, 2, ActionListener.wrap(fetched::add, failures::add));
+    }
+
+    private void cacheSourceArtifact() {
+        try {
+            File file = tempDir.resolve("model.zip").toFile();
+            Files.write(file.toPath(), CONTENT);
+            assertTrue(sourceCache.put(hash, file));
+            sourceDistributor.onAssemblyCompleted(hash, true);
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+}
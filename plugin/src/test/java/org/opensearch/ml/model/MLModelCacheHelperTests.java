@@ -175,6 +175,30 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertNull(cacheHelper.getUserRateLimiterMap(modelId));
     }
 
+    public void testRecentInferenceLatency() {
+        assertEquals(0, cacheHelper.getRecentInferenceLatency());
+        cacheHelper.addModelInferenceDuration(modelId, 100);
+        assertEquals(100, cacheHelper.getRecentInferenceLatency());
+        cacheHelper.addModelInferenceDuration(modelId, 200);
+        assertEquals(120, cacheHelper.getRecentInferenceLatency());
+    }
+
+    public void testModelInterfaceSchema() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.REMOTE, targetWorkerNodes, true);
+        assertNull(cacheHelper.getModelInterfaceSchema(modelId, "output"));
+        Map<String, String> modelInterface = new HashMap<>();
+        modelInterface.put("input", "{\"type\": ");
+        modelInterface.put("output", "{\"type\": \"object\"}");
+        cacheHelper.setModelInterface(modelId, modelInterface);
+        assertEquals(modelInterface, cacheHelper.getModelInterface(modelId));
+        assertNotNull(cacheHelper.getModelInterfaceSchema(modelId, "output"));
+        // invalid schemas are not compiled
+        assertNull(cacheHelper.getModelInterfaceSchema(modelId, "input"));
+        cacheHelper.removeModelInterface(modelId);
+        assertNull(cacheHelper.getModelInterfaceSchema(modelId, "output"));
+        assertNull(cacheHelper.getModelInterfaceSchema("wrong_model_id", "output"));
+    }
+
     public void testGetAndRemoveModel() {
         assertFalse(cacheHelper.isModelRunningOnNode(modelId));
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLModelChunkFetcherTests extends OpenSearchTestCase {
+
+    private File file;
+    // listeners of the chunks being fetched
+    private Map<Integer, ActionListener<byte[]>> pendingChunks;
+    private int maxPendingChunks;
+    private AtomicReference<String> hash;
+    private List<Exception> failures;
+
+    @Before
+    public void setup() {
+        file = createTempDir().resolve("model").resolve("model.zip").toFile();
+        pendingChunks = new HashMap<>();
+        maxPendingChunks = 0;
+        hash = new AtomicReference<>();
+        failures = new ArrayList<>();
+    }
+
+    public void testFetch_OutOfOrder() throws Exception {
+        MLModelChunkFetcher fetcher = createFetcher(5, 2);
+        fetcher.fetch();
+        assertEquals(List.of(0, 1), new ArrayList<>(pendingChunks.keySet()));
+
+        // chunk 1 is kept until chunk 0 is fetched, chunk 2 isn't fetched yet
+        pendingChunks.remove(1).onResponse(chunk(1));
+        assertEquals(List.of(0), new ArrayList<>(pendingChunks.keySet()));
+        pendingChunks.remove(0).onResponse(chunk(0));
+        assertEquals(List.of(2, 3), new ArrayList<>(pendingChunks.keySet()));
+        pendingChunks.remove(3).onResponse(chunk(3));
+        pendingChunks.remove(2).onResponse(chunk(2));
+        assertNull(hash.get());
+        pendingChunks.remove(4).onResponse(chunk(4));
+
+        byte[] expected = content(5);
+        assertArrayEquals(expected, Files.readAllBytes(file.toPath()));
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(expected)), hash.get());
+        assertEquals(2, maxPendingChunks);
+        assertTrue(failures.isEmpty());
+    }
+
+    public void testFetch_Sequential() throws Exception {
+        MLModelChunkFetcher fetcher = createFetcher(3, 1);
+        fetcher.fetch();
+        for (int i = 0; i < 3; i++) {
+            pendingChunks.remove(i).onResponse(chunk(i));
+        }
+        assertArrayEquals(content(3), Files.readAllBytes(file.toPath()));
+        assertNotNull(hash.get());
+        assertEquals(1, maxPendingChunks);
+    }
+
+    public void testFetch_NoChunks() throws Exception {
+        createFetcher(0, 4).fetch();
+        assertTrue(file.exists());
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(new byte[0])), hash.get());
+        assertTrue(pendingChunks.isEmpty());
+    }
+
+    public void testFetch_Failure() {
+        MLModelChunkFetcher fetcher = createFetcher(4, 3);
+        fetcher.fetch();
+        pendingChunks.remove(0).onResponse(chunk(0));
+        pendingChunks.remove(2).onFailure(new RuntimeException("chunk not found"));
+        // responses and failures after the failure are ignored
+        pendingChunks.remove(1).onResponse(chunk(1));
+        pendingChunks.remove(3).onFailure(new RuntimeException("chunk not found"));
+
+        assertEquals(1, failures.size());
+        assertEquals("chunk not found", failures.get(0).getMessage());
+        assertNull(hash.get());
+        assertFalse(file.exists());
+        assertTrue(pendingChunks.isEmpty());
+    }
+
+    public void testFetch_LoaderException() {
+        MLModelChunkFetcher fetcher = new MLModelChunkFetcher(
+            2,
+            2,
+            file,
+            (chunk, listener) -> { throw new IllegalStateException("no thread"); },
+            ActionListener.wrap(hash::set, failures::add)
+        );
+        fetcher.fetch();
+
+        assertEquals(1, failures.size());
+        assertFalse(file.exists());
+    }
+
+    private MLModelChunkFetcher createFetcher(int totalChunks, int parallelism) {
+        return new MLModelChunkFetcher(totalChunks, parallelism, file, (chunk, listener) -> {
+            pendingChunks.put(chunk, listener);
+            maxPendingChunks = Math.max(maxPendingChunks, pendingChunks.size());
+        }, ActionListener.wrap(hash::set, failures::add));
+    }
+
+    // chunks of different sizes
+    private static byte[] chunk(int chunk) {
+        return ("chunk" + chunk + "-".repeat(chunk * 3)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] content(int totalChunks) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (int i = 0; i < totalChunks; i++) {
+            output.writeBytes(chunk(i));
+        }
+        return output.toByteArray();
+    }
+}
@@ -205,6 +205,10 @@ public class MLModelManagerTests extends OpenSearchTestCase {
     ClusterApplierService clusterApplierService;
     @Mock
     MLFeatureEnabledSetting mlFeatureEnabledSetting;
+    @Mock
+    MLModelArtifactCache modelArtifactCache;
+    @Mock
+    MLModelArtifactDistributor modelArtifactDistributor;
 
     @Before
     public void setup() throws URISyntaxException {
@@ -304,7 +308,9 @@ public class MLModelManagerTests extends OpenSearchTestCase {
                 modelCacheHelper,
                 mlEngine,
                 nodeHelper,
-                mlFeatureEnabledSetting
+                mlFeatureEnabledSetting,
+                modelArtifactCache,
+                modelArtifactDistributor
             )
         );
 
@@ -820,6 +826,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
         verify(listener).onFailure(exception.capture());
         assertEquals("model content changed", exception.getValue().getMessage());
+        verify(modelArtifactCache, never()).put(any(), any());
         verify(mlStats)
             .createCounterStatIfAbsent(
                 eq(FunctionName.TEXT_EMBEDDING),
@@ -870,6 +877,9 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
         verify(listener).onFailure(exception.capture());
         assertEquals("Failed to deploy model " + modelId, exception.getValue().getMessage());
+        // the retrieved model content matches the hash, so it's cached
+        verify(modelArtifactCache).get(eq(modelContentHashValue), any());
+        verify(modelArtifactCache).put(eq(modelContentHashValue), any());
         verify(mlStats)
             .createCounterStatIfAbsent(
                 eq(FunctionName.TEXT_EMBEDDING),
@@ -878,6 +888,46 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             );
     }
 
+    public void testDeployModel_ModelContentCached() {
+        MLModelConfig modelConfig = TextEmbeddingModelConfig
+            .builder()
+            .modelType("bert")
+            .frameworkType(TextEmbeddingModelConfig.FrameworkType.SENTENCE_TRANSFORMERS)
+            .embeddingDimension(384)
+            .build();
+        model = MLModel
+            .builder()
+            .modelId(modelId)
+            .modelState(MLModelState.DEPLOYING)
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .name(modelName)
+            .version(version)
+            .totalChunks(2)
+            .modelFormat(MLModelFormat.TORCH_SCRIPT)
+            .modelConfig(modelConfig)
+            .modelContentHash(modelContentHashValue)
+            .modelContentSizeInBytes(modelContentSize)
+            .build();
+        String[] nodes = new String[] { "node1", "node2" };
+        mlTask.setWorkerNodes(List.of(nodes));
+        ActionListener<String> listener = mock(ActionListener.class);
+        when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(false);
+        when(modelCacheHelper.getDeployedModels()).thenReturn(new String[] {});
+        when(modelCacheHelper.getLocalDeployedModels()).thenReturn(new String[] {});
+        when(modelArtifactCache.get(eq(modelContentHashValue), any())).thenReturn(true);
+        mock_client_ThreadContext(client, threadPool, threadContext);
+        mock_threadpool(threadPool, taskExecutorService);
+        setUpMock_GetModel(model);
+        modelManager.deployModel(modelId, modelContentHashValue, FunctionName.TEXT_EMBEDDING, true, false, mlTask, listener);
+
+        // only the model meta is retrieved, the mocked cache doesn't copy a real model zip so the deployment fails
+        verify(modelManager, times(1)).getModel(any(), any());
+        verify(modelArtifactCache, never()).put(any(), any());
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exception.capture());
+        assertEquals("Failed to deploy model " + modelId, exception.getValue().getMessage());
+    }
+
     public void testDeployModel_ModelAlreadyDeployed() {
         when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(true);
         ActionListener<String> listener = mock(ActionListener.class);
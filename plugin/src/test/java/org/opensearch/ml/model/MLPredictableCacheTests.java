@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_PREDICTABLE_CACHE_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_PREDICTABLE_CACHE_SIZE;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import org.junit.Before;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
+import org.opensearch.ml.engine.Predictable;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLPredictableCacheTests extends OpenSearchTestCase {
+
+    private ClusterSettings clusterSettings;
+    private MLPredictableCache predictableCache;
+    private Predictable predictable;
+    private KMeansParams params;
+
+    @Before
+    public void setup() {
+        Settings settings = Settings.builder().put(ML_COMMONS_PREDICTABLE_CACHE_SIZE.getKey(), "1kb").build();
+        clusterSettings = clusterSetting(settings, ML_COMMONS_PREDICTABLE_CACHE_ENABLED, ML_COMMONS_PREDICTABLE_CACHE_SIZE);
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        predictableCache = new MLPredictableCache(clusterService, settings);
+        predictable = mock(Predictable.class);
+        params = KMeansParams.builder().centroids(2).build();
+    }
+
+    public void testIsCacheable() {
+        assertTrue(predictableCache.isCacheable(FunctionName.KMEANS));
+        assertTrue(predictableCache.isCacheable(FunctionName.BATCH_RCF));
+        assertFalse(predictableCache.isCacheable(FunctionName.FIT_RCF));
+        assertFalse(predictableCache.isCacheable(FunctionName.TEXT_EMBEDDING));
+        assertFalse(predictableCache.isCacheable(FunctionName.REMOTE));
+    }
+
+    public void testGet_Hit() {
+        predictableCache.put("modelId", 1, 1, params, predictable, "content");
+        assertSame(predictable, predictableCache.get("modelId", 1, 1, KMeansParams.builder().centroids(2).build()));
+        assertEquals(1, predictableCache.getHitCount());
+        assertEquals(0, predictableCache.getMissCount());
+        assertEquals(1, predictableCache.count());
+        assertTrue(predictableCache.getMemorySizeInBytes() > 0);
+    }
+
+    public void testGet_Miss() {
+        assertNull(predictableCache.get("modelId", 1, 1, params));
+        predictableCache.put("modelId", 1, 1, params, predictable, "content");
+        // model document changed
+        assertNull(predictableCache.get("modelId", 2, 1, params));
+        assertNull(predictableCache.get("modelId", 1, 2, params));
+        // different algorithm parameters
+        assertNull(predictableCache.get("modelId", 1, 1, KMeansParams.builder().centroids(3).build()));
+        assertEquals(0, predictableCache.getHitCount());
+        assertEquals(4, predictableCache.getMissCount());
+    }
+
+    public void testPut_UnassignedSeqNo() {
+        predictableCache.put("modelId", SequenceNumbers.UNASSIGNED_SEQ_NO, 1, params, predictable, "content");
+        assertEquals(0, predictableCache.count());
+    }
+
+    public void testPut_ExceedMaxSize() {
+        predictableCache.put("modelId1", 1, 1, params, predictable, randomAlphaOfLength(900));
+        predictableCache.put("modelId2", 1, 1, params, predictable, randomAlphaOfLength(900));
+        // the least recently used model is evicted
+        assertNull(predictableCache.get("modelId1", 1, 1, params));
+        assertNotNull(predictableCache.get("modelId2", 1, 1, params));
+        assertEquals(1, predictableCache.count());
+    }
+
+    public void testInvalidate() {
+        predictableCache.put("modelId", 1, 1, params, predictable, "content");
+        predictableCache.invalidate("modelId");
+        assertNull(predictableCache.get("modelId", 1, 1, params));
+        assertEquals(0, predictableCache.count());
+    }
+
+    public void testDisable() {
+        predictableCache.put("modelId", 1, 1, params, predictable, "content");
+        clusterSettings.applySettings(Settings.builder().put(ML_COMMONS_PREDICTABLE_CACHE_ENABLED.getKey(), false).build());
+        assertFalse(predictableCache.isCacheable(FunctionName.KMEANS));
+        assertEquals(0, predictableCache.count());
+        predictableCache.put("modelId", 1, 1, params, predictable, "content");
+        assertNull(predictableCache.get("modelId", 1, 1, params));
+    }
+}
@@ -4,9 +4,11 @@
  */
 package org.opensearch.ml.processor;
 
+import static org.opensearch.ingest.AbstractBatchingProcessor.BATCH_SIZE_FIELD;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.*;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.FULL_RESPONSE_PATH;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.FUNCTION_NAME;
+import static org.opensearch.ml.processor.MLInferenceIngestProcessor.MERGE_REMOTE_INPUTS;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.MODEL_INPUT;
 
 import java.util.ArrayList;
@@ -230,4 +232,37 @@ public class MLInferenceIngestProcessorFactoryTests extends OpenSearchTestCase {
             assertEquals(e.getMessage(), ("Please provide model input when using a local model in ML Inference Processor"));
         }
     }
+
+    public void testCreateWithBatchSize() throws Exception {
+        Map<String, Processor.Factory> registry = new HashMap<>();
+        Map<String, Object> config = new HashMap<>();
+        config.put(MODEL_ID, "model1");
+        config.put(BATCH_SIZE_FIELD, 10);
+        MLInferenceIngestProcessor mLInferenceIngestProcessor = factory.create(registry, randomAlphaOfLength(10), null, config);
+        assertNotNull(mLInferenceIngestProcessor);
+        assertFalse(config.containsKey(BATCH_SIZE_FIELD));
+    }
+
+    public void testCreateWithMergeRemoteInputs() throws Exception {
+        Map<String, Processor.Factory> registry = new HashMap<>();
+        Map<String, Object> config = new HashMap<>();
+        config.put(MODEL_ID, "model1");
+        config.put(BATCH_SIZE_FIELD, 10);
+        config.put(MERGE_REMOTE_INPUTS, true);
+        MLInferenceIngestProcessor mLInferenceIngestProcessor = factory.create(registry, randomAlphaOfLength(10), null, config);
+        assertNotNull(mLInferenceIngestProcessor);
+        assertFalse(config.containsKey(MERGE_REMOTE_INPUTS));
+    }
+
+    public void testCreateWithInvalidBatchSize() {
+        Map<String, Processor.Factory> registry = new HashMap<>();
+        Map<String, Object> config = new HashMap<>();
+        config.put(MODEL_ID, "model1");
+        config.put(BATCH_SIZE_FIELD, 0);
+        IllegalArgumentException e = assertThrows(
+            IllegalArgumentException.class,
+            () -> factory.create(registry, randomAlphaOfLength(10), null, config)
+        );
+        assertEquals("batch_size must be a positive integer", e.getMessage());
+    }
 }
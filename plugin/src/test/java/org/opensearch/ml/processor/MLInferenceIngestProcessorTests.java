@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -27,12 +28,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
@@ -2152,4 +2158,390 @@ public class MLInferenceIngestProcessorTests extends OpenSearchTestCase {
         inputMap.add(input);
         return inputMap;
     }
+
+    public void testBatchExecute_localModelMergesTextDocs() {
+        MLInferenceIngestProcessor processor = createTextEmbeddingBatchProcessor(3);
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(embeddingOutput(request, false)).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        List<IngestDocumentWrapper> wrappers = createTitleDocuments("first book", "second book", "third book");
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(wrappers, batchHandler);
+
+        ArgumentCaptor<MLPredictionTaskRequest> argCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(1)).execute(eq(MLPredictionTaskAction.INSTANCE), argCaptor.capture(), any());
+        TextDocsInputDataSet textDocs = (TextDocsInputDataSet) argCaptor.getValue().getMlInput().getInputDataset();
+        assertEquals(List.of("first book", "second book", "third book"), textDocs.getDocs());
+        verify(batchHandler).accept(wrappers);
+        for (int i = 0; i < wrappers.size(); i++) {
+            assertNull(wrappers.get(i).getException());
+            assertEquals(List.of((double) i), wrappers.get(i).getIngestDocument().getFieldValue("title_embedding", List.class));
+        }
+    }
+
+    public void testBatchExecute_remoteBatchOutputScatteredByTensor() {
+        MLInferenceIngestProcessor processor = createTextEmbeddingBatchProcessor(2);
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(embeddingOutput(request, true)).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        List<IngestDocumentWrapper> wrappers = createTitleDocuments("first book", "second book", "third book");
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(wrappers, batchHandler);
+
+        // batch size 2 cuts the documents into two batches
+        verify(client, times(2)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        verify(batchHandler).accept(wrappers);
+        assertEquals(List.of(0.0), wrappers.get(0).getIngestDocument().getFieldValue("title_embedding", List.class));
+        assertEquals(List.of(1.0), wrappers.get(1).getIngestDocument().getFieldValue("title_embedding", List.class));
+        assertEquals(List.of(0.0), wrappers.get(2).getIngestDocument().getFieldValue("title_embedding", List.class));
+    }
+
+    public void testBatchExecute_mergedPredictionFailureIsolatesDocuments() {
+        MLInferenceIngestProcessor processor = createTextEmbeddingBatchProcessor(3);
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            List<String> docs = ((TextDocsInputDataSet) request.getMlInput().getInputDataset()).getDocs();
+            if (docs.contains("bad book")) {
+                actionListener.onFailure(new OpenSearchStatusException("bad input", RestStatus.BAD_REQUEST));
+            } else {
+                actionListener.onResponse(MLTaskResponse.builder().output(embeddingOutput(request, false)).build());
+            }
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        List<IngestDocumentWrapper> wrappers = createTitleDocuments("first book", "bad book", "third book");
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(wrappers, batchHandler);
+
+        // the model rejected the merged input, so each document is predicted on its own
+        verify(client, times(4)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        verify(batchHandler).accept(wrappers);
+        assertEquals(List.of(0.0), wrappers.get(0).getIngestDocument().getFieldValue("title_embedding", List.class));
+        assertNull(wrappers.get(1).getIngestDocument());
+        assertEquals("bad input", wrappers.get(1).getException().getMessage());
+        assertEquals(List.of(0.0), wrappers.get(2).getIngestDocument().getFieldValue("title_embedding", List.class));
+    }
+
+    public void testBatchExecute_remoteModelPredictsEachDocument() {
+        List<Map<String, String>> inputMap = List.of(Map.of("inputs", "title"));
+        List<Map<String, String>> outputMap = List.of(Map.of("title_embedding", "response"));
+        MLInferenceIngestProcessor processor = new MLInferenceIngestProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            null,
+            RANDOM_MULTIPLIER,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "remote",
+            false,
+            false,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            scriptService,
+            client,
+            xContentRegistry,
+            3,
+            false
+        );
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", Arrays.asList(1, 2))).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        List<IngestDocumentWrapper> wrappers = createTitleDocuments("first book", "second book", "third book");
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(wrappers, batchHandler);
+
+        verify(client, times(3)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        verify(batchHandler).accept(wrappers);
+        for (IngestDocumentWrapper wrapper : wrappers) {
+            assertEquals(Arrays.asList(1, 2), wrapper.getIngestDocument().getFieldValue("title_embedding", List.class));
+        }
+    }
+
+    public void testSplitMergedOutput() {
+        ModelTensors tensors = ModelTensors
+            .builder()
+            .mlModelTensors(List.of(embeddingTensor(0), embeddingTensor(1), embeddingTensor(2)))
+            .build();
+        List<MLOutput> outputs = MLInferenceIngestProcessor.splitMergedOutput(new ModelTensorOutput(List.of(tensors)), new int[] { 2, 1 });
+        assertEquals(2, outputs.size());
+        assertEquals(2, ((ModelTensorOutput) outputs.get(0)).getMlModelOutputs().get(0).getMlModelTensors().size());
+        assertEquals(1, ((ModelTensorOutput) outputs.get(1)).getMlModelOutputs().get(0).getMlModelTensors().size());
+
+        // a connector which split the text docs in chunks returns one model tensors per chunk
+        ModelTensor first = embeddingTensor(0);
+        ModelTensor second = embeddingTensor(1);
+        ModelTensor third = embeddingTensor(2);
+        ModelTensors firstChunk = ModelTensors.builder().mlModelTensors(List.of(first, second)).build();
+        ModelTensors secondChunk = ModelTensors.builder().mlModelTensors(List.of(third)).build();
+        outputs = MLInferenceIngestProcessor.splitMergedOutput(new ModelTensorOutput(List.of(firstChunk, secondChunk)), new int[] { 1, 2 });
+        assertEquals(2, outputs.size());
+        assertEquals(List.of(first), ((ModelTensorOutput) outputs.get(0)).getMlModelOutputs().get(0).getMlModelTensors());
+        assertEquals(List.of(second, third), ((ModelTensorOutput) outputs.get(1)).getMlModelOutputs().get(0).getMlModelTensors());
+
+        // one tensor for all the text docs can't be matched to the documents
+        ModelTensors single = ModelTensors.builder().mlModelTensors(List.of(embeddingTensor(0))).build();
+        assertNull(MLInferenceIngestProcessor.splitMergedOutput(new ModelTensorOutput(List.of(single)), new int[] { 1, 1 }));
+    }
+
+    public void testBatchExecute_stepSizeConnectorOutputScatteredByTensor() {
+        MLInferenceIngestProcessor processor = createTextEmbeddingBatchProcessor(5);
+        // a connector with input_docs_processed_step_size 2 returns one model tensors per chunk of 2 text docs
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            int docs = ((TextDocsInputDataSet) request.getMlInput().getInputDataset()).getDocs().size();
+            List<ModelTensors> chunks = new ArrayList<>();
+            for (int start = 0; start < docs; start += 2) {
+                List<ModelTensor> tensors = new ArrayList<>();
+                for (int i = start; i < Math.min(start + 2, docs); i++) {
+                    tensors.add(embeddingTensor(i));
+                }
+                chunks.add(ModelTensors.builder().mlModelTensors(tensors).build());
+            }
+            actionListener.onResponse(MLTaskResponse.builder().output(new ModelTensorOutput(chunks)).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        List<IngestDocumentWrapper> wrappers = createTitleDocuments("first", "second", "third", "fourth", "fifth");
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(wrappers, batchHandler);
+
+        verify(client, times(1)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        verify(batchHandler).accept(wrappers);
+        for (int i = 0; i < wrappers.size(); i++) {
+            assertNull(wrappers.get(i).getException());
+            assertEquals(List.of((double) i), wrappers.get(i).getIngestDocument().getFieldValue("title_embedding", List.class));
+        }
+    }
+
+    public void testBatchExecute_mergedPredictionThrottledFailsAllDocuments() {
+        MLInferenceIngestProcessor processor = createTextEmbeddingBatchProcessor(3);
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(new OpenSearchStatusException("throttled", RestStatus.TOO_MANY_REQUESTS));
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        List<IngestDocumentWrapper> wrappers = createTitleDocuments("first book", "second book", "third book");
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(wrappers, batchHandler);
+
+        // the documents are not predicted one by one on an overloaded model
+        verify(client, times(1)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        verify(batchHandler).accept(wrappers);
+        for (IngestDocumentWrapper wrapper : wrappers) {
+            assertNull(wrapper.getIngestDocument());
+            assertEquals("throttled", wrapper.getException().getMessage());
+        }
+    }
+
+    public void testBatchExecute_remoteModelMergesBatchableParameter() {
+        MLInferenceIngestProcessor processor = createRemoteBatchProcessor("input", true);
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            String inputs = ((RemoteInferenceInputDataSet) request.getMlInput().getInputDataset()).getParameters().get("input");
+            List<?> texts = JsonPath.parse(inputs).read("$", List.class);
+            List<ModelTensor> tensors = new ArrayList<>();
+            for (int i = 0; i < texts.size(); i++) {
+                tensors.add(ModelTensor.builder().dataAsMap(ImmutableMap.of("response", List.of(i))).build());
+            }
+            ModelTensorOutput output = new ModelTensorOutput(List.of(ModelTensors.builder().mlModelTensors(tensors).build()));
+            actionListener.onResponse(MLTaskResponse.builder().output(output).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        List<IngestDocumentWrapper> wrappers = createTitleDocuments("first book", "second book", "third book");
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(wrappers, batchHandler);
+
+        ArgumentCaptor<MLPredictionTaskRequest> argCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(1)).execute(eq(MLPredictionTaskAction.INSTANCE), argCaptor.capture(), any());
+        RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) argCaptor.getValue().getMlInput().getInputDataset();
+        assertEquals("[\"first book\",\"second book\",\"third book\"]", inputDataSet.getParameters().get("input"));
+        verify(batchHandler).accept(wrappers);
+        for (int i = 0; i < wrappers.size(); i++) {
+            assertEquals(List.of(i), wrappers.get(i).getIngestDocument().getFieldValue("title_embedding", List.class));
+        }
+    }
+
+    public void testBatchExecute_remoteModelStopsMergingUnsplittableOutput() {
+        MLInferenceIngestProcessor processor = createRemoteBatchProcessor("input", true);
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", Arrays.asList(1, 2))).build();
+        ModelTensorOutput output = new ModelTensorOutput(List.of(ModelTensors.builder().mlModelTensors(List.of(modelTensor)).build()));
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(output).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        processor.batchExecute(createTitleDocuments("first book", "second book", "third book"), mock(Consumer.class));
+        // the merged call, then one call per document
+        verify(client, times(4)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        List<IngestDocumentWrapper> wrappers = createTitleDocuments("first book", "second book", "third book");
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(wrappers, batchHandler);
+        // the next batch is predicted per document right away
+        verify(client, times(7)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        verify(batchHandler).accept(wrappers);
+        for (IngestDocumentWrapper wrapper : wrappers) {
+            assertEquals(Arrays.asList(1, 2), wrapper.getIngestDocument().getFieldValue("title_embedding", List.class));
+        }
+    }
+
+    public void testBatchExecute_remoteModelRetriesMergingAfterPause() {
+        MLInferenceIngestProcessor processor = createRemoteBatchProcessor("input", true);
+        long[] now = new long[] { 0 };
+        processor.setClock(() -> now[0]);
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", Arrays.asList(1, 2))).build();
+        ModelTensorOutput output = new ModelTensorOutput(List.of(ModelTensors.builder().mlModelTensors(List.of(modelTensor)).build()));
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(output).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        processor.batchExecute(createTitleDocuments("first book", "second book", "third book"), mock(Consumer.class));
+        verify(client, times(4)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        // once the pause is over, merging is tried again
+        now[0] += MLInferenceIngestProcessor.REMOTE_MERGE_RETRY_INTERVAL_MILLIS;
+        processor.batchExecute(createTitleDocuments("first book", "second book", "third book"), mock(Consumer.class));
+        verify(client, times(8)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+    }
+
+    public void testBatchExecute_remoteModelMergingNotEnabled() {
+        MLInferenceIngestProcessor processor = createRemoteBatchProcessor("input", false);
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", Arrays.asList(1, 2))).build();
+        ModelTensorOutput output = new ModelTensorOutput(List.of(ModelTensors.builder().mlModelTensors(List.of(modelTensor)).build()));
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(output).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        List<IngestDocumentWrapper> wrappers = createTitleDocuments("first book", "second book", "third book");
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(wrappers, batchHandler);
+
+        // the json array inputs of a remote model are only merged with merge_remote_inputs
+        verify(client, times(3)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        verify(batchHandler).accept(wrappers);
+        for (IngestDocumentWrapper wrapper : wrappers) {
+            assertEquals(Arrays.asList(1, 2), wrapper.getIngestDocument().getFieldValue("title_embedding", List.class));
+        }
+    }
+
+    public void testIsInputError() {
+        assertTrue(MLInferenceIngestProcessor.isInputError(new OpenSearchStatusException("bad", RestStatus.BAD_REQUEST)));
+        assertFalse(MLInferenceIngestProcessor.isInputError(new OpenSearchStatusException("throttled", RestStatus.TOO_MANY_REQUESTS)));
+        assertFalse(MLInferenceIngestProcessor.isInputError(new IllegalArgumentException("Model not ready yet")));
+    }
+
+    private MLInferenceIngestProcessor createRemoteBatchProcessor(String inputParameter, boolean mergeRemoteInputs) {
+        List<Map<String, String>> inputMap = List.of(Map.of(inputParameter, "title"));
+        List<Map<String, String>> outputMap = List.of(Map.of("title_embedding", "response"));
+        return new MLInferenceIngestProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            null,
+            RANDOM_MULTIPLIER,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "remote",
+            false,
+            false,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            scriptService,
+            client,
+            xContentRegistry,
+            3,
+            mergeRemoteInputs
+        );
+    }
+
+    private MLInferenceIngestProcessor createTextEmbeddingBatchProcessor(int batchSize) {
+        List<Map<String, String>> inputMap = List.of(Map.of("text_docs", "title"));
+        List<Map<String, String>> outputMap = List.of(Map.of("title_embedding", "$.inference_results[0].output[0].data"));
+        return new MLInferenceIngestProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            null,
+            RANDOM_MULTIPLIER,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "text_embedding",
+            true,
+            false,
+            false,
+            "{ \"text_docs\": ${ml_inference.text_docs} }",
+            scriptService,
+            client,
+            xContentRegistry,
+            batchSize,
+            false
+        );
+    }
+
+    private List<IngestDocumentWrapper> createTitleDocuments(String... titles) {
+        List<IngestDocumentWrapper> wrappers = new ArrayList<>();
+        for (int i = 0; i < titles.length; i++) {
+            Map<String, Object> sourceAndMetadata = new HashMap<>();
+            sourceAndMetadata.put("title", new ArrayList<>(List.of(titles[i])));
+            wrappers.add(new IngestDocumentWrapper(i, 0, new IngestDocument(sourceAndMetadata, new HashMap<>()), null));
+        }
+        return wrappers;
+    }
+
+    /**
+     * Embedding output of a text docs request, the embedding of each text doc is its position in the request.
+     */
+    private ModelTensorOutput embeddingOutput(MLPredictionTaskRequest request, boolean singleModelTensors) {
+        List<String> docs = ((TextDocsInputDataSet) request.getMlInput().getInputDataset()).getDocs();
+        List<ModelTensor> tensors = new ArrayList<>();
+        for (int i = 0; i < docs.size(); i++) {
+            tensors.add(embeddingTensor(i));
+        }
+        if (singleModelTensors) {
+            return new ModelTensorOutput(List.of(ModelTensors.builder().mlModelTensors(tensors).build()));
+        }
+        List<ModelTensors> modelTensors = new ArrayList<>();
+        for (ModelTensor tensor : tensors) {
+            modelTensors.add(ModelTensors.builder().mlModelTensors(List.of(tensor)).build());
+        }
+        return new ModelTensorOutput(modelTensors);
+    }
+
+    private ModelTensor embeddingTensor(int value) {
+        return ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .dataType(MLResultDataType.FLOAT32)
+            .shape(new long[] { 1 })
+            .data(new Number[] { (float) value })
+            .build();
+    }
 }
@@ -9,9 +9,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
@@ -21,20 +25,28 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.StreamingRestChannel;
 import org.opensearch.test.rest.FakeRestRequest;
 import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
@@ -138,6 +150,48 @@ public class RestMLPredictionStreamActionTests {
         assertNotNull(restAction.prepareRequest(request, client));
     }
 
+    @Test
+    public void testPrepareRequestWithModelNotInCache_GetsModelOnce() throws Exception {
+        when(mlFeatureEnabledSetting.isStreamEnabled()).thenReturn(true);
+        when(modelManager.getOptionalModelFunctionName("test-model")).thenReturn(Optional.empty());
+        MLModel mockModel = mock(MLModel.class);
+        when(mockModel.getAlgorithm()).thenReturn(FunctionName.REMOTE);
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(2);
+            listener.onResponse(mockModel);
+            return null;
+        }).when(modelManager).getModel(eq("test-model"), any(), any());
+
+        FakeRestRequest request = createFakeRestRequestWithValidContent("/_plugins/_ml/models/test-model/_predict/stream");
+        StreamingRestChannel channel = mock(StreamingRestChannel.class);
+        restAction.handleRequest(request, channel, client);
+
+        verify(modelManager, times(1)).getModel(eq("test-model"), any(), any());
+        verify(channel).prepareResponse(eq(RestStatus.OK), any());
+    }
+
+    @Test
+    public void testPrepareRequestWithModelNotFound() throws Exception {
+        when(mlFeatureEnabledSetting.isStreamEnabled()).thenReturn(true);
+        when(modelManager.getOptionalModelFunctionName("test-model")).thenReturn(Optional.empty());
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(2);
+            listener.onFailure(new IllegalArgumentException("Failed to find model"));
+            return null;
+        }).when(modelManager).getModel(eq("test-model"), any(), any());
+
+        FakeRestRequest request = createFakeRestRequestWithValidContent("/_plugins/_ml/models/test-model/_predict/stream");
+        StreamingRestChannel channel = mock(StreamingRestChannel.class);
+        when(channel.request()).thenReturn(request);
+        when(channel.newErrorBuilder()).thenReturn(XContentFactory.jsonBuilder());
+        restAction.handleRequest(request, channel, client);
+
+        ArgumentCaptor<BytesRestResponse> response = ArgumentCaptor.forClass(BytesRestResponse.class);
+        verify(channel).sendResponse(response.capture());
+        assertEquals(RestStatus.NOT_FOUND, response.getValue().status());
+        verify(channel, never()).prepareResponse(any(), any());
+    }
+
     @Test
     public void testGetRequestSuccessWithRemoteModel() throws IOException {
         when(mlFeatureEnabledSetting.isRemoteInferenceEnabled()).thenReturn(true);
@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats;
+
+import static org.opensearch.ml.common.CommonValue.VERSION_3_4_0;
+import static org.opensearch.ml.stats.MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT;
+import static org.opensearch.ml.stats.MLNodeLevelStat.ML_OPEN_STREAM_COUNT;
+import static org.opensearch.ml.stats.MLNodeLevelStat.ML_REQUEST_COUNT;
+
+import org.opensearch.Version;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLNodeLevelStatTests extends OpenSearchTestCase {
+
+    public void testIsSupportedBy() {
+        assertTrue(ML_REQUEST_COUNT.isSupportedBy(Version.V_2_19_0));
+        assertFalse(ML_OPEN_STREAM_COUNT.isSupportedBy(Version.V_3_3_0));
+        assertTrue(ML_OPEN_STREAM_COUNT.isSupportedBy(VERSION_3_4_0));
+    }
+
+    public void testIsSupportedBy_NewStatsNeedNewVersion() {
+        // stats appended after the circuit breaker stat are unknown to nodes older than 3.4.0
+        for (MLNodeLevelStat stat : MLNodeLevelStat.values()) {
+            assertEquals(stat.ordinal() <= ML_CIRCUIT_BREAKER_TRIGGER_COUNT.ordinal(), stat.isSupportedBy(Version.V_3_3_0));
+        }
+    }
+
+    public void testInvalidStat() {
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> MLNodeLevelStat.from("abc"));
+        assertEquals("Wrong ML node level stat", e.getMessage());
+    }
+}
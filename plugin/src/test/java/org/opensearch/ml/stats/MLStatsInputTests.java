@@ -11,8 +11,10 @@ import java.io.IOException;
 import java.util.EnumSet;
 
 import org.junit.Before;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.FunctionName;
@@ -51,6 +53,17 @@ public class MLStatsInputTests extends OpenSearchTestCase {
         verifyParsedMLStatsInput(parsedMLStatsInput);
     }
 
+    public void testSerializationDeserialization_OlderNodeSkipsNewStats() throws IOException {
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_3_3_0);
+        mlStatsInput.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_3_3_0);
+        MLStatsInput parsedMLStatsInput = new MLStatsInput(input);
+        assertTrue(parsedMLStatsInput.getNodeLevelStats().contains(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT));
+        assertFalse(parsedMLStatsInput.getNodeLevelStats().contains(MLNodeLevelStat.ML_OPEN_STREAM_COUNT));
+    }
+
     public void testParseMLStatsInput() throws IOException {
         XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
         mlStatsInput.toXContent(builder, EMPTY_PARAMS);
@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.opensearch.Version;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.ml.action.stats.MLStatsNodeResponse;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.task.MLNodeLoadTable.MLNodeLoad;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLNodeLoadTableTests extends OpenSearchTestCase {
+
+    private static final long REFRESH_INTERVAL = 1_000;
+    private static final long MAX_STALENESS = 5_000;
+
+    private long now;
+    private MLNodeLoadTable nodeLoadTable;
+    private DiscoveryNode node1;
+    private DiscoveryNode node2;
+
+    @Before
+    public void setup() {
+        nodeLoadTable = new MLNodeLoadTable(REFRESH_INTERVAL, MAX_STALENESS, () -> now);
+        node1 = new DiscoveryNode("node1", buildNewFakeTransportAddress(), Map.of(), Set.of(DiscoveryNodeRole.DATA_ROLE), Version.CURRENT);
+        node2 = new DiscoveryNode("node2", buildNewFakeTransportAddress(), Map.of(), Set.of(DiscoveryNodeRole.DATA_ROLE), Version.CURRENT);
+    }
+
+    public void testGetLoads() {
+        assertNull(nodeLoadTable.getLoads(new DiscoveryNode[] { node1 }));
+        nodeLoadTable.update(response(node1, 3, 50, 2, 120));
+        assertNull(nodeLoadTable.getLoads(new DiscoveryNode[] { node1, node2 }));
+        nodeLoadTable.update(response(node2, 1, 60, 0, 80));
+
+        List<MLNodeLoad> loads = nodeLoadTable.getLoads(new DiscoveryNode[] { node1, node2 });
+        assertEquals(node1, loads.get(0).getNode());
+        assertEquals(3, loads.get(0).getExecutingTaskCount());
+        assertEquals(50, loads.get(0).getJvmHeapUsage());
+        assertEquals(2, loads.get(0).getQueueSize());
+        assertEquals(120, loads.get(0).getRecentInferenceLatency());
+        assertEquals(node2, loads.get(1).getNode());
+        assertEquals(1, nodeLoadTable.getHitCount());
+        assertEquals(2, nodeLoadTable.getMissCount());
+
+        now += MAX_STALENESS + 1;
+        assertNull(nodeLoadTable.getLoads(new DiscoveryNode[] { node1, node2 }));
+    }
+
+    public void testGetLoads_MissingStats() {
+        nodeLoadTable.update(new MLStatsNodeResponse(node1, new HashMap<>()));
+        MLNodeLoad load = nodeLoadTable.getLoads(new DiscoveryNode[] { node1 }).get(0);
+        assertEquals(0, load.getExecutingTaskCount());
+        assertEquals(0, load.getQueueSize());
+    }
+
+    public void testOnDispatched() {
+        nodeLoadTable.update(response(node1, 3, 50, 0, 0));
+        nodeLoadTable.onDispatched("node1");
+        nodeLoadTable.onDispatched("node2");
+        assertEquals(4, nodeLoadTable.getLoads(new DiscoveryNode[] { node1 }).get(0).getExecutingTaskCount());
+
+        // the dispatched tasks are included in the refreshed stats
+        nodeLoadTable.update(response(node1, 5, 50, 0, 0));
+        assertEquals(5, nodeLoadTable.getLoads(new DiscoveryNode[] { node1 }).get(0).getExecutingTaskCount());
+    }
+
+    public void testStartRefresh() {
+        nodeLoadTable.update(response(node1, 3, 50, 0, 0));
+        assertEquals(List.of(node2), nodeLoadTable.startRefresh(new DiscoveryNode[] { node1, node2 }));
+        // node2 is being refreshed
+        assertTrue(nodeLoadTable.startRefresh(new DiscoveryNode[] { node1, node2 }).isEmpty());
+
+        now += REFRESH_INTERVAL + 1;
+        assertEquals(List.of(node1), nodeLoadTable.startRefresh(new DiscoveryNode[] { node1, node2 }));
+        nodeLoadTable.update(response(node1, 3, 50, 0, 0));
+        nodeLoadTable.endRefresh(List.of(node2));
+        assertEquals(List.of(node2), nodeLoadTable.startRefresh(new DiscoveryNode[] { node1, node2 }));
+        assertEquals(3, nodeLoadTable.getRefreshCount());
+    }
+
+    public void testCompareTo() {
+        nodeLoadTable.update(response(node1, 3, 50, 2, 100));
+        nodeLoadTable.update(response(node2, 4, 60, 0, 200));
+        List<MLNodeLoad> loads = nodeLoadTable.getLoads(new DiscoveryNode[] { node1, node2 });
+        // executing and queued tasks first
+        assertTrue(loads.get(0).compareTo(loads.get(1)) > 0);
+
+        nodeLoadTable.update(response(node2, 5, 40, 0, 200));
+        loads = nodeLoadTable.getLoads(new DiscoveryNode[] { node1, node2 });
+        // then the recent inference latency
+        assertTrue(loads.get(0).compareTo(loads.get(1)) < 0);
+
+        nodeLoadTable.update(response(node2, 5, 40, 0, 100));
+        loads = nodeLoadTable.getLoads(new DiscoveryNode[] { node1, node2 });
+        // then the JVM heap usage
+        assertTrue(loads.get(0).compareTo(loads.get(1)) > 0);
+    }
+
+    private static MLStatsNodeResponse response(DiscoveryNode node, long taskCount, long heapUsage, long queueSize, long latency) {
+        Map<MLNodeLevelStat, Object> nodeStats = new HashMap<>();
+        nodeStats.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, taskCount);
+        nodeStats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, heapUsage);
+        nodeStats.put(MLNodeLevelStat.ML_TASK_QUEUE_SIZE, queueSize);
+        nodeStats.put(MLNodeLevelStat.ML_RECENT_INFERENCE_LATENCY, latency);
+        return new MLStatsNodeResponse(node, nodeStats);
+    }
+}
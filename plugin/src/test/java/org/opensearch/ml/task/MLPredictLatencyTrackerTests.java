@@ -0,0 +1,289 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.task.MLPredictLatencyTracker.NodeLatency;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.NodeNotConnectedException;
+import org.opensearch.transport.RemoteTransportException;
+import org.opensearch.transport.TransportException;
+
+public class MLPredictLatencyTrackerTests extends OpenSearchTestCase {
+
+    private static final long DECAY_TIME = TimeUnit.SECONDS.toNanos(10);
+    private static final String MODEL_ID = "model1";
+    private static final String[] NODE_IDS = new String[] { "node1", "node2", "node3" };
+
+    private long now;
+    private MLPredictLatencyTracker tracker;
+
+    @Before
+    public void setup() {
+        now = TimeUnit.SECONDS.toNanos(1);
+        tracker = new MLPredictLatencyTracker(DECAY_TIME, () -> now);
+    }
+
+    public void testSelect_SingleNode() {
+        assertEquals("node1", tracker.select(MODEL_ID, new String[] { "node1" }));
+        assertEquals(0, tracker.size());
+    }
+
+    public void testSelect_LowerLatency() {
+        observe("node1", 100);
+        observe("node2", 10);
+        for (int i = 0; i < 10; i++) {
+            assertEquals("node2", tracker.select(MODEL_ID, new String[] { "node1", "node2" }));
+        }
+    }
+
+    public void testSelect_OutstandingRequests() {
+        observe("node1", 30);
+        observe("node2", 10);
+        ActionListener<Object> listener = ActionListener.wrap(r -> {}, e -> {});
+        for (int i = 0; i < 3; i++) {
+            tracker.track(MODEL_ID, "node2", listener);
+        }
+        // 10ms * 4 costs more than 30ms * 1
+        assertEquals("node1", tracker.select(MODEL_ID, new String[] { "node1", "node2" }));
+    }
+
+    public void testSelect_PenaltyForUnobservedNodeWithOutstandingRequests() {
+        observe("node1", 1000);
+        tracker.track(MODEL_ID, "node2", ActionListener.wrap(r -> {}, e -> {}));
+        assertEquals("node1", tracker.select(MODEL_ID, new String[] { "node1", "node2" }));
+        // a node without any request is tried first
+        assertEquals("node3", tracker.select(MODEL_ID, new String[] { "node1", "node3" }));
+    }
+
+    public void testLatency_PeakAndDecay() {
+        NodeLatency latency = tracker.getLatencies(MODEL_ID).computeIfAbsent("node1", it -> new NodeLatency());
+        latency.start();
+        latency.end(millis(10), now, DECAY_TIME);
+        assertEquals(millis(10), tracker.getLatency(MODEL_ID, "node1"), 1);
+
+        // a slower response replaces the latency right away
+        latency.start();
+        latency.end(millis(200), now, DECAY_TIME);
+        assertEquals(millis(200), tracker.getLatency(MODEL_ID, "node1"), 1);
+
+        // faster responses and idle time decay it
+        now += DECAY_TIME;
+        latency.start();
+        latency.end(millis(10), now, DECAY_TIME);
+        double expected = millis(200) * Math.exp(-1) + millis(10) * (1 - Math.exp(-1));
+        assertEquals(expected, tracker.getLatency(MODEL_ID, "node1"), 1);
+        now += DECAY_TIME;
+        assertEquals(expected * Math.exp(-1), tracker.getLatency(MODEL_ID, "node1"), 1);
+        assertEquals(0, tracker.getLatency(MODEL_ID, "node2"), 0);
+        assertEquals(0, tracker.getLatency("model2", "node1"), 0);
+    }
+
+    public void testTrack_DelegatesAndPenalizesFailures() {
+        int[] calls = new int[2];
+        ActionListener<String> listener = ActionListener.wrap(r -> calls[0]++, e -> calls[1]++);
+        ActionListener<String> tracked = tracker.track(MODEL_ID, "node1", listener);
+        now += millis(50);
+        tracked.onResponse("response");
+        assertEquals(millis(50), tracker.getLatency(MODEL_ID, "node1"), 1);
+
+        // a node failing fast is not the fastest node
+        observe("node2", 1000);
+        tracked = tracker.track(MODEL_ID, "node1", listener);
+        now += millis(1);
+        tracked.onFailure(new RuntimeException("circuit breaker open"));
+
+        assertArrayEquals(new int[] { 1, 1 }, calls);
+        assertEquals(MLPredictLatencyTracker.PENALTY, tracker.getLatency(MODEL_ID, "node1"), 1);
+        assertEquals("node2", tracker.select(MODEL_ID, new String[] { "node1", "node2" }));
+        assertEquals(1, tracker.size());
+    }
+
+    public void testTrack_RequestFailure() {
+        observe("node1", 100);
+        ActionListener<String> tracked = tracker.track(MODEL_ID, "node1", ActionListener.wrap(r -> {}, e -> {}));
+        now += millis(100);
+        // invalid input fails on any node, so it's observed with its latency rather than penalizing the node
+        tracked.onFailure(new IllegalArgumentException("wrong input"));
+
+        assertEquals(millis(100), tracker.getLatency(MODEL_ID, "node1"), 1);
+    }
+
+    public void testIsNodeFailure() {
+        assertTrue(MLPredictLatencyTracker.isNodeFailure(new NodeNotConnectedException(null, "not connected")));
+        assertTrue(MLPredictLatencyTracker.isNodeFailure(new TransportException("failed to send")));
+        assertTrue(MLPredictLatencyTracker.isNodeFailure(new OpenSearchTimeoutException("timed out")));
+        assertTrue(MLPredictLatencyTracker.isNodeFailure(new OpenSearchRejectedExecutionException("rejected")));
+        assertTrue(MLPredictLatencyTracker.isNodeFailure(new OpenSearchStatusException("unavailable", RestStatus.SERVICE_UNAVAILABLE)));
+        Exception remoteNodeFailure = new RemoteTransportException("remote", new OpenSearchTimeoutException("timed out"));
+        assertTrue(MLPredictLatencyTracker.isNodeFailure(remoteNodeFailure));
+
+        assertFalse(MLPredictLatencyTracker.isNodeFailure(new IllegalArgumentException("wrong input")));
+        assertFalse(MLPredictLatencyTracker.isNodeFailure(new OpenSearchStatusException("bad request", RestStatus.BAD_REQUEST)));
+        Exception remoteRequestFailure = new RemoteTransportException("remote", new IllegalArgumentException("wrong input"));
+        assertFalse(MLPredictLatencyTracker.isNodeFailure(remoteRequestFailure));
+    }
+
+    public void testTrack_ReleasesOnce() {
+        observe("node1", 10);
+        ActionListener<String> tracked = tracker.track(MODEL_ID, "node1", ActionListener.wrap(r -> {}, e -> {}));
+        tracked.onResponse("response");
+        // a listener notified again, e.g. when sending the request threw after the handler was notified
+        tracked.onFailure(new RuntimeException("failed to send"));
+
+        NodeLatency latency = tracker.getLatencies(MODEL_ID).get("node1");
+        double estimate = tracker.getLatency(MODEL_ID, "node1");
+        assertEquals(millis(10), estimate, 1);
+        // no outstanding request is left on the node
+        assertEquals(estimate, latency.getCost(now, DECAY_TIME), 1);
+    }
+
+    /**
+     * Replay a workload against three nodes of which one is five times slower, the latency aware routing sends it
+     * less traffic than round robin and has a lower mean latency.
+     */
+    public void testSimulation_SlowNode() {
+        long[] serviceTimes = new long[] { millis(10), millis(10), millis(50) };
+        SimulationResult roundRobin = simulate(serviceTimes, 0, false);
+        SimulationResult latencyAware = simulate(serviceTimes, 0, true);
+
+        logger.info("Slow node, round robin: {}, latency aware: {}", roundRobin, latencyAware);
+        assertTrue(latencyAware.getShare(2) < roundRobin.getShare(2) / 2);
+        assertTrue(latencyAware.getMeanLatency() < roundRobin.getMeanLatency() / 2);
+    }
+
+    /**
+     * Replay a workload against three equal nodes of which one pauses periodically, like a node doing long GCs, the
+     * latency aware routing avoids the paused node and has lower tail latency than round robin.
+     */
+    public void testSimulation_PausingNode() {
+        long[] serviceTimes = new long[] { millis(10), millis(10), millis(10) };
+        SimulationResult roundRobin = simulate(serviceTimes, millis(300), false);
+        SimulationResult latencyAware = simulate(serviceTimes, millis(300), true);
+
+        logger.info("Pausing node, round robin: {}, latency aware: {}", roundRobin, latencyAware);
+        assertTrue(latencyAware.getShare(0) < roundRobin.getShare(0));
+        assertTrue(latencyAware.getPercentileLatency(99) < roundRobin.getPercentileLatency(99));
+    }
+
+    /**
+     * Discrete event simulation of predict requests arriving at 150 requests per second on average, each node running
+     * two requests at a time in arrival order.
+     *
+     * @param serviceTimes mean service time of each node
+     * @param pauseTime    time the first node pauses every 3 seconds
+     * @param latencyAware dispatch with the latency tracker, or round robin
+     */
+    private SimulationResult simulate(long[] serviceTimes, long pauseTime, boolean latencyAware) {
+        int requests = 20_000;
+        long meanInterArrival = TimeUnit.SECONDS.toNanos(1) / 150;
+        long pausePeriod = TimeUnit.SECONDS.toNanos(3);
+        Random random = new Random(42);
+        long[][] workerFreeTimes = new long[serviceTimes.length][2];
+        PriorityQueue<Completion> completions = new PriorityQueue<>();
+        long[] latencies = new long[requests];
+        int[] counts = new int[serviceTimes.length];
+        long arrival = 0;
+
+        for (int i = 0; i < requests; i++) {
+            arrival += (long) (-Math.log(1 - random.nextDouble()) * meanInterArrival);
+            // responses received before the request arrives
+            while (!completions.isEmpty() && completions.peek().time <= arrival) {
+                Completion completion = completions.poll();
+                now = completion.time;
+                completion.listener.onResponse(null);
+            }
+            now = arrival;
+
+            int node = latencyAware ? Arrays.asList(NODE_IDS).indexOf(tracker.select(MODEL_ID, NODE_IDS)) : i % NODE_IDS.length;
+            counts[node]++;
+            long[] freeTimes = workerFreeTimes[node];
+            int worker = freeTimes[0] <= freeTimes[1] ? 0 : 1;
+            long start = Math.max(arrival, freeTimes[worker]);
+            if (node == 0 && pauseTime > 0 && start % pausePeriod < pauseTime) {
+                start += pauseTime - start % pausePeriod;
+            }
+            long finish = start + (long) (serviceTimes[node] * (0.5 + random.nextDouble()));
+            freeTimes[worker] = finish;
+            latencies[i] = finish - arrival;
+            if (latencyAware) {
+                completions.add(new Completion(finish, tracker.track(MODEL_ID, NODE_IDS[node], ActionListener.wrap(r -> {}, e -> {}))));
+            }
+        }
+        return new SimulationResult(latencies, counts);
+    }
+
+    private void observe(String nodeId, long latencyMillis) {
+        ActionListener<Object> listener = tracker.track(MODEL_ID, nodeId, ActionListener.wrap(r -> {}, e -> {}));
+        now += millis(latencyMillis);
+        listener.onResponse(null);
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    private static class Completion implements Comparable<Completion> {
+        private final long time;
+        private final ActionListener<Object> listener;
+
+        Completion(long time, ActionListener<Object> listener) {
+            this.time = time;
+            this.listener = listener;
+        }
+
+        @Override
+        public int compareTo(Completion other) {
+            return Long.compare(time, other.time);
+        }
+    }
+
+    private static class SimulationResult {
+        private final long[] latencies;
+        private final int[] counts;
+
+        SimulationResult(long[] latencies, int[] counts) {
+            this.latencies = latencies.clone();
+            this.counts = counts;
+            Arrays.sort(this.latencies);
+        }
+
+        double getShare(int node) {
+            return (double) counts[node] / latencies.length;
+        }
+
+        double getMeanLatency() {
+            return Arrays.stream(latencies).average().orElse(0);
+        }
+
+        long getPercentileLatency(int percentile) {
+            return latencies[latencies.length * percentile / 100];
+        }
+
+        @Override
+        public String toString() {
+            return String
+                .format(
+                    Locale.ROOT,
+                    "mean %.1fms, p99 %.1fms, requests per node %s",
+                    getMeanLatency() / 1e6,
+                    getPercentileLatency(99) / 1e6,
+                    Arrays.toString(counts)
+                );
+        }
+    }
+}
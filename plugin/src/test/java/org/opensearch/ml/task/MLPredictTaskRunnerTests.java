@@ -6,6 +6,7 @@
 package org.opensearch.ml.task;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.spy;
@@ -31,6 +32,7 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.Version;
+import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.cluster.ClusterName;
@@ -59,6 +61,7 @@ import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
@@ -81,6 +84,7 @@ import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLPredictableCache;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
@@ -129,6 +133,9 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
     @Mock
     TransportService transportService;
 
+    @Mock
+    MLPredictableCache predictableCache;
+
     @Mock
     ActionListener<MLTaskResponse> listener;
 
@@ -193,6 +200,7 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
                 mlModelManager,
                 nodeHelper,
                 mlEngine,
+                predictableCache,
                 settings
             )
         );
@@ -277,7 +285,7 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         when(mlModelManager.addModelToAutoDeployCache("111", mlModel)).thenReturn(mlModel);
         taskRunner.dispatchTask(FunctionName.REMOTE, requestWithDataFrame, transportService, listener);
         verify(client).execute(any(), any(), any());
-        verify(mlTaskDispatcher).dispatchPredictTask(any(), any());
+        verify(mlTaskDispatcher).dispatchPredictTask(any(), any(), any());
     }
 
     public void testExecuteTask_OnLocalNode_QueryInput_Failure() {
@@ -308,6 +316,17 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         verify(transportService).sendRequest(eq(remoteNode), eq(MLPredictionTaskAction.NAME), eq(requestWithDataFrame), any());
     }
 
+    public void testExecuteTask_OnRemoteNode_SendRequestFailureReleasesTrackedRequest() {
+        setupMocks(false, false, false, false);
+        ActionListener<MLTaskResponse> trackedListener = mock(ActionListener.class);
+        when(mlTaskDispatcher.trackPredictLatency(any(), any(), any())).thenReturn(trackedListener);
+        RuntimeException exception = new RuntimeException("failed to send");
+        doThrow(exception).when(transportService).sendRequest(eq(remoteNode), eq(MLPredictionTaskAction.NAME), any(), any());
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(trackedListener).onFailure(exception);
+    }
+
     public void testExecuteTask_OnLocalNode_GetModelFail() {
         setupMocks(true, false, true, false);
 
@@ -413,6 +432,39 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         assertEquals("No model found, please check the modelId.", argumentCaptor.getValue().getMessage());
     }
 
+    public void testExecuteTask_OnLocalNode_CachedPredictable() {
+        setupMocks(true, false, false, false);
+        Predictable predictable = mock(Predictable.class);
+        MLPredictionOutput output = MLPredictionOutput.builder().taskId("taskId").status("CREATED").build();
+        when(predictable.predict(any(MLInput.class))).thenReturn(output);
+        when(predictableCache.isCacheable(FunctionName.BATCH_RCF)).thenReturn(true);
+        when(predictableCache.get(eq("111"), eq(111L), eq(111L), any())).thenReturn(predictable);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        ArgumentCaptor<GetRequest> getRequestCaptor = ArgumentCaptor.forClass(GetRequest.class);
+        verify(client).get(getRequestCaptor.capture(), any());
+        assertEquals(2, getRequestCaptor.getValue().fetchSourceContext().excludes().length);
+        verify(predictableCache, never()).put(anyString(), anyLong(), anyLong(), any(), any(), any());
+        ArgumentCaptor<MLTaskResponse> argumentCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(listener).onResponse(argumentCaptor.capture());
+        assertEquals(MLTaskState.COMPLETED.name(), ((MLPredictionOutput) argumentCaptor.getValue().getOutput()).getStatus());
+    }
+
+    public void testExecuteTask_OnLocalNode_PredictableCacheMiss() {
+        setupMocks(true, false, false, false);
+        when(predictableCache.isCacheable(FunctionName.BATCH_RCF)).thenReturn(true);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        ArgumentCaptor<GetRequest> getRequestCaptor = ArgumentCaptor.forClass(GetRequest.class);
+        verify(client, times(2)).get(getRequestCaptor.capture(), any());
+        assertNotNull(getRequestCaptor.getAllValues().get(0).fetchSourceContext());
+        assertNull(getRequestCaptor.getAllValues().get(1).fetchSourceContext());
+        verify(predictableCache).get(eq("111"), eq(111L), eq(111L), any());
+        // the test model content can't be loaded, so nothing is cached
+        verify(predictableCache, never()).put(anyString(), anyLong(), anyLong(), any(), any(), any());
+        verify(listener).onFailure(any());
+    }
+
     public void testValidateModelTensorOutputSuccess() {
         ModelTensor modelTensor = ModelTensor
             .builder()
@@ -720,14 +772,15 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         }).when(mlTaskDispatcher).dispatch(any(), any());
 
         doAnswer(invocation -> {
-            ActionListener<DiscoveryNode> actionListener = invocation.getArgument(1);
+            ActionListener<DiscoveryNode> actionListener = invocation.getArgument(2);
             if (runOnLocalNode) {
                 actionListener.onResponse(localNode);
             } else {
                 actionListener.onResponse(remoteNode);
             }
             return null;
-        }).when(mlTaskDispatcher).dispatchPredictTask(any(), any());
+        }).when(mlTaskDispatcher).dispatchPredictTask(any(), any(), any());
+        when(mlTaskDispatcher.trackPredictLatency(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(2));
 
         if (failedToParseQueryInput) {
             doAnswer(invocation -> {
@@ -6,20 +6,34 @@
 package org.opensearch.ml.task;
 
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.breaker.MemoryCircuitBreaker.DEFAULT_JVM_HEAP_USAGE_THRESHOLD;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_EXCLUDE_NODE_NAMES;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_ELIGIBLE_NODE_ROLES;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_NODE_LOAD_MAX_STALENESS;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_NODE_LOAD_REFRESH_INTERVAL;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_PREDICT_LATENCY_DECAY_TIME;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_MODEL_ELIGIBLE_NODE_ROLES;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_ROLE_NAME;
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Ignore;
@@ -33,6 +47,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.action.stats.MLStatsNodeResponse;
@@ -61,6 +76,9 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
     DiscoveryNodeHelper nodeHelper;
 
     MLTaskDispatcher taskDispatcher;
+    MLNodeLoadTable nodeLoadTable;
+    MLPredictLatencyTracker predictLatencyTracker;
+    long now;
     ClusterState testState;
     DiscoveryNode dataNode1;
     DiscoveryNode dataNode2;
@@ -71,11 +89,35 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
 
     @Before
     public void setup() {
-        settings = Settings.builder().put(ML_COMMONS_ONLY_RUN_ON_ML_NODE.getKey(), false).build();
+        settings = Settings
+            .builder()
+            .put(ML_COMMONS_ONLY_RUN_ON_ML_NODE.getKey(), false)
+            .put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "least_load")
+            .build();
         MockitoAnnotations.openMocks(this);
+        ClusterSettings clusterSettings = new ClusterSettings(
+            settings,
+            new HashSet<>(
+                Arrays
+                    .asList(
+                        ML_COMMONS_TASK_DISPATCH_POLICY,
+                        ML_COMMONS_MAX_ML_TASK_PER_NODE,
+                        ML_COMMONS_NODE_LOAD_REFRESH_INTERVAL,
+                        ML_COMMONS_NODE_LOAD_MAX_STALENESS,
+                        ML_COMMONS_PREDICT_LATENCY_DECAY_TIME,
+                        ML_COMMONS_ONLY_RUN_ON_ML_NODE,
+                        ML_COMMONS_EXCLUDE_NODE_NAMES,
+                        ML_COMMONS_REMOTE_MODEL_ELIGIBLE_NODE_ROLES,
+                        ML_COMMONS_LOCAL_MODEL_ELIGIBLE_NODE_ROLES
+                    )
+            )
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
 
-        taskDispatcher = spy(new MLTaskDispatcher(clusterService, client, settings, nodeHelper));
         nodeHelper = spy(new DiscoveryNodeHelper(clusterService, settings));
+        nodeLoadTable = new MLNodeLoadTable(TimeUnit.SECONDS.toNanos(1), TimeUnit.SECONDS.toNanos(5), () -> now);
+        predictLatencyTracker = new MLPredictLatencyTracker(TimeUnit.SECONDS.toNanos(10), () -> now);
+        taskDispatcher = spy(new MLTaskDispatcher(clusterService, client, settings, nodeHelper, nodeLoadTable, predictLatencyTracker));
 
         Set<DiscoveryNodeRole> dataRoleSet = ImmutableSet.of(DiscoveryNodeRole.DATA_ROLE);
         dataNode1 = new DiscoveryNode("node1", buildNewFakeTransportAddress(), new HashMap<>(), dataRoleSet, Version.CURRENT);
@@ -158,6 +200,110 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
         }
     }
 
+    public void testDispatchPredictTask_LeastLoad_FetchesUnknownLoads() {
+        mlStatsNodesResponse = getNodesResponse(5L, 7L);
+        taskDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+
+        verify(client, times(1)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        verify(listener).onResponse(dataNode1);
+        assertEquals(2, nodeLoadTable.size());
+        assertEquals(1, nodeLoadTable.getMissCount());
+    }
+
+    public void testDispatchPredictTask_LeastLoad_UsesNodeLoadTable() {
+        mlStatsNodesResponse = getNodesResponse(5L, 7L);
+        taskDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+        // tasks dispatched to node1 count as executing tasks until the next refresh
+        taskDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+        taskDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+
+        // no stats request besides the first one while the loads are fresh
+        verify(client, times(1)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        verify(listener, times(2)).onResponse(dataNode1);
+        verify(listener, times(1)).onResponse(dataNode2);
+        assertEquals(2, nodeLoadTable.getHitCount());
+    }
+
+    public void testDispatchPredictTask_LeastLoad_RefreshesInBackground() {
+        mlStatsNodesResponse = getNodesResponse(5L, 7L);
+        taskDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+
+        now += TimeUnit.SECONDS.toNanos(2);
+        mlStatsNodesResponse = getNodesResponse(9L, 1L);
+        taskDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+        // dispatched with the previous loads, which were refreshed meanwhile
+        verify(listener, times(2)).onResponse(dataNode1);
+        verify(client, times(2)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        assertEquals(1, nodeLoadTable.getRefreshCount());
+
+        taskDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+        verify(listener).onResponse(dataNode2);
+        verify(client, times(2)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+    }
+
+    public void testDispatchPredictTask_LeastLoad_StaleLoads() {
+        mlStatsNodesResponse = getNodesResponse(5L, 7L);
+        taskDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+
+        now += TimeUnit.SECONDS.toNanos(6);
+        mlStatsNodesResponse = getNodesResponse(9L, 1L);
+        taskDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+        verify(listener).onResponse(dataNode2);
+        assertEquals(2, nodeLoadTable.getMissCount());
+    }
+
+    public void testDispatchPredictTask_LeastLoad_TaskCountExceedLimit() {
+        mlStatsNodesResponse = getNodesResponse(5L, 7L);
+        taskDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+        for (int i = 0; i < 20; i++) {
+            taskDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+        }
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener, atLeastOnce()).onFailure(argumentCaptor.capture());
+        assertEquals("All nodes' executing ML task count reach limitation.", argumentCaptor.getValue().getMessage());
+    }
+
+    public void testDispatchPredictTask_LatencyAware() {
+        settings = Settings.builder().put(settings).put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "latency_aware").build();
+        taskDispatcher = new MLTaskDispatcher(clusterService, client, settings, nodeHelper, nodeLoadTable, predictLatencyTracker);
+        ActionListener<String> responseListener = mock(ActionListener.class);
+        ActionListener<String> node1Listener = taskDispatcher.trackPredictLatency("model1", "node1", responseListener);
+        ActionListener<String> node2Listener = taskDispatcher.trackPredictLatency("model1", "node2", responseListener);
+        now += TimeUnit.MILLISECONDS.toNanos(10);
+        node2Listener.onResponse("response");
+        now += TimeUnit.MILLISECONDS.toNanos(90);
+        node1Listener.onFailure(new RuntimeException("timeout"));
+        verify(responseListener).onResponse("response");
+        verify(responseListener).onFailure(any());
+
+        for (int i = 0; i < 5; i++) {
+            taskDispatcher.dispatchPredictTask("model1", new String[] { "node1", "node2" }, listener);
+        }
+        verify(listener, times(5)).onResponse(dataNode2);
+        verify(client, never()).execute(any(), any(), any());
+        assertTrue(predictLatencyTracker.getLatency("model1", "node1") > predictLatencyTracker.getLatency("model1", "node2"));
+    }
+
+    public void testTrackPredictLatency_OtherPolicy() {
+        ActionListener<String> responseListener = mock(ActionListener.class);
+        assertSame(responseListener, taskDispatcher.trackPredictLatency("model1", "node1", responseListener));
+        assertEquals(0, predictLatencyTracker.size());
+    }
+
+    private MLStatsNodesResponse getNodesResponse(long node1TaskCount, long node2TaskCount) {
+        Map<MLNodeLevelStat, Object> nodeStats1 = new HashMap<>();
+        nodeStats1.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 50L);
+        nodeStats1.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, node1TaskCount);
+        Map<MLNodeLevelStat, Object> nodeStats2 = new HashMap<>();
+        nodeStats2.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 40L);
+        nodeStats2.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, node2TaskCount);
+        return new MLStatsNodesResponse(
+            new ClusterName(clusterName),
+            Arrays.asList(new MLStatsNodeResponse(dataNode1, nodeStats1), new MLStatsNodeResponse(dataNode2, nodeStats2)),
+            new ArrayList<>()
+        );
+    }
+
     private MLStatsNodesResponse getMlStatsNodesResponse() {
         Map<MLNodeLevelStat, Object> nodeStats = new HashMap<>();
         nodeStats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 50l);
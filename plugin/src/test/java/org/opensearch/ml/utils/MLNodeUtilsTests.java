@@ -12,11 +12,15 @@ import static org.opensearch.ml.common.utils.ModelInterfaceUtils.BEDROCK_TITAN_E
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.opensearch.OpenSearchParseException;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
@@ -26,10 +30,18 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.connector.ConnectorAction;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.test.OpenSearchTestCase;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
 
 public class MLNodeUtilsTests extends OpenSearchTestCase {
 
@@ -69,6 +81,25 @@ public class MLNodeUtilsTests extends OpenSearchTestCase {
         MLNodeUtils.validateSchema(schema, json);
     }
 
+    @Test
+    public void testValidateCompiledSchema() throws IOException {
+        String schema = "{\"type\": \"object\",\"properties\": {\"key1\": {\"type\": \"string\"}}}";
+        JsonSchema compiledSchema = MLNodeUtils.compileSchema(schema);
+        ObjectMapper mapper = new ObjectMapper();
+        MLNodeUtils.validateSchema(compiledSchema, schema, mapper.readTree("{\"key1\": \"foo\"}"));
+        OpenSearchParseException e = assertThrows(
+            OpenSearchParseException.class,
+            () -> MLNodeUtils.validateSchema(compiledSchema, schema, mapper.readTree("{\"key1\": 123}"))
+        );
+        assertTrue(e.getMessage().startsWith("Validation failed: "));
+        assertTrue(e.getMessage().endsWith(" for instance: {\"key1\":123} with schema: " + schema));
+    }
+
+    @Test
+    public void testCompileSchemaInvalidJson() {
+        assertThrows(JsonParseException.class, () -> MLNodeUtils.compileSchema("{\"type\": "));
+    }
+
     @Test
     public void testValidateEmbeddingInputWithGeneralEmbeddingRemoteSchema() throws IOException {
         String schema = BEDROCK_COHERE_EMBED_ENGLISH_V3_MODEL_INTERFACE.get("input");
@@ -208,4 +239,30 @@ public class MLNodeUtilsTests extends OpenSearchTestCase {
         String processedJson = MLNodeUtils.processRemoteInferenceInputDataSetParametersValue(json, schema);
         assertEquals(json, processedJson);
     }
+
+    public void testToJsonNode_RemoteInput() throws IOException {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("texts", "[\"Hello\",\"world\"]");
+        parameters.put("missing", null);
+        RemoteInferenceInputDataSet inputDataSet = RemoteInferenceInputDataSet
+            .builder()
+            .parameters(parameters)
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build();
+
+        // the tree built from the parameters is the tree of the input json
+        assertEquals(parseJson(mlInput), MLNodeUtils.toJsonNode(mlInput));
+    }
+
+    public void testToJsonNode_TextDocsInput() throws IOException {
+        TextDocsInputDataSet inputDataSet = TextDocsInputDataSet.builder().docs(List.of("Hello", "world")).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build();
+
+        assertEquals(parseJson(mlInput), MLNodeUtils.toJsonNode(mlInput));
+    }
+
+    private static JsonNode parseJson(MLInput mlInput) throws IOException {
+        return new ObjectMapper().readTree(mlInput.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString());
+    }
 }
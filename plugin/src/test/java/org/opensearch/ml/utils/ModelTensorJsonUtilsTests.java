@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.test.OpenSearchTestCase;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ModelTensorJsonUtilsTests extends OpenSearchTestCase {
+
+    public void testToJsonNode_FloatData() throws IOException {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .dataType(MLResultDataType.FLOAT32)
+            .shape(new long[] { 3 })
+            .floatData(new float[] { 0.1f, -2.5f, Float.NaN })
+            .build();
+        assertSameTree(output(tensor));
+    }
+
+    public void testToJsonNode_AllFields() throws IOException {
+        Map<String, Object> dataAsMap = new HashMap<>();
+        dataAsMap.put("response", "hello");
+        dataAsMap.put("usage", Map.of("input_tokens", 10, "output_tokens", 20L));
+        dataAsMap.put("choices", List.of(Map.of("index", 0, "finish", true), 1.5d));
+        dataAsMap.put("empty", null);
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("response")
+            .dataType(MLResultDataType.INT64)
+            .shape(new long[] { 1, 2 })
+            .data(new Number[] { 1, 2L, 3.5d })
+            .byteBuffer(ByteBuffer.wrap(new byte[] { 1, 2, 3 }).order(ByteOrder.LITTLE_ENDIAN))
+            .result("result")
+            .dataAsMap(dataAsMap)
+            .build();
+        ModelTensors tensors = ModelTensors.builder().mlModelTensors(List.of(tensor)).build();
+        tensors.setStatusCode(200);
+        assertSameTree(ModelTensorOutput.builder().mlModelOutputs(List.of(tensors, ModelTensors.builder().build())).build());
+    }
+
+    public void testToJsonNode_Empty() throws IOException {
+        assertSameTree(ModelTensorOutput.builder().build());
+        assertSameTree(ModelTensorOutput.builder().mlModelOutputs(List.of()).build());
+    }
+
+    public void testToJsonNode_ValueOnlyXContentCanWrite() throws IOException {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .dataAsMap(Map.of("timestamp", Instant.ofEpochMilli(0), "values", Arrays.asList(1, 2)))
+            .build();
+        assertSameTree(output(tensor));
+    }
+
+    private static ModelTensorOutput output(ModelTensor tensor) {
+        ModelTensors tensors = ModelTensors.builder().mlModelTensors(List.of(tensor)).build();
+        return ModelTensorOutput.builder().mlModelOutputs(List.of(tensors)).build();
+    }
+
+    private static void assertSameTree(ModelTensorOutput output) throws IOException {
+        String json = output.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString();
+        JsonNode expected = new ObjectMapper().readTree(json);
+        JsonNode actual = ModelTensorJsonUtils.toJsonNode(output);
+        // numbers may be of a different width than the parsed ones, so compare the JSON text
+        assertEquals(expected.toString(), actual.toString());
+    }
+}